@@ -18,10 +18,13 @@ import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -83,41 +86,62 @@ public interface ParallelIterable<T>
     //     * Returns a parallel BooleanIterable which will transform the underlying iterable data to boolean values based on the booleanFunction.
     //     */
     //    ParallelBooleanIterable collectBoolean(BooleanFunction<? super T> booleanFunction);
-    //
-    //    /**
-    //     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
-    //     */
-    //    ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction);
-    //
-    //    /**
-    //     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
-    //     */
-    //    ParallelCharIterable collectChar(CharFunction<? super T> charFunction);
-    //
-    //    /**
-    //     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
-    //     */
-    //    ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction);
-    //
-    //    /**
-    //     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
-    //     */
-    //    ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction);
-    //
-    //    /**
-    //     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
-    //     */
-    //    ParallelIntIterable collectInt(IntFunction<? super T> intFunction);
-    //
-    //    /**
-    //     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
-    //     */
-    //    ParallelLongIterable collectLong(LongFunction<? super T> longFunction);
-    //
-    //    /**
-    //     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
-    //     */
-    //    ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction);
+
+    /**
+     * Returns a parallel ByteIterable which will transform the underlying iterable data to byte values based on the byteFunction.
+     */
+    default ParallelByteIterable collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return new BoxedParallelByteIterable(this.collect(byteFunction::byteValueOf));
+    }
+
+    /**
+     * Returns a parallel CharIterable which will transform the underlying iterable data to char values based on the charFunction.
+     */
+    default ParallelCharIterable collectChar(CharFunction<? super T> charFunction)
+    {
+        return new BoxedParallelCharIterable(this.collect(charFunction::charValueOf));
+    }
+
+    /**
+     * Returns a parallel DoubleIterable which will transform the underlying iterable data to double values based on the doubleFunction.
+     */
+    default ParallelDoubleIterable collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return new BoxedParallelDoubleIterable(this.collect(doubleFunction::doubleValueOf));
+    }
+
+    /**
+     * Returns a parallel FloatIterable which will transform the underlying iterable data to float values based on the floatFunction.
+     */
+    default ParallelFloatIterable collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return new BoxedParallelFloatIterable(this.collect(floatFunction::floatValueOf));
+    }
+
+    /**
+     * Returns a parallel IntIterable which will transform the underlying iterable data to int values based on the intFunction.
+     */
+    default ParallelIntIterable collectInt(IntFunction<? super T> intFunction)
+    {
+        return new BoxedParallelIntIterable(this.collect(intFunction::intValueOf));
+    }
+
+    /**
+     * Returns a parallel LongIterable which will transform the underlying iterable data to long values based on the longFunction.
+     */
+    default ParallelLongIterable collectLong(LongFunction<? super T> longFunction)
+    {
+        return new BoxedParallelLongIterable(this.collect(longFunction::longValueOf));
+    }
+
+    /**
+     * Returns a parallel ShortIterable which will transform the underlying iterable data to short values based on the shortFunction.
+     */
+    default ParallelShortIterable collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return new BoxedParallelShortIterable(this.collect(shortFunction::shortValueOf));
+    }
 
     void forEach(Procedure<? super T> procedure);
 
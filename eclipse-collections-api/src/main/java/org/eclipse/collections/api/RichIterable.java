@@ -66,6 +66,8 @@ import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.multimap.Multimap;
 import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableIntObjectMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableLongObjectMultimap;
 import org.eclipse.collections.api.ordered.OrderedIterable;
 import org.eclipse.collections.api.partition.PartitionIterable;
 import org.eclipse.collections.api.set.MutableSet;
@@ -2202,6 +2204,36 @@ public interface RichIterable<T>
             Function<? super T, ? extends V> function,
             R target);
 
+    /**
+     * Groups the elements by the int key that {@code function} returns for each of them, adding each element to
+     * {@code target} under its key. The keys are never boxed.
+     * <p>
+     * Example using a Java 8 method reference:
+     * <pre>
+     * IntObjectListMultimap&lt;Person&gt; peopleByAge =
+     *     people.groupByInt(Person::getAge, IntObjectListMultimap.newMultimap());
+     * </pre>
+     *
+     * @see #groupBy(Function, MutableMultimap)
+     * @since 10.3
+     */
+    default <R extends MutableIntObjectMultimap<T>> R groupByInt(IntFunction<? super T> function, R target)
+    {
+        this.each(each -> target.put(function.intValueOf(each), each));
+        return target;
+    }
+
+    /**
+     * Same as {@link #groupByInt(IntFunction, MutableIntObjectMultimap)}, with long keys.
+     *
+     * @since 10.3
+     */
+    default <R extends MutableLongObjectMultimap<T>> R groupByLong(LongFunction<? super T> function, R target)
+    {
+        this.each(each -> target.put(function.longValueOf(each), each));
+        return target;
+    }
+
     /**
      * Returns a string with the elements of this iterable separated by commas with spaces and
      * enclosed in square brackets.
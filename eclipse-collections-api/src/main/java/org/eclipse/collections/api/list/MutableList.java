@@ -217,6 +217,28 @@ public interface MutableList<T>
         return this.sortThis(null);
     }
 
+    /**
+     * Sorts the internal data structure of this list like {@link #sortThis(Comparator)}, but may use multiple threads
+     * for large lists, and returns the list itself as a convenience. The sort is stable.
+     *
+     * @since 10.3
+     */
+    default MutableList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        return this.sortThis(comparator);
+    }
+
+    /**
+     * Sorts the internal data structure of this list like {@link #sortThis()}, but may use multiple threads for large
+     * lists, and returns the list itself as a convenience.
+     *
+     * @since 10.3
+     */
+    default MutableList<T> sortThisParallel()
+    {
+        return this.sortThisParallel(null);
+    }
+
     /**
      * Sorts the internal data structure of this list based on the natural order of the attribute returned by {@code
      * function}.
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.list.primitive;
+
+/**
+ * The algorithm used by {@code sortThis(SortAlgorithm)} on primitive lists of integral types. Every algorithm
+ * produces the same ascending order; they only differ in speed and memory use.
+ *
+ * @since 10.3
+ */
+public enum SortAlgorithm
+{
+    /**
+     * Lets the list choose the algorithm, for example based on its size. This is what {@code sortThis()} uses.
+     */
+    DEFAULT,
+
+    /**
+     * Sorts with {@link java.util.Arrays#sort(int[], int, int)} and its overloads for the other primitive types.
+     */
+    ARRAYS_SORT,
+
+    /**
+     * Sorts with a least significant digit radix sort. This runs in linear time, but needs a temporary array as
+     * large as the list.
+     */
+    RADIX
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains interfaces for multimaps with primitive keys.
+ * <p>
+ *     This package contains the following interfaces:
+ * <ul>
+ *     <li>
+ *         {@link org.eclipse.collections.api.multimap.primitive.MutableIntIntMultimap} - a modifiable multimap from int keys to int values, and similarly for the other combinations of primitive types except boolean.
+ *     </li>
+ *     <li>
+ *         {@link org.eclipse.collections.api.multimap.primitive.MutableIntObjectMultimap} - a modifiable multimap from int keys to object values, and similarly for the other primitive types except boolean.
+ *     </li>
+ * </ul>
+ */
+package org.eclipse.collections.api.multimap.primitive;
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.queue;
+
+import java.util.Deque;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+
+/**
+ * A MutableDeque is a {@link java.util.Deque} with the internal iterator API of {@link MutableQueue}. It iterates from
+ * the first element to the last.
+ * <p>
+ * {@link #getFirst()} and {@link #getLast()} follow {@link java.util.Deque} and throw
+ * {@link java.util.NoSuchElementException} if the deque is empty, unlike other RichIterables, which return null. Use
+ * {@link #peekFirst()} or {@link #peekLast()} to get null instead.
+ *
+ * @since 10.3
+ */
+public interface MutableDeque<T>
+        extends MutableQueue<T>, Deque<T>
+{
+    @Override
+    MutableDeque<T> with(T element);
+
+    @Override
+    MutableDeque<T> without(T element);
+
+    @Override
+    MutableDeque<T> withAll(Iterable<? extends T> elements);
+
+    @Override
+    MutableDeque<T> withoutAll(Iterable<? extends T> elements);
+
+    @Override
+    MutableDeque<T> newEmpty();
+
+    @Override
+    MutableDeque<T> tap(Procedure<? super T> procedure);
+}
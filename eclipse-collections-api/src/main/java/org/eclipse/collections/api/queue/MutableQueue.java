@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.queue;
+
+import java.util.Queue;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.tuple.Pair;
+
+/**
+ * A MutableQueue is a {@link java.util.Queue} with the internal iterator API of {@link MutableCollection}. It iterates
+ * in the order in which elements would be polled, from the head to the tail. Methods that return a new collection, like
+ * {@link #select(Predicate)} and {@link #collect(Function)}, return a queue in the same order.
+ * <p>
+ * {@link #getFirst()} returns the head of the queue, or null if the queue is empty, like {@link #peek()}.
+ *
+ * @since 10.3
+ */
+public interface MutableQueue<T>
+        extends MutableCollection<T>, Queue<T>
+{
+    @Override
+    MutableQueue<T> with(T element);
+
+    @Override
+    MutableQueue<T> without(T element);
+
+    @Override
+    MutableQueue<T> withAll(Iterable<? extends T> elements);
+
+    @Override
+    MutableQueue<T> withoutAll(Iterable<? extends T> elements);
+
+    @Override
+    MutableQueue<T> newEmpty();
+
+    @Override
+    MutableQueue<T> tap(Procedure<? super T> procedure);
+
+    @Override
+    MutableQueue<T> select(Predicate<? super T> predicate);
+
+    @Override
+    <P> MutableQueue<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter);
+
+    @Override
+    MutableQueue<T> reject(Predicate<? super T> predicate);
+
+    @Override
+    <P> MutableQueue<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter);
+
+    @Override
+    <S> MutableQueue<S> selectInstancesOf(Class<S> clazz);
+
+    @Override
+    <V> MutableQueue<V> collect(Function<? super T, ? extends V> function);
+
+    @Override
+    <P, V> MutableQueue<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter);
+
+    @Override
+    <V> MutableQueue<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function);
+
+    @Override
+    <V> MutableQueue<V> flatCollect(Function<? super T, ? extends Iterable<V>> function);
+
+    @Override
+    default <P, V> MutableQueue<V> flatCollectWith(Function2<? super T, ? super P, ? extends Iterable<V>> function, P parameter)
+    {
+        return this.flatCollect(each -> function.apply(each, parameter));
+    }
+
+    @Override
+    <S> MutableQueue<Pair<T, S>> zip(Iterable<S> that);
+
+    @Override
+    MutableQueue<Pair<T, Integer>> zipWithIndex();
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains interfaces for queue API.
+ * <p>
+ *      A queue is a first-in-first-out data structure, and a deque can also be used from both ends.
+ * <p>
+ *      This package contains 2 interfaces:
+ * <ul>
+ *   <li>
+ *       {@link org.eclipse.collections.api.queue.MutableQueue} - a mutable queue API, which extends {@link java.util.Queue}.
+ *   </li>
+ *   <li>
+ *       {@link org.eclipse.collections.api.queue.MutableDeque} - a mutable double-ended queue API, which extends {@link java.util.Deque}.
+ *   </li>
+ * </ul>
+ *
+ * @since 10.3
+ */
+package org.eclipse.collections.api.queue;
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl;
+
+/**
+ * A snapshot of how the elements of a hash table are laid out, returned by {@code getHashStatistics()} on UnifiedMap,
+ * UnifiedSet, LinearProbeMap and the primitive hash maps and sets. Long probes or many chained buckets at a low load
+ * factor usually point to a poorly distributed {@code hashCode()}.
+ * <p>
+ * The probe length of an element is the number of slots or chain entries that a lookup of that element examines
+ * until it finds it. It is 1 for an element in its home slot, and grows with its position in a chain, or with the
+ * number of slots an open-addressing table had to skip to place it.
+ *
+ * @since 10.3
+ */
+public final class HashStatistics
+{
+    private final int size;
+    private final int capacity;
+    private final int chainedBucketCount;
+    private final int removedCount;
+    private final int outOfTableCount;
+    private final int maxProbeLength;
+    private final long totalProbeLength;
+
+    public HashStatistics(
+            int size,
+            int capacity,
+            int chainedBucketCount,
+            int removedCount,
+            int outOfTableCount,
+            int maxProbeLength,
+            long totalProbeLength)
+    {
+        this.size = size;
+        this.capacity = capacity;
+        this.chainedBucketCount = chainedBucketCount;
+        this.removedCount = removedCount;
+        this.outOfTableCount = outOfTableCount;
+        this.maxProbeLength = maxProbeLength;
+        this.totalProbeLength = totalProbeLength;
+    }
+
+    /**
+     * Returns the number of elements, including the ones kept outside the table.
+     */
+    public int getSize()
+    {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of buckets, or slots for open-addressing tables.
+     */
+    public int getCapacity()
+    {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of elements in the table divided by the capacity. It can exceed 1 for tables with chains.
+     */
+    public double getLoadFactor()
+    {
+        return this.capacity == 0 ? 0.0 : (double) (this.size - this.outOfTableCount) / this.capacity;
+    }
+
+    /**
+     * Returns the number of buckets that hold a chain instead of a single element. This is always 0 for
+     * open-addressing tables.
+     */
+    public int getChainedBucketCount()
+    {
+        return this.chainedBucketCount;
+    }
+
+    /**
+     * Returns the number of slots still marked as removed, which lookups have to probe past until the next rehash.
+     * This is always 0 for tables with chains.
+     */
+    public int getRemovedCount()
+    {
+        return this.removedCount;
+    }
+
+    /**
+     * Returns the number of elements kept outside the table, like the keys 0 and 1 of the primitive hash maps or the
+     * values 0 to 31 of the primitive hash sets. They can be found without probing.
+     */
+    public int getOutOfTableCount()
+    {
+        return this.outOfTableCount;
+    }
+
+    public int getMaxProbeLength()
+    {
+        return this.maxProbeLength;
+    }
+
+    /**
+     * Returns the average probe length of the elements in the table, or 0 when the table is empty.
+     */
+    public double getMeanProbeLength()
+    {
+        int inTableCount = this.size - this.outOfTableCount;
+        return inTableCount == 0 ? 0.0 : (double) this.totalProbeLength / inTableCount;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "HashStatistics{"
+                + "size=" + this.size
+                + ", capacity=" + this.capacity
+                + ", loadFactor=" + this.getLoadFactor()
+                + ", chainedBucketCount=" + this.chainedBucketCount
+                + ", removedCount=" + this.removedCount
+                + ", outOfTableCount=" + this.outOfTableCount
+                + ", maxProbeLength=" + this.maxProbeLength
+                + ", meanProbeLength=" + this.getMeanProbeLength()
+                + '}';
+    }
+}
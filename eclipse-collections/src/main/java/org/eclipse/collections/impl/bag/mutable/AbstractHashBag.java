@@ -11,6 +11,8 @@
 package org.eclipse.collections.impl.bag.mutable;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.bag.Bag;
@@ -191,6 +193,12 @@ public abstract class AbstractHashBag<T> extends AbstractMutableBag<T>
         return new InternalIterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        return new InternalSpliterator(this.items.keySet().spliterator());
+    }
+
     @Override
     public boolean removeOccurrences(Object item, int occurrences)
     {
@@ -373,4 +381,87 @@ public abstract class AbstractHashBag<T> extends AbstractMutableBag<T>
             this.canRemove = false;
         }
     }
+
+    private class InternalSpliterator implements Spliterator<T>, Consumer<T>
+    {
+        private final Spliterator<T> keys;
+        private long estimatedSize;
+        private T currentItem;
+        private int occurrences;
+
+        private InternalSpliterator(Spliterator<T> keys)
+        {
+            this(keys, -1L);
+        }
+
+        private InternalSpliterator(Spliterator<T> keys, long estimatedSize)
+        {
+            this.keys = keys;
+            this.estimatedSize = estimatedSize;
+        }
+
+        @Override
+        public void accept(T item)
+        {
+            this.currentItem = item;
+            this.occurrences = AbstractHashBag.this.occurrencesOf(item);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            if (this.occurrences == 0 && !this.keys.tryAdvance(this))
+            {
+                return false;
+            }
+            this.occurrences--;
+            action.accept(this.currentItem);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            for (; this.occurrences > 0; this.occurrences--)
+            {
+                action.accept(this.currentItem);
+            }
+            this.keys.forEachRemaining(each ->
+            {
+                int occurrences = AbstractHashBag.this.occurrencesOf(each);
+                for (int i = 0; i < occurrences; i++)
+                {
+                    action.accept(each);
+                }
+            });
+        }
+
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            Spliterator<T> split = this.keys.trySplit();
+            if (split == null)
+            {
+                return null;
+            }
+            this.estimatedSize = this.estimateSize() >>> 1;
+            return new InternalSpliterator(split, this.estimatedSize);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            if (this.estimatedSize < 0L)
+            {
+                this.estimatedSize = AbstractHashBag.this.size;
+            }
+            return this.estimatedSize;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return this.estimateSize() == AbstractHashBag.this.size ? Spliterator.SIZED : 0;
+        }
+    }
 }
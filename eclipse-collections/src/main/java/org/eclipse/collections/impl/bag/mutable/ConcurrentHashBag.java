@@ -0,0 +1,615 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+
+/**
+ * A ConcurrentHashBag is a MutableBag that is safe for concurrent reads and writes. Each item is a key in a
+ * {@link ConcurrentHashMap} and its occurrences are counted in an AtomicInteger of its own, so adding occurrences of
+ * different items never contends, and adding occurrences of the same item is a single compare-and-set. The total size
+ * is kept in a {@link LongAdder} for the same reason.
+ * <p>
+ * A counter that drops to zero is removed from the map and is never incremented again; a thread that finds such a
+ * counter replaces it with a new one.
+ * <p>
+ * Reads are weakly consistent. {@link #occurrencesOf(Object)} returns the count at the time of the call, and
+ * {@link #size()}, iteration and methods built on it such as {@link #topOccurrences(int)} may or may not see writes
+ * that happen while they run.
+ *
+ * @since 10.3
+ */
+public class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_ITEM = new Object();
+
+    private ConcurrentHashMap<Object, AtomicInteger> items;
+    private LongAdder size;
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+        this.size = new LongAdder();
+    }
+
+    public ConcurrentHashBag(int size)
+    {
+        this.items = ConcurrentHashMap.newMap(size);
+        this.size = new LongAdder();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int size)
+    {
+        return new ConcurrentHashBag<>(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        result.addAllIterable(source);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static Object toSentinelIfNull(Object item)
+    {
+        if (item == null)
+        {
+            return NULL_ITEM;
+        }
+        return item;
+    }
+
+    private static <T> T nonSentinel(Object key)
+    {
+        return key == NULL_ITEM ? null : (T) key;
+    }
+
+    @Override
+    public int addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return this.occurrencesOf(item);
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(key);
+            if (counter == null)
+            {
+                counter = this.items.putIfAbsent(key, new AtomicInteger(occurrences));
+                if (counter == null)
+                {
+                    this.size.add(occurrences);
+                    return occurrences;
+                }
+            }
+            int updatedOccurrences = ConcurrentHashBag.addIfLive(counter, occurrences);
+            if (updatedOccurrences > 0)
+            {
+                this.size.add(occurrences);
+                return updatedOccurrences;
+            }
+            if (this.items.replace(key, counter, new AtomicInteger(occurrences)))
+            {
+                this.size.add(occurrences);
+                return occurrences;
+            }
+        }
+    }
+
+    /**
+     * Adds to a counter unless it has dropped to zero, in which case it is about to be removed and zero is returned.
+     * Throws an IllegalArgumentException instead of letting the count overflow.
+     */
+    private static int addIfLive(AtomicInteger counter, int occurrences)
+    {
+        while (true)
+        {
+            int current = counter.get();
+            if (current == 0)
+            {
+                return 0;
+            }
+            if (current > Integer.MAX_VALUE - occurrences)
+            {
+                throw new IllegalArgumentException("Cannot add " + occurrences + " occurrences to an item with " + current + " occurrences");
+            }
+            if (counter.compareAndSet(current, current + occurrences))
+            {
+                return current + occurrences;
+            }
+        }
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.addOccurrences(item, 1);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return false;
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        AtomicInteger counter = this.items.get(key);
+        if (counter == null)
+        {
+            return false;
+        }
+        while (true)
+        {
+            int current = counter.get();
+            if (current == 0)
+            {
+                return false;
+            }
+            int updated = Math.max(0, current - occurrences);
+            if (counter.compareAndSet(current, updated))
+            {
+                if (updated == 0)
+                {
+                    this.items.remove(key, counter);
+                }
+                this.size.add(updated - current);
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(key);
+            if (counter == null)
+            {
+                if (occurrences == 0)
+                {
+                    return false;
+                }
+                if (this.items.putIfAbsent(key, new AtomicInteger(occurrences)) == null)
+                {
+                    this.size.add(occurrences);
+                    return true;
+                }
+            }
+            else
+            {
+                int current = counter.get();
+                if (current == occurrences)
+                {
+                    return false;
+                }
+                if (current == 0)
+                {
+                    if (this.items.replace(key, counter, new AtomicInteger(occurrences)))
+                    {
+                        this.size.add(occurrences);
+                        return true;
+                    }
+                }
+                else if (counter.compareAndSet(current, occurrences))
+                {
+                    if (occurrences == 0)
+                    {
+                        this.items.remove(key, counter);
+                    }
+                    this.size.add(occurrences - current);
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every occurrence of the item stored under the key and returns how many there were.
+     */
+    private int removeAllOccurrences(Object key)
+    {
+        AtomicInteger counter = this.items.get(key);
+        if (counter == null)
+        {
+            return 0;
+        }
+        int removed = counter.getAndSet(0);
+        this.items.remove(key, counter);
+        this.size.add(-removed);
+        return removed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = false;
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.nonSentinel(key)))
+            {
+                changed |= this.removeAllOccurrences(key) > 0;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        boolean changed = false;
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(ConcurrentHashBag.nonSentinel(key), parameter))
+            {
+                changed |= this.removeAllOccurrences(key) > 0;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        if (iterable instanceof Bag)
+        {
+            Counter removed = new Counter();
+            ((Bag<?>) iterable).forEachWithOccurrences((each, occurrences) ->
+                    removed.add(this.removeAllOccurrences(ConcurrentHashBag.toSentinelIfNull(each))));
+            return removed.getCount() > 0;
+        }
+        boolean changed = false;
+        for (Object each : iterable)
+        {
+            changed |= this.removeAllOccurrences(ConcurrentHashBag.toSentinelIfNull(each)) > 0;
+        }
+        return changed;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (Object key : this.items.keySet())
+        {
+            this.removeAllOccurrences(key);
+        }
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        AtomicInteger counter = this.items.get(ConcurrentHashBag.toSentinelIfNull(item));
+        return counter == null ? 0 : counter.get();
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.occurrencesOf(o) > 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size.intValue();
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.items.isEmpty();
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return this.items.keysView().collect(ConcurrentHashBag::nonSentinel);
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.items.forEachKeyValue((key, counter) ->
+        {
+            int occurrences = counter.get();
+            if (occurrences > 0)
+            {
+                objectIntProcedure.value(ConcurrentHashBag.nonSentinel(key), occurrences);
+            }
+        });
+    }
+
+    @Override
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(map::put);
+        return map;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences((item, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(item);
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        Counter index = new Counter();
+        this.forEachWithOccurrences((item, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                objectIntProcedure.value(item, index.getCount());
+                index.increment();
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        this.forEachWithOccurrences((item, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(item, parameter);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+
+        return this.items.keyValuesView().allSatisfy(each -> bag.occurrencesOf(ConcurrentHashBag.nonSentinel(each.getOne())) == each.getTwo().get());
+    }
+
+    @Override
+    public int hashCode()
+    {
+        Counter counter = new Counter();
+        this.forEachWithOccurrences((item, count) -> counter.add((item == null ? 0 : item.hashCode()) ^ count));
+        return counter.getCount();
+    }
+
+    @Override
+    public MutableBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        ConcurrentHashBag<T> result = ConcurrentHashBag.newBag();
+        this.forEachWithOccurrences((item, occurrences) ->
+        {
+            if (predicate.accept(occurrences))
+            {
+                result.addOccurrences(item, occurrences);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    @Override
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableMap<T, Integer> snapshot = this.toMapOfItemToCount();
+        out.writeInt(snapshot.size());
+        for (Map.Entry<T, Integer> entry : snapshot.entrySet())
+        {
+            out.writeObject(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int sizeDistinct = in.readInt();
+        this.items = ConcurrentHashMap.newMap(sizeDistinct);
+        this.size = new LongAdder();
+        for (int i = 0; i < sizeDistinct; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Object> iterator = ConcurrentHashBag.this.items.keySet().iterator();
+
+        private T currentItem;
+        private int occurrences;
+        private T lastReturned;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.occurrences == 0 && this.iterator.hasNext())
+            {
+                this.currentItem = ConcurrentHashBag.nonSentinel(this.iterator.next());
+                this.occurrences = ConcurrentHashBag.this.occurrencesOf(this.currentItem);
+            }
+            return this.occurrences > 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.occurrences--;
+            this.lastReturned = this.currentItem;
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.lastReturned);
+            this.canRemove = false;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.RichIterable;
@@ -70,7 +71,8 @@ import org.eclipse.collections.impl.factory.Iterables;
 import org.eclipse.collections.impl.utility.LazyIterate;
 
 /**
- * MultiReaderHashBag provides a thread-safe wrapper around a HashBag, using a ReentrantReadWriteLock. In order to
+ * MultiReaderHashBag provides a thread-safe wrapper around a HashBag, using a ReentrantReadWriteLock, or a StampedLock
+ * when created with {@code newStampedBag()}. In order to
  * provide true thread-safety, MultiReaderHashBag does <em>not</em> implement {@code iterator()} as this method requires an external lock
  * to be taken to provide thread-safe iteration. All of these methods are available however, if you use the
  * {@code withReadLockAndDelegate()} or {@code withWriteLockAndDelegate()} methods. Both of these methods take a parameter of type
@@ -109,6 +111,13 @@ public final class MultiReaderHashBag<T>
         this.delegate = newDelegate;
     }
 
+    private MultiReaderHashBag(MutableBag<T> newDelegate, StampedLock newLock)
+    {
+        this.lock = newLock.asReadWriteLock();
+        this.lockWrapper = new ReadWriteLockWrapper(newLock);
+        this.delegate = newDelegate;
+    }
+
     public static <T> MultiReaderHashBag<T> newBag()
     {
         return new MultiReaderHashBag<>(HashBag.newBag());
@@ -129,6 +138,35 @@ public final class MultiReaderHashBag<T>
         return new MultiReaderHashBag<>(HashBag.newBagWith(elements));
     }
 
+    /**
+     * Creates an empty bag guarded by a {@link StampedLock} instead of a ReentrantReadWriteLock. {@code size()},
+     * {@code isEmpty()} and {@code notEmpty()} first try an optimistic read that takes no lock at all, which scales much
+     * better than a shared read lock when reads vastly outnumber writes. {@code contains()}, {@code occurrencesOf()}
+     * and the other reads that call equals() or a block take the read lock, as with the default lock.
+     * <p>
+     * Unlike the default lock, a StampedLock is not reentrant. A block that runs under the write lock and calls back
+     * into this bag, as in {@code bag.removeIf(each -> bag.contains(each))}, throws an IllegalStateException instead of
+     * succeeding. A block that runs under the read lock and calls back into this bag, as in {@code anySatisfy()} or
+     * {@code withReadLockAndDelegate()}, can deadlock once a writer is waiting. Bags made by {@code newEmpty()} use a
+     * StampedLock as well, but a deserialized bag uses a ReentrantReadWriteLock.
+     *
+     * @since 10.3
+     */
+    public static <T> MultiReaderHashBag<T> newStampedBag()
+    {
+        return new MultiReaderHashBag<>(HashBag.newBag(), new StampedLock());
+    }
+
+    /**
+     * Same as {@link #newStampedBag()} with the given initial capacity.
+     *
+     * @since 10.3
+     */
+    public static <T> MultiReaderHashBag<T> newStampedBag(int capacity)
+    {
+        return new MultiReaderHashBag<>(HashBag.newBag(capacity), new StampedLock());
+    }
+
     @Override
     protected MutableBag<T> getDelegate()
     {
@@ -392,7 +430,7 @@ public final class MultiReaderHashBag<T>
     @Override
     public MutableBag<T> newEmpty()
     {
-        return MultiReaderHashBag.newBag();
+        return this.lockWrapper.isOptimistic() ? MultiReaderHashBag.newStampedBag() : MultiReaderHashBag.newBag();
     }
 
     @Override
@@ -601,6 +639,10 @@ public final class MultiReaderHashBag<T>
     @Override
     public boolean equals(Object o)
     {
+        if (this == o)
+        {
+            return true;
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.delegate.equals(o);
@@ -10,6 +10,7 @@
 
 package org.eclipse.collections.impl.block.factory;
 
+import java.security.SecureRandom;
 import java.util.Objects;
 
 import org.eclipse.collections.api.block.HashingStrategy;
@@ -58,6 +59,30 @@ public final class HashingStrategies
         return IDENTITY_HASHING_STRATEGY;
     }
 
+    /**
+     * Returns a null-safe strategy with the same equality as {@link #defaultStrategy()}, but with hash codes that
+     * are randomized by a secret seed chosen when this method is called. Use it with
+     * {@link org.eclipse.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy} or
+     * {@link org.eclipse.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrategy} when the keys come
+     * from untrusted sources, to protect against hash flooding.
+     * <p>
+     * Strings are hashed from their characters with SipHash-1-3, so strings that share a {@link String#hashCode()}
+     * are spread across the table like any other strings. Other objects only have their {@link Object#hashCode()}
+     * mixed with the seed, which protects against keys crafted to collide in the low bits of the hash code, but not
+     * against keys with identical hash codes.
+     * <p>
+     * Each call returns a strategy with a new seed, so a strategy should be created for each map or set rather
+     * than shared between them.
+     *
+     * @since 10.3
+     */
+    public static <T> HashingStrategy<T> hashFloodResistantStrategy()
+    {
+        return (HashingStrategy<T>) new HashFloodResistantHashingStrategy(
+                HashFloodResistantHashingStrategy.SEED_GENERATOR.nextLong(),
+                HashFloodResistantHashingStrategy.SEED_GENERATOR.nextLong());
+    }
+
     public static <T> HashingStrategy<T> chain(HashingStrategy<T>... hashingStrategies)
     {
         if (hashingStrategies.length == 0)
@@ -425,6 +450,113 @@ public final class HashingStrategies
         }
     }
 
+    private static final class HashFloodResistantHashingStrategy implements HashingStrategy<Object>
+    {
+        private static final long serialVersionUID = 1L;
+
+        // Only initialized the first time a seed is needed
+        private static final SecureRandom SEED_GENERATOR = new SecureRandom();
+
+        private final long key0;
+        private final long key1;
+
+        private HashFloodResistantHashingStrategy(long key0, long key1)
+        {
+            this.key0 = key0;
+            this.key1 = key1;
+        }
+
+        @Override
+        public int computeHashCode(Object object)
+        {
+            if (object == null)
+            {
+                return 0;
+            }
+            if (object instanceof String)
+            {
+                long hash = this.sipHash13((String) object);
+                return (int) (hash ^ hash >>> 32);
+            }
+            // The murmur3 finalizer, so that every bit of the seed affects every bit of the result
+            int h = object.hashCode() ^ (int) this.key0;
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h;
+        }
+
+        /**
+         * SipHash-1-3 of the UTF-16LE encoding of the string, which reads four chars per 64 bit word.
+         */
+        private long sipHash13(String string)
+        {
+            long v0 = this.key0 ^ 0x736f6d6570736575L;
+            long v1 = this.key1 ^ 0x646f72616e646f6dL;
+            long v2 = this.key0 ^ 0x6c7967656e657261L;
+            long v3 = this.key1 ^ 0x7465646279746573L;
+
+            int length = string.length();
+            int fullWordsEnd = length & ~3;
+            for (int i = 0; i <= fullWordsEnd; i += 4)
+            {
+                long word;
+                if (i < fullWordsEnd)
+                {
+                    word = string.charAt(i)
+                            | (long) string.charAt(i + 1) << 16
+                            | (long) string.charAt(i + 2) << 32
+                            | (long) string.charAt(i + 3) << 48;
+                }
+                else
+                {
+                    // The last word holds the remaining chars and the length in bytes, modulo 256, in its top byte
+                    word = (long) (length << 1) << 56;
+                    for (int j = i; j < length; j++)
+                    {
+                        word |= (long) string.charAt(j) << ((j - i) << 4);
+                    }
+                }
+                v3 ^= word;
+                v0 += v1;
+                v1 = Long.rotateLeft(v1, 13) ^ v0;
+                v0 = Long.rotateLeft(v0, 32);
+                v2 += v3;
+                v3 = Long.rotateLeft(v3, 16) ^ v2;
+                v0 += v3;
+                v3 = Long.rotateLeft(v3, 21) ^ v0;
+                v2 += v1;
+                v1 = Long.rotateLeft(v1, 17) ^ v2;
+                v2 = Long.rotateLeft(v2, 32);
+                v0 ^= word;
+            }
+
+            v2 ^= 0xffL;
+            for (int round = 0; round < 3; round++)
+            {
+                v0 += v1;
+                v1 = Long.rotateLeft(v1, 13) ^ v0;
+                v0 = Long.rotateLeft(v0, 32);
+                v2 += v3;
+                v3 = Long.rotateLeft(v3, 16) ^ v2;
+                v0 += v3;
+                v3 = Long.rotateLeft(v3, 21) ^ v0;
+                v2 += v1;
+                v1 = Long.rotateLeft(v1, 17) ^ v2;
+                v2 = Long.rotateLeft(v2, 32);
+            }
+            return v0 ^ v1 ^ v2 ^ v3;
+        }
+
+        @Override
+        public boolean equals(Object object1, Object object2)
+        {
+            return Objects.equals(object1, object2);
+        }
+    }
+
     private static final class ChainedHashingStrategy<T> implements HashingStrategy<T>
     {
         private static final long serialVersionUID = 1L;
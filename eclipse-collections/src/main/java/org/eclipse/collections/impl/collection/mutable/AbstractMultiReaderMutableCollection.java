@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.Spliterator;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import java.util.stream.Stream;
 
 import org.eclipse.collections.api.LazyIterable;
@@ -37,6 +38,7 @@ import org.eclipse.collections.api.block.function.primitive.DoubleObjectToDouble
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatObjectToFloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction0;
 import org.eclipse.collections.api.block.function.primitive.IntObjectToIntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
 import org.eclipse.collections.api.block.function.primitive.LongObjectToLongFunction;
@@ -71,6 +73,7 @@ import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import org.eclipse.collections.impl.factory.primitive.ObjectDoubleMaps;
 import org.eclipse.collections.impl.factory.primitive.ObjectLongMaps;
+import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 
 /**
@@ -84,6 +87,28 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
 
     protected abstract MutableCollection<T> getDelegate();
 
+    /**
+     * Returns a copy of the delegate if a bulk method is called with this collection as its argument. Otherwise the
+     * delegate would iterate this collection and take the lock again while it is already held, which deadlocks a
+     * {@link StampedLock} because it is not reentrant.
+     *
+     * @since 10.3
+     */
+    protected <E> Collection<E> copyIfThis(Collection<E> collection)
+    {
+        return collection == this ? (Collection<E>) FastList.newList(this.getDelegate()) : collection;
+    }
+
+    /**
+     * Same as {@link #copyIfThis(Collection)} for an Iterable.
+     *
+     * @since 10.3
+     */
+    protected <E> Iterable<E> copyIfThis(Iterable<E> iterable)
+    {
+        return iterable == this ? (Iterable<E>) FastList.newList(this.getDelegate()) : iterable;
+    }
+
     @Override
     public boolean contains(Object item)
     {
@@ -98,7 +123,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            return this.getDelegate().containsAll(collection);
+            return this.getDelegate().containsAll(this.copyIfThis(collection));
         }
     }
 
@@ -107,7 +132,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            return this.getDelegate().containsAllIterable(source);
+            return this.getDelegate().containsAllIterable(this.copyIfThis(source));
         }
     }
 
@@ -599,10 +624,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public boolean notEmpty()
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.getDelegate().notEmpty();
-        }
+        return this.lockWrapper.optimisticReadInt(() -> this.getDelegate().size()) != 0;
     }
 
     @Override
@@ -935,7 +957,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
         {
-            return this.getDelegate().addAll(collection);
+            return this.getDelegate().addAll(this.copyIfThis(collection));
         }
     }
 
@@ -944,7 +966,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
         {
-            return this.getDelegate().addAllIterable(iterable);
+            return this.getDelegate().addAllIterable(this.copyIfThis(iterable));
         }
     }
 
@@ -960,10 +982,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public boolean isEmpty()
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.getDelegate().isEmpty();
-        }
+        return this.lockWrapper.optimisticReadInt(() -> this.getDelegate().size()) == 0;
     }
 
     /**
@@ -1049,7 +1068,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
         {
-            return this.getDelegate().removeAll(collection);
+            return this.getDelegate().removeAll(this.copyIfThis(collection));
         }
     }
 
@@ -1058,7 +1077,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
         {
-            return this.getDelegate().removeAllIterable(iterable);
+            return this.getDelegate().removeAllIterable(this.copyIfThis(iterable));
         }
     }
 
@@ -1067,7 +1086,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
         {
-            return this.getDelegate().retainAll(collection);
+            return this.getDelegate().retainAll(this.copyIfThis(collection));
         }
     }
 
@@ -1076,17 +1095,14 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
         {
-            return this.getDelegate().retainAllIterable(iterable);
+            return this.getDelegate().retainAllIterable(this.copyIfThis(iterable));
         }
     }
 
     @Override
     public int size()
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.getDelegate().size();
-        }
+        return this.lockWrapper.optimisticReadInt(() -> this.getDelegate().size());
     }
 
     @Override
@@ -1991,17 +2007,130 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
         }
     }
 
+    /**
+     * Wraps the lock of a multi-reader collection. When created with a {@link StampedLock}, the methods
+     * {@link #optimisticRead(Function0)} and {@link #optimisticReadInt(IntFunction0)} first run the read without
+     * taking the lock and only take the read lock if a write happened in the meantime. This avoids the contention on
+     * the shared reader count of a ReentrantReadWriteLock when reads vastly outnumber writes.
+     * <p>
+     * A StampedLock is not reentrant. A thread that holds the write lock and asks for either lock again would wait for
+     * itself forever, so in that case {@link #acquireReadLock()} and {@link #acquireWriteLock()} throw an
+     * IllegalStateException instead. A thread that holds the read lock and asks for it again is not detected, and can
+     * deadlock once a writer is waiting between the two requests.
+     */
     public static class ReadWriteLockWrapper
     {
         private final ReadWriteLock readWriteLock;
+        private final StampedLock stampedLock;
         private final LockWrapper readLock;
         private final LockWrapper writeLock;
+        private volatile Thread writeLockOwner;
 
         public ReadWriteLockWrapper(ReadWriteLock readWriteLock)
+        {
+            this(readWriteLock, null);
+        }
+
+        /**
+         * @since 10.3
+         */
+        public ReadWriteLockWrapper(StampedLock stampedLock)
+        {
+            this(stampedLock.asReadWriteLock(), stampedLock);
+        }
+
+        private ReadWriteLockWrapper(ReadWriteLock readWriteLock, StampedLock stampedLock)
         {
             this.readWriteLock = readWriteLock;
+            this.stampedLock = stampedLock;
             this.readLock = new LockWrapper(readWriteLock.readLock());
-            this.writeLock = new LockWrapper(readWriteLock.writeLock());
+            this.writeLock = stampedLock == null
+                    ? new LockWrapper(readWriteLock.writeLock())
+                    : new StampedWriteLockWrapper(readWriteLock.writeLock(), this);
+        }
+
+        /**
+         * Returns true if this wrapper was created with a StampedLock and supports optimistic reads.
+         *
+         * @since 10.3
+         */
+        public boolean isOptimistic()
+        {
+            return this.stampedLock != null;
+        }
+
+        /**
+         * Evaluates a read-only function, optimistically without the lock if this wrapper was created with a
+         * StampedLock, and under the read lock otherwise or if a write invalidated the optimistic read. The function
+         * may observe the collection in the middle of a write, so it must not have side effects, must not call user
+         * code such as equals, hashCode or a block, and any exception it throws is only rethrown if no write happened
+         * concurrently. Reads like size() and get(int) qualify; contains() does not.
+         *
+         * @since 10.3
+         */
+        public <R> R optimisticRead(Function0<R> function)
+        {
+            if (this.stampedLock != null)
+            {
+                long stamp = this.stampedLock.tryOptimisticRead();
+                if (stamp != 0L)
+                {
+                    try
+                    {
+                        R result = function.value();
+                        if (this.stampedLock.validate(stamp))
+                        {
+                            return result;
+                        }
+                    }
+                    catch (RuntimeException e)
+                    {
+                        if (this.stampedLock.validate(stamp))
+                        {
+                            throw e;
+                        }
+                    }
+                }
+            }
+            try (LockWrapper wrapper = this.acquireReadLock())
+            {
+                return function.value();
+            }
+        }
+
+        /**
+         * Same as {@link #optimisticRead(Function0)} for functions returning an int.
+         *
+         * @since 10.3
+         */
+        public int optimisticReadInt(IntFunction0 function)
+        {
+            if (this.stampedLock != null)
+            {
+                long stamp = this.stampedLock.tryOptimisticRead();
+                if (stamp != 0L)
+                {
+                    try
+                    {
+                        int result = function.value();
+                        if (this.stampedLock.validate(stamp))
+                        {
+                            return result;
+                        }
+                    }
+                    catch (RuntimeException e)
+                    {
+                        if (this.stampedLock.validate(stamp))
+                        {
+                            throw e;
+                        }
+                    }
+                }
+            }
+            try (LockWrapper wrapper = this.acquireReadLock())
+            {
+                return function.value();
+            }
         }
 
         /**
@@ -2009,6 +2138,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
          */
         public LockWrapper acquireReadLock()
         {
+            this.checkNotReentrant();
             this.readLock.lock.lock();
             return this.readLock;
         }
@@ -2018,9 +2148,22 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
          */
         public LockWrapper acquireWriteLock()
         {
+            this.checkNotReentrant();
             this.writeLock.lock.lock();
+            if (this.stampedLock != null)
+            {
+                this.writeLockOwner = Thread.currentThread();
+            }
             return this.writeLock;
         }
+
+        private void checkNotReentrant()
+        {
+            if (this.stampedLock != null && this.writeLockOwner == Thread.currentThread())
+            {
+                throw new IllegalStateException("A StampedLock is not reentrant, and this thread already holds the write lock");
+            }
+        }
     }
 
     public static class LockWrapper implements AutoCloseable
@@ -2038,4 +2181,22 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
             this.lock.unlock();
         }
     }
+
+    private static final class StampedWriteLockWrapper extends LockWrapper
+    {
+        private final ReadWriteLockWrapper owner;
+
+        private StampedWriteLockWrapper(Lock lock, ReadWriteLockWrapper owner)
+        {
+            super(lock);
+            this.owner = owner;
+        }
+
+        @Override
+        public void close()
+        {
+            this.owner.writeLockOwner = null;
+            super.close();
+        }
+    }
 }
@@ -13,16 +13,26 @@ package org.eclipse.collections.impl.lazy.parallel;
 import java.util.Comparator;
 import java.util.concurrent.locks.ReadWriteLock;
 
+import org.eclipse.collections.api.ParallelByteIterable;
+import org.eclipse.collections.api.ParallelCharIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelFloatIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.ParallelShortIterable;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -36,6 +46,13 @@ import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.impl.lazy.parallel.list.MultiReaderParallelListIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelByteIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelCharIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelDoubleIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelFloatIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelIntIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelLongIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.MultiReaderParallelShortIterable;
 import org.eclipse.collections.impl.lazy.parallel.set.MultiReaderParallelUnsortedSetIterable;
 
 public abstract class AbstractMultiReaderParallelIterable<T, PI extends ParallelIterable<T>> implements ParallelIterable<T>
@@ -638,6 +655,48 @@ public abstract class AbstractMultiReaderParallelIterable<T, PI extends Parallel
         }
     }
 
+    @Override
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
+    {
+        return new MultiReaderParallelByteIterable(this.delegate.collectByte(function), this.lock);
+    }
+
+    @Override
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        return new MultiReaderParallelCharIterable(this.delegate.collectChar(function), this.lock);
+    }
+
+    @Override
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new MultiReaderParallelDoubleIterable(this.delegate.collectDouble(function), this.lock);
+    }
+
+    @Override
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        return new MultiReaderParallelFloatIterable(this.delegate.collectFloat(function), this.lock);
+    }
+
+    @Override
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new MultiReaderParallelIntIterable(this.delegate.collectInt(function), this.lock);
+    }
+
+    @Override
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new MultiReaderParallelLongIterable(this.delegate.collectLong(function), this.lock);
+    }
+
+    @Override
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        return new MultiReaderParallelShortIterable(this.delegate.collectShort(function), this.lock);
+    }
+
     @Override
     public String makeString()
     {
@@ -20,20 +20,31 @@ import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelByteIterable;
+import org.eclipse.collections.api.ParallelCharIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelFloatIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.ParallelShortIterable;
 import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -57,6 +68,13 @@ import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
 import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure2;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectByteIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectCharIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectDoubleIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectFloatIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectIntIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectLongIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.ParallelCollectShortIterable;
 import org.eclipse.collections.impl.list.mutable.CompositeFastList;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
@@ -72,6 +90,11 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 {
     protected static <T> void forEach(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Procedure<? super T> procedure)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            ForkJoinRootBatchIterate.forEach((ForkJoinPool) parallelIterable.getExecutorService(), parallelIterable.split(), procedure);
+            return;
+        }
         LazyIterable<Future<?>> futures =
                 parallelIterable.split().collect(chunk -> parallelIterable.getExecutorService().submit(() -> chunk.forEach(procedure)));
         // The call to toList() is important to stop the lazy evaluation and force all the Runnables to start executing.
@@ -96,6 +119,10 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean anySatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            return ForkJoinRootBatchIterate.anySatisfy((ForkJoinPool) parallelIterable.getExecutorService(), parallelIterable.split(), predicate);
+        }
         CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures =
                 parallelIterable.split().collect(batch -> completionService.submit(() -> batch.anySatisfy(predicate)), UnifiedSet.newSet());
@@ -130,6 +157,10 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            return ForkJoinRootBatchIterate.allSatisfy((ForkJoinPool) parallelIterable.getExecutorService(), parallelIterable.split(), predicate);
+        }
         CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures =
                 parallelIterable.split().collect(batch -> completionService.submit(() -> batch.allSatisfy(predicate)), UnifiedSet.newSet());
@@ -164,6 +195,10 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> T detect(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            return ForkJoinRootBatchIterate.detect((ForkJoinPool) parallelIterable.getExecutorService(), parallelIterable.split(), predicate);
+        }
         LazyIterable<? extends RootBatch<T>> chunks = parallelIterable.split();
         LazyIterable<Future<T>> futures =
                 chunks.collect(chunk -> parallelIterable.getExecutorService().submit(() -> chunk.detect(predicate)));
@@ -484,10 +519,103 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return state;
     }
 
+    @Override
+    public MutableList<T> toSortedList()
+    {
+        return this.toSortedList(null);
+    }
+
+    /**
+     * Sorts every batch on the executor, then merges the sorted batches pairwise, with the merges of each round also
+     * running on the executor. Equal elements are taken from the earlier batch first, so the sort is stable for
+     * ordered parallel iterables.
+     */
     @Override
     public MutableList<T> toSortedList(Comparator<? super T> comparator)
     {
-        return this.toList().toSortedList(comparator);
+        Function<Batch<T>, FastList<T>> map = batch -> {
+            FastList<T> list = FastList.newList();
+            batch.forEach(CollectionAddProcedure.on(list));
+            return list.sortThis(comparator);
+        };
+        MutableList<FastList<T>> sortedBatches = FastList.newList();
+        this.collectCombine(map, MutableList::add, sortedBatches);
+        Comparator<? super T> nonNullComparator = comparator == null ? Comparators.naturalOrder() : comparator;
+        return this.mergeSortedBatches(sortedBatches, nonNullComparator);
+    }
+
+    private MutableList<T> mergeSortedBatches(MutableList<FastList<T>> sortedBatches, Comparator<? super T> comparator)
+    {
+        if (sortedBatches.isEmpty())
+        {
+            return FastList.newList();
+        }
+        MutableList<FastList<T>> runs = sortedBatches;
+        while (runs.size() > 1)
+        {
+            int lastPairIndex = runs.size() - runs.size() % 2 - 2;
+            MutableList<Future<FastList<T>>> futures = FastList.newList(runs.size() / 2);
+            for (int i = 0; i < lastPairIndex; i += 2)
+            {
+                FastList<T> left = runs.get(i);
+                FastList<T> right = runs.get(i + 1);
+                futures.add(this.getExecutorService().submit(() -> AbstractParallelIterable.merge(left, right, comparator)));
+            }
+            // The calling thread merges the last pair itself instead of only waiting for the others
+            FastList<T> lastMerged = AbstractParallelIterable.merge(runs.get(lastPairIndex), runs.get(lastPairIndex + 1), comparator);
+
+            MutableList<FastList<T>> merged = FastList.newList(runs.size() / 2 + 1);
+            try
+            {
+                for (Future<FastList<T>> future : futures)
+                {
+                    merged.add(future.get());
+                }
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+            merged.add(lastMerged);
+            if (runs.size() % 2 == 1)
+            {
+                merged.add(runs.getLast());
+            }
+            runs = merged;
+        }
+        return runs.getFirst();
+    }
+
+    private static <T> FastList<T> merge(FastList<T> left, FastList<T> right, Comparator<? super T> comparator)
+    {
+        FastList<T> result = FastList.newList(left.size() + right.size());
+        int leftIndex = 0;
+        int rightIndex = 0;
+        while (leftIndex < left.size() && rightIndex < right.size())
+        {
+            if (comparator.compare(right.get(rightIndex), left.get(leftIndex)) < 0)
+            {
+                result.add(right.get(rightIndex++));
+            }
+            else
+            {
+                result.add(left.get(leftIndex++));
+            }
+        }
+        for (; leftIndex < left.size(); leftIndex++)
+        {
+            result.add(left.get(leftIndex));
+        }
+        for (; rightIndex < right.size(); rightIndex++)
+        {
+            result.add(right.get(rightIndex));
+        }
+        return result;
     }
 
     @Override
@@ -692,6 +820,48 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return this.sumOfDoubleOrdered(batch -> batch.sumOfDouble(function));
     }
 
+    @Override
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
+    {
+        return new ParallelCollectByteIterable<>(this, function);
+    }
+
+    @Override
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        return new ParallelCollectCharIterable<>(this, function);
+    }
+
+    @Override
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new ParallelCollectDoubleIterable<>(this, function);
+    }
+
+    @Override
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        return new ParallelCollectFloatIterable<>(this, function);
+    }
+
+    @Override
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new ParallelCollectIntIterable<>(this, function);
+    }
+
+    @Override
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new ParallelCollectLongIterable<>(this, function);
+    }
+
+    @Override
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        return new ParallelCollectShortIterable<>(this, function);
+    }
+
     private long sumOfLongOrdered(LongFunction<Batch<T>> map)
     {
         LazyIterable<? extends Batch<T>> chunks = this.split();
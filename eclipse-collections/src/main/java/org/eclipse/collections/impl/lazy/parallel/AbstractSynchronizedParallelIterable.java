@@ -12,16 +12,26 @@ package org.eclipse.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
 
+import org.eclipse.collections.api.ParallelByteIterable;
+import org.eclipse.collections.api.ParallelCharIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelFloatIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.ParallelShortIterable;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -36,6 +46,13 @@ import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.api.set.sorted.ParallelSortedSetIterable;
 import org.eclipse.collections.impl.lazy.parallel.list.SynchronizedParallelListIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelByteIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelCharIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelDoubleIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelFloatIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelIntIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelLongIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.SynchronizedParallelShortIterable;
 import org.eclipse.collections.impl.lazy.parallel.set.SynchronizedParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.lazy.parallel.set.sorted.SynchronizedParallelSortedSetIterable;
 
@@ -439,6 +456,48 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         }
     }
 
+    @Override
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
+    {
+        return new SynchronizedParallelByteIterable(this.delegate.collectByte(function), this.lock);
+    }
+
+    @Override
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        return new SynchronizedParallelCharIterable(this.delegate.collectChar(function), this.lock);
+    }
+
+    @Override
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new SynchronizedParallelDoubleIterable(this.delegate.collectDouble(function), this.lock);
+    }
+
+    @Override
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        return new SynchronizedParallelFloatIterable(this.delegate.collectFloat(function), this.lock);
+    }
+
+    @Override
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new SynchronizedParallelIntIterable(this.delegate.collectInt(function), this.lock);
+    }
+
+    @Override
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new SynchronizedParallelLongIterable(this.delegate.collectLong(function), this.lock);
+    }
+
+    @Override
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        return new SynchronizedParallelShortIterable(this.delegate.collectShort(function), this.lock);
+    }
+
     @Override
     public String makeString()
     {
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.tuple.Twin;
+
+/**
+ * Runs the terminal operations of a root parallel iterable on a {@link ForkJoinPool}. The batches of the iterable
+ * are divided recursively, and each batch keeps {@link RootBatch#split() splitting} in half for as long as other
+ * workers are running out of queued tasks, so idle threads can steal the remaining halves of skewed or slow batches.
+ *
+ * @since 10.3
+ */
+final class ForkJoinRootBatchIterate
+{
+    /**
+     * A batch is only split while the current worker has no more than this many queued tasks that other workers
+     * could steal. This is the usual ForkJoin heuristic to stop splitting once every worker has enough work.
+     */
+    private static final int SURPLUS_QUEUED_TASK_THRESHOLD = 3;
+
+    private ForkJoinRootBatchIterate()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    static <T> void forEach(ForkJoinPool pool, LazyIterable<? extends RootBatch<T>> batches, Procedure<? super T> procedure)
+    {
+        ListIterable<? extends RootBatch<T>> batchList = batches.toList();
+        if (batchList.notEmpty())
+        {
+            pool.invoke(new ForEachTask<>(batchList, 0, batchList.size(), null, procedure));
+        }
+    }
+
+    static <T> boolean anySatisfy(ForkJoinPool pool, LazyIterable<? extends RootBatch<T>> batches, Predicate<? super T> predicate)
+    {
+        ListIterable<? extends RootBatch<T>> batchList = batches.toList();
+        return batchList.notEmpty()
+                && pool.invoke(new AnySatisfyTask<>(batchList, 0, batchList.size(), null, predicate, new AtomicBoolean()));
+    }
+
+    static <T> boolean allSatisfy(ForkJoinPool pool, LazyIterable<? extends RootBatch<T>> batches, Predicate<? super T> predicate)
+    {
+        ListIterable<? extends RootBatch<T>> batchList = batches.toList();
+        return batchList.isEmpty()
+                || pool.invoke(new AllSatisfyTask<>(batchList, 0, batchList.size(), null, predicate, new AtomicBoolean()));
+    }
+
+    static <T> T detect(ForkJoinPool pool, LazyIterable<? extends RootBatch<T>> batches, Predicate<? super T> predicate)
+    {
+        ListIterable<? extends RootBatch<T>> batchList = batches.toList();
+        if (batchList.isEmpty())
+        {
+            return null;
+        }
+        return pool.invoke(new DetectTask<>(batchList, 0, batchList.size(), null, predicate));
+    }
+
+    /**
+     * Works either on the range [fromIndex, toIndex) of the batches, or on a single batch when batch is not null.
+     */
+    private abstract static class RootBatchTask<T, R> extends RecursiveTask<R>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final ListIterable<? extends RootBatch<T>> batches;
+        private final int fromIndex;
+        private final int toIndex;
+        private final RootBatch<T> batch;
+
+        protected RootBatchTask(ListIterable<? extends RootBatch<T>> batches, int fromIndex, int toIndex, RootBatch<T> batch)
+        {
+            this.batches = batches;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.batch = batch;
+        }
+
+        @Override
+        protected R compute()
+        {
+            if (this.batch == null)
+            {
+                if (this.toIndex - this.fromIndex == 1)
+                {
+                    return this.newTask(null, 0, 0, this.batches.get(this.fromIndex)).compute();
+                }
+                int middleIndex = (this.fromIndex + this.toIndex) >>> 1;
+                return this.forkAndCombine(
+                        this.newTask(this.batches, this.fromIndex, middleIndex, null),
+                        this.newTask(this.batches, middleIndex, this.toIndex, null));
+            }
+            if (!this.isShortCircuited() && ForkJoinTask.getSurplusQueuedTaskCount() <= SURPLUS_QUEUED_TASK_THRESHOLD)
+            {
+                Twin<RootBatch<T>> halves = this.batch.split();
+                if (halves != null)
+                {
+                    return this.forkAndCombine(
+                            this.newTask(null, 0, 0, halves.getOne()),
+                            this.newTask(null, 0, 0, halves.getTwo()));
+                }
+            }
+            return this.computeBatch(this.batch);
+        }
+
+        private R forkAndCombine(RootBatchTask<T, R> left, RootBatchTask<T, R> right)
+        {
+            right.fork();
+            return this.combine(left.compute(), right);
+        }
+
+        protected boolean isShortCircuited()
+        {
+            return false;
+        }
+
+        protected abstract RootBatchTask<T, R> newTask(ListIterable<? extends RootBatch<T>> batches, int fromIndex, int toIndex, RootBatch<T> batch);
+
+        protected abstract R computeBatch(RootBatch<T> batch);
+
+        /**
+         * Combines the result of the left half with the right half, which has been forked and may still be running.
+         */
+        protected abstract R combine(R leftResult, RootBatchTask<T, R> right);
+    }
+
+    private static final class ForEachTask<T> extends RootBatchTask<T, Void>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Procedure<? super T> procedure;
+
+        private ForEachTask(ListIterable<? extends RootBatch<T>> batches, int fromIndex, int toIndex, RootBatch<T> batch, Procedure<? super T> procedure)
+        {
+            super(batches, fromIndex, toIndex, batch);
+            this.procedure = procedure;
+        }
+
+        @Override
+        protected RootBatchTask<T, Void> newTask(ListIterable<? extends RootBatch<T>> batches, int fromIndex, int toIndex, RootBatch<T> batch)
+        {
+            return new ForEachTask<>(batches, fromIndex, toIndex, batch, this.procedure);
+        }
+
+        @Override
+        protected Void computeBatch(RootBatch<T> batch)
+        {
+            batch.forEach(this.procedure);
+            return null;
+        }
+
+        @Override
+        protected Void combine(Void leftResult, RootBatchTask<T, Void> right)
+        {
+            return right.join();
+        }
+    }
+
+    private static final class AnySatisfyTask<T> extends RootBatchTask<T, Boolean>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super T> predicate;
+        private final AtomicBoolean found;
+
+        private AnySatisfyTask(ListIterable<? extends RootBatch<T>> batches, int fromIndex, int toIndex, RootBatch<T> batch, Predicate<? super T> predicate, AtomicBoolean found)
+        {
+            super(batches, fromIndex, toIndex, batch);
+            this.predicate = predicate;
+            this.found = found;
+        }
+
+        @Override
+        protected boolean isShortCircuited()
+        {
+            return this.found.get();
+        }
+
+        @Override
+        protected RootBatchTask<T, Boolean> newTask(ListIterable<? extends RootBatch<T>> batches, int fromIndex, int toIndex, RootBatch<T> batch)
+        {
+            return new AnySatisfyTask<>(batches, fromIndex, toIndex, batch, this.predicate, this.found);
+        }
+
+        @Override
+        protected Boolean computeBatch(RootBatch<T> batch)
+        {
+            // Once any other task has found a match, the remaining elements of this batch are skipped
+            boolean result = this.found.get() || batch.anySatisfy(each -> this.found.get() || this.predicate.accept(each));
+            if (result)
+            {
+                this.found.set(true);
+            }
+            return result;
+        }
+
+        @Override
+        protected Boolean combine(Boolean leftResult, RootBatchTask<T, Boolean> right)
+        {
+            if (leftResult)
+            {
+                right.cancel(false);
+                return true;
+            }
+            return right.join();
+        }
+    }
+
+    private static final class AllSatisfyTask<T> extends RootBatchTask<T, Boolean>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super T> predicate;
+        private final AtomicBoolean failed;
+
+        private AllSatisfyTask(ListIterable<? extends RootBatch<T>> batches, int fromIndex, int toIndex, RootBatch<T> batch, Predicate<? super T> predicate, AtomicBoolean failed)
+        {
+            super(batches, fromIndex, toIndex, batch);
+            this.predicate = predicate;
+            this.failed = failed;
+        }
+
+        @Override
+        protected boolean isShortCircuited()
+        {
+            return this.failed.get();
+        }
+
+        @Override
+        protected RootBatchTask<T, Boolean> newTask(ListIterable<? extends RootBatch<T>> batches, int fromIndex, int toIndex, RootBatch<T> batch)
+        {
+            return new AllSatisfyTask<>(batches, fromIndex, toIndex, batch, this.predicate, this.failed);
+        }
+
+        @Override
+        protected Boolean computeBatch(RootBatch<T> batch)
+        {
+            // Once any other task has found a mismatch, the remaining elements of this batch are skipped
+            boolean result = !this.failed.get() && batch.allSatisfy(each -> !this.failed.get() && this.predicate.accept(each));
+            if (!result)
+            {
+                this.failed.set(true);
+            }
+            return result;
+        }
+
+        @Override
+        protected Boolean combine(Boolean leftResult, RootBatchTask<T, Boolean> right)
+        {
+            if (!leftResult)
+            {
+                right.cancel(false);
+                return false;
+            }
+            return right.join();
+        }
+    }
+
+    /**
+     * Returns the first match in encounter order, so the right half is only waited for when the left half has none.
+     */
+    private static final class DetectTask<T> extends RootBatchTask<T, T>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Predicate<? super T> predicate;
+
+        private DetectTask(ListIterable<? extends RootBatch<T>> batches, int fromIndex, int toIndex, RootBatch<T> batch, Predicate<? super T> predicate)
+        {
+            super(batches, fromIndex, toIndex, batch);
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected RootBatchTask<T, T> newTask(ListIterable<? extends RootBatch<T>> batches, int fromIndex, int toIndex, RootBatch<T> batch)
+        {
+            return new DetectTask<>(batches, fromIndex, toIndex, batch, this.predicate);
+        }
+
+        @Override
+        protected T computeBatch(RootBatch<T> batch)
+        {
+            return batch.detect(this.predicate);
+        }
+
+        @Override
+        protected T combine(T leftResult, RootBatchTask<T, T> right)
+        {
+            if (leftResult != null)
+            {
+                right.cancel(false);
+                return leftResult;
+            }
+            return right.join();
+        }
+    }
+}
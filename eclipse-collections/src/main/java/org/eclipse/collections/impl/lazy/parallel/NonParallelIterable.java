@@ -12,17 +12,27 @@ package org.eclipse.collections.impl.lazy.parallel;
 
 import java.util.Comparator;
 
+import org.eclipse.collections.api.ParallelByteIterable;
+import org.eclipse.collections.api.ParallelCharIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelFloatIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
+import org.eclipse.collections.api.ParallelShortIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
 import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
@@ -33,6 +43,13 @@ import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelByteIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelCharIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelDoubleIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelFloatIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelIntIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelLongIterable;
+import org.eclipse.collections.impl.lazy.parallel.primitive.NonParallelShortIterable;
 
 public abstract class NonParallelIterable<T, RI extends RichIterable<T>> implements ParallelIterable<T>
 {
@@ -289,6 +306,48 @@ public abstract class NonParallelIterable<T, RI extends RichIterable<T>> impleme
         return this.delegate.sumOfDouble(function);
     }
 
+    @Override
+    public ParallelByteIterable collectByte(ByteFunction<? super T> function)
+    {
+        return new NonParallelByteIterable(this.delegate.asLazy().collectByte(function));
+    }
+
+    @Override
+    public ParallelCharIterable collectChar(CharFunction<? super T> function)
+    {
+        return new NonParallelCharIterable(this.delegate.asLazy().collectChar(function));
+    }
+
+    @Override
+    public ParallelDoubleIterable collectDouble(DoubleFunction<? super T> function)
+    {
+        return new NonParallelDoubleIterable(this.delegate.asLazy().collectDouble(function));
+    }
+
+    @Override
+    public ParallelFloatIterable collectFloat(FloatFunction<? super T> function)
+    {
+        return new NonParallelFloatIterable(this.delegate.asLazy().collectFloat(function));
+    }
+
+    @Override
+    public ParallelIntIterable collectInt(IntFunction<? super T> function)
+    {
+        return new NonParallelIntIterable(this.delegate.asLazy().collectInt(function));
+    }
+
+    @Override
+    public ParallelLongIterable collectLong(LongFunction<? super T> function)
+    {
+        return new NonParallelLongIterable(this.delegate.asLazy().collectLong(function));
+    }
+
+    @Override
+    public ParallelShortIterable collectShort(ShortFunction<? super T> function)
+    {
+        return new NonParallelShortIterable(this.delegate.asLazy().collectShort(function));
+    }
+
     @Override
     public String toString()
     {
@@ -12,6 +12,7 @@ package org.eclipse.collections.impl.lazy.parallel;
 
 import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.tuple.Twin;
 
 /**
  * A {@link Batch} that must be at the root of the chain, not wrapped in other Batches.
@@ -24,4 +25,16 @@ public interface RootBatch<T> extends Batch<T>
     boolean allSatisfy(Predicate<? super T> predicate);
 
     T detect(Predicate<? super T> predicate);
+
+    /**
+     * Splits this batch into two root batches which together cover exactly the same elements, in order, or returns
+     * null if this batch cannot be split any further. Used to share work between threads when the parallel iterable
+     * runs on a {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @since 10.3
+     */
+    default Twin<RootBatch<T>> split()
+    {
+        return null;
+    }
 }
@@ -14,15 +14,20 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Spliterator;
 import java.util.Spliterators;
 
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.FixedSizeList;
 import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.internal.InternalArrayIterate;
 
 /**
  * This class provides a MutableList wrapper around an array. All of the internal iteration methods of the MutableList
@@ -185,6 +190,52 @@ public final class ArrayAdapter<T>
         return (ArrayAdapter<T>) super.sortThis(comparator);
     }
 
+    /**
+     * @since 10.3
+     */
+    @Override
+    public ArrayAdapter<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        Arrays.parallelSort(this.items, comparator);
+        return this;
+    }
+
+    /**
+     * Extracts the keys once and radix sorts by them instead of comparing with the key function.
+     *
+     * @since 10.3
+     */
+    @Override
+    public ArrayAdapter<T> sortThisByInt(IntFunction<? super T> function)
+    {
+        InternalArrayIterate.sortThisByInt(this.items, this.items.length, function);
+        return this;
+    }
+
+    /**
+     * Extracts the keys once and radix sorts by them instead of comparing with the key function.
+     *
+     * @since 10.3
+     */
+    @Override
+    public ArrayAdapter<T> sortThisByLong(LongFunction<? super T> function)
+    {
+        InternalArrayIterate.sortThisByLong(this.items, this.items.length, function);
+        return this;
+    }
+
+    /**
+     * Extracts the keys once and radix sorts by them instead of comparing with the key function.
+     *
+     * @since 10.3
+     */
+    @Override
+    public ArrayAdapter<T> sortThisByDouble(DoubleFunction<? super T> function)
+    {
+        InternalArrayIterate.sortThisByDouble(this.items, this.items.length, function);
+        return this;
+    }
+
     @Override
     public FixedSizeList<T> tap(Procedure<? super T> procedure)
     {
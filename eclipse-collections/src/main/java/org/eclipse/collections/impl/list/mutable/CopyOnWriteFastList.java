@@ -0,0 +1,608 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutorService;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.collections.api.block.HashingStrategy;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.partition.list.PartitionMutableList;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.impl.UnmodifiableIteratorAdapter;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.lazy.ReverseIterable;
+
+/**
+ * CopyOnWriteFastList is a thread-safe MutableList for data that is read far more often than it is written, like
+ * listener registries. The elements are held in a FastList that is never modified once it is published through a
+ * volatile field, so reads and iteration take no lock and always see one consistent snapshot. Every write copies the
+ * current snapshot under a lock, changes the copy and publishes it, so writes cost O(n).
+ * <p>
+ * Bulk writes like {@link #withAll(Iterable)}, {@link #addAllIterable(Iterable)} and {@link #removeIf(Predicate)}
+ * copy the snapshot once for all of their elements. Iterators, list iterators and {@link #subList(int, int)} work on
+ * the snapshot that was current when they were created, and do not support modification.
+ *
+ * @see java.util.concurrent.CopyOnWriteArrayList
+ * @since 10.3
+ */
+public final class CopyOnWriteFastList<T>
+        extends AbstractListAdapter<T>
+        implements RandomAccess, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Object lock = new Object();
+    private volatile FastList<T> delegate;
+
+    public CopyOnWriteFastList()
+    {
+        this.delegate = FastList.newList();
+    }
+
+    private CopyOnWriteFastList(FastList<T> snapshot)
+    {
+        this.delegate = snapshot;
+    }
+
+    public static <T> CopyOnWriteFastList<T> newList()
+    {
+        return new CopyOnWriteFastList<>();
+    }
+
+    public static <T> CopyOnWriteFastList<T> newList(Iterable<? extends T> source)
+    {
+        return new CopyOnWriteFastList<>(FastList.newList(source));
+    }
+
+    public static <T> CopyOnWriteFastList<T> newListWith(T... elements)
+    {
+        return new CopyOnWriteFastList<>(FastList.newListWith(elements));
+    }
+
+    /**
+     * Returns the current snapshot, which must not be modified.
+     */
+    @Override
+    protected FastList<T> getDelegate()
+    {
+        return this.delegate;
+    }
+
+    /**
+     * Applies the mutation to a copy of the current snapshot, with room for {@code additionalCapacity} more elements,
+     * and publishes the copy if the mutation returns true.
+     */
+    private boolean update(int additionalCapacity, Predicate<? super FastList<T>> mutation)
+    {
+        synchronized (this.lock)
+        {
+            FastList<T> copy = this.copyOfSnapshot(additionalCapacity);
+            if (mutation.accept(copy))
+            {
+                this.delegate = copy;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Applies the mutation to a copy of the current snapshot, publishes the copy and returns the result of the mutation.
+     */
+    private <R> R write(int additionalCapacity, Function<? super FastList<T>, ? extends R> mutation)
+    {
+        synchronized (this.lock)
+        {
+            FastList<T> copy = this.copyOfSnapshot(additionalCapacity);
+            R result = mutation.valueOf(copy);
+            this.delegate = copy;
+            return result;
+        }
+    }
+
+    private FastList<T> copyOfSnapshot(int additionalCapacity)
+    {
+        FastList<T> snapshot = this.delegate;
+        FastList<T> copy = FastList.newList(snapshot.size() + additionalCapacity);
+        copy.addAll(snapshot);
+        return copy;
+    }
+
+    private static int sizeHint(Iterable<?> iterable)
+    {
+        return iterable instanceof Collection ? ((Collection<?>) iterable).size() : 0;
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        return this.update(1, copy -> copy.add(element));
+    }
+
+    @Override
+    public void add(int index, T element)
+    {
+        this.write(1, copy -> {
+            copy.add(index, element);
+            return null;
+        });
+    }
+
+    @Override
+    public T set(int index, T element)
+    {
+        return this.write(0, copy -> copy.set(index, element));
+    }
+
+    @Override
+    public T remove(int index)
+    {
+        return this.write(0, copy -> copy.remove(index));
+    }
+
+    @Override
+    public boolean remove(Object element)
+    {
+        if (!this.delegate.contains(element))
+        {
+            return false;
+        }
+        return this.update(0, copy -> copy.remove(element));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection)
+    {
+        return this.update(collection.size(), copy -> copy.addAll(collection));
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection)
+    {
+        return this.update(collection.size(), copy -> copy.addAll(index, collection));
+    }
+
+    @Override
+    public boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        return this.update(CopyOnWriteFastList.sizeHint(iterable), copy -> copy.addAllIterable(iterable));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+        return this.update(0, copy -> copy.removeAll(collection));
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        return this.update(0, copy -> copy.removeAllIterable(iterable));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection)
+    {
+        return this.update(0, copy -> copy.retainAll(collection));
+    }
+
+    @Override
+    public boolean retainAllIterable(Iterable<?> iterable)
+    {
+        return this.update(0, copy -> copy.retainAllIterable(iterable));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        return this.update(0, copy -> copy.removeIf(predicate));
+    }
+
+    @Override
+    public boolean removeIf(java.util.function.Predicate<? super T> predicate)
+    {
+        return this.update(0, copy -> copy.removeIf(predicate::test));
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.update(0, copy -> copy.removeIfWith(predicate, parameter));
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator)
+    {
+        this.write(0, copy -> {
+            copy.replaceAll(operator);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear()
+    {
+        synchronized (this.lock)
+        {
+            this.delegate = FastList.newList();
+        }
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator)
+    {
+        this.write(0, copy -> copy.sortThis(comparator));
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> sortThis(Comparator<? super T> comparator)
+    {
+        this.sort(comparator);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> sortThis()
+    {
+        return this.sortThis(null);
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> reverseThis()
+    {
+        this.write(0, FastList::reverseThis);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> shuffleThis()
+    {
+        this.write(0, FastList::shuffleThis);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> shuffleThis(Random random)
+    {
+        this.write(0, copy -> copy.shuffleThis(random));
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public CopyOnWriteFastList<T> with(T element1, T element2)
+    {
+        this.update(2, copy -> copy.add(element1) | copy.add(element2));
+        return this;
+    }
+
+    public CopyOnWriteFastList<T> with(T element1, T element2, T element3)
+    {
+        this.update(3, copy -> copy.add(element1) | copy.add(element2) | copy.add(element3));
+        return this;
+    }
+
+    public CopyOnWriteFastList<T> with(T... elements)
+    {
+        this.update(elements.length, copy -> copy.addAll(FastList.newListWith(elements)));
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new UnmodifiableIteratorAdapter<>(this.delegate.iterator());
+    }
+
+    @Override
+    public ListIterator<T> listIterator()
+    {
+        return new UnmodifiableListIteratorAdapter<>(this.delegate.listIterator());
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index)
+    {
+        return new UnmodifiableListIteratorAdapter<>(this.delegate.listIterator(index));
+    }
+
+    /**
+     * Returns an unmodifiable view of a range of the current snapshot.
+     */
+    @Override
+    public MutableList<T> subList(int fromIndex, int toIndex)
+    {
+        return this.delegate.subList(fromIndex, toIndex).asUnmodifiable();
+    }
+
+    @Override
+    public ImmutableList<T> toImmutable()
+    {
+        return Lists.immutable.withAll(this.delegate);
+    }
+
+    @Override
+    public MutableList<T> asUnmodifiable()
+    {
+        return UnmodifiableMutableList.of(this);
+    }
+
+    @Override
+    public MutableList<T> asSynchronized()
+    {
+        return SynchronizedMutableList.of(this);
+    }
+
+    /**
+     * Returns a new list that starts with the current snapshot. Snapshots are never modified, so they can be shared.
+     */
+    @Override
+    public CopyOnWriteFastList<T> clone()
+    {
+        return new CopyOnWriteFastList<>(this.delegate);
+    }
+
+    @Override
+    public CopyOnWriteFastList<T> newEmpty()
+    {
+        return CopyOnWriteFastList.newList();
+    }
+
+    @Override
+    public void forEach(Procedure<? super T> procedure)
+    {
+        this.each(procedure);
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.delegate.each(procedure);
+    }
+
+    @Override
+    public void reverseForEach(Procedure<? super T> procedure)
+    {
+        this.delegate.reverseForEach(procedure);
+    }
+
+    @Override
+    public void reverseForEachWithIndex(ObjectIntProcedure<? super T> procedure)
+    {
+        this.delegate.reverseForEachWithIndex(procedure);
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.delegate.forEachWithIndex(objectIntProcedure);
+    }
+
+    @Override
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.delegate.forEachWithIndex(fromIndex, toIndex, objectIntProcedure);
+    }
+
+    @Override
+    public void forEach(int fromIndex, int toIndex, Procedure<? super T> procedure)
+    {
+        this.delegate.forEach(fromIndex, toIndex, procedure);
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        return this.delegate.detect(predicate);
+    }
+
+    @Override
+    public T detectIfNone(Predicate<? super T> predicate, Function0<? extends T> function)
+    {
+        return this.delegate.detectIfNone(predicate, function);
+    }
+
+    @Override
+    public int detectIndex(Predicate<? super T> predicate)
+    {
+        return this.delegate.detectIndex(predicate);
+    }
+
+    @Override
+    public int detectLastIndex(Predicate<? super T> predicate)
+    {
+        return this.delegate.detectLastIndex(predicate);
+    }
+
+    @Override
+    public int count(Predicate<? super T> predicate)
+    {
+        return this.delegate.count(predicate);
+    }
+
+    @Override
+    public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super T, ? super S> predicate)
+    {
+        return this.delegate.corresponds(other, predicate);
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return this.delegate.anySatisfy(predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return this.delegate.allSatisfy(predicate);
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return this.delegate.noneSatisfy(predicate);
+    }
+
+    @Override
+    public <IV> IV injectInto(IV injectedValue, Function2<? super IV, ? super T, ? extends IV> function)
+    {
+        return this.delegate.injectInto(injectedValue, function);
+    }
+
+    @Override
+    public <S> MutableList<S> selectInstancesOf(Class<S> clazz)
+    {
+        return this.delegate.selectInstancesOf(clazz);
+    }
+
+    @Override
+    public MutableList<T> distinct()
+    {
+        return this.delegate.distinct();
+    }
+
+    @Override
+    public MutableList<T> distinct(HashingStrategy<? super T> hashingStrategy)
+    {
+        return this.delegate.distinct(hashingStrategy);
+    }
+
+    @Override
+    public MutableList<T> take(int count)
+    {
+        return this.delegate.take(count);
+    }
+
+    @Override
+    public MutableList<T> takeWhile(Predicate<? super T> predicate)
+    {
+        return this.delegate.takeWhile(predicate);
+    }
+
+    @Override
+    public MutableList<T> drop(int count)
+    {
+        return this.delegate.drop(count);
+    }
+
+    @Override
+    public MutableList<T> dropWhile(Predicate<? super T> predicate)
+    {
+        return this.delegate.dropWhile(predicate);
+    }
+
+    @Override
+    public PartitionMutableList<T> partitionWhile(Predicate<? super T> predicate)
+    {
+        return this.delegate.partitionWhile(predicate);
+    }
+
+    @Override
+    public MutableStack<T> toStack()
+    {
+        return this.delegate.toStack();
+    }
+
+    @Override
+    public ReverseIterable<T> asReversed()
+    {
+        return this.delegate.asReversed();
+    }
+
+    @Override
+    public ParallelListIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.delegate.asParallel(executorService, batchSize);
+    }
+
+    @Override
+    public int binarySearch(T key, Comparator<? super T> comparator)
+    {
+        return this.delegate.binarySearch(key, comparator);
+    }
+
+    @Override
+    public int binarySearch(T key)
+    {
+        return this.delegate.binarySearch(key);
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        FastList<T> snapshot = this.delegate;
+        out.writeInt(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++)
+        {
+            out.writeObject(snapshot.get(i));
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        FastList<T> snapshot = FastList.newList(size);
+        for (int i = 0; i < size; i++)
+        {
+            snapshot.add((T) in.readObject());
+        }
+        this.delegate = snapshot;
+    }
+}
@@ -287,6 +287,63 @@ public class FastList<T>
         return (FastList<T>) super.sortThis();
     }
 
+    /**
+     * Sorts with {@link Arrays#parallelSort(Object[], int, int, Comparator)} directly on the backing array.
+     *
+     * @since 10.3
+     */
+    @Override
+    public FastList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        Arrays.parallelSort(this.items, 0, this.size, comparator);
+        return this;
+    }
+
+    /**
+     * @since 10.3
+     */
+    @Override
+    public FastList<T> sortThisParallel()
+    {
+        return this.sortThisParallel(null);
+    }
+
+    /**
+     * Extracts the keys once and radix sorts by them instead of comparing with the key function.
+     *
+     * @since 10.3
+     */
+    @Override
+    public FastList<T> sortThisByInt(IntFunction<? super T> function)
+    {
+        InternalArrayIterate.sortThisByInt(this.items, this.size, function);
+        return this;
+    }
+
+    /**
+     * Extracts the keys once and radix sorts by them instead of comparing with the key function.
+     *
+     * @since 10.3
+     */
+    @Override
+    public FastList<T> sortThisByLong(LongFunction<? super T> function)
+    {
+        InternalArrayIterate.sortThisByLong(this.items, this.size, function);
+        return this;
+    }
+
+    /**
+     * Extracts the keys once and radix sorts by them instead of comparing with the key function.
+     *
+     * @since 10.3
+     */
+    @Override
+    public FastList<T> sortThisByDouble(DoubleFunction<? super T> function)
+    {
+        InternalArrayIterate.sortThisByDouble(this.items, this.size, function);
+        return this;
+    }
+
     @Override
     public FastList<T> reverseThis()
     {
@@ -26,6 +26,7 @@ import java.util.RandomAccess;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import java.util.function.UnaryOperator;
 
 import org.eclipse.collections.api.LazyIterable;
@@ -82,7 +83,8 @@ import org.eclipse.collections.impl.utility.LazyIterate;
 import static org.eclipse.collections.impl.factory.Iterables.mList;
 
 /**
- * MultiReadFastList provides a thread-safe wrapper around a FastList, using a ReentrantReadWriteLock. In order to
+ * MultiReadFastList provides a thread-safe wrapper around a FastList, using a ReentrantReadWriteLock, or a StampedLock
+ * when created with {@code newStampedList()}. In order to
  * provide true thread-safety, MultiReaderFastList does <em>not</em> implement {@code iterator()}, {@code listIterator()}, {@code listIterator(int)}, or
  * {@code get(int)}, as all these methods require an external lock to be taken to provide thread-safe iteration. All of
  * these methods are available however, if you use the {@code withReadLockAndDelegate()} or {@code withWriteLockAndDelegate()} methods.
@@ -121,6 +123,13 @@ public final class MultiReaderFastList<T>
         this.delegate = newDelegate;
     }
 
+    private MultiReaderFastList(MutableList<T> newDelegate, StampedLock newLock)
+    {
+        this.lock = newLock.asReadWriteLock();
+        this.lockWrapper = new ReadWriteLockWrapper(newLock);
+        this.delegate = newDelegate;
+    }
+
     public static <T> MultiReaderFastList<T> newList()
     {
         return new MultiReaderFastList<>(FastList.newList());
@@ -141,6 +150,35 @@ public final class MultiReaderFastList<T>
         return new MultiReaderFastList<>(FastList.newListWith(elements));
     }
 
+    /**
+     * Creates an empty list guarded by a {@link StampedLock} instead of a ReentrantReadWriteLock. {@code size()},
+     * {@code isEmpty()}, {@code notEmpty()} and {@code get(int)} first try an optimistic read that takes no lock at
+     * all, which scales much better than a shared read lock when reads vastly outnumber writes. {@code contains()} and
+     * the other reads that call equals() or a block take the read lock, as with the default lock.
+     * <p>
+     * Unlike the default lock, a StampedLock is not reentrant. A block that runs under the write lock and calls back
+     * into this list, as in {@code list.removeIf(each -> list.contains(each))}, throws an IllegalStateException instead
+     * of succeeding. A block that runs under the read lock and calls back into this list, as in {@code anySatisfy()} or
+     * {@code withReadLockAndDelegate()}, can deadlock once a writer is waiting. Copies made by {@code clone()} and
+     * {@code newEmpty()} use a StampedLock as well, but a deserialized list uses a ReentrantReadWriteLock.
+     *
+     * @since 10.3
+     */
+    public static <T> MultiReaderFastList<T> newStampedList()
+    {
+        return new MultiReaderFastList<>(FastList.newList(), new StampedLock());
+    }
+
+    /**
+     * Same as {@link #newStampedList()} with the given initial capacity.
+     *
+     * @since 10.3
+     */
+    public static <T> MultiReaderFastList<T> newStampedList(int capacity)
+    {
+        return new MultiReaderFastList<>(FastList.newList(capacity), new StampedLock());
+    }
+
     @Override
     protected MutableList<T> getDelegate()
     {
@@ -211,7 +249,8 @@ public final class MultiReaderFastList<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            return new MultiReaderFastList<>(this.delegate.clone());
+            MutableList<T> clone = this.delegate.clone();
+            return this.lockWrapper.isOptimistic() ? new MultiReaderFastList<>(clone, new StampedLock()) : new MultiReaderFastList<>(clone);
         }
     }
 
@@ -331,7 +370,7 @@ public final class MultiReaderFastList<T>
     @Override
     public MutableList<T> newEmpty()
     {
-        return MultiReaderFastList.newList();
+        return this.lockWrapper.isOptimistic() ? MultiReaderFastList.newStampedList() : MultiReaderFastList.newList();
     }
 
     @Override
@@ -461,6 +500,26 @@ public final class MultiReaderFastList<T>
         }
     }
 
+    @Override
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
+        {
+            this.delegate.sortThisParallel(comparator);
+            return this;
+        }
+    }
+
+    @Override
+    public MutableList<T> sortThisParallel()
+    {
+        try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
+        {
+            this.delegate.sortThisParallel();
+            return this;
+        }
+    }
+
     @Override
     public <V extends Comparable<? super V>> MutableList<T> sortThisBy(
             Function<? super T, ? extends V> function)
@@ -564,6 +623,10 @@ public final class MultiReaderFastList<T>
     @Override
     public boolean equals(Object o)
     {
+        if (this == o)
+        {
+            return true;
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.delegate.equals(o);
@@ -582,10 +645,7 @@ public final class MultiReaderFastList<T>
     @Override
     public T get(int index)
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.delegate.get(index);
-        }
+        return this.lockWrapper.optimisticRead(() -> this.delegate.get(index));
     }
 
     @Override
@@ -745,7 +805,7 @@ public final class MultiReaderFastList<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
         {
-            return this.delegate.addAll(index, collection);
+            return this.delegate.addAll(index, this.copyIfThis(collection));
         }
     }
 
@@ -1194,6 +1254,20 @@ public final class MultiReaderFastList<T>
             return this;
         }
 
+        @Override
+        public MutableList<T> sortThisParallel(Comparator<? super T> comparator)
+        {
+            this.getDelegate().sortThisParallel(comparator);
+            return this;
+        }
+
+        @Override
+        public MutableList<T> sortThisParallel()
+        {
+            this.getDelegate().sortThisParallel();
+            return this;
+        }
+
         @Override
         public MutableList<T> toReversed()
         {
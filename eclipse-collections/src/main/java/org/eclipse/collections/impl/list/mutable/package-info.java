@@ -34,6 +34,9 @@
  *          {@link org.eclipse.collections.impl.list.mutable.MultiReaderFastList} - provides a thread-safe wrapper around a FastList, using a {@link java.util.concurrent.locks.ReentrantReadWriteLock}.
  *     </li>
  *     <li>
+ *          {@link org.eclipse.collections.impl.list.mutable.CopyOnWriteFastList} - a thread-safe list whose reads take no lock and whose writes copy its array.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.list.mutable.SynchronizedMutableList} - a synchronized view of a list.
  *     </li>
  *     <li>
@@ -0,0 +1,706 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * AbstractReferenceMap is the common implementation of the maps that can hold their keys weakly and their values
+ * softly. Keys and values are wrapped in references before they are stored in a delegate map, and the references
+ * are registered with a {@link ReferenceQueue}.
+ * <p>
+ * An entry whose key or value has been cleared by the garbage collector is no longer visible: reads and iteration
+ * skip it. It is physically removed from the delegate by a later write, which polls the reference queue for a
+ * bounded number of cleared references. The cost of removing stale entries is therefore spread over the writes and
+ * no write ever scans the whole map. Like {@link java.util.WeakHashMap}, {@link #size()} and {@link #isEmpty()}
+ * drain the reference queue and then answer from the delegate in O(1) plus the number of cleared references, so
+ * they may still count an entry whose reference has been cleared but not yet enqueued.
+ * <p>
+ * Weak keys are compared with {@link Object#equals(Object)}, like in {@link java.util.WeakHashMap}. Null keys and
+ * values are not supported.
+ */
+abstract class AbstractReferenceMap<K, V>
+        extends AbstractMutableMap<K, V>
+{
+    /**
+     * The maximum number of cleared references that a single write removes from the delegate.
+     */
+    private static final int EXPUNGE_BATCH_SIZE = 16;
+
+    protected final boolean weakKeys;
+    protected final boolean softValues;
+    private final MutableMap<Object, Object> delegate;
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    protected AbstractReferenceMap(MutableMap<Object, Object> delegate, boolean weakKeys, boolean softValues)
+    {
+        this.delegate = delegate;
+        this.weakKeys = weakKeys;
+        this.softValues = softValues;
+    }
+
+    /**
+     * Wraps a key before it is stored in the delegate.
+     */
+    protected Object wrapKey(K key)
+    {
+        Objects.requireNonNull(key, "Null keys are not supported");
+        return this.weakKeys ? new WeakKey<>(key, this.queue) : key;
+    }
+
+    /**
+     * Wraps a key that is only used to look up an entry of the delegate. Unlike a stored weak key, the wrapper holds
+     * the key strongly and is not registered with the reference queue.
+     */
+    protected Object lookupKey(Object key)
+    {
+        return this.weakKeys && key != null ? new LookupKey(key) : key;
+    }
+
+    /**
+     * Wraps a value before it is stored in the delegate under the given wrapped key.
+     */
+    protected Object wrapValue(Object wrappedKey, V value)
+    {
+        Objects.requireNonNull(value, "Null values are not supported");
+        return this.softValues ? new SoftValue<>(wrappedKey, value, this.queue) : value;
+    }
+
+    /**
+     * Returns the key held by a stored key, or null if it has been cleared.
+     */
+    protected K keyOf(Object storedKey)
+    {
+        return this.weakKeys ? ((WeakKey<K>) storedKey).get() : (K) storedKey;
+    }
+
+    /**
+     * Returns the value held by a stored value, or null if there is no stored value or it has been cleared.
+     */
+    protected V valueOf(Object storedValue)
+    {
+        if (storedValue == null)
+        {
+            return null;
+        }
+        return this.softValues ? ((SoftValue<V>) storedValue).get() : (V) storedValue;
+    }
+
+    protected Object getStoredValue(Object key)
+    {
+        return key == null ? null : this.delegate.get(this.lookupKey(key));
+    }
+
+    /**
+     * Removes the entries of up to {@link #EXPUNGE_BATCH_SIZE} references that have been cleared since the last call.
+     * Every write calls this before it changes the map.
+     */
+    protected void expungeStaleEntries()
+    {
+        for (int i = 0; i < EXPUNGE_BATCH_SIZE; i++)
+        {
+            Reference<?> reference = this.queue.poll();
+            if (reference == null)
+            {
+                return;
+            }
+            this.expunge(reference);
+        }
+    }
+
+    /**
+     * Removes the entries of all the references that have been cleared since the last call.
+     */
+    private void expungeAllStaleEntries()
+    {
+        Reference<?> reference;
+        while ((reference = this.queue.poll()) != null)
+        {
+            this.expunge(reference);
+        }
+    }
+
+    private void expunge(Reference<?> reference)
+    {
+        if (reference instanceof SoftValue)
+        {
+            SoftValue<?> softValue = (SoftValue<?>) reference;
+            this.delegate.remove(softValue.key, softValue);
+        }
+        else
+        {
+            this.delegate.remove(reference);
+        }
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty()
+    {
+        return this.newEmptySameStrength();
+    }
+
+    protected abstract AbstractReferenceMap<K, V> newEmptySameStrength();
+
+    @Override
+    public MutableMap<K, V> clone()
+    {
+        AbstractReferenceMap<K, V> clone = this.newEmptySameStrength();
+        clone.putAll(this);
+        return clone;
+    }
+
+    /**
+     * Removes the entries of every cleared reference that has been enqueued, and returns the size of the delegate.
+     */
+    @Override
+    public int size()
+    {
+        this.expungeAllStaleEntries();
+        return this.delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size() != 0;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        return this.valueOf(this.getStoredValue(key));
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.get(key) != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return value != null && this.delegate.anySatisfy(storedValue -> value.equals(this.valueOf(storedValue)));
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        this.expungeStaleEntries();
+        Object wrappedKey = this.wrapKey(key);
+        return this.valueOf(this.delegate.put(wrappedKey, this.wrapValue(wrappedKey, value)));
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        map.forEach(this::put);
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        this.expungeStaleEntries();
+        return key == null ? null : this.valueOf(this.delegate.remove(this.lookupKey(key)));
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        this.expungeStaleEntries();
+        while (true)
+        {
+            Object storedValue = this.getStoredValue(key);
+            V currentValue = this.valueOf(storedValue);
+            if (currentValue == null || !currentValue.equals(value))
+            {
+                return false;
+            }
+            if (this.removeStored(key, storedValue))
+            {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Removes an entry only if it still holds the given stored value.
+     */
+    protected boolean removeStored(Object key, Object storedValue)
+    {
+        return this.delegate.remove(this.lookupKey(key), storedValue);
+    }
+
+    @Override
+    public void clear()
+    {
+        this.delegate.clear();
+    }
+
+    @Override
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.addToMap(iterable, keyFunction, valueFunction, this);
+        return this;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.delegate.forEachKeyValue((storedKey, storedValue) ->
+        {
+            K key = this.keyOf(storedKey);
+            V value = this.valueOf(storedValue);
+            if (key != null && value != null)
+            {
+                procedure.value(key, value);
+            }
+        });
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value, parameter));
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        Iterate.forEachWithIndex(this.values(), objectIntProcedure);
+    }
+
+    /**
+     * Copies the entries whose key and value have not been cleared, so that iterators hold them strongly and do not
+     * need to skip entries that are cleared while they run.
+     */
+    private MutableList<LiveEntry<K, V>> liveEntries()
+    {
+        MutableList<LiveEntry<K, V>> entries = FastList.newList(this.delegate.size());
+        this.delegate.forEachKeyValue((storedKey, storedValue) ->
+        {
+            K key = this.keyOf(storedKey);
+            V value = this.valueOf(storedValue);
+            if (key != null && value != null)
+            {
+                entries.add(new LiveEntry<>(key, value, storedValue));
+            }
+        });
+        return entries;
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValuesIterator();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        MutableList<LiveEntry<K, V>> entries = this.liveEntries();
+        if (entries.size() != other.size())
+        {
+            return false;
+        }
+
+        return entries.allSatisfy(entry -> entry.value.equals(other.get(entry.key)));
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int[] hashCode = new int[1];
+        this.forEachKeyValue((key, value) -> hashCode[0] += key.hashCode() ^ value.hashCode());
+        return hashCode[0];
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        for (Iterator<LiveEntry<K, V>> iterator = this.liveEntries().iterator(); iterator.hasNext(); )
+        {
+            LiveEntry<K, V> entry = iterator.next();
+            builder.append(entry.key == this ? "(this Map)" : entry.key);
+            builder.append('=');
+            builder.append(entry.value == this ? "(this Map)" : entry.value);
+            if (iterator.hasNext())
+            {
+                builder.append(", ");
+            }
+        }
+        builder.append('}');
+        return builder.toString();
+    }
+
+    @Override
+    public ImmutableMap<K, V> toImmutable()
+    {
+        return Maps.immutable.ofMap(this);
+    }
+
+    /**
+     * A weakly held key. It caches the hash code of its referent, so that it can still be found, and removed, after
+     * the referent has been cleared. A cleared key is only equal to itself.
+     */
+    private static final class WeakKey<K> extends WeakReference<K>
+    {
+        private final int hashCode;
+
+        private WeakKey(K key, ReferenceQueue<Object> queue)
+        {
+            super(key, queue);
+            this.hashCode = key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (o == this)
+            {
+                return true;
+            }
+            K key = this.get();
+            if (key == null)
+            {
+                return false;
+            }
+            if (o instanceof WeakKey)
+            {
+                return key.equals(((WeakKey<?>) o).get());
+            }
+            if (o instanceof LookupKey)
+            {
+                return key.equals(((LookupKey) o).key);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+
+    /**
+     * A strongly held key used to look up a {@link WeakKey}. Both classes compare equal to each other, whichever side
+     * the delegate calls {@code equals} on.
+     */
+    private static final class LookupKey
+    {
+        private final Object key;
+
+        private LookupKey(Object key)
+        {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (o instanceof WeakKey)
+            {
+                return this.key.equals(((WeakKey<?>) o).get());
+            }
+            return o instanceof LookupKey && this.key.equals(((LookupKey) o).key);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.key.hashCode();
+        }
+    }
+
+    /**
+     * A softly held value. It remembers the stored key of its entry, so that the entry can be removed once the value
+     * has been cleared. Values are compared by identity, which lets conditional removes and replaces on the delegate
+     * act on exactly the value that was read.
+     */
+    private static final class SoftValue<V> extends SoftReference<V>
+    {
+        private final Object key;
+
+        private SoftValue(Object key, V value, ReferenceQueue<Object> queue)
+        {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+
+    private static final class LiveEntry<K, V>
+    {
+        private final K key;
+        private final V value;
+        private final Object storedValue;
+
+        private LiveEntry(K key, V value, Object storedValue)
+        {
+            this.key = key;
+            this.value = value;
+            this.storedValue = storedValue;
+        }
+    }
+
+    /**
+     * Iterates over a copy of the live entries. Removing through the iterator removes the entry only if it has not
+     * been written to since the copy was made.
+     */
+    private abstract class LiveEntryIterator<T> implements Iterator<T>
+    {
+        private final Iterator<LiveEntry<K, V>> iterator = AbstractReferenceMap.this.liveEntries().iterator();
+        private LiveEntry<K, V> current;
+
+        protected abstract T valueOf(LiveEntry<K, V> entry);
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.iterator.hasNext();
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.iterator.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.current = this.iterator.next();
+            return this.valueOf(this.current);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.current == null)
+            {
+                throw new IllegalStateException("next() must be called as many times as remove()");
+            }
+            AbstractReferenceMap.this.expungeStaleEntries();
+            AbstractReferenceMap.this.removeStored(this.current.key, this.current.storedValue);
+            this.current = null;
+        }
+    }
+
+    private final class KeysIterator extends LiveEntryIterator<K>
+    {
+        @Override
+        protected K valueOf(LiveEntry<K, V> entry)
+        {
+            return entry.key;
+        }
+    }
+
+    private final class ValuesIterator extends LiveEntryIterator<V>
+    {
+        @Override
+        protected V valueOf(LiveEntry<K, V> entry)
+        {
+            return entry.value;
+        }
+    }
+
+    private final class EntriesIterator extends LiveEntryIterator<Entry<K, V>>
+    {
+        @Override
+        protected Entry<K, V> valueOf(LiveEntry<K, V> entry)
+        {
+            return ImmutableEntry.of(entry.key, entry.value);
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeysIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return AbstractReferenceMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return AbstractReferenceMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            return AbstractReferenceMap.this.remove(key) != null;
+        }
+
+        @Override
+        public void clear()
+        {
+            AbstractReferenceMap.this.clear();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return AbstractReferenceMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return AbstractReferenceMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            AbstractReferenceMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntriesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return AbstractReferenceMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            V value = AbstractReferenceMap.this.get(entry.getKey());
+            return value != null && value.equals(entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (!(o instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            return AbstractReferenceMap.this.remove(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public void clear()
+        {
+            AbstractReferenceMap.this.clear();
+        }
+    }
+}
@@ -0,0 +1,881 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * BoundedConcurrentHashMap is a {@link ConcurrentMutableMap} for use as a cache. It holds at most a maximum number of
+ * entries, or entries up to a maximum total weight given by a weigher, and evicts entries with the CLOCK
+ * (second-chance) policy once the bound is exceeded.
+ * <p>
+ * Entries are held in a {@link ConcurrentHashMap}, so reads and writes to different keys do not block each other.
+ * Every entry is also appended to a queue, the clock, when it is written. Reading an entry only sets its referenced
+ * flag. When the map grows past its bound, the writing thread tries to take the eviction lock and walks the clock: a
+ * referenced entry has its flag cleared and goes back to the end of the queue, and the first unreferenced entry is
+ * evicted. Writers never wait for each other to evict. A writer that finds another thread evicting returns at once,
+ * and the evicting thread checks the bound again before it returns, so the map may briefly hold more than its bound
+ * while writes are in flight but is within it once they have all returned.
+ * <p>
+ * {@link #getIfAbsentPut(Object, Function0)} and its variants act as a cache load. Like in
+ * {@link ConcurrentMutableHashMap}, two threads that miss on the same key at the same time may both evaluate the
+ * function, but only one value is stored and both threads return it. Lookups through {@link #get(Object)}, the
+ * getIfAbsent methods and {@link #ifPresentApply(Object, Function)} are counted as hits and misses, and evictions are
+ * counted too.
+ * <p>
+ * Null keys are not supported.
+ *
+ * @since 10.3
+ */
+public final class BoundedConcurrentHashMap<K, V>
+        extends AbstractMutableMap<K, V>
+        implements ConcurrentMutableMap<K, V>
+{
+    private static final IntFunction<Object> UNIT_WEIGHER = each -> 1;
+
+    private final ConcurrentHashMap<K, Node<K, V>> delegate;
+    private final ConcurrentLinkedQueue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final long maximumWeight;
+    private final IntFunction<? super V> weigher;
+    private final AtomicLong weightedSize = new AtomicLong();
+
+    /**
+     * The number of entries that were removed from the map but are still in the clock. It is only used to decide when
+     * to purge the clock, so it does not need to be exact.
+     */
+    private final AtomicInteger removedInClock = new AtomicInteger();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    private BoundedConcurrentHashMap(long maximumWeight, IntFunction<? super V> weigher)
+    {
+        if (maximumWeight < 0L)
+        {
+            throw new IllegalArgumentException("Maximum weight must not be negative: " + maximumWeight);
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = Objects.requireNonNull(weigher);
+        this.delegate = ConcurrentHashMap.newMap((int) Math.min(maximumWeight, 1 << 16));
+    }
+
+    /**
+     * Creates a map that holds at most {@code maximumSize} entries.
+     */
+    public static <K, V> BoundedConcurrentHashMap<K, V> newMap(int maximumSize)
+    {
+        return new BoundedConcurrentHashMap<>(maximumSize, UNIT_WEIGHER);
+    }
+
+    /**
+     * Creates a map whose entries weigh at most {@code maximumWeight} in total. The weigher is called once for each value
+     * that is written and must not return a negative weight.
+     */
+    public static <K, V> BoundedConcurrentHashMap<K, V> newWeightedMap(long maximumWeight, IntFunction<? super V> weigher)
+    {
+        return new BoundedConcurrentHashMap<>(maximumWeight, weigher);
+    }
+
+    public long getMaximumWeight()
+    {
+        return this.maximumWeight;
+    }
+
+    /**
+     * Returns the total weight of the entries in the map, which is their number for a map created with
+     * {@link #newMap(int)}.
+     */
+    public long getWeightedSize()
+    {
+        return this.weightedSize.get();
+    }
+
+    public long getHitCount()
+    {
+        return this.hitCount.sum();
+    }
+
+    public long getMissCount()
+    {
+        return this.missCount.sum();
+    }
+
+    public long getEvictionCount()
+    {
+        return this.evictionCount.sum();
+    }
+
+    private Node<K, V> newNode(K key, V value)
+    {
+        int weight = this.weigher.intValueOf(value);
+        if (weight < 0)
+        {
+            throw new IllegalArgumentException("Weight must not be negative: " + weight);
+        }
+        return new Node<>(key, value, weight);
+    }
+
+    /**
+     * Looks up the node of a key on behalf of a read, counting a hit or a miss and marking the node as referenced.
+     */
+    private Node<K, V> lookup(Object key)
+    {
+        Node<K, V> node = this.delegate.get(key);
+        if (node == null)
+        {
+            this.missCount.increment();
+            return null;
+        }
+        this.hitCount.increment();
+        if (!node.referenced)
+        {
+            node.referenced = true;
+        }
+        return node;
+    }
+
+    /**
+     * Accounts for a node that has just been added to the map, then evicts if the map has grown past its bound.
+     */
+    private void linked(Node<K, V> node)
+    {
+        this.weightedSize.addAndGet(node.weight);
+        this.clock.offer(node);
+        this.evictIfNeeded();
+    }
+
+    /**
+     * Accounts for a node that has just been removed from the map by the calling thread. The node stays in the clock
+     * until the eviction walk or a purge reaches it.
+     */
+    private void unlinked(Node<K, V> node)
+    {
+        node.removed = true;
+        this.weightedSize.addAndGet(-node.weight);
+        this.removedInClock.incrementAndGet();
+    }
+
+    private boolean removeNode(Node<K, V> node)
+    {
+        if (this.delegate.remove(node.key, node))
+        {
+            this.unlinked(node);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean needsEviction()
+    {
+        return this.weightedSize.get() > this.maximumWeight || this.removedInClock.get() > this.delegate.size();
+    }
+
+    /**
+     * Restores the bound if it has been exceeded. Only one thread walks the clock at a time: a writer that finds
+     * another thread evicting returns at once and leaves its excess to that thread, which checks the bound again
+     * after it releases the lock.
+     */
+    private void evictIfNeeded()
+    {
+        while (this.needsEviction())
+        {
+            if (!this.evictionLock.tryLock())
+            {
+                return;
+            }
+            try
+            {
+                this.evict();
+            }
+            finally
+            {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Walks the clock until the map is within its bound. The walk is bounded: after two laps of the clock, which is
+     * enough to clear every referenced flag, referenced entries are evicted too, so that readers that keep marking
+     * entries cannot keep the evicting thread walking.
+     */
+    private void evict()
+    {
+        long secondChances = 2L * (this.delegate.size() + this.removedInClock.get());
+        while (this.weightedSize.get() > this.maximumWeight)
+        {
+            Node<K, V> node = this.clock.poll();
+            if (node == null)
+            {
+                break;
+            }
+            if (node.removed)
+            {
+                this.removedInClock.decrementAndGet();
+            }
+            else if (node.referenced && secondChances-- > 0L)
+            {
+                node.referenced = false;
+                this.clock.offer(node);
+            }
+            else if (this.delegate.remove(node.key, node))
+            {
+                node.removed = true;
+                this.weightedSize.addAndGet(-node.weight);
+                this.evictionCount.increment();
+            }
+        }
+        if (this.removedInClock.get() > this.delegate.size())
+        {
+            this.clock.removeIf(each -> each.removed);
+            this.removedInClock.set(0);
+        }
+    }
+
+    @Override
+    public MutableMap<K, V> clone()
+    {
+        BoundedConcurrentHashMap<K, V> clone = new BoundedConcurrentHashMap<>(this.maximumWeight, this.weigher);
+        clone.putAll(this);
+        return clone;
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty()
+    {
+        return new BoundedConcurrentHashMap<>(this.maximumWeight, this.weigher);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return ConcurrentHashMap.newMap(capacity);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.delegate.isEmpty();
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return !this.delegate.isEmpty();
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Node<K, V> node = this.lookup(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.delegate.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.delegate.anySatisfy(node -> Objects.equals(node.value, value));
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        Node<K, V> newNode = this.newNode(key, value);
+        Node<K, V> oldNode = this.delegate.put(key, newNode);
+        if (oldNode != null)
+        {
+            this.unlinked(oldNode);
+        }
+        this.linked(newNode);
+        return oldNode == null ? null : oldNode.value;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        map.forEach(this::put);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value)
+    {
+        Node<K, V> newNode = this.newNode(key, value);
+        Node<K, V> existing = this.delegate.putIfAbsent(key, newNode);
+        if (existing == null)
+        {
+            this.linked(newNode);
+            return null;
+        }
+        return existing.value;
+    }
+
+    private V putIfAbsentGetValue(K key, V value)
+    {
+        V existing = this.putIfAbsent(key, value);
+        return existing == null ? value : existing;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        Node<K, V> oldNode = this.delegate.remove(key);
+        if (oldNode == null)
+        {
+            return null;
+        }
+        this.unlinked(oldNode);
+        return oldNode.value;
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        while (true)
+        {
+            Node<K, V> node = this.delegate.get(key);
+            if (node == null || !Objects.equals(node.value, value))
+            {
+                return false;
+            }
+            if (this.removeNode(node))
+            {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue)
+    {
+        while (true)
+        {
+            Node<K, V> node = this.delegate.get(key);
+            if (node == null || !Objects.equals(node.value, oldValue))
+            {
+                return false;
+            }
+            if (this.replaceNode(key, node, newValue))
+            {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public V replace(K key, V value)
+    {
+        while (true)
+        {
+            Node<K, V> node = this.delegate.get(key);
+            if (node == null)
+            {
+                return null;
+            }
+            if (this.replaceNode(key, node, value))
+            {
+                return node.value;
+            }
+        }
+    }
+
+    private boolean replaceNode(K key, Node<K, V> node, V value)
+    {
+        Node<K, V> newNode = this.newNode(key, value);
+        if (this.delegate.replace(key, node, newNode))
+        {
+            this.unlinked(node);
+            this.linked(newNode);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear()
+    {
+        this.delegate.forEachValue(this::removeNode);
+        this.evictIfNeeded();
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        Node<K, V> node = this.lookup(key);
+        if (node == null)
+        {
+            return this.putIfAbsentGetValue(key, function.value());
+        }
+        return node.value;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        Node<K, V> node = this.lookup(key);
+        if (node == null)
+        {
+            return this.putIfAbsentGetValue(key, value);
+        }
+        return node.value;
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        Node<K, V> node = this.lookup(key);
+        if (node == null)
+        {
+            return this.putIfAbsentGetValue(key, function.valueOf(parameter));
+        }
+        return node.value;
+    }
+
+    @Override
+    public V getIfAbsent(K key, Function0<? extends V> function)
+    {
+        Node<K, V> node = this.lookup(key);
+        return node == null ? function.value() : node.value;
+    }
+
+    @Override
+    public V getIfAbsentValue(K key, V value)
+    {
+        Node<K, V> node = this.lookup(key);
+        return node == null ? value : node.value;
+    }
+
+    @Override
+    public <P> V getIfAbsentWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        Node<K, V> node = this.lookup(key);
+        return node == null ? function.valueOf(parameter) : node.value;
+    }
+
+    @Override
+    public <A> A ifPresentApply(K key, Function<? super V, ? extends A> function)
+    {
+        Node<K, V> node = this.lookup(key);
+        return node == null ? null : function.valueOf(node.value);
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        while (true)
+        {
+            Node<K, V> node = this.delegate.get(key);
+            if (node == null)
+            {
+                V newValue = function.valueOf(factory.value());
+                if (this.putIfAbsent(key, newValue) == null)
+                {
+                    return newValue;
+                }
+            }
+            else
+            {
+                V newValue = function.valueOf(node.value);
+                if (this.replaceNode(key, node, newValue))
+                {
+                    return newValue;
+                }
+            }
+        }
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        while (true)
+        {
+            Node<K, V> node = this.delegate.get(key);
+            if (node == null)
+            {
+                V newValue = function.value(factory.value(), parameter);
+                if (this.putIfAbsent(key, newValue) == null)
+                {
+                    return newValue;
+                }
+            }
+            else
+            {
+                V newValue = function.value(node.value, parameter);
+                if (this.replaceNode(key, node, newValue))
+                {
+                    return newValue;
+                }
+            }
+        }
+    }
+
+    @Override
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.addToMap(iterable, keyFunction, valueFunction, this);
+        return this;
+    }
+
+    @Override
+    public ConcurrentMutableMap<K, V> tap(Procedure<? super V> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.delegate.forEachValue(node -> procedure.value(node.key, node.value));
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.delegate.forEachKey(procedure);
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.delegate.forEachValue(node -> procedure.value(node.value));
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super V, ? super P> procedure, P parameter)
+    {
+        this.delegate.forEachValue(node -> procedure.value(node.value, parameter));
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        Iterate.forEachWithIndex(this.values(), objectIntProcedure);
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValuesIterator();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        return this.delegate.allSatisfy(node ->
+        {
+            Object otherValue = other.get(node.key);
+            return Objects.equals(node.value, otherValue) && (otherValue != null || other.containsKey(node.key));
+        });
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (Node<K, V> node : this.delegate.values())
+        {
+            hashCode += node.key.hashCode() ^ Objects.hashCode(node.value);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        for (Iterator<Node<K, V>> iterator = this.delegate.values().iterator(); iterator.hasNext(); )
+        {
+            Node<K, V> node = iterator.next();
+            builder.append(node.key == this ? "(this Map)" : node.key);
+            builder.append('=');
+            builder.append(node.value == this ? "(this Map)" : node.value);
+            if (iterator.hasNext())
+            {
+                builder.append(", ");
+            }
+        }
+        builder.append('}');
+        return builder.toString();
+    }
+
+    @Override
+    public ImmutableMap<K, V> toImmutable()
+    {
+        return Maps.immutable.ofMap(this);
+    }
+
+    private static final class Node<K, V>
+    {
+        private final K key;
+        private final V value;
+        private final int weight;
+        private volatile boolean referenced;
+        private volatile boolean removed;
+
+        private Node(K key, V value, int weight)
+        {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Iterates over the nodes of the delegate. Removing through the iterator goes through the map, so that the removed
+     * entry is accounted for like any other removal.
+     */
+    private abstract class NodeIterator<T> implements Iterator<T>
+    {
+        private final Iterator<Node<K, V>> iterator = BoundedConcurrentHashMap.this.delegate.values().iterator();
+        private Node<K, V> current;
+
+        protected abstract T valueOf(Node<K, V> node);
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.iterator.hasNext();
+        }
+
+        @Override
+        public T next()
+        {
+            this.current = this.iterator.next();
+            return this.valueOf(this.current);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.current == null)
+            {
+                throw new IllegalStateException("next() must be called as many times as remove()");
+            }
+            BoundedConcurrentHashMap.this.removeNode(this.current);
+            this.current = null;
+        }
+    }
+
+    private final class KeysIterator extends NodeIterator<K>
+    {
+        @Override
+        protected K valueOf(Node<K, V> node)
+        {
+            return node.key;
+        }
+    }
+
+    private final class ValuesIterator extends NodeIterator<V>
+    {
+        @Override
+        protected V valueOf(Node<K, V> node)
+        {
+            return node.value;
+        }
+    }
+
+    private final class EntriesIterator extends NodeIterator<Entry<K, V>>
+    {
+        @Override
+        protected Entry<K, V> valueOf(Node<K, V> node)
+        {
+            return ImmutableEntry.of(node.key, node.value);
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeysIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return BoundedConcurrentHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return BoundedConcurrentHashMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            return BoundedConcurrentHashMap.this.remove(key) != null;
+        }
+
+        @Override
+        public void clear()
+        {
+            BoundedConcurrentHashMap.this.clear();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return BoundedConcurrentHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return BoundedConcurrentHashMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            BoundedConcurrentHashMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntriesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return BoundedConcurrentHashMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            Node<K, V> node = BoundedConcurrentHashMap.this.delegate.get(entry.getKey());
+            return node != null && Objects.equals(node.value, entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (!(o instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            return BoundedConcurrentHashMap.this.remove(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public void clear()
+        {
+            BoundedConcurrentHashMap.this.clear();
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Predicate;
@@ -37,9 +38,11 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.function.Function3;
+import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
@@ -74,6 +77,7 @@ public final class ConcurrentHashMap<K, V>
     private static final Object RESIZING = new Object();
     private static final int PARTITIONED_SIZE_THRESHOLD = 4096; // chosen to keep size below 1% of the total size of the map
     private static final int SIZE_BUCKETS = 7;
+    private static final int MAXIMUM_PARALLEL_CHUNKS = Runtime.getRuntime().availableProcessors() << 2;
 
     /**
      * The table, resized as necessary. Length MUST Always be a power of two.
@@ -1308,6 +1312,197 @@ public final class ConcurrentHashMap<K, V>
         }
     }
 
+    /**
+     * Applies the procedure to every entry, splitting the table into chunks that run on the executor when the map holds
+     * at least {@code parallelismThreshold} entries per chunk. Unlike {@link #parallelForEachKeyValue(List, Executor)},
+     * this may run during a resize: buckets that have already moved are followed into the next table. The procedure may
+     * be called from several threads at once.
+     *
+     * @since 10.3
+     */
+    public void parallelForEachKeyValue(int parallelismThreshold, Procedure2<? super K, ? super V> procedure, Executor executor)
+    {
+        this.parallelForEachChunk(parallelismThreshold, executor, (currentArray, start, end) ->
+                this.visitBuckets(currentArray, start, end, (key, value) ->
+                {
+                    procedure.value(key, value);
+                    return false;
+                }));
+    }
+
+    /**
+     * Transforms every entry and combines the non-null results with the reducer, in parallel as for
+     * {@link #parallelForEachKeyValue(int, Procedure2, Executor)}. Returns null if every transformed value is null. The
+     * reducer should be associative, since the order in which the results are combined is not specified.
+     *
+     * @since 10.3
+     */
+    public <R> R parallelReduce(
+            int parallelismThreshold,
+            Function2<? super K, ? super V, ? extends R> transformer,
+            Function2<? super R, ? super R, ? extends R> reducer,
+            Executor executor)
+    {
+        List<R> chunkResults = this.parallelForEachChunk(parallelismThreshold, executor, (currentArray, start, end) ->
+        {
+            Object[] result = new Object[1];
+            this.visitBuckets(currentArray, start, end, (key, value) ->
+            {
+                R transformed = transformer.value(key, value);
+                if (transformed != null)
+                {
+                    result[0] = result[0] == null ? transformed : reducer.value((R) result[0], transformed);
+                }
+                return false;
+            });
+            return (R) result[0];
+        });
+        R result = null;
+        for (R chunkResult : chunkResults)
+        {
+            if (chunkResult != null)
+            {
+                result = result == null ? chunkResult : reducer.value(result, chunkResult);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a non-null result of the search function for some entry, or null if there is none, in parallel as for
+     * {@link #parallelForEachKeyValue(int, Procedure2, Executor)}. Every chunk stops as soon as any chunk finds a result.
+     *
+     * @since 10.3
+     */
+    public <R> R parallelSearch(int parallelismThreshold, Function2<? super K, ? super V, ? extends R> searchFunction, Executor executor)
+    {
+        AtomicReference<R> found = new AtomicReference<>();
+        this.parallelForEachChunk(parallelismThreshold, executor, (currentArray, start, end) ->
+                this.visitBuckets(currentArray, start, end, (key, value) ->
+                {
+                    if (found.get() != null)
+                    {
+                        return true;
+                    }
+                    R result = searchFunction.value(key, value);
+                    if (result != null)
+                    {
+                        found.compareAndSet(null, result);
+                        return true;
+                    }
+                    return false;
+                }));
+        return found.get();
+    }
+
+    /**
+     * Removes every entry that satisfies the predicate, in parallel as for
+     * {@link #parallelForEachKeyValue(int, Procedure2, Executor)}. An entry is only removed if it still maps the key to
+     * the value that was tested, so a value written concurrently is never removed by mistake.
+     *
+     * @since 10.3
+     */
+    public boolean parallelRemoveIf(int parallelismThreshold, Predicate2<? super K, ? super V> predicate, Executor executor)
+    {
+        List<Boolean> chunkResults = this.parallelForEachChunk(parallelismThreshold, executor, (currentArray, start, end) ->
+        {
+            boolean[] removed = new boolean[1];
+            this.visitBuckets(currentArray, start, end, (key, value) ->
+            {
+                if (predicate.accept(key, value) && this.remove(key, value))
+                {
+                    removed[0] = true;
+                }
+                return false;
+            });
+            return removed[0];
+        });
+        return chunkResults.contains(Boolean.TRUE);
+    }
+
+    private <R> List<R> parallelForEachChunk(
+            int parallelismThreshold,
+            Executor executor,
+            Function3<AtomicReferenceArray, Integer, Integer, R> chunkFunction)
+    {
+        AtomicReferenceArray currentArray = this.table;
+        int buckets = currentArray.length() - 1;
+        int chunks = Math.min(this.size() / Math.max(1, parallelismThreshold), MAXIMUM_PARALLEL_CHUNKS);
+        chunks = Math.max(1, Math.min(chunks, buckets));
+        if (chunks == 1)
+        {
+            return FastList.newListWith(chunkFunction.value(currentArray, 0, buckets));
+        }
+        int chunkSize = buckets / chunks;
+        if (buckets % chunks != 0)
+        {
+            chunkSize++;
+        }
+        FutureTask<R>[] futures = new FutureTask[chunks];
+        for (int i = 0; i < chunks; i++)
+        {
+            int start = Math.min(i * chunkSize, buckets);
+            int end = Math.min(start + chunkSize, buckets);
+            futures[i] = new FutureTask<>(() -> chunkFunction.value(currentArray, start, end));
+            executor.execute(futures[i]);
+        }
+        MutableList<R> results = FastList.newList(chunks);
+        for (int i = 0; i < chunks; i++)
+        {
+            try
+            {
+                results.add(futures[i].get());
+            }
+            catch (Exception e)
+            {
+                throw new RuntimeException("parallel bulk operation failed", e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Visits the entries of the buckets from start to end of the table until the visitor returns true, and returns
+     * whether it did.
+     */
+    private boolean visitBuckets(AtomicReferenceArray currentArray, int start, int end, Predicate2<? super K, ? super V> visitor)
+    {
+        for (int i = start; i < end; i++)
+        {
+            if (this.visitBucket(currentArray, i, visitor))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Visits the entries of one bucket. A bucket that has been moved by a resize is split between the same index and
+     * the index plus the old length in the next table, so both are visited there, waiting for the move to finish first.
+     */
+    private boolean visitBucket(AtomicReferenceArray currentArray, int index, Predicate2<? super K, ? super V> visitor)
+    {
+        Object o = currentArray.get(index);
+        if (o == RESIZED || o == RESIZING)
+        {
+            AtomicReferenceArray nextArray = this.helpWithResizeWhileCurrentIndex(currentArray, index);
+            int powerTwoLength = currentArray.length() - 1;
+            return this.visitBucket(nextArray, index, visitor)
+                    || this.visitBucket(nextArray, index + powerTwoLength, visitor);
+        }
+        Entry<K, V> e = (Entry<K, V>) o;
+        while (e != null)
+        {
+            if (visitor.accept(e.getKey(), e.getValue()))
+            {
+                return true;
+            }
+            e = e.getNext();
+        }
+        return false;
+    }
+
     @Override
     public int hashCode()
     {
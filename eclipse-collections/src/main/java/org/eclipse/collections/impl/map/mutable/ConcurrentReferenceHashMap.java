@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+
+/**
+ * ConcurrentReferenceHashMap is a {@link ConcurrentMutableMap} that holds its keys weakly, its values softly, or
+ * both, so that it can be used as a cache that does not keep its contents from being garbage collected. Entries are
+ * held in a {@link ConcurrentHashMap}, so reads and writes to different keys do not block each other.
+ * <p>
+ * Entries whose key or value has been cleared are skipped by reads and removed a few at a time by later writes,
+ * without ever scanning the map. See {@link ReferenceUnifiedMap} for a variant that is not thread-safe.
+ * <p>
+ * Null keys and values are not supported.
+ *
+ * @since 10.3
+ */
+public final class ConcurrentReferenceHashMap<K, V>
+        extends AbstractReferenceMap<K, V>
+        implements ConcurrentMutableMap<K, V>
+{
+    private final ConcurrentHashMap<Object, Object> delegate;
+
+    private ConcurrentReferenceHashMap(ConcurrentHashMap<Object, Object> delegate, boolean weakKeys, boolean softValues)
+    {
+        super(delegate, weakKeys, softValues);
+        this.delegate = delegate;
+    }
+
+    private ConcurrentReferenceHashMap(boolean weakKeys, boolean softValues)
+    {
+        this(ConcurrentHashMap.newMap(), weakKeys, softValues);
+    }
+
+    /**
+     * Creates a map that holds its keys weakly and its values strongly.
+     */
+    public static <K, V> ConcurrentReferenceHashMap<K, V> newWeakKeyMap()
+    {
+        return new ConcurrentReferenceHashMap<>(true, false);
+    }
+
+    /**
+     * Creates a map that holds its keys strongly and its values softly.
+     */
+    public static <K, V> ConcurrentReferenceHashMap<K, V> newSoftValueMap()
+    {
+        return new ConcurrentReferenceHashMap<>(false, true);
+    }
+
+    /**
+     * Creates a map that holds its keys weakly and its values softly.
+     */
+    public static <K, V> ConcurrentReferenceHashMap<K, V> newWeakKeySoftValueMap()
+    {
+        return new ConcurrentReferenceHashMap<>(true, true);
+    }
+
+    @Override
+    protected ConcurrentReferenceHashMap<K, V> newEmptySameStrength()
+    {
+        return new ConcurrentReferenceHashMap<>(this.weakKeys, this.softValues);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return ConcurrentHashMap.newMap(capacity);
+    }
+
+    /**
+     * Stores a value in place of the given stored value, which is null if the key is expected to be absent.
+     */
+    private boolean replaceStored(K key, Object storedValue, V value)
+    {
+        Object wrappedKey = this.wrapKey(key);
+        Object newStoredValue = this.wrapValue(wrappedKey, value);
+        if (storedValue == null)
+        {
+            return this.delegate.putIfAbsent(wrappedKey, newStoredValue) == null;
+        }
+        return this.delegate.replace(wrappedKey, storedValue, newStoredValue);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value)
+    {
+        this.expungeStaleEntries();
+        while (true)
+        {
+            Object storedValue = this.getStoredValue(key);
+            V existing = this.valueOf(storedValue);
+            if (existing != null)
+            {
+                return existing;
+            }
+            if (this.replaceStored(key, storedValue, value))
+            {
+                return null;
+            }
+        }
+    }
+
+    private V putIfAbsentGetValue(K key, V value)
+    {
+        V existing = this.putIfAbsent(key, value);
+        return existing == null ? value : existing;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue)
+    {
+        this.expungeStaleEntries();
+        while (true)
+        {
+            Object storedValue = this.getStoredValue(key);
+            V currentValue = this.valueOf(storedValue);
+            if (currentValue == null || !currentValue.equals(oldValue))
+            {
+                return false;
+            }
+            if (this.replaceStored(key, storedValue, newValue))
+            {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public V replace(K key, V value)
+    {
+        this.expungeStaleEntries();
+        while (true)
+        {
+            Object storedValue = this.getStoredValue(key);
+            V currentValue = this.valueOf(storedValue);
+            if (currentValue == null)
+            {
+                return null;
+            }
+            if (this.replaceStored(key, storedValue, value))
+            {
+                return currentValue;
+            }
+        }
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        V value = this.get(key);
+        return value == null ? this.putIfAbsentGetValue(key, function.value()) : value;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        V existing = this.get(key);
+        return existing == null ? this.putIfAbsentGetValue(key, value) : existing;
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        V value = this.get(key);
+        return value == null ? this.putIfAbsentGetValue(key, function.valueOf(parameter)) : value;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        this.expungeStaleEntries();
+        while (true)
+        {
+            Object storedValue = this.getStoredValue(key);
+            V oldValue = this.valueOf(storedValue);
+            V newValue = function.valueOf(oldValue == null ? factory.value() : oldValue);
+            if (this.replaceStored(key, storedValue, newValue))
+            {
+                return newValue;
+            }
+        }
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        this.expungeStaleEntries();
+        while (true)
+        {
+            Object storedValue = this.getStoredValue(key);
+            V oldValue = this.valueOf(storedValue);
+            V newValue = function.value(oldValue == null ? factory.value() : oldValue, parameter);
+            if (this.replaceStored(key, storedValue, newValue))
+            {
+                return newValue;
+            }
+        }
+    }
+
+    @Override
+    public ConcurrentMutableMap<K, V> tap(Procedure<? super V> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+}
@@ -0,0 +1,1098 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.HashStatistics;
+import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * LinearProbeMap is an open-addressing alternative to {@link UnifiedMap}. Keys and values are stored in alternate slots
+ * of a single array, like in UnifiedMap, but collisions are resolved by linear probing to the next pair of slots
+ * instead of allocating chain arrays. A put therefore never allocates anything but the table itself, and colliding
+ * keys end up next to each other in memory.
+ * <p>
+ * Removed keys are replaced with a tombstone, just like in the primitive hash maps, so that lookups can keep probing
+ * past them. Tombstones count towards the load factor and are purged the next time the table is rehashed.
+ * <p>
+ * Linear probing degrades faster than chaining when the table fills up, and it is more sensitive to poorly
+ * distributed hash codes. The load factor should therefore be kept at or below the default of 0.75.
+ *
+ * @since 10.3
+ */
+@SuppressWarnings("ObjectEquality")
+public class LinearProbeMap<K, V> extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public boolean equals(Object obj)
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public int hashCode()
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public String toString()
+        {
+            return "LinearProbeMap.NULL_KEY";
+        }
+    };
+
+    private static final Object REMOVED_KEY = new Object()
+    {
+        @Override
+        public boolean equals(Object obj)
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public int hashCode()
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public String toString()
+        {
+            return "LinearProbeMap.REMOVED_KEY";
+        }
+    };
+
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Object[] table;
+
+    private transient int occupiedWithData;
+
+    private transient int occupiedWithSentinels;
+
+    private float loadFactor = DEFAULT_LOAD_FACTOR;
+
+    private transient int maxSize;
+
+    public LinearProbeMap()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY << 1);
+    }
+
+    public LinearProbeMap(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public LinearProbeMap(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (loadFactor <= 0.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be less than or equal to 0");
+        }
+        if (loadFactor > 1.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be greater than 1");
+        }
+
+        this.loadFactor = loadFactor;
+        this.init(LinearProbeMap.fastCeil(initialCapacity / loadFactor));
+    }
+
+    public LinearProbeMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+
+        this.putAll(map);
+    }
+
+    public static <K, V> LinearProbeMap<K, V> newMap()
+    {
+        return new LinearProbeMap<>();
+    }
+
+    public static <K, V> LinearProbeMap<K, V> newMap(int size)
+    {
+        return new LinearProbeMap<>(size);
+    }
+
+    public static <K, V> LinearProbeMap<K, V> newMap(int size, float loadFactor)
+    {
+        return new LinearProbeMap<>(size, loadFactor);
+    }
+
+    public static <K, V> LinearProbeMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new LinearProbeMap<>(map);
+    }
+
+    public static <K, V> LinearProbeMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new LinearProbeMap<K, V>(1).withKeysValues(key, value);
+    }
+
+    public static <K, V> LinearProbeMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new LinearProbeMap<K, V>(2).withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static <K, V> LinearProbeMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new LinearProbeMap<K, V>(3).withKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> LinearProbeMap<K, V> newWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new LinearProbeMap<K, V>(4).withKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public LinearProbeMap<K, V> withKeysValues(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public LinearProbeMap<K, V> withKeysValues(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public LinearProbeMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public LinearProbeMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    @Override
+    public LinearProbeMap<K, V> clone()
+    {
+        return new LinearProbeMap<>(this);
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty()
+    {
+        return new LinearProbeMap<>();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return new LinearProbeMap<>(capacity, this.loadFactor);
+    }
+
+    private static int fastCeil(float v)
+    {
+        int possibleResult = (int) v;
+        if (v - possibleResult > 0.0F)
+        {
+            possibleResult++;
+        }
+        return possibleResult;
+    }
+
+    private void init(int initialCapacity)
+    {
+        int capacity = 1;
+        while (capacity < initialCapacity)
+        {
+            capacity <<= 1;
+        }
+
+        this.allocate(capacity);
+    }
+
+    private void allocate(int capacity)
+    {
+        this.table = new Object[capacity << 1]; // the table size is twice the capacity to handle both keys and values
+        // At least one pair of slots is always left empty, so that every probe sequence terminates
+        this.maxSize = Math.min(capacity - 1, (int) (capacity * this.loadFactor));
+    }
+
+    private int index(Object key)
+    {
+        // Same spreading function as UnifiedMap, so that hashCodes that only differ in their upper bits
+        // do not all land in the same run of slots
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return (h & (this.table.length >> 1) - 1) << 1;
+    }
+
+    /**
+     * Returns the index of the key slot holding {@code key}, or -1 if the key is not in the map.
+     */
+    private int findIndex(Object key)
+    {
+        Object[] table = this.table;
+        int mask = table.length - 1;
+        int index = this.index(key);
+        Object cur;
+        while ((cur = table[index]) != null)
+        {
+            if (cur != REMOVED_KEY && LinearProbeMap.nonNullTableObjectEquals(cur, key))
+            {
+                return index;
+            }
+            index = index + 2 & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the key slot holding {@code key}, or else the index of the slot where it should be added,
+     * which is the first tombstone along the probe sequence if there is one.
+     */
+    private int probe(Object key)
+    {
+        Object[] table = this.table;
+        int mask = table.length - 1;
+        int index = this.index(key);
+        int removedIndex = -1;
+        Object cur;
+        while ((cur = table[index]) != null)
+        {
+            if (cur == REMOVED_KEY)
+            {
+                if (removedIndex == -1)
+                {
+                    removedIndex = index;
+                }
+            }
+            else if (LinearProbeMap.nonNullTableObjectEquals(cur, key))
+            {
+                return index;
+            }
+            index = index + 2 & mask;
+        }
+        return removedIndex == -1 ? index : removedIndex;
+    }
+
+    private static boolean isNonSentinel(Object cur)
+    {
+        return cur != null && cur != REMOVED_KEY;
+    }
+
+    private void addAtIndex(int index, K key, V value)
+    {
+        if (this.table[index] == REMOVED_KEY)
+        {
+            this.occupiedWithSentinels--;
+        }
+        this.table[index] = LinearProbeMap.toSentinelIfNull(key);
+        this.table[index + 1] = value;
+        this.occupiedWithData++;
+        if (this.occupiedWithData + this.occupiedWithSentinels > this.maxSize)
+        {
+            this.rehashAndGrow();
+        }
+    }
+
+    private V removeAtIndex(int index)
+    {
+        Object[] table = this.table;
+        int mask = table.length - 1;
+        V result = (V) table[index + 1];
+        table[index + 1] = null;
+        this.occupiedWithData--;
+        if (table[index + 2 & mask] == null)
+        {
+            // Nothing probes past an empty slot, so this slot and the tombstones right before it can be emptied too
+            table[index] = null;
+            int previous = index - 2 & mask;
+            while (table[previous] == REMOVED_KEY)
+            {
+                table[previous] = null;
+                this.occupiedWithSentinels--;
+                previous = previous - 2 & mask;
+            }
+        }
+        else
+        {
+            table[index] = REMOVED_KEY;
+            this.occupiedWithSentinels++;
+        }
+        return result;
+    }
+
+    private void rehashAndGrow()
+    {
+        int capacity = this.table.length >> 1;
+        // Purging the tombstones is enough to make room when they take up most of the occupied slots
+        this.rehash(this.occupiedWithSentinels > this.occupiedWithData ? capacity : capacity << 1);
+    }
+
+    private void rehash(int newCapacity)
+    {
+        Object[] old = this.table;
+        this.allocate(newCapacity);
+        this.occupiedWithSentinels = 0;
+
+        Object[] table = this.table;
+        int mask = table.length - 1;
+        for (int i = 0; i < old.length; i += 2)
+        {
+            Object cur = old[i];
+            if (LinearProbeMap.isNonSentinel(cur))
+            {
+                // The keys are known to be distinct, so the first empty slot can be taken without any equals() calls
+                int index = this.index(this.nonSentinel(cur));
+                while (table[index] != null)
+                {
+                    index = index + 2 & mask;
+                }
+                table[index] = cur;
+                table[index + 1] = old[i + 1];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of JVM words that is used by this map. A word is 4 bytes in a 32bit VM and 8 bytes in a 64bit
+     * VM. The table is the only array, and it has a 2 word header, thus the formula is:
+     * words = internal table length + 2
+     *
+     * @return the number of JVM words that is used by this map.
+     * @see UnifiedMap#getMapMemoryUsedInWords()
+     */
+    public int getMapMemoryUsedInWords()
+    {
+        return this.table.length + 2;
+    }
+
+    /**
+     * Returns statistics about how the keys are spread across the table. The probe length of a key is one more than
+     * the number of pairs of slots between its home index and the slot it ended up in.
+     *
+     * @since 10.3
+     */
+    public HashStatistics getHashStatistics()
+    {
+        int mask = (this.table.length >> 1) - 1;
+        int maxProbeLength = 0;
+        long totalProbeLength = 0L;
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (LinearProbeMap.isNonSentinel(cur))
+            {
+                int probeLength = ((i - this.index(this.nonSentinel(cur)) >> 1) & mask) + 1;
+                maxProbeLength = Math.max(maxProbeLength, probeLength);
+                totalProbeLength += probeLength;
+            }
+        }
+        return new HashStatistics(
+                this.occupiedWithData,
+                this.table.length >> 1,
+                0,
+                this.occupiedWithSentinels,
+                0,
+                maxProbeLength,
+                totalProbeLength);
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.occupiedWithData == 0 && this.occupiedWithSentinels == 0)
+        {
+            return;
+        }
+        this.occupiedWithData = 0;
+        this.occupiedWithSentinels = 0;
+        Arrays.fill(this.table, null);
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        int index = this.probe(key);
+        if (LinearProbeMap.isNonSentinel(this.table[index]))
+        {
+            V result = (V) this.table[index + 1];
+            this.table[index + 1] = value;
+            return result;
+        }
+        this.addAtIndex(index, key, value);
+        return null;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        int index = this.probe(key);
+        if (LinearProbeMap.isNonSentinel(this.table[index]))
+        {
+            V newValue = function.valueOf((V) this.table[index + 1]);
+            this.table[index + 1] = newValue;
+            return newValue;
+        }
+        V newValue = function.valueOf(factory.value());
+        this.addAtIndex(index, key, newValue);
+        return newValue;
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        int index = this.probe(key);
+        if (LinearProbeMap.isNonSentinel(this.table[index]))
+        {
+            V newValue = function.value((V) this.table[index + 1], parameter);
+            this.table[index + 1] = newValue;
+            return newValue;
+        }
+        V newValue = function.value(factory.value(), parameter);
+        this.addAtIndex(index, key, newValue);
+        return newValue;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        int index = this.probe(key);
+        if (LinearProbeMap.isNonSentinel(this.table[index]))
+        {
+            return (V) this.table[index + 1];
+        }
+        V result = function.value();
+        this.addAtIndex(index, key, result);
+        return result;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        int index = this.probe(key);
+        if (LinearProbeMap.isNonSentinel(this.table[index]))
+        {
+            return (V) this.table[index + 1];
+        }
+        this.addAtIndex(index, key, value);
+        return value;
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        int index = this.probe(key);
+        if (LinearProbeMap.isNonSentinel(this.table[index]))
+        {
+            return (V) this.table[index + 1];
+        }
+        V result = function.valueOf(parameter);
+        this.addAtIndex(index, key, result);
+        return result;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        int index = this.findIndex(key);
+        return index == -1 ? null : (V) this.table[index + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.findIndex(key) != -1;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            if (LinearProbeMap.isNonSentinel(this.table[i]) && LinearProbeMap.nullSafeEquals(this.table[i + 1], value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (LinearProbeMap.isNonSentinel(cur))
+            {
+                procedure.value(this.nonSentinel(cur), (V) this.table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (LinearProbeMap.isNonSentinel(cur))
+            {
+                procedure.value(this.nonSentinel(cur));
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            if (LinearProbeMap.isNonSentinel(this.table[i]))
+            {
+                procedure.value((V) this.table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.forEach(iterable, new MapCollectProcedure<>(this, keyFunction, valueFunction));
+        return this;
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        int index = this.findIndex(key);
+        return index == -1 ? null : this.removeAtIndex(index);
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupiedWithData == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.occupiedWithData;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof MapIterable<?, ?>)
+        {
+            ((MapIterable<? extends K, ? extends V>) map).forEachKeyValue(this::put);
+        }
+        else
+        {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValuesIterator();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (LinearProbeMap.isNonSentinel(cur))
+            {
+                K key = this.nonSentinel(cur);
+                V value = (V) this.table[i + 1];
+                Object otherValue = other.get(key);
+                if (!LinearProbeMap.nullSafeEquals(otherValue, value) || (value == null && otherValue == null && !other.containsKey(key)))
+                {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (LinearProbeMap.isNonSentinel(cur))
+            {
+                Object value = this.table[i + 1];
+                hashCode += (cur == NULL_KEY ? 0 : cur.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            private boolean first = true;
+
+            public void value(K key, V value)
+            {
+                if (this.first)
+                {
+                    this.first = false;
+                }
+                else
+                {
+                    builder.append(", ");
+                }
+
+                builder.append(key == LinearProbeMap.this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == LinearProbeMap.this ? "(this Map)" : value);
+            }
+        });
+
+        builder.append('}');
+        return builder.toString();
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.loadFactor = in.readFloat();
+        this.init(Math.max(
+                (int) (size / this.loadFactor) + 1,
+                DEFAULT_INITIAL_CAPACITY));
+        this.occupiedWithData = 0;
+        this.occupiedWithSentinels = 0;
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (LinearProbeMap.isNonSentinel(cur))
+            {
+                out.writeObject(this.nonSentinel(cur));
+                out.writeObject(this.table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public ImmutableMap<K, V> toImmutable()
+    {
+        return Maps.immutable.withAll(this);
+    }
+
+    private K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        if (key == null)
+        {
+            return NULL_KEY;
+        }
+        return key;
+    }
+
+    private static boolean nonNullTableObjectEquals(Object cur, Object key)
+    {
+        return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
+    }
+
+    private static boolean nullSafeEquals(Object value, Object other)
+    {
+        if (value == null)
+        {
+            if (other == null)
+            {
+                return true;
+            }
+        }
+        else if (other == value || value.equals(other))
+        {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Iterates over the occupied key slots of the table. Removing through the iterator leaves a tombstone or an empty
+     * slot behind and never moves any other pair, so the iteration can safely carry on from the same position.
+     */
+    private abstract class PositionalIterator<T> implements Iterator<T>
+    {
+        protected int count;
+        protected int position;
+        protected int currentIndex = -1;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.count < LinearProbeMap.this.size();
+        }
+
+        protected int nextIndex()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            Object[] table = LinearProbeMap.this.table;
+            while (!LinearProbeMap.isNonSentinel(table[this.position]))
+            {
+                this.position += 2;
+            }
+            this.currentIndex = this.position;
+            this.position += 2;
+            this.count++;
+            return this.currentIndex;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.currentIndex == -1)
+            {
+                throw new IllegalStateException("next() must be called as many times as remove()");
+            }
+            LinearProbeMap.this.removeAtIndex(this.currentIndex);
+            this.currentIndex = -1;
+            this.count--;
+        }
+    }
+
+    private final class KeysIterator extends PositionalIterator<K>
+    {
+        @Override
+        public K next()
+        {
+            return LinearProbeMap.this.nonSentinel(LinearProbeMap.this.table[this.nextIndex()]);
+        }
+    }
+
+    private final class ValuesIterator extends PositionalIterator<V>
+    {
+        @Override
+        public V next()
+        {
+            return (V) LinearProbeMap.this.table[this.nextIndex() + 1];
+        }
+    }
+
+    private final class EntriesIterator extends PositionalIterator<Entry<K, V>>
+    {
+        @Override
+        public Entry<K, V> next()
+        {
+            int index = this.nextIndex();
+            return new LinearProbeEntry(
+                    LinearProbeMap.this.nonSentinel(LinearProbeMap.this.table[index]),
+                    (V) LinearProbeMap.this.table[index + 1]);
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeysIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return LinearProbeMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return LinearProbeMap.this.containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key)
+        {
+            int index = LinearProbeMap.this.findIndex(key);
+            if (index == -1)
+            {
+                return false;
+            }
+            LinearProbeMap.this.removeAtIndex(index);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            LinearProbeMap.this.clear();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return LinearProbeMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return LinearProbeMap.this.containsValue(value);
+        }
+
+        @Override
+        public void clear()
+        {
+            LinearProbeMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntriesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return LinearProbeMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return this.indexOf(o) != -1;
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            int index = this.indexOf(o);
+            if (index == -1)
+            {
+                return false;
+            }
+            LinearProbeMap.this.removeAtIndex(index);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            LinearProbeMap.this.clear();
+        }
+
+        private int indexOf(Object o)
+        {
+            if (!(o instanceof Entry))
+            {
+                return -1;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            int index = LinearProbeMap.this.findIndex(entry.getKey());
+            if (index != -1 && LinearProbeMap.nullSafeEquals(LinearProbeMap.this.table[index + 1], entry.getValue()))
+            {
+                return index;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * An entry that writes through to the map when its value is set.
+     */
+    private final class LinearProbeEntry implements Entry<K, V>
+    {
+        private final K key;
+        private V value;
+
+        private LinearProbeEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        @Override
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            V result = this.value;
+            this.value = value;
+            LinearProbeMap.this.put(this.key, value);
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (obj instanceof Entry)
+            {
+                Entry<?, ?> other = (Entry<?, ?>) obj;
+                return LinearProbeMap.nullSafeEquals(this.key, other.getKey())
+                        && LinearProbeMap.nullSafeEquals(this.value, other.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import org.eclipse.collections.api.map.MutableMap;
+
+/**
+ * ReferenceUnifiedMap is a {@link MutableMap} that holds its keys weakly, its values softly, or both, and stores its
+ * entries in a {@link UnifiedMap}. It is a faster replacement for {@link java.util.WeakHashMap} where the map is
+ * confined to one thread or guarded by a lock; see {@link ConcurrentReferenceHashMap} for a thread-safe variant.
+ * <p>
+ * Entries whose key or value has been cleared are skipped by reads and removed a few at a time by later writes,
+ * without ever scanning the map.
+ * <p>
+ * Null keys and values are not supported.
+ *
+ * @since 10.3
+ */
+public final class ReferenceUnifiedMap<K, V>
+        extends AbstractReferenceMap<K, V>
+{
+    private ReferenceUnifiedMap(boolean weakKeys, boolean softValues)
+    {
+        super(UnifiedMap.newMap(), weakKeys, softValues);
+    }
+
+    /**
+     * Creates a map that holds its keys weakly and its values strongly.
+     */
+    public static <K, V> ReferenceUnifiedMap<K, V> newWeakKeyMap()
+    {
+        return new ReferenceUnifiedMap<>(true, false);
+    }
+
+    /**
+     * Creates a map that holds its keys strongly and its values softly.
+     */
+    public static <K, V> ReferenceUnifiedMap<K, V> newSoftValueMap()
+    {
+        return new ReferenceUnifiedMap<>(false, true);
+    }
+
+    /**
+     * Creates a map that holds its keys weakly and its values softly.
+     */
+    public static <K, V> ReferenceUnifiedMap<K, V> newWeakKeySoftValueMap()
+    {
+        return new ReferenceUnifiedMap<>(true, true);
+    }
+
+    @Override
+    protected ReferenceUnifiedMap<K, V> newEmptySameStrength()
+    {
+        return new ReferenceUnifiedMap<>(this.weakKeys, this.softValues);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newEmpty(int capacity)
+    {
+        return UnifiedMap.newMap(capacity);
+    }
+}
@@ -24,6 +24,8 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
@@ -38,6 +40,7 @@ import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.UnsortedMapIterable;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.HashStatistics;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
@@ -60,6 +63,10 @@ import org.eclipse.collections.impl.utility.Iterate;
  * <p>
  * The final result is a Map implementation that's leaner than java.util.HashMap and faster than Trove's THashMap.
  * The best of both approaches unified together, and thus the name UnifiedMap.
+ * <p>
+ * Keys with colliding hash codes all end up in the same chain, where lookups are linear. When the keys come from
+ * untrusted sources, use {@link org.eclipse.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy} with
+ * {@link org.eclipse.collections.impl.block.factory.HashingStrategies#hashFloodResistantStrategy()} instead.
  */
 
 @SuppressWarnings("ObjectEquality")
@@ -846,6 +853,41 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         return sizeInWords;
     }
 
+    /**
+     * Returns statistics about how the keys are spread across the buckets of the table. The probe length of a key in
+     * a chain is its position in the chain, starting at 1.
+     *
+     * @since 10.3
+     */
+    public HashStatistics getHashStatistics()
+    {
+        int chainedBuckets = 0;
+        int maxProbeLength = 0;
+        long totalProbeLength = 0L;
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur == CHAINED_KEY)
+            {
+                Object[] chain = (Object[]) this.table[i + 1];
+                int chainLength = 0;
+                while (chainLength << 1 < chain.length && chain[chainLength << 1] != null)
+                {
+                    chainLength++;
+                }
+                chainedBuckets++;
+                maxProbeLength = Math.max(maxProbeLength, chainLength);
+                totalProbeLength += (long) chainLength * (chainLength + 1) / 2;
+            }
+            else if (cur != null)
+            {
+                maxProbeLength = Math.max(maxProbeLength, 1);
+                totalProbeLength++;
+            }
+        }
+        return new HashStatistics(this.occupied, this.table.length >> 1, chainedBuckets, 0, 0, maxProbeLength, totalProbeLength);
+    }
+
     protected void rehash(int newCapacity)
     {
         int oldLength = this.table.length;
@@ -1345,6 +1387,12 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         return new ValuesCollection();
     }
 
+    @Override
+    public Spliterator<V> spliterator()
+    {
+        return new ValuesSpliterator();
+    }
+
     @Override
     public boolean equals(Object object)
     {
@@ -2151,6 +2199,12 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
             return new KeySetIterator();
         }
 
+        @Override
+        public Spliterator<K> spliterator()
+        {
+            return new KeySetSpliterator();
+        }
+
         @Override
         public boolean remove(Object key)
         {
@@ -2486,6 +2540,248 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    protected abstract class PositionalSpliterator<T> implements Spliterator<T>
+    {
+        protected Object[] table;
+        protected int index;
+        protected int fence;
+        protected int estimatedSize;
+        protected Object[] chain;
+        protected int chainPosition;
+
+        protected PositionalSpliterator()
+        {
+            this.fence = -1;
+        }
+
+        protected PositionalSpliterator(Object[] table, int index, int fence, int estimatedSize)
+        {
+            this.table = table;
+            this.index = index;
+            this.fence = fence;
+            this.estimatedSize = estimatedSize;
+        }
+
+        protected abstract T valueOf(Object key, Object value);
+
+        protected abstract PositionalSpliterator<T> newSpliterator(Object[] table, int index, int fence, int estimatedSize);
+
+        protected abstract int distinct();
+
+        protected int getFence()
+        {
+            if (this.fence < 0)
+            {
+                this.table = UnifiedMap.this.table;
+                this.estimatedSize = UnifiedMap.this.occupied;
+                this.fence = this.table.length;
+            }
+            return this.fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            int fence = this.getFence();
+            Object[] table = this.table;
+            do
+            {
+                Object[] chain = this.chain;
+                if (chain != null)
+                {
+                    int position = this.chainPosition;
+                    if (position < chain.length && chain[position] != null)
+                    {
+                        this.chainPosition = position + 2;
+                        action.accept(this.valueOf(chain[position], chain[position + 1]));
+                        return true;
+                    }
+                    this.chain = null;
+                }
+                if (this.index >= fence)
+                {
+                    return false;
+                }
+                Object cur = table[this.index];
+                Object value = table[this.index + 1];
+                this.index += 2;
+                if (cur == CHAINED_KEY)
+                {
+                    this.chain = (Object[]) value;
+                    this.chainPosition = 0;
+                }
+                else if (cur != null)
+                {
+                    action.accept(this.valueOf(cur, value));
+                    return true;
+                }
+            }
+            while (true);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            int fence = this.getFence();
+            Object[] table = this.table;
+            if (this.chain != null)
+            {
+                this.chainedForEachRemaining(this.chain, this.chainPosition, action);
+                this.chain = null;
+            }
+            int start = this.index;
+            this.index = fence;
+            for (int i = start; i < fence; i += 2)
+            {
+                Object cur = table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    this.chainedForEachRemaining((Object[]) table[i + 1], 0, action);
+                }
+                else if (cur != null)
+                {
+                    action.accept(this.valueOf(cur, table[i + 1]));
+                }
+            }
+        }
+
+        private void chainedForEachRemaining(Object[] chain, int start, Consumer<? super T> action)
+        {
+            for (int i = start; i < chain.length; i += 2)
+            {
+                Object cur = chain[i];
+                if (cur == null)
+                {
+                    return;
+                }
+                action.accept(this.valueOf(cur, chain[i + 1]));
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            int fence = this.getFence();
+            int low = this.index;
+            int mid = ((low + fence) >>> 1) & ~1;
+            if (low >= mid)
+            {
+                return null;
+            }
+            this.index = mid;
+            this.estimatedSize >>>= 1;
+            return this.newSpliterator(this.table, low, mid, this.estimatedSize);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            this.getFence();
+            return this.estimatedSize;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            boolean sized = this.fence < 0 || this.estimatedSize == UnifiedMap.this.occupied;
+            return sized ? Spliterator.SIZED | this.distinct() : this.distinct();
+        }
+    }
+
+    protected class KeySetSpliterator extends PositionalSpliterator<K>
+    {
+        protected KeySetSpliterator()
+        {
+        }
+
+        protected KeySetSpliterator(Object[] table, int index, int fence, int estimatedSize)
+        {
+            super(table, index, fence, estimatedSize);
+        }
+
+        @Override
+        protected K valueOf(Object key, Object value)
+        {
+            return UnifiedMap.this.nonSentinel(key);
+        }
+
+        @Override
+        protected PositionalSpliterator<K> newSpliterator(Object[] table, int index, int fence, int estimatedSize)
+        {
+            return new KeySetSpliterator(table, index, fence, estimatedSize);
+        }
+
+        @Override
+        protected int distinct()
+        {
+            return Spliterator.DISTINCT;
+        }
+    }
+
+    protected class EntrySetSpliterator extends PositionalSpliterator<Entry<K, V>>
+    {
+        private final WeakReference<UnifiedMap<K, V>> holder;
+
+        protected EntrySetSpliterator(WeakReference<UnifiedMap<K, V>> holder)
+        {
+            this.holder = holder;
+        }
+
+        protected EntrySetSpliterator(WeakReference<UnifiedMap<K, V>> holder, Object[] table, int index, int fence, int estimatedSize)
+        {
+            super(table, index, fence, estimatedSize);
+            this.holder = holder;
+        }
+
+        @Override
+        protected Entry<K, V> valueOf(Object key, Object value)
+        {
+            return new WeakBoundEntry<>(UnifiedMap.this.nonSentinel(key), (V) value, this.holder);
+        }
+
+        @Override
+        protected PositionalSpliterator<Entry<K, V>> newSpliterator(Object[] table, int index, int fence, int estimatedSize)
+        {
+            return new EntrySetSpliterator(this.holder, table, index, fence, estimatedSize);
+        }
+
+        @Override
+        protected int distinct()
+        {
+            return Spliterator.DISTINCT;
+        }
+    }
+
+    protected class ValuesSpliterator extends PositionalSpliterator<V>
+    {
+        protected ValuesSpliterator()
+        {
+        }
+
+        protected ValuesSpliterator(Object[] table, int index, int fence, int estimatedSize)
+        {
+            super(table, index, fence, estimatedSize);
+        }
+
+        @Override
+        protected V valueOf(Object key, Object value)
+        {
+            return (V) value;
+        }
+
+        @Override
+        protected PositionalSpliterator<V> newSpliterator(Object[] table, int index, int fence, int estimatedSize)
+        {
+            return new ValuesSpliterator(table, index, fence, estimatedSize);
+        }
+
+        @Override
+        protected int distinct()
+        {
+            return 0;
+        }
+    }
+
     protected class KeySetIterator extends PositionalIterator<K>
     {
         protected K nextFromChain()
@@ -2653,6 +2949,12 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
             return new EntrySetIterator(this.holder);
         }
 
+        @Override
+        public Spliterator<Entry<K, V>> spliterator()
+        {
+            return new EntrySetSpliterator(this.holder);
+        }
+
         @Override
         public boolean remove(Object e)
         {
@@ -3054,6 +3356,12 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
             return new ValuesIterator();
         }
 
+        @Override
+        public Spliterator<V> spliterator()
+        {
+            return new ValuesSpliterator();
+        }
+
         @Override
         public boolean remove(Object o)
         {
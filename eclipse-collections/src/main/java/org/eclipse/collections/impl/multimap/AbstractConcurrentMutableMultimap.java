@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap;
+
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A Multimap that is safe for concurrent reads and writes without locking. The keys are held in a
+ * {@link ConcurrentHashMap} and the values of each key in a collection that is itself safe for concurrent use, which
+ * subclasses provide through {@link #createCollection()}. {@link #get(Object)} and the other views are backed by those
+ * collections, so they reflect later writes, and reads never wait for writes.
+ * <p>
+ * A collection is removed from the map when its last value is removed, or when its values are replaced or removed.
+ * A write that raced with the removal finds, after adding to the collection, that the map no longer holds it; it then
+ * takes its value back out of the detached collection and adds it again. When the last value of a key is removed,
+ * the values added to the collection in the meantime are moved to a new collection the same way, so no write is lost.
+ * A view returned for a key stops reflecting writes once the collection behind it has been removed from the map.
+ * <p>
+ * {@link #size()} adds up the sizes of the collections, so it takes time proportional to the number of keys, and like
+ * the other aggregate reads it is only exact while there are no concurrent writes.
+ *
+ * @since 10.3
+ */
+public abstract class AbstractConcurrentMutableMultimap<K, V, C extends MutableCollection<V>> extends AbstractMutableMultimap<K, V, C>
+{
+    protected AbstractConcurrentMutableMultimap()
+    {
+    }
+
+    protected AbstractConcurrentMutableMultimap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    /**
+     * Returns a new, empty collection which is safe for concurrent reads and writes.
+     */
+    @Override
+    protected abstract C createCollection();
+
+    @Override
+    protected MutableMap<K, C> createMap()
+    {
+        return ConcurrentHashMap.newMap();
+    }
+
+    @Override
+    protected MutableMap<K, C> createMapWithKeyCount(int keyCount)
+    {
+        return ConcurrentHashMap.newMap(keyCount);
+    }
+
+    @Override
+    public int size()
+    {
+        return (int) this.map.sumOfInt(MutableCollection::size);
+    }
+
+    /**
+     * Does nothing, because {@link #size()} is computed from the collections.
+     */
+    @Override
+    protected void incrementTotalSize()
+    {
+    }
+
+    /**
+     * Does nothing, because {@link #size()} is computed from the collections.
+     */
+    @Override
+    protected void decrementTotalSize()
+    {
+    }
+
+    /**
+     * Does nothing, because {@link #size()} is computed from the collections.
+     */
+    @Override
+    protected void addToTotalSize(int value)
+    {
+    }
+
+    /**
+     * Does nothing, because {@link #size()} is computed from the collections.
+     */
+    @Override
+    protected void subtractFromTotalSize(int value)
+    {
+    }
+
+    /**
+     * Does nothing, because {@link #size()} is computed from the collections.
+     */
+    @Override
+    protected void clearTotalSize()
+    {
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.map.allSatisfy(MutableCollection::isEmpty);
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        C collection = this.map.get(key);
+        return collection != null && collection.notEmpty();
+    }
+
+    @Override
+    public boolean put(K key, V value)
+    {
+        while (true)
+        {
+            C collection = this.getIfAbsentPutCollection(key);
+            boolean added = collection.add(value);
+            if (!added || this.map.get(key) == collection || !collection.remove(value))
+            {
+                return added;
+            }
+        }
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return false;
+        }
+        C collection = this.getIfAbsentPutCollection(key);
+        boolean changed = collection.addAllIterable(values);
+        if (changed && this.map.get(key) != collection)
+        {
+            Iterate.forEach(values, each -> {
+                if (collection.remove(each))
+                {
+                    this.put(key, each);
+                }
+            });
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        C collection = this.map.get(key);
+        if (collection == null)
+        {
+            return false;
+        }
+        boolean changed = collection.remove(value);
+        if (changed && collection.isEmpty() && this.map.remove(key, collection))
+        {
+            this.moveRemainingValues((K) key, collection);
+        }
+        return changed;
+    }
+
+    /**
+     * Moves the values that were added to a collection after it was found to be empty, but before it was removed
+     * from the map, to the collection which now holds the values of the key.
+     */
+    private void moveRemainingValues(K key, C detached)
+    {
+        detached.toList().each(each -> {
+            if (detached.remove(each))
+            {
+                this.put(key, each);
+            }
+        });
+    }
+
+    @Override
+    public C replaceValues(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.removeAll(key);
+        }
+
+        C newValues = Iterate.addAllTo(values, this.createCollection());
+        C oldValues = this.map.put(key, newValues);
+        if (oldValues == null)
+        {
+            return (C) this.createCollection().asUnmodifiable();
+        }
+        return (C) oldValues.asUnmodifiable();
+    }
+
+    @Override
+    public C removeAll(Object key)
+    {
+        C collection = this.map.remove(key);
+        if (collection == null)
+        {
+            return (C) this.createCollection().asUnmodifiable();
+        }
+        return (C) collection.asUnmodifiable();
+    }
+
+    /**
+     * Removes all the keys. Unlike the other multimaps, collections returned by earlier calls to {@link #get(Object)}
+     * are not cleared, because a concurrent reader may still be using them.
+     */
+    @Override
+    public void clear()
+    {
+        this.map.clear();
+    }
+
+    @Override
+    public C getIfAbsentPutAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.get(key);
+        }
+
+        C newValues = Iterate.addAllTo(values, this.createCollection());
+        while (true)
+        {
+            C existingValues = this.map.putIfAbsent(key, newValues);
+            if (existingValues == null)
+            {
+                return (C) newValues.asUnmodifiable();
+            }
+            if (existingValues.notEmpty())
+            {
+                return (C) existingValues.asUnmodifiable();
+            }
+            if (this.map.replace(key, existingValues, newValues))
+            {
+                this.moveRemainingValues(key, existingValues);
+                return (C) newValues.asUnmodifiable();
+            }
+        }
+    }
+
+    protected C getIfAbsentPutCollection(K key)
+    {
+        return this.map.getIfAbsentPutWith(key, this.createCollectionBlock(), this);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.bag;
+
+import java.io.Externalizable;
+
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.bag.ImmutableBagMultimap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.bag.mutable.ConcurrentHashBag;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.AbstractConcurrentMutableMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A Multimap that is safe for concurrent reads and writes, with the values of each key held in a ConcurrentHashBag.
+ * Neither reads nor writes lock, and {@link #get(Object)} returns a live view of the values. Unlike
+ * {@link SynchronizedPutHashBagMultimap}, it can be read while it is being written.
+ *
+ * @see AbstractConcurrentMutableMultimap
+ * @since 10.3
+ */
+public final class ConcurrentHashBagMultimap<K, V>
+        extends AbstractConcurrentMutableMultimap<K, V, MutableBag<V>> implements MutableBagMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 42L;
+
+    public ConcurrentHashBagMultimap()
+    {
+    }
+
+    public ConcurrentHashBagMultimap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ConcurrentHashBagMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentHashBagMultimap(Pair<K, V>... pairs)
+    {
+        ArrayIterate.forEach(pairs, pair -> this.put(pair.getOne(), pair.getTwo()));
+    }
+
+    public ConcurrentHashBagMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        Iterate.forEach(inputIterable, this::add);
+    }
+
+    public static <K, V> ConcurrentHashBagMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentHashBagMultimap<>();
+    }
+
+    public static <K, V> ConcurrentHashBagMultimap<K, V> newMultimap(int initialCapacity)
+    {
+        return new ConcurrentHashBagMultimap<>(initialCapacity);
+    }
+
+    public static <K, V> ConcurrentHashBagMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentHashBagMultimap<>(multimap);
+    }
+
+    public static <K, V> ConcurrentHashBagMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentHashBagMultimap<>(pairs);
+    }
+
+    public static <K, V> ConcurrentHashBagMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentHashBagMultimap<>(inputIterable);
+    }
+
+    @Override
+    protected MutableBag<V> createCollection()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    @Override
+    public ConcurrentHashBagMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentHashBagMultimap<>();
+    }
+
+    @Override
+    public MutableBagMultimap<K, V> toMutable()
+    {
+        return new ConcurrentHashBagMultimap<>(this);
+    }
+
+    @Override
+    public ImmutableBagMultimap<K, V> toImmutable()
+    {
+        MutableMap<K, ImmutableBag<V>> map = UnifiedMap.newMap();
+
+        this.getMap().forEachKeyValue((key, bag) -> map.put(key, bag.toImmutable()));
+
+        return new ImmutableBagMultimapImpl<>(map);
+    }
+
+    @Override
+    public HashBagMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public HashBagMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public HashBagMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public HashBagMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <K2, V2> MutableBagMultimap<K2, V2> collectKeyMultiValues(Function<? super K, ? extends K2> keyFunction, Function<? super V, ? extends V2> valueFunction)
+    {
+        return this.collectKeyMultiValues(keyFunction, valueFunction, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V2> HashBagMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableBagMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    @Override
+    public void putOccurrences(K key, V value, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+
+        if (occurrences > 0)
+        {
+            int remaining = occurrences;
+            while (remaining > 0)
+            {
+                MutableBag<V> bag = this.getIfAbsentPutCollection(key);
+                bag.addOccurrences(value, remaining);
+                if (this.map.get(key) == bag)
+                {
+                    return;
+                }
+                // The bag was removed from the map concurrently, so take back the occurrences that were not moved
+                int added = remaining;
+                remaining = 0;
+                while (remaining < added && bag.remove(value))
+                {
+                    remaining++;
+                }
+            }
+        }
+    }
+
+    @Override
+    public MutableBagMultimap<K, V> asSynchronized()
+    {
+        throw new UnsupportedOperationException("Cannot call asSynchronized() on " + this.getClass().getSimpleName());
+    }
+}
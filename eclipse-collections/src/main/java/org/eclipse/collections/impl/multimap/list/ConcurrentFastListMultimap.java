@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import java.io.Externalizable;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.AbstractConcurrentMutableMultimap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A Multimap that is safe for concurrent reads and writes, with the values of each key held in a list backed by a
+ * {@link ConcurrentLinkedQueue}. Nothing locks: {@link #put(Object, Object)} appends to the list of its key with a
+ * compare-and-set and never copies it, so many threads can put to the same key at once. {@link #get(Object)} returns
+ * a live view of the values. Unlike {@link SynchronizedPutFastListMultimap}, it can be read while it is being written.
+ * <p>
+ * The lists are meant to be appended to and iterated. Their iterators are weakly consistent, and
+ * {@link MutableList#get(int)} walks the list from its start.
+ *
+ * @see AbstractConcurrentMutableMultimap
+ * @since 10.3
+ */
+public final class ConcurrentFastListMultimap<K, V>
+        extends AbstractConcurrentMutableMultimap<K, V, MutableList<V>>
+        implements MutableListMultimap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 42L;
+
+    public ConcurrentFastListMultimap()
+    {
+    }
+
+    public ConcurrentFastListMultimap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ConcurrentFastListMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        this.putAll(multimap);
+    }
+
+    public ConcurrentFastListMultimap(Pair<K, V>... pairs)
+    {
+        this();
+        ArrayIterate.forEach(pairs, pair -> this.put(pair.getOne(), pair.getTwo()));
+    }
+
+    public ConcurrentFastListMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        this();
+        Iterate.forEach(inputIterable, this::add);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap()
+    {
+        return new ConcurrentFastListMultimap<>();
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(int initialCapacity)
+    {
+        return new ConcurrentFastListMultimap<>(initialCapacity);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        return new ConcurrentFastListMultimap<>(multimap);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return new ConcurrentFastListMultimap<>(pairs);
+    }
+
+    public static <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Iterable<Pair<K, V>> inputIterable)
+    {
+        return new ConcurrentFastListMultimap<>(inputIterable);
+    }
+
+    @Override
+    protected MutableList<V> createCollection()
+    {
+        return ListAdapter.adapt(new ConcurrentValueList<>());
+    }
+
+    @Override
+    public ConcurrentFastListMultimap<K, V> newEmpty()
+    {
+        return new ConcurrentFastListMultimap<>();
+    }
+
+    @Override
+    public MutableListMultimap<K, V> toMutable()
+    {
+        return new ConcurrentFastListMultimap<>(this);
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> toImmutable()
+    {
+        MutableMap<K, ImmutableList<V>> map = UnifiedMap.newMap();
+
+        this.getMap().forEachKeyValue((key, list) -> map.put(key, list.toImmutable()));
+
+        return new ImmutableListMultimapImpl<>(map);
+    }
+
+    @Override
+    public MutableBagMultimap<V, K> flip()
+    {
+        return Iterate.flip(this);
+    }
+
+    @Override
+    public FastListMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public FastListMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public FastListMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public FastListMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <K2, V2> HashBagMultimap<K2, V2> collectKeyMultiValues(Function<? super K, ? extends K2> keyFunction, Function<? super V, ? extends V2> valueFunction)
+    {
+        return this.collectKeyMultiValues(keyFunction, valueFunction, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V2> FastListMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableListMultimap<K, V> asSynchronized()
+    {
+        throw new UnsupportedOperationException("Cannot call asSynchronized() on " + this.getClass().getSimpleName());
+    }
+
+    /**
+     * A list that appends to a ConcurrentLinkedQueue of cells. Removing a value marks its cell with a compare-and-set
+     * before unlinking it, so a value is removed at most once and the size, which is kept in a counter, stays exact.
+     */
+    private static final class ConcurrentValueList<V> extends AbstractList<V> implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final ConcurrentLinkedQueue<Cell<V>> cells = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        @Override
+        public boolean add(V value)
+        {
+            this.cells.offer(new Cell<>(value));
+            this.size.incrementAndGet();
+            return true;
+        }
+
+        @Override
+        public void add(int index, V value)
+        {
+            if (index != this.size())
+            {
+                throw new UnsupportedOperationException("Values can only be appended to the end of the list of a key");
+            }
+            this.add(value);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.size.get();
+        }
+
+        private boolean unlink(Cell<V> cell)
+        {
+            if (Cell.REMOVED.compareAndSet(cell, 0, 1))
+            {
+                this.size.decrementAndGet();
+                this.cells.remove(cell);
+                return true;
+            }
+            return false;
+        }
+
+        private Cell<V> cellAt(int index)
+        {
+            if (index >= 0)
+            {
+                int position = 0;
+                for (Cell<V> cell : this.cells)
+                {
+                    if (cell.removed == 0 && position++ == index)
+                    {
+                        return cell;
+                    }
+                }
+            }
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size());
+        }
+
+        @Override
+        public V get(int index)
+        {
+            return this.cellAt(index).value;
+        }
+
+        @Override
+        public V set(int index, V value)
+        {
+            Cell<V> cell = this.cellAt(index);
+            V previous = cell.value;
+            cell.value = value;
+            return previous;
+        }
+
+        @Override
+        public V remove(int index)
+        {
+            while (true)
+            {
+                Cell<V> cell = this.cellAt(index);
+                if (this.unlink(cell))
+                {
+                    return cell.value;
+                }
+            }
+        }
+
+        @Override
+        public boolean remove(Object value)
+        {
+            for (Cell<V> cell : this.cells)
+            {
+                if (cell.removed == 0 && Objects.equals(cell.value, value) && this.unlink(cell))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void clear()
+        {
+            this.cells.forEach(this::unlink);
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator();
+        }
+
+        private Object writeReplace()
+        {
+            return FastList.newList(this);
+        }
+
+        private final class ValueIterator implements Iterator<V>
+        {
+            private final Iterator<Cell<V>> iterator = ConcurrentValueList.this.cells.iterator();
+            private Cell<V> next = this.advance();
+            private Cell<V> last;
+
+            private Cell<V> advance()
+            {
+                while (this.iterator.hasNext())
+                {
+                    Cell<V> cell = this.iterator.next();
+                    if (cell.removed == 0)
+                    {
+                        return cell;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext()
+            {
+                return this.next != null;
+            }
+
+            @Override
+            public V next()
+            {
+                if (this.next == null)
+                {
+                    throw new NoSuchElementException();
+                }
+                this.last = this.next;
+                this.next = this.advance();
+                return this.last.value;
+            }
+
+            @Override
+            public void remove()
+            {
+                if (this.last == null)
+                {
+                    throw new IllegalStateException();
+                }
+                ConcurrentValueList.this.unlink(this.last);
+                this.last = null;
+            }
+        }
+    }
+
+    private static final class Cell<V>
+    {
+        private static final AtomicIntegerFieldUpdater<Cell> REMOVED = AtomicIntegerFieldUpdater.newUpdater(Cell.class, "removed");
+
+        private volatile V value;
+        private volatile int removed;
+
+        private Cell(V value)
+        {
+            this.value = value;
+        }
+    }
+}
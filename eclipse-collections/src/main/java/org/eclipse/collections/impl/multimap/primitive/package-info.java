@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains implementations of multimaps with primitive keys.
+ * <p>
+ *     This package contains the following implementations:
+ * <ul>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.multimap.primitive.IntIntListMultimap} - a multimap from int keys to lists of int values, and similarly for the other combinations of primitive types except boolean.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.multimap.primitive.IntIntSetMultimap} - a multimap from int keys to sets of int values, and similarly for the other combinations of primitive types except boolean.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.multimap.primitive.IntObjectListMultimap} - a multimap from int keys to lists of objects, and similarly for the other primitive types except boolean.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.multimap.primitive.IntObjectSetMultimap} - a multimap from int keys to sets of objects, and similarly for the other primitive types except boolean.
+ *     </li>
+ * </ul>
+ */
+package org.eclipse.collections.impl.multimap.primitive;
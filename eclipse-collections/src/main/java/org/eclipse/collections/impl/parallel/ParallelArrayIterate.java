@@ -13,6 +13,7 @@ package org.eclipse.collections.impl.parallel;
 import java.util.concurrent.Executor;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 
 import static org.eclipse.collections.impl.factory.Iterables.iList;
@@ -73,6 +74,37 @@ public final class ParallelArrayIterate
         }
     }
 
+    /**
+     * Iterate over the array in parallel batches which are sized adaptively from the measured cost of the first
+     * elements, instead of a fixed minimum fork size and task count.
+     *
+     * @see ParallelIterate#forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <T, BT extends Procedure<? super T>> void forEachAdaptive(
+            T[] array,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner)
+    {
+        ParallelArrayIterate.forEachAdaptiveOn(array, procedureFactory, combiner, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * @see #forEachAdaptive(Object[], ProcedureFactory, Combiner)
+     * @since 10.3
+     */
+    public static <T, BT extends Procedure<? super T>> void forEachAdaptiveOn(
+            T[] array,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            Executor executor)
+    {
+        if (ArrayIterate.notEmpty(array))
+        {
+            ParallelIterate.forEachAdaptiveInListOnExecutor(ArrayAdapter.adapt(array), procedureFactory, combiner, executor);
+        }
+    }
+
     private static <T, BT extends Procedure<? super T>> void combineSingleProcedure(Combiner<BT> combiner, BT procedure)
     {
         if (combiner.useCombineOne())
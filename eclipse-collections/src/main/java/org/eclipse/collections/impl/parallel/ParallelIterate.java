@@ -33,6 +33,7 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.MutableMapIterable;
 import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
@@ -43,6 +44,7 @@ import org.eclipse.collections.impl.block.factory.Functions0;
 import org.eclipse.collections.impl.block.procedure.MultimapPutProcedure;
 import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.factory.Maps;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
@@ -52,6 +54,7 @@ import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import org.eclipse.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
 import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.ListIterate;
 
 import static org.eclipse.collections.impl.factory.Iterables.iList;
 
@@ -71,6 +74,13 @@ public final class ParallelIterate
     static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
     static final int TASK_RATIO = 2;
     static final int DEFAULT_PARALLEL_TASK_COUNT = ParallelIterate.getDefaultTaskCount();
+    /**
+     * The adaptive methods aim for tasks which take about this long, which keeps the cost of handing a task to the
+     * executor small compared to the work done by the task.
+     */
+    static final long ADAPTIVE_TARGET_TASK_NANOS = 250_000L;
+    static final int ADAPTIVE_MAX_SAMPLE_SIZE = 1024;
+    static final int ADAPTIVE_MAX_TASK_COUNT = DEFAULT_PARALLEL_TASK_COUNT * 8;
     static final ExecutorService EXECUTOR_SERVICE = ParallelIterate.newPooledExecutor(ParallelIterate.class.getSimpleName(), true);
 
     private ParallelIterate()
@@ -533,6 +543,281 @@ public final class ParallelIterate
         }
     }
 
+    /**
+     * Iterate over the collection specified in parallel batches which are sized adaptively, instead of using a fixed
+     * minimum fork size and task count. The {@code Procedure} used must be stateless, or use concurrent aware objects
+     * if they are to be shared.
+     *
+     * @see #forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <T> void forEachAdaptive(Iterable<T> iterable, Procedure<? super T> procedure)
+    {
+        ParallelIterate.forEachAdaptive(iterable, procedure, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Iterate over the collection specified in parallel batches which are sized adaptively, using the specified
+     * executor. The {@code Procedure} used must be stateless, or use concurrent aware objects if they are to be shared.
+     *
+     * @see #forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <T, BT extends Procedure<? super T>> void forEachAdaptive(
+            Iterable<T> iterable,
+            BT procedure,
+            Executor executor)
+    {
+        ParallelIterate.forEachAdaptive(
+                iterable,
+                new PassThruProcedureFactory<>(procedure),
+                new PassThruCombiner<>(),
+                executor);
+    }
+
+    /**
+     * @see #forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <T, BT extends Procedure<? super T>> void forEachAdaptive(
+            Iterable<T> iterable,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner)
+    {
+        ParallelIterate.forEachAdaptive(iterable, procedureFactory, combiner, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Iterate over the collection specified in parallel batches which are sized adaptively. The first elements are
+     * processed on the calling thread while their cost is measured, and the estimated cost of the remaining elements
+     * then decides how many tasks they are split into. Cheap procedures over small collections run serially, and
+     * expensive procedures are split into more, smaller tasks which balance better across the executor's threads.
+     * <p>
+     * Collections that are not a {@link List} are first converted to a Java array.
+     *
+     * @since 10.3
+     */
+    public static <T, BT extends Procedure<? super T>> void forEachAdaptive(
+            Iterable<T> iterable,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            Executor executor)
+    {
+        if (Iterate.notEmpty(iterable))
+        {
+            if ((iterable instanceof RandomAccess || iterable instanceof ListIterable)
+                    && iterable instanceof List)
+            {
+                ParallelIterate.forEachAdaptiveInListOnExecutor(
+                        (List<T>) iterable,
+                        procedureFactory,
+                        combiner,
+                        executor);
+            }
+            else
+            {
+                ParallelIterate.forEachAdaptiveInListOnExecutor(
+                        ArrayAdapter.adapt((T[]) Iterate.toArray(iterable)),
+                        procedureFactory,
+                        combiner,
+                        executor);
+            }
+        }
+    }
+
+    /**
+     * @see #forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <T, BT extends Procedure<? super T>> void forEachAdaptiveInListOnExecutor(
+            List<T> list,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            Executor executor)
+    {
+        int size = list.size();
+        BT procedure = procedureFactory.create();
+
+        // Sample chunks of doubling size until the sample has taken about as long as one task should
+        int maxSampleSize = Math.min(size, ParallelIterate.ADAPTIVE_MAX_SAMPLE_SIZE);
+        int sampleSize = 0;
+        int chunkSize = 1;
+        long startTime = System.nanoTime();
+        long elapsedNanos = 0L;
+        while (sampleSize < maxSampleSize && elapsedNanos < ParallelIterate.ADAPTIVE_TARGET_TASK_NANOS)
+        {
+            int chunkEnd = Math.min(sampleSize + chunkSize, maxSampleSize);
+            ListIterate.forEach(list, sampleSize, chunkEnd - 1, procedure);
+            sampleSize = chunkEnd;
+            chunkSize <<= 1;
+            elapsedNanos = System.nanoTime() - startTime;
+        }
+
+        int remaining = size - sampleSize;
+        int taskCount = remaining == 0
+                ? 0
+                : ParallelIterate.calculateAdaptiveTaskCount(remaining, (double) Math.max(1L, elapsedNanos) / sampleSize);
+        if (taskCount < 2)
+        {
+            if (remaining > 0)
+            {
+                ListIterate.forEach(list, sampleSize, size - 1, procedure);
+            }
+            if (combiner.useCombineOne())
+            {
+                combiner.combineOne(procedure);
+            }
+            else
+            {
+                combiner.combineAll(iList(procedure));
+            }
+        }
+        else
+        {
+            Combiner<BT> remainingCombiner = combiner;
+            if (combiner.useCombineOne())
+            {
+                combiner.combineOne(procedure);
+            }
+            else
+            {
+                remainingCombiner = new SampledProcedureCombiner<>(procedure, combiner);
+            }
+            ProcedureFJTaskRunner<T, BT> runner =
+                    new ProcedureFJTaskRunner<>(remainingCombiner, taskCount);
+            runner.executeAndCombine(executor, procedureFactory, list.subList(sampleSize, size));
+        }
+    }
+
+    /**
+     * Returns how many tasks the remaining elements should be split into so that each task takes about
+     * {@link #ADAPTIVE_TARGET_TASK_NANOS}, or less than 2 if they should not be split at all.
+     */
+    static int calculateAdaptiveTaskCount(int remaining, double nanosPerElement)
+    {
+        double estimatedNanos = nanosPerElement * remaining;
+        long taskCount = (long) (estimatedNanos / ParallelIterate.ADAPTIVE_TARGET_TASK_NANOS);
+        return (int) Math.min(Math.min(taskCount, ParallelIterate.ADAPTIVE_MAX_TASK_COUNT), remaining);
+    }
+
+    /**
+     * Same effect as {@link #select(Iterable, Predicate, boolean)}, but with batches sized adaptively.
+     *
+     * @see #forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <T> Collection<T> selectAdaptive(
+            Iterable<T> iterable,
+            Predicate<? super T> predicate,
+            boolean allowReorderedResult)
+    {
+        return ParallelIterate.selectAdaptive(iterable, predicate, null, ParallelIterate.EXECUTOR_SERVICE, allowReorderedResult);
+    }
+
+    /**
+     * Same effect as {@link #select(Iterable, Predicate, Collection, int, Executor, boolean)}, but with batches sized
+     * adaptively instead of a fixed batch size.
+     *
+     * @see #forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <T, R extends Collection<T>> R selectAdaptive(
+            Iterable<T> iterable,
+            Predicate<? super T> predicate,
+            R target,
+            Executor executor,
+            boolean allowReorderedResult)
+    {
+        FastListSelectProcedureCombiner<T> combiner = new FastListSelectProcedureCombiner<>(iterable, target, 10, allowReorderedResult);
+        FastListSelectProcedureFactory<T> procedureFactory = new FastListSelectProcedureFactory<>(predicate, 10);
+        ParallelIterate.forEachAdaptive(iterable, procedureFactory, combiner, executor);
+        return (R) combiner.getResult();
+    }
+
+    /**
+     * Same effect as {@link #reject(Iterable, Predicate, boolean)}, but with batches sized adaptively.
+     *
+     * @see #forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <T> Collection<T> rejectAdaptive(
+            Iterable<T> iterable,
+            Predicate<? super T> predicate,
+            boolean allowReorderedResult)
+    {
+        return ParallelIterate.rejectAdaptive(iterable, predicate, null, ParallelIterate.EXECUTOR_SERVICE, allowReorderedResult);
+    }
+
+    /**
+     * Same effect as {@link #reject(Iterable, Predicate, Collection, int, Executor, boolean)}, but with batches sized
+     * adaptively instead of a fixed batch size.
+     *
+     * @see #forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <T, R extends Collection<T>> R rejectAdaptive(
+            Iterable<T> iterable,
+            Predicate<? super T> predicate,
+            R target,
+            Executor executor,
+            boolean allowReorderedResult)
+    {
+        FastListRejectProcedureCombiner<T> combiner = new FastListRejectProcedureCombiner<>(iterable, target, 10, allowReorderedResult);
+        FastListRejectProcedureFactory<T> procedureFactory = new FastListRejectProcedureFactory<>(predicate, 10);
+        ParallelIterate.forEachAdaptive(iterable, procedureFactory, combiner, executor);
+        return (R) combiner.getResult();
+    }
+
+    /**
+     * Same effect as {@link #collect(Iterable, Function, boolean)}, but with batches sized adaptively.
+     *
+     * @see #forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <T, V> Collection<V> collectAdaptive(
+            Iterable<T> iterable,
+            Function<? super T, V> function,
+            boolean allowReorderedResult)
+    {
+        return ParallelIterate.collectAdaptive(iterable, function, null, ParallelIterate.EXECUTOR_SERVICE, allowReorderedResult);
+    }
+
+    /**
+     * Same effect as {@link #collect(Iterable, Function, Collection, int, Executor, boolean)}, but with batches sized
+     * adaptively instead of a fixed batch size.
+     *
+     * @see #forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <T, V, R extends Collection<V>> R collectAdaptive(
+            Iterable<T> iterable,
+            Function<? super T, V> function,
+            R target,
+            Executor executor,
+            boolean allowReorderedResult)
+    {
+        int size = Iterate.sizeOf(iterable);
+        FastListCollectProcedureCombiner<T, V> combiner = new FastListCollectProcedureCombiner<>(iterable, target, size, allowReorderedResult);
+        FastListCollectProcedureFactory<T, V> procedureFactory = new FastListCollectProcedureFactory<>(function, size / ParallelIterate.DEFAULT_PARALLEL_TASK_COUNT);
+        ParallelIterate.forEachAdaptive(iterable, procedureFactory, combiner, executor);
+        return (R) combiner.getResult();
+    }
+
+    /**
+     * Same effect as {@link #count(Iterable, Predicate, int, Executor)}, but with batches sized adaptively instead of
+     * a fixed batch size.
+     *
+     * @see #forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <T> int countAdaptive(Iterable<T> iterable, Predicate<? super T> predicate, Executor executor)
+    {
+        CountCombiner<T> combiner = new CountCombiner<>();
+        CountProcedureFactory<T> procedureFactory = new CountProcedureFactory<>(predicate);
+        ParallelIterate.forEachAdaptive(iterable, procedureFactory, combiner, executor);
+        return combiner.getCount();
+    }
+
     /**
      * Same effect as {@link Iterate#select(Iterable, Predicate)}, but executed in parallel batches.
      *
@@ -1377,6 +1662,44 @@ public final class ParallelIterate
         return TASK_RATIO;
     }
 
+    /**
+     * Combines the procedure which processed the sample ahead of the procedures for the rest of the list, so ordered
+     * combiners still see the results in order.
+     */
+    private static final class SampledProcedureCombiner<BT> implements Combiner<BT>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final BT sampledProcedure;
+        private final Combiner<BT> combiner;
+
+        private SampledProcedureCombiner(BT sampledProcedure, Combiner<BT> combiner)
+        {
+            this.sampledProcedure = sampledProcedure;
+            this.combiner = combiner;
+        }
+
+        @Override
+        public void combineAll(Iterable<BT> thingsToCombine)
+        {
+            MutableList<BT> allThingsToCombine = Lists.mutable.with(this.sampledProcedure);
+            Iterate.addAllTo(thingsToCombine, allThingsToCombine);
+            this.combiner.combineAll(allThingsToCombine);
+        }
+
+        @Override
+        public void combineOne(BT thingToCombine)
+        {
+            this.combiner.combineOne(thingToCombine);
+        }
+
+        @Override
+        public boolean useCombineOne()
+        {
+            return this.combiner.useCombineOne();
+        }
+    }
+
     private static final class SumByDoubleProcedure<T, V> implements Procedure<T>, ProcedureFactory<SumByDoubleProcedure<T, V>>
     {
         private final MutableMap<V, DoubleDoublePair> map = Maps.mutable.of();
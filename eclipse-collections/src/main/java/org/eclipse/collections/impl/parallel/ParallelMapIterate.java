@@ -111,6 +111,43 @@ public final class ParallelMapIterate
         }
     }
 
+    /**
+     * A parallel form of forEachKeyValue which sizes its batches adaptively from the measured cost of the first
+     * entries.
+     *
+     * @see MapIterate#forEachKeyValue(Map, Procedure2)
+     * @see ParallelIterate#forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <K, V> void forEachKeyValueAdaptive(Map<K, V> map, Procedure2<? super K, ? super V> procedure)
+    {
+        ParallelMapIterate.forEachKeyValueAdaptive(map, procedure, ParallelIterate.EXECUTOR_SERVICE);
+    }
+
+    /**
+     * A parallel form of forEachKeyValue which sizes its batches adaptively from the measured cost of the first
+     * entries.
+     *
+     * @see MapIterate#forEachKeyValue(Map, Procedure2)
+     * @see ParallelIterate#forEachAdaptive(Iterable, ProcedureFactory, Combiner, Executor)
+     * @since 10.3
+     */
+    public static <K, V> void forEachKeyValueAdaptive(
+            Map<K, V> map,
+            Procedure2<? super K, ? super V> procedure,
+            Executor executor)
+    {
+        if (!map.isEmpty())
+        {
+            Procedure<Pair<K, V>> pairProcedure = new PairProcedure<>(procedure);
+            ParallelIterate.forEachAdaptiveInListOnExecutor(
+                    MapIterate.toListOfPairs(map),
+                    new PassThruProcedureFactory<>(pairProcedure),
+                    new PassThruCombiner<>(),
+                    executor);
+        }
+    }
+
     private static final class PairProcedure<T1, T2> implements Procedure<Pair<T1, T2>>
     {
         private static final long serialVersionUID = 1L;
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.queue.mutable;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.BooleanFunction;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.FloatFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.collection.ImmutableCollection;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.collection.primitive.MutableBooleanCollection;
+import org.eclipse.collections.api.collection.primitive.MutableByteCollection;
+import org.eclipse.collections.api.collection.primitive.MutableCharCollection;
+import org.eclipse.collections.api.collection.primitive.MutableDoubleCollection;
+import org.eclipse.collections.api.collection.primitive.MutableFloatCollection;
+import org.eclipse.collections.api.collection.primitive.MutableIntCollection;
+import org.eclipse.collections.api.collection.primitive.MutableLongCollection;
+import org.eclipse.collections.api.collection.primitive.MutableShortCollection;
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.api.partition.PartitionMutableCollection;
+import org.eclipse.collections.api.queue.MutableQueue;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Predicates2;
+import org.eclipse.collections.impl.block.procedure.PartitionPredicate2Procedure;
+import org.eclipse.collections.impl.block.procedure.PartitionProcedure;
+import org.eclipse.collections.impl.collection.mutable.AbstractMutableCollection;
+import org.eclipse.collections.impl.collection.mutable.SynchronizedMutableCollection;
+import org.eclipse.collections.impl.collection.mutable.UnmodifiableMutableCollection;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.mutable.primitive.BooleanArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.ByteArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.CharArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.FloatArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.ShortArrayList;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+import org.eclipse.collections.impl.partition.list.PartitionFastList;
+
+/**
+ * AbstractMutableQueue implements the {@link MutableQueue} API on top of {@link #offer(Object)}, {@link #poll()},
+ * {@link #peek()} and {@link #each(Procedure)}. Methods that return a new queue return a {@link RingBufferDeque}
+ * in iteration order.
+ * <p>
+ * Like the queues in {@code java.util}, queues use identity for {@link #equals(Object)} and {@link #hashCode()}.
+ *
+ * @since 10.3
+ */
+public abstract class AbstractMutableQueue<T>
+        extends AbstractMutableCollection<T>
+        implements MutableQueue<T>
+{
+    @Override
+    public boolean add(T element)
+    {
+        if (this.offer(element))
+        {
+            return true;
+        }
+        throw new IllegalStateException("Queue full");
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+        return this.removeIfWith(Predicates2.in(), collection);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection)
+    {
+        return this.removeIfWith(Predicates2.notIn(), collection);
+    }
+
+    @Override
+    public T remove()
+    {
+        T element = this.poll();
+        if (element == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return element;
+    }
+
+    @Override
+    public T element()
+    {
+        T element = this.peek();
+        if (element == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return element;
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.peek();
+    }
+
+    @Override
+    public T getLast()
+    {
+        T last = null;
+        Iterator<T> iterator = this.iterator();
+        while (iterator.hasNext())
+        {
+            last = iterator.next();
+        }
+        return last;
+    }
+
+    @Override
+    public MutableQueue<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public MutableQueue<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public MutableQueue<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public MutableQueue<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public MutableQueue<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    @Override
+    public MutableQueue<T> select(Predicate<? super T> predicate)
+    {
+        return this.select(predicate, RingBufferDeque.newDeque());
+    }
+
+    @Override
+    public <P> MutableQueue<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.selectWith(predicate, parameter, RingBufferDeque.newDeque());
+    }
+
+    @Override
+    public MutableQueue<T> reject(Predicate<? super T> predicate)
+    {
+        return this.reject(predicate, RingBufferDeque.newDeque());
+    }
+
+    @Override
+    public <P> MutableQueue<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.rejectWith(predicate, parameter, RingBufferDeque.newDeque());
+    }
+
+    @Override
+    public PartitionMutableCollection<T> partition(Predicate<? super T> predicate)
+    {
+        PartitionFastList<T> partitionFastList = new PartitionFastList<>();
+        this.forEach(new PartitionProcedure<>(predicate, partitionFastList));
+        return partitionFastList;
+    }
+
+    @Override
+    public <P> PartitionMutableCollection<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        PartitionFastList<T> partitionFastList = new PartitionFastList<>();
+        this.forEach(new PartitionPredicate2Procedure<>(predicate, parameter, partitionFastList));
+        return partitionFastList;
+    }
+
+    @Override
+    public <S> MutableQueue<S> selectInstancesOf(Class<S> clazz)
+    {
+        RingBufferDeque<S> result = RingBufferDeque.newDeque();
+        this.forEach(each -> {
+            if (clazz.isInstance(each))
+            {
+                result.add(clazz.cast(each));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public <V> MutableQueue<V> collect(Function<? super T, ? extends V> function)
+    {
+        return this.collect(function, RingBufferDeque.newDeque());
+    }
+
+    @Override
+    public MutableBooleanCollection collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return this.collectBoolean(booleanFunction, new BooleanArrayList(this.size()));
+    }
+
+    @Override
+    public MutableByteCollection collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return this.collectByte(byteFunction, new ByteArrayList(this.size()));
+    }
+
+    @Override
+    public MutableCharCollection collectChar(CharFunction<? super T> charFunction)
+    {
+        return this.collectChar(charFunction, new CharArrayList(this.size()));
+    }
+
+    @Override
+    public MutableDoubleCollection collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return this.collectDouble(doubleFunction, new DoubleArrayList(this.size()));
+    }
+
+    @Override
+    public MutableFloatCollection collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return this.collectFloat(floatFunction, new FloatArrayList(this.size()));
+    }
+
+    @Override
+    public MutableIntCollection collectInt(IntFunction<? super T> intFunction)
+    {
+        return this.collectInt(intFunction, new IntArrayList(this.size()));
+    }
+
+    @Override
+    public MutableLongCollection collectLong(LongFunction<? super T> longFunction)
+    {
+        return this.collectLong(longFunction, new LongArrayList(this.size()));
+    }
+
+    @Override
+    public MutableShortCollection collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return this.collectShort(shortFunction, new ShortArrayList(this.size()));
+    }
+
+    @Override
+    public <P, V> MutableQueue<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return this.collectWith(function, parameter, RingBufferDeque.newDeque());
+    }
+
+    @Override
+    public <V> MutableQueue<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return this.collectIf(predicate, function, RingBufferDeque.newDeque());
+    }
+
+    @Override
+    public <V> MutableQueue<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.flatCollect(function, RingBufferDeque.newDeque());
+    }
+
+    @Override
+    public <V> MutableMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public <V> MutableMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public <S> MutableQueue<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return this.zip(that, RingBufferDeque.newDeque());
+    }
+
+    @Override
+    public MutableQueue<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(RingBufferDeque.newDeque());
+    }
+
+    @Override
+    public MutableCollection<T> asUnmodifiable()
+    {
+        return UnmodifiableMutableCollection.of(this);
+    }
+
+    @Override
+    public MutableCollection<T> asSynchronized()
+    {
+        return SynchronizedMutableCollection.of(this);
+    }
+
+    @Override
+    public ImmutableCollection<T> toImmutable()
+    {
+        return Lists.immutable.withAll(this);
+    }
+}
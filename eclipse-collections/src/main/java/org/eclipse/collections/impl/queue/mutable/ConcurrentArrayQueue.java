@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.queue.mutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+
+/**
+ * ConcurrentArrayQueue is a bounded, lock-free {@link org.eclipse.collections.api.queue.MutableQueue} for any number of
+ * producer and consumer threads. It is a ring of slots, each with a sequence number that tells producers and consumers
+ * whether the slot is ready for them, so {@link #offer(Object)} and {@link #poll()} each take a single compare-and-set
+ * on the tail or head position when there is no contention.
+ * <p>
+ * The capacity is rounded up to a power of two. {@link #offer(Object)} returns false and {@link #add(Object)} throws
+ * {@link IllegalStateException} when the queue is full.
+ * <p>
+ * Iteration is weakly consistent: it never throws {@link java.util.ConcurrentModificationException} and sees the
+ * elements that are still in the queue as it passes them. {@link #size()} is an estimate while other threads are
+ * modifying the queue. Null is not supported.
+ * <p>
+ * Removing an element from the middle, through {@link #remove(Object)}, the iterator, or the bulk methods built on
+ * them like {@code removeIf} and {@code retainAll}, replaces it with a tombstone by a compare-and-set on its slot.
+ * The slot keeps its place in the ring until it reaches the head, where {@link #poll()} discards it, so the capacity
+ * it takes is only given back once the elements before it have been consumed.
+ *
+ * @since 10.3
+ */
+public final class ConcurrentArrayQueue<T>
+        extends AbstractMutableQueue<T>
+{
+    /**
+     * Marks a slot whose element has been removed before reaching the head.
+     */
+    private static final Object TOMBSTONE = new Object();
+
+    private final int mask;
+    private final AtomicReferenceArray<Object> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The number of tombstones between the head and the tail, which {@link #size()} leaves out.
+     */
+    private final AtomicLong tombstones = new AtomicLong();
+
+    private ConcurrentArrayQueue(int capacity)
+    {
+        if (capacity < 1)
+        {
+            throw new IllegalArgumentException("Capacity must be positive but was " + capacity);
+        }
+        int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        if (length < 0)
+        {
+            throw new IllegalArgumentException("Capacity too large: " + capacity);
+        }
+        this.mask = length - 1;
+        this.buffer = new AtomicReferenceArray<>(length);
+        this.sequences = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++)
+        {
+            this.sequences.set(i, i);
+        }
+    }
+
+    public static <T> ConcurrentArrayQueue<T> newQueue(int capacity)
+    {
+        return new ConcurrentArrayQueue<>(capacity);
+    }
+
+    public int getCapacity()
+    {
+        return this.mask + 1;
+    }
+
+    @Override
+    public ConcurrentArrayQueue<T> newEmpty()
+    {
+        return new ConcurrentArrayQueue<>(this.getCapacity());
+    }
+
+    @Override
+    public boolean offer(T element)
+    {
+        Objects.requireNonNull(element, "Null is not supported");
+        while (true)
+        {
+            long position = this.tail.get();
+            int index = (int) position & this.mask;
+            long sequence = this.sequences.get(index);
+            if (sequence == position)
+            {
+                if (this.tail.compareAndSet(position, position + 1))
+                {
+                    this.buffer.set(index, element);
+                    // Publishes the element to consumers
+                    this.sequences.set(index, position + 1);
+                    return true;
+                }
+            }
+            else if (sequence < position)
+            {
+                // The slot still holds the element from the previous lap, so the queue is full
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public T poll()
+    {
+        while (true)
+        {
+            long position = this.head.get();
+            int index = (int) position & this.mask;
+            long sequence = this.sequences.get(index);
+            if (sequence == position + 1)
+            {
+                if (this.head.compareAndSet(position, position + 1))
+                {
+                    // Clearing the slot atomically makes a concurrent remove of this element fail
+                    Object element = this.buffer.getAndSet(index, null);
+                    // Releases the slot to the producer of the next lap
+                    this.sequences.set(index, position + this.mask + 1);
+                    if (element == TOMBSTONE)
+                    {
+                        this.tombstones.decrementAndGet();
+                    }
+                    else
+                    {
+                        return (T) element;
+                    }
+                }
+            }
+            else if (sequence < position + 1)
+            {
+                // The slot has not been published yet, so the queue is empty
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public T peek()
+    {
+        while (true)
+        {
+            long position = this.head.get();
+            int index = (int) position & this.mask;
+            long sequence = this.sequences.get(index);
+            if (sequence < position + 1)
+            {
+                return null;
+            }
+            Object element = this.buffer.get(index);
+            if (element == TOMBSTONE)
+            {
+                this.discardHead(position, index);
+            }
+            else if (element != null && this.head.get() == position)
+            {
+                return (T) element;
+            }
+        }
+    }
+
+    /**
+     * Consumes the tombstone at the head, if no other thread has consumed it first.
+     */
+    private void discardHead(long position, int index)
+    {
+        if (this.head.compareAndSet(position, position + 1))
+        {
+            this.buffer.set(index, null);
+            this.sequences.set(index, position + this.mask + 1);
+            this.tombstones.decrementAndGet();
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        // Reading the head first means the tail can only be ahead of it
+        long head = this.head.get();
+        long tail = this.tail.get();
+        long size = tail - head - this.tombstones.get();
+        return (int) Math.max(0L, Math.min(size, this.mask + 1L));
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return o != null && this.anySatisfy(o::equals);
+    }
+
+    /**
+     * Removes the first element that is equal to {@code o} by replacing it with a tombstone. An element that is polled
+     * concurrently is either polled or removed, never both.
+     */
+    @Override
+    public boolean remove(Object o)
+    {
+        if (o == null)
+        {
+            return false;
+        }
+        long head = this.head.get();
+        long tail = this.tail.get();
+        for (long position = head; position < tail; position++)
+        {
+            int index = (int) position & this.mask;
+            Object element = this.published(position, index);
+            if (element != null && o.equals(element) && this.removeSlot(index, element))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the live element of the slot at the given position, or null if it has not been published yet, has been
+     * consumed, or has been removed.
+     */
+    private Object published(long position, int index)
+    {
+        if (this.sequences.get(index) != position + 1)
+        {
+            return null;
+        }
+        Object element = this.buffer.get(index);
+        // The slot may have been consumed, and reused, while it was being read
+        if (element == TOMBSTONE || this.sequences.get(index) != position + 1)
+        {
+            return null;
+        }
+        return element;
+    }
+
+    private boolean removeSlot(int index, Object element)
+    {
+        if (this.buffer.compareAndSet(index, element, TOMBSTONE))
+        {
+            this.tombstones.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear()
+    {
+        T element = this.poll();
+        while (element != null)
+        {
+            element = this.poll();
+        }
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        long head = this.head.get();
+        long tail = this.tail.get();
+        for (long position = head; position < tail; position++)
+        {
+            Object element = this.published(position, (int) position & this.mask);
+            if (element != null)
+            {
+                procedure.value((T) element);
+            }
+        }
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the slots between the head and the tail at the time it is created.
+     * Removing through the iterator removes the element from its slot, unless it has been polled in the meantime.
+     */
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new SlotIterator();
+    }
+
+    private final class SlotIterator implements Iterator<T>
+    {
+        private final long end = ConcurrentArrayQueue.this.tail.get();
+        private long position = ConcurrentArrayQueue.this.head.get();
+        private Object next;
+        private int nextIndex;
+        private Object last;
+        private int lastIndex = -1;
+
+        private SlotIterator()
+        {
+            this.advance();
+        }
+
+        private void advance()
+        {
+            this.next = null;
+            while (this.next == null && this.position < this.end)
+            {
+                this.nextIndex = (int) this.position & ConcurrentArrayQueue.this.mask;
+                this.next = ConcurrentArrayQueue.this.published(this.position, this.nextIndex);
+                this.position++;
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.next != null;
+        }
+
+        @Override
+        public T next()
+        {
+            if (this.next == null)
+            {
+                throw new NoSuchElementException();
+            }
+            this.last = this.next;
+            this.lastIndex = this.nextIndex;
+            this.advance();
+            return (T) this.last;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.lastIndex < 0)
+            {
+                throw new IllegalStateException("next() must be called as many times as remove()");
+            }
+            ConcurrentArrayQueue.this.removeSlot(this.lastIndex, this.last);
+            this.last = null;
+            this.lastIndex = -1;
+        }
+    }
+}
@@ -0,0 +1,517 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.queue.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.queue.MutableDeque;
+
+/**
+ * RingBufferDeque is a {@link MutableDeque} backed by a circular array, like {@link java.util.ArrayDeque}. Adding and
+ * removing at either end is amortized constant time, and the array doubles in size when it is full. Removing from the
+ * middle moves the elements on the shorter side of the removed element.
+ * <p>
+ * Unlike ArrayDeque, null elements are supported, so that the results of {@link #collect} may contain null. As with
+ * {@link java.util.LinkedList}, {@link #poll()} and {@link #peek()} cannot tell an empty deque from a null element;
+ * use {@link #isEmpty()}, {@link #remove()} or {@link #element()} for that.
+ *
+ * @since 10.3
+ */
+public class RingBufferDeque<T>
+        extends AbstractMutableQueue<T>
+        implements MutableDeque<T>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private T[] items;
+    private int head;
+    private int size;
+
+    public RingBufferDeque()
+    {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public RingBufferDeque(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.items = (T[]) new Object[RingBufferDeque.capacityFor(initialCapacity)];
+    }
+
+    public static <T> RingBufferDeque<T> newDeque()
+    {
+        return new RingBufferDeque<>();
+    }
+
+    public static <T> RingBufferDeque<T> newDeque(int initialCapacity)
+    {
+        return new RingBufferDeque<>(initialCapacity);
+    }
+
+    public static <T> RingBufferDeque<T> newDeque(Iterable<? extends T> items)
+    {
+        RingBufferDeque<T> deque = new RingBufferDeque<>();
+        deque.addAllIterable(items);
+        return deque;
+    }
+
+    public static <T> RingBufferDeque<T> newDequeWith(T... items)
+    {
+        RingBufferDeque<T> deque = new RingBufferDeque<>(items.length);
+        for (T item : items)
+        {
+            deque.addLast(item);
+        }
+        return deque;
+    }
+
+    private static int capacityFor(int minimumCapacity)
+    {
+        if (minimumCapacity <= 2)
+        {
+            return 2;
+        }
+        int capacity = Integer.highestOneBit(minimumCapacity - 1) << 1;
+        if (capacity < 0)
+        {
+            throw new IllegalArgumentException("Capacity too large: " + minimumCapacity);
+        }
+        return capacity;
+    }
+
+    private int index(int position)
+    {
+        return (this.head + position) & (this.items.length - 1);
+    }
+
+    private void ensureCapacityForOneMore()
+    {
+        if (this.size == this.items.length)
+        {
+            int newLength = this.items.length << 1;
+            if (newLength < 0)
+            {
+                throw new IllegalStateException("Deque too large");
+            }
+            T[] newItems = (T[]) new Object[newLength];
+            int firstPart = Math.min(this.size, this.items.length - this.head);
+            System.arraycopy(this.items, this.head, newItems, 0, firstPart);
+            System.arraycopy(this.items, 0, newItems, firstPart, this.size - firstPart);
+            this.items = newItems;
+            this.head = 0;
+        }
+    }
+
+    @Override
+    public RingBufferDeque<T> with(T element)
+    {
+        this.addLast(element);
+        return this;
+    }
+
+    @Override
+    public RingBufferDeque<T> without(T element)
+    {
+        this.removeFirstOccurrence(element);
+        return this;
+    }
+
+    @Override
+    public RingBufferDeque<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public RingBufferDeque<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public RingBufferDeque<T> newEmpty()
+    {
+        return RingBufferDeque.newDeque();
+    }
+
+    @Override
+    public RingBufferDeque<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    @Override
+    public void addFirst(T element)
+    {
+        this.ensureCapacityForOneMore();
+        this.head = (this.head - 1) & (this.items.length - 1);
+        this.items[this.head] = element;
+        this.size++;
+    }
+
+    @Override
+    public void addLast(T element)
+    {
+        this.ensureCapacityForOneMore();
+        this.items[this.index(this.size)] = element;
+        this.size++;
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        this.addLast(element);
+        return true;
+    }
+
+    @Override
+    public boolean offer(T element)
+    {
+        this.addLast(element);
+        return true;
+    }
+
+    @Override
+    public boolean offerFirst(T element)
+    {
+        this.addFirst(element);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(T element)
+    {
+        this.addLast(element);
+        return true;
+    }
+
+    @Override
+    public void push(T element)
+    {
+        this.addFirst(element);
+    }
+
+    @Override
+    public T pollFirst()
+    {
+        if (this.size == 0)
+        {
+            return null;
+        }
+        T element = this.items[this.head];
+        this.items[this.head] = null;
+        this.head = (this.head + 1) & (this.items.length - 1);
+        this.size--;
+        return element;
+    }
+
+    @Override
+    public T pollLast()
+    {
+        if (this.size == 0)
+        {
+            return null;
+        }
+        int index = this.index(this.size - 1);
+        T element = this.items[index];
+        this.items[index] = null;
+        this.size--;
+        return element;
+    }
+
+    @Override
+    public T poll()
+    {
+        return this.pollFirst();
+    }
+
+    @Override
+    public T removeFirst()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return this.pollFirst();
+    }
+
+    @Override
+    public T removeLast()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return this.pollLast();
+    }
+
+    @Override
+    public T remove()
+    {
+        return this.removeFirst();
+    }
+
+    @Override
+    public T pop()
+    {
+        return this.removeFirst();
+    }
+
+    @Override
+    public T peekFirst()
+    {
+        return this.size == 0 ? null : this.items[this.head];
+    }
+
+    @Override
+    public T peekLast()
+    {
+        return this.size == 0 ? null : this.items[this.index(this.size - 1)];
+    }
+
+    @Override
+    public T peek()
+    {
+        return this.peekFirst();
+    }
+
+    @Override
+    public T element()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return this.items[this.head];
+    }
+
+    @Override
+    public T getAny()
+    {
+        return this.peekFirst();
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.element();
+    }
+
+    @Override
+    public T getLast()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return this.items[this.index(this.size - 1)];
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        return this.removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (Objects.equals(o, this.items[this.index(i)]))
+            {
+                this.removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o)
+    {
+        for (int i = this.size - 1; i >= 0; i--)
+        {
+            if (Objects.equals(o, this.items[this.index(i)]))
+            {
+                this.removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the element at the given position from the first element. The positions of the elements after it
+     * decrease by one, whichever side is moved.
+     */
+    private void removeAt(int position)
+    {
+        if (position < this.size >> 1)
+        {
+            for (int i = position; i > 0; i--)
+            {
+                this.items[this.index(i)] = this.items[this.index(i - 1)];
+            }
+            this.items[this.head] = null;
+            this.head = (this.head + 1) & (this.items.length - 1);
+        }
+        else
+        {
+            for (int i = position; i < this.size - 1; i++)
+            {
+                this.items[this.index(i)] = this.items[this.index(i + 1)];
+            }
+            this.items[this.index(this.size - 1)] = null;
+        }
+        this.size--;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            if (Objects.equals(o, this.items[this.index(i)]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            this.items[this.index(i)] = null;
+        }
+        this.head = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            procedure.value(this.items[this.index(i)]);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new RingBufferIterator(false);
+    }
+
+    @Override
+    public Iterator<T> descendingIterator()
+    {
+        return new RingBufferIterator(true);
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size);
+        for (int i = 0; i < this.size; i++)
+        {
+            out.writeObject(this.items[this.index(i)]);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.items = (T[]) new Object[RingBufferDeque.capacityFor(size)];
+        this.head = 0;
+        this.size = 0;
+        for (int i = 0; i < size; i++)
+        {
+            this.addLast((T) in.readObject());
+        }
+    }
+
+    private final class RingBufferIterator implements Iterator<T>
+    {
+        private final boolean descending;
+        private int position;
+        private int lastReturned = -1;
+
+        private RingBufferIterator(boolean descending)
+        {
+            this.descending = descending;
+            this.position = descending ? RingBufferDeque.this.size - 1 : 0;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.descending ? this.position >= 0 : this.position < RingBufferDeque.this.size;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.position;
+            this.position += this.descending ? -1 : 1;
+            return RingBufferDeque.this.items[RingBufferDeque.this.index(this.lastReturned)];
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.lastReturned < 0)
+            {
+                throw new IllegalStateException();
+            }
+            RingBufferDeque.this.removeAt(this.lastReturned);
+            if (!this.descending)
+            {
+                this.position = this.lastReturned;
+            }
+            this.lastReturned = -1;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains implementations of the {@link org.eclipse.collections.api.queue.MutableQueue} and
+ * {@link org.eclipse.collections.api.queue.MutableDeque} interfaces.
+ * <p>
+ *     This package contains 2 queue implementations:
+ * <ul>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.queue.mutable.RingBufferDeque} - a MutableDeque backed by a growable circular array.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.queue.mutable.ConcurrentArrayQueue} - a bounded, lock-free MutableQueue for any number of producer and consumer threads.
+ *     </li>
+ * </ul>
+ */
+package org.eclipse.collections.impl.queue.mutable;
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains mutable deques and priority queues of primitive values.
+ * <p>
+ *     This package contains the following implementations:
+ * <ul>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.queue.mutable.primitive.IntArrayDeque} - a deque of int values backed by a circular array, optionally with a fixed capacity that overwrites the oldest value, and similarly for the other primitive types except boolean.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.queue.mutable.primitive.IntHeap} - a min or max heap of int values, and similarly for the other primitive types except boolean.
+ *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.queue.mutable.primitive.ObjectIntHeap} - an indexed heap of objects keyed by an int priority, supporting decreaseKey, and similarly for the other primitive types except boolean.
+ *     </li>
+ * </ul>
+ */
+package org.eclipse.collections.impl.queue.mutable.primitive;
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+
+import org.eclipse.collections.api.set.Pool;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+/**
+ * ConcurrentPool is a thread-safe {@link Pool}, for interning equal objects from several threads into one canonical
+ * instance. The pooled objects are held in a {@link ConcurrentHashMap}, each one mapped to itself, so
+ * {@link #put(Object)} is a lock-free get-or-put: threads that pool equal objects at the same time all get back the
+ * same instance, and pooling objects that are not equal does not contend unless they hash to the same bucket.
+ * <p>
+ * A pool created with {@link #newWeakPool()} holds its objects weakly, so that a canonical instance that is no longer
+ * used anywhere else can be garbage collected. The entries of collected objects are removed a few at a time by later
+ * calls to {@link #put(Object)} and {@link #removeFromPool(Object)}, and are counted by {@link #size()} until then.
+ * <p>
+ * Null is not supported.
+ *
+ * @since 10.3
+ */
+public final class ConcurrentPool<T>
+        implements Pool<T>
+{
+    /**
+     * The maximum number of collected objects whose entries a single write removes.
+     */
+    private static final int EXPUNGE_BATCH_SIZE = 16;
+
+    private final ConcurrentHashMap<Object, Object> table;
+    private final ReferenceQueue<T> queue;
+
+    private ConcurrentPool(int initialCapacity, boolean weak)
+    {
+        this.table = ConcurrentHashMap.newMap(initialCapacity);
+        this.queue = weak ? new ReferenceQueue<>() : null;
+    }
+
+    public static <T> ConcurrentPool<T> newPool()
+    {
+        return new ConcurrentPool<>(16, false);
+    }
+
+    public static <T> ConcurrentPool<T> newPool(int initialCapacity)
+    {
+        return new ConcurrentPool<>(initialCapacity, false);
+    }
+
+    /**
+     * Creates a pool that holds its objects weakly.
+     */
+    public static <T> ConcurrentPool<T> newWeakPool()
+    {
+        return new ConcurrentPool<>(16, true);
+    }
+
+    /**
+     * Creates a pool that holds its objects weakly.
+     */
+    public static <T> ConcurrentPool<T> newWeakPool(int initialCapacity)
+    {
+        return new ConcurrentPool<>(initialCapacity, true);
+    }
+
+    public boolean isWeak()
+    {
+        return this.queue != null;
+    }
+
+    @Override
+    public T get(T key)
+    {
+        if (key == null)
+        {
+            return null;
+        }
+        if (this.queue == null)
+        {
+            return (T) this.table.get(key);
+        }
+        return ConcurrentPool.referentOf(this.table.get(new LookupElement(key)));
+    }
+
+    @Override
+    public T put(T key)
+    {
+        Objects.requireNonNull(key, "Null is not supported");
+        if (this.queue == null)
+        {
+            return (T) this.table.getIfAbsentPut(key, key);
+        }
+
+        this.expungeCollectedElements();
+        T pooled = this.get(key);
+        if (pooled != null)
+        {
+            return pooled;
+        }
+        WeakElement<T> element = new WeakElement<>(key, this.queue);
+        while (true)
+        {
+            Object existing = this.table.putIfAbsent(element, element);
+            if (existing == null)
+            {
+                return key;
+            }
+            pooled = ConcurrentPool.referentOf(existing);
+            if (pooled != null)
+            {
+                return pooled;
+            }
+            // The pooled object was collected after it was matched, so its entry can never match again
+            this.table.remove(existing, existing);
+        }
+    }
+
+    @Override
+    public T removeFromPool(T key)
+    {
+        if (key == null)
+        {
+            return null;
+        }
+        if (this.queue == null)
+        {
+            return (T) this.table.remove(key);
+        }
+        this.expungeCollectedElements();
+        return ConcurrentPool.referentOf(this.table.remove(new LookupElement(key)));
+    }
+
+    @Override
+    public int size()
+    {
+        return this.table.size();
+    }
+
+    @Override
+    public void clear()
+    {
+        this.table.clear();
+    }
+
+    private static <T> T referentOf(Object element)
+    {
+        return element == null ? null : ((WeakElement<T>) element).get();
+    }
+
+    private void expungeCollectedElements()
+    {
+        for (int i = 0; i < EXPUNGE_BATCH_SIZE; i++)
+        {
+            Reference<? extends T> reference = this.queue.poll();
+            if (reference == null)
+            {
+                return;
+            }
+            this.table.remove(reference, reference);
+        }
+    }
+
+    /**
+     * A weakly held pooled object. It caches the hash code of its referent, so that its entry can still be removed
+     * after the referent has been collected. A collected element is only equal to itself.
+     */
+    private static final class WeakElement<T> extends WeakReference<T>
+    {
+        private final int hashCode;
+
+        private WeakElement(T referent, ReferenceQueue<T> queue)
+        {
+            super(referent, queue);
+            this.hashCode = referent.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (o == this)
+            {
+                return true;
+            }
+            T referent = this.get();
+            if (referent == null)
+            {
+                return false;
+            }
+            if (o instanceof WeakElement)
+            {
+                return referent.equals(((WeakElement<?>) o).get());
+            }
+            return o instanceof LookupElement && referent.equals(((LookupElement) o).key);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+
+    /**
+     * A strongly held object used to look up a {@link WeakElement}.
+     */
+    private static final class LookupElement
+    {
+        private final Object key;
+
+        private LookupElement(Object key)
+        {
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (o instanceof WeakElement)
+            {
+                return this.key.equals(((WeakElement<?>) o).get());
+            }
+            return o instanceof LookupElement && this.key.equals(((LookupElement) o).key);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.key.hashCode();
+        }
+    }
+}
@@ -0,0 +1,605 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.BooleanFunction;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.FloatFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
+import org.eclipse.collections.api.partition.set.PartitionMutableSet;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.api.set.UnsortedSetIterable;
+import org.eclipse.collections.api.set.primitive.MutableBooleanSet;
+import org.eclipse.collections.api.set.primitive.MutableByteSet;
+import org.eclipse.collections.api.set.primitive.MutableCharSet;
+import org.eclipse.collections.api.set.primitive.MutableDoubleSet;
+import org.eclipse.collections.api.set.primitive.MutableFloatSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.api.set.primitive.MutableLongSet;
+import org.eclipse.collections.api.set.primitive.MutableShortSet;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.UnmodifiableIteratorAdapter;
+import org.eclipse.collections.impl.collection.mutable.AbstractCollectionAdapter;
+import org.eclipse.collections.impl.factory.Sets;
+
+/**
+ * CopyOnWriteUnifiedSet is a thread-safe MutableSet for data that is read far more often than it is written, like
+ * subscription registries. The elements are held in a UnifiedSet that is never modified once it is published through a
+ * volatile field, so reads and iteration take no lock and always see one consistent snapshot. Every write copies the
+ * current snapshot under a lock, changes the copy and publishes it, so writes cost O(n). {@link #add(Object)} of an
+ * element that is already present and {@link #remove(Object)} of an element that is absent check the snapshot first,
+ * and return false without taking the lock or copying.
+ * <p>
+ * Bulk writes like {@link #withAll(Iterable)}, {@link #addAllIterable(Iterable)} and {@link #removeIf(Predicate)}
+ * copy the snapshot once for all of their elements. Iterators work on the snapshot that was current when they were
+ * created, and do not support removal.
+ *
+ * @see java.util.concurrent.CopyOnWriteArraySet
+ * @since 10.3
+ */
+public final class CopyOnWriteUnifiedSet<T>
+        extends AbstractCollectionAdapter<T>
+        implements MutableSet<T>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Object lock = new Object();
+    private volatile UnifiedSet<T> delegate;
+
+    public CopyOnWriteUnifiedSet()
+    {
+        this.delegate = UnifiedSet.newSet();
+    }
+
+    private CopyOnWriteUnifiedSet(UnifiedSet<T> snapshot)
+    {
+        this.delegate = snapshot;
+    }
+
+    public static <T> CopyOnWriteUnifiedSet<T> newSet()
+    {
+        return new CopyOnWriteUnifiedSet<>();
+    }
+
+    public static <T> CopyOnWriteUnifiedSet<T> newSet(Iterable<? extends T> source)
+    {
+        return new CopyOnWriteUnifiedSet<>(UnifiedSet.newSet(source));
+    }
+
+    public static <T> CopyOnWriteUnifiedSet<T> newSetWith(T... elements)
+    {
+        return new CopyOnWriteUnifiedSet<>(UnifiedSet.newSetWith(elements));
+    }
+
+    /**
+     * Returns the current snapshot, which must not be modified.
+     */
+    @Override
+    protected UnifiedSet<T> getDelegate()
+    {
+        return this.delegate;
+    }
+
+    /**
+     * Applies the mutation to a copy of the current snapshot, with room for {@code additionalCapacity} more elements,
+     * and publishes the copy if the mutation returns true.
+     */
+    private boolean update(int additionalCapacity, Predicate<? super UnifiedSet<T>> mutation)
+    {
+        synchronized (this.lock)
+        {
+            UnifiedSet<T> copy = CopyOnWriteUnifiedSet.copy(this.delegate, additionalCapacity);
+            if (mutation.accept(copy))
+            {
+                this.delegate = copy;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static <T> UnifiedSet<T> copy(UnifiedSet<T> snapshot, int additionalCapacity)
+    {
+        UnifiedSet<T> copy = UnifiedSet.newSet(snapshot.size() + additionalCapacity);
+        copy.addAll(snapshot);
+        return copy;
+    }
+
+    private static int sizeHint(Iterable<?> iterable)
+    {
+        return iterable instanceof Collection ? ((Collection<?>) iterable).size() : 0;
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        if (this.delegate.contains(element))
+        {
+            return false;
+        }
+        synchronized (this.lock)
+        {
+            UnifiedSet<T> snapshot = this.delegate;
+            if (snapshot.contains(element))
+            {
+                return false;
+            }
+            UnifiedSet<T> copy = CopyOnWriteUnifiedSet.copy(snapshot, 1);
+            copy.add(element);
+            this.delegate = copy;
+            return true;
+        }
+    }
+
+    @Override
+    public boolean remove(Object element)
+    {
+        if (!this.delegate.contains(element))
+        {
+            return false;
+        }
+        synchronized (this.lock)
+        {
+            UnifiedSet<T> snapshot = this.delegate;
+            if (!snapshot.contains(element))
+            {
+                return false;
+            }
+            UnifiedSet<T> copy = CopyOnWriteUnifiedSet.copy(snapshot, 0);
+            copy.remove(element);
+            this.delegate = copy;
+            return true;
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection)
+    {
+        return this.update(collection.size(), copy -> copy.addAll(collection));
+    }
+
+    @Override
+    public boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        return this.update(CopyOnWriteUnifiedSet.sizeHint(iterable), copy -> copy.addAllIterable(iterable));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+        return this.update(0, copy -> copy.removeAll(collection));
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        return this.update(0, copy -> copy.removeAllIterable(iterable));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection)
+    {
+        return this.update(0, copy -> copy.retainAll(collection));
+    }
+
+    @Override
+    public boolean retainAllIterable(Iterable<?> iterable)
+    {
+        return this.update(0, copy -> copy.retainAllIterable(iterable));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        return this.update(0, copy -> copy.removeIf(predicate));
+    }
+
+    @Override
+    public boolean removeIf(java.util.function.Predicate<? super T> predicate)
+    {
+        return this.update(0, copy -> copy.removeIf(predicate::test));
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.update(0, copy -> copy.removeIfWith(predicate, parameter));
+    }
+
+    @Override
+    public void clear()
+    {
+        synchronized (this.lock)
+        {
+            this.delegate = UnifiedSet.newSet();
+        }
+    }
+
+    @Override
+    public CopyOnWriteUnifiedSet<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public CopyOnWriteUnifiedSet<T> with(T element1, T element2)
+    {
+        this.update(2, copy -> copy.add(element1) | copy.add(element2));
+        return this;
+    }
+
+    public CopyOnWriteUnifiedSet<T> with(T element1, T element2, T element3)
+    {
+        this.update(3, copy -> copy.add(element1) | copy.add(element2) | copy.add(element3));
+        return this;
+    }
+
+    public CopyOnWriteUnifiedSet<T> with(T... elements)
+    {
+        this.update(elements.length, copy -> copy.addAll(UnifiedSet.newSetWith(elements)));
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteUnifiedSet<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteUnifiedSet<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public CopyOnWriteUnifiedSet<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new UnmodifiableIteratorAdapter<>(this.delegate.iterator());
+    }
+
+    @Override
+    public MutableSet<T> asUnmodifiable()
+    {
+        return UnmodifiableMutableSet.of(this);
+    }
+
+    @Override
+    public MutableSet<T> asSynchronized()
+    {
+        return SynchronizedMutableSet.of(this);
+    }
+
+    @Override
+    public ImmutableSet<T> toImmutable()
+    {
+        return Sets.immutable.withAll(this.delegate);
+    }
+
+    /**
+     * Returns a new set that starts with the current snapshot. Snapshots are never modified, so they can be shared.
+     */
+    @Override
+    public CopyOnWriteUnifiedSet<T> clone()
+    {
+        return new CopyOnWriteUnifiedSet<>(this.delegate);
+    }
+
+    @Override
+    public CopyOnWriteUnifiedSet<T> newEmpty()
+    {
+        return CopyOnWriteUnifiedSet.newSet();
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        return this.delegate.equals(obj);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.delegate.hashCode();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.delegate.each(procedure);
+    }
+
+    @Override
+    public MutableSet<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    @Override
+    public MutableSet<T> select(Predicate<? super T> predicate)
+    {
+        return this.delegate.select(predicate);
+    }
+
+    @Override
+    public MutableSet<T> reject(Predicate<? super T> predicate)
+    {
+        return this.delegate.reject(predicate);
+    }
+
+    @Override
+    public PartitionMutableSet<T> partition(Predicate<? super T> predicate)
+    {
+        return this.delegate.partition(predicate);
+    }
+
+    @Override
+    public <P> PartitionMutableSet<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.delegate.partitionWith(predicate, parameter);
+    }
+
+    @Override
+    public <S> MutableSet<S> selectInstancesOf(Class<S> clazz)
+    {
+        return this.delegate.selectInstancesOf(clazz);
+    }
+
+    @Override
+    public <V> MutableSet<V> collect(Function<? super T, ? extends V> function)
+    {
+        return this.delegate.collect(function);
+    }
+
+    @Override
+    public MutableBooleanSet collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return this.delegate.collectBoolean(booleanFunction);
+    }
+
+    @Override
+    public MutableByteSet collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return this.delegate.collectByte(byteFunction);
+    }
+
+    @Override
+    public MutableCharSet collectChar(CharFunction<? super T> charFunction)
+    {
+        return this.delegate.collectChar(charFunction);
+    }
+
+    @Override
+    public MutableDoubleSet collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return this.delegate.collectDouble(doubleFunction);
+    }
+
+    @Override
+    public MutableFloatSet collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return this.delegate.collectFloat(floatFunction);
+    }
+
+    @Override
+    public MutableIntSet collectInt(IntFunction<? super T> intFunction)
+    {
+        return this.delegate.collectInt(intFunction);
+    }
+
+    @Override
+    public MutableLongSet collectLong(LongFunction<? super T> longFunction)
+    {
+        return this.delegate.collectLong(longFunction);
+    }
+
+    @Override
+    public MutableShortSet collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return this.delegate.collectShort(shortFunction);
+    }
+
+    @Override
+    public <V> MutableSet<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.delegate.flatCollect(function);
+    }
+
+    @Override
+    public <V> MutableSet<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return this.delegate.collectIf(predicate, function);
+    }
+
+    @Override
+    public <V> MutableSetMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.delegate.groupBy(function);
+    }
+
+    @Override
+    public <V> MutableSetMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.delegate.groupByEach(function);
+    }
+
+    @Override
+    public <P> MutableSet<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.delegate.selectWith(predicate, parameter);
+    }
+
+    @Override
+    public <P> MutableSet<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.delegate.rejectWith(predicate, parameter);
+    }
+
+    @Override
+    public <P, V> MutableSet<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return this.delegate.collectWith(function, parameter);
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link org.eclipse.collections.api.ordered.OrderedIterable#zip(Iterable)} instead.
+     */
+    @Deprecated
+    @Override
+    public <S> MutableSet<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return this.delegate.zip(that);
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link org.eclipse.collections.api.ordered.OrderedIterable#zipWithIndex()} instead.
+     */
+    @Deprecated
+    @Override
+    public MutableSet<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.delegate.zipWithIndex();
+    }
+
+    @Override
+    public MutableSet<T> union(SetIterable<? extends T> set)
+    {
+        return this.delegate.union(set);
+    }
+
+    @Override
+    public <R extends Set<T>> R unionInto(SetIterable<? extends T> set, R targetSet)
+    {
+        return this.delegate.unionInto(set, targetSet);
+    }
+
+    @Override
+    public MutableSet<T> intersect(SetIterable<? extends T> set)
+    {
+        return this.delegate.intersect(set);
+    }
+
+    @Override
+    public <R extends Set<T>> R intersectInto(SetIterable<? extends T> set, R targetSet)
+    {
+        return this.delegate.intersectInto(set, targetSet);
+    }
+
+    @Override
+    public MutableSet<T> difference(SetIterable<? extends T> subtrahendSet)
+    {
+        return this.delegate.difference(subtrahendSet);
+    }
+
+    @Override
+    public <R extends Set<T>> R differenceInto(SetIterable<? extends T> subtrahendSet, R targetSet)
+    {
+        return this.delegate.differenceInto(subtrahendSet, targetSet);
+    }
+
+    @Override
+    public MutableSet<T> symmetricDifference(SetIterable<? extends T> setB)
+    {
+        return this.delegate.symmetricDifference(setB);
+    }
+
+    @Override
+    public <R extends Set<T>> R symmetricDifferenceInto(SetIterable<? extends T> set, R targetSet)
+    {
+        return this.delegate.symmetricDifferenceInto(set, targetSet);
+    }
+
+    @Override
+    public boolean isSubsetOf(SetIterable<? extends T> candidateSuperset)
+    {
+        return this.delegate.isSubsetOf(candidateSuperset);
+    }
+
+    @Override
+    public boolean isProperSubsetOf(SetIterable<? extends T> candidateSuperset)
+    {
+        return this.delegate.isProperSubsetOf(candidateSuperset);
+    }
+
+    @Override
+    public MutableSet<UnsortedSetIterable<T>> powerSet()
+    {
+        return this.delegate.powerSet();
+    }
+
+    @Override
+    public <B> LazyIterable<Pair<T, B>> cartesianProduct(SetIterable<B> set)
+    {
+        return this.delegate.cartesianProduct(set);
+    }
+
+    @Override
+    public ParallelUnsortedSetIterable<T> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return this.delegate.asParallel(executorService, batchSize);
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        UnifiedSet<T> snapshot = this.delegate;
+        out.writeInt(snapshot.size());
+        for (T each : snapshot)
+        {
+            out.writeObject(each);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        UnifiedSet<T> snapshot = UnifiedSet.newSet(size);
+        for (int i = 0; i < size; i++)
+        {
+            snapshot.add((T) in.readObject());
+        }
+        this.delegate = snapshot;
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.RichIterable;
@@ -72,7 +73,8 @@ import org.eclipse.collections.impl.utility.LazyIterate;
 import static org.eclipse.collections.impl.factory.Iterables.mList;
 
 /**
- * MultiReadUnifiedSet provides a thread-safe wrapper around a UnifiedSet, using a ReentrantReadWriteLock. In order to
+ * MultiReadUnifiedSet provides a thread-safe wrapper around a UnifiedSet, using a ReentrantReadWriteLock, or a StampedLock
+ * when created with {@code newStampedSet()}. In order to
  * provide true thread-safety, MultiReaderUnifiedSet does <em>not</em> implement {@code iterator()} as this method requires an external
  * lock to be taken to provide thread-safe iteration. You can use an {@code iterator()} if you use the
  * {@code withReadLockAndDelegate()} or {@code withWriteLockAndDelegate()} methods. Both of these methods take a parameter of type
@@ -111,6 +113,13 @@ public final class MultiReaderUnifiedSet<T>
         this.delegate = newDelegate;
     }
 
+    private MultiReaderUnifiedSet(MutableSet<T> newDelegate, StampedLock newLock)
+    {
+        this.lock = newLock.asReadWriteLock();
+        this.lockWrapper = new ReadWriteLockWrapper(newLock);
+        this.delegate = newDelegate;
+    }
+
     public static <T> MultiReaderUnifiedSet<T> newSet()
     {
         return new MultiReaderUnifiedSet<>(UnifiedSet.newSet());
@@ -131,6 +140,35 @@ public final class MultiReaderUnifiedSet<T>
         return new MultiReaderUnifiedSet<>(UnifiedSet.newSetWith(elements));
     }
 
+    /**
+     * Creates an empty set guarded by a {@link StampedLock} instead of a ReentrantReadWriteLock. {@code size()},
+     * {@code isEmpty()} and {@code notEmpty()} first try an optimistic read that takes no lock at all, which scales much
+     * better than a shared read lock when reads vastly outnumber writes. {@code contains()} and the other reads that
+     * call equals() or a block take the read lock, as with the default lock.
+     * <p>
+     * Unlike the default lock, a StampedLock is not reentrant. A block that runs under the write lock and calls back
+     * into this set, as in {@code set.removeIf(each -> set.contains(each))}, throws an IllegalStateException instead of
+     * succeeding. A block that runs under the read lock and calls back into this set, as in {@code anySatisfy()} or
+     * {@code withReadLockAndDelegate()}, can deadlock once a writer is waiting. Copies made by {@code clone()} and
+     * {@code newEmpty()} use a StampedLock as well, but a deserialized set uses a ReentrantReadWriteLock.
+     *
+     * @since 10.3
+     */
+    public static <T> MultiReaderUnifiedSet<T> newStampedSet()
+    {
+        return new MultiReaderUnifiedSet<>(UnifiedSet.newSet(), new StampedLock());
+    }
+
+    /**
+     * Same as {@link #newStampedSet()} with the given initial capacity.
+     *
+     * @since 10.3
+     */
+    public static <T> MultiReaderUnifiedSet<T> newStampedSet(int capacity)
+    {
+        return new MultiReaderUnifiedSet<>(UnifiedSet.newSet(capacity), new StampedLock());
+    }
+
     @Override
     protected MutableSet<T> getDelegate()
     {
@@ -203,7 +241,8 @@ public final class MultiReaderUnifiedSet<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            return new MultiReaderUnifiedSet<>(this.delegate.clone());
+            MutableSet<T> clone = this.delegate.clone();
+            return this.lockWrapper.isOptimistic() ? new MultiReaderUnifiedSet<>(clone, new StampedLock()) : new MultiReaderUnifiedSet<>(clone);
         }
     }
 
@@ -322,7 +361,7 @@ public final class MultiReaderUnifiedSet<T>
     @Override
     public MutableSet<T> newEmpty()
     {
-        return MultiReaderUnifiedSet.newSet();
+        return this.lockWrapper.isOptimistic() ? MultiReaderUnifiedSet.newStampedSet() : MultiReaderUnifiedSet.newSet();
     }
 
     @Override
@@ -433,6 +472,10 @@ public final class MultiReaderUnifiedSet<T>
     @Override
     public boolean equals(Object o)
     {
+        if (this == o)
+        {
+            return true;
+        }
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
             return this.delegate.equals(o);
@@ -23,7 +23,9 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.RandomAccess;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.RichIterable;
@@ -40,6 +42,7 @@ import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.api.tuple.Twin;
+import org.eclipse.collections.impl.HashStatistics;
 import org.eclipse.collections.impl.block.factory.Procedures2;
 import org.eclipse.collections.impl.block.procedure.PartitionPredicate2Procedure;
 import org.eclipse.collections.impl.block.procedure.PartitionProcedure;
@@ -49,6 +52,7 @@ import org.eclipse.collections.impl.factory.Sets;
 import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.RootBatch;
 import org.eclipse.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
 import org.eclipse.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
 import org.eclipse.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
@@ -1269,6 +1273,64 @@ public class UnifiedSet<T>
         return this.occupied;
     }
 
+    /**
+     * Returns statistics about how the elements are spread across the buckets of the table. The probe length of an
+     * element in a chain is its position in the chain, starting at 1.
+     *
+     * @since 10.3
+     */
+    public HashStatistics getHashStatistics()
+    {
+        int chainedBuckets = 0;
+        int maxProbeLength = 0;
+        long totalProbeLength = 0L;
+        for (int i = 0; i < this.table.length; i++)
+        {
+            Object cur = this.table[i];
+            if (cur instanceof ChainedBucket)
+            {
+                int chainLength = UnifiedSet.chainLength((ChainedBucket) cur);
+                chainedBuckets++;
+                maxProbeLength = Math.max(maxProbeLength, chainLength);
+                totalProbeLength += (long) chainLength * (chainLength + 1) / 2;
+            }
+            else if (cur != null)
+            {
+                maxProbeLength = Math.max(maxProbeLength, 1);
+                totalProbeLength++;
+            }
+        }
+        return new HashStatistics(this.occupied, this.table.length, chainedBuckets, 0, 0, maxProbeLength, totalProbeLength);
+    }
+
+    private static int chainLength(ChainedBucket bucket)
+    {
+        int length = 0;
+        do
+        {
+            if (bucket.one == null)
+            {
+                return length + 1;
+            }
+            if (bucket.two == null)
+            {
+                return length + 2;
+            }
+            if (bucket.three == null)
+            {
+                return length + 3;
+            }
+            if (bucket.three instanceof ChainedBucket)
+            {
+                length += 3;
+                bucket = (ChainedBucket) bucket.three;
+                continue;
+            }
+            return length + 4;
+        }
+        while (true);
+    }
+
     @Override
     public boolean equals(Object object)
     {
@@ -1708,6 +1770,12 @@ public class UnifiedSet<T>
         return new PositionalIterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        return new UnifiedSetSpliterator();
+    }
+
     protected class PositionalIterator implements Iterator<T>
     {
         protected int count;
@@ -1808,6 +1876,171 @@ public class UnifiedSet<T>
         }
     }
 
+    private final class UnifiedSetSpliterator implements Spliterator<T>
+    {
+        private Object[] table;
+        private int index;
+        private int fence;
+        private int estimatedSize;
+        private ChainedBucket chain;
+        private int chainPosition;
+
+        private UnifiedSetSpliterator()
+        {
+            this.fence = -1;
+        }
+
+        private UnifiedSetSpliterator(Object[] table, int index, int fence, int estimatedSize)
+        {
+            this.table = table;
+            this.index = index;
+            this.fence = fence;
+            this.estimatedSize = estimatedSize;
+        }
+
+        private int getFence()
+        {
+            if (this.fence < 0)
+            {
+                this.table = UnifiedSet.this.table;
+                this.estimatedSize = UnifiedSet.this.occupied;
+                this.fence = this.table.length;
+            }
+            return this.fence;
+        }
+
+        private Object nextFromChain()
+        {
+            ChainedBucket bucket = this.chain;
+            while (bucket != null)
+            {
+                Object cur;
+                switch (this.chainPosition)
+                {
+                    case 0:
+                        cur = bucket.zero;
+                        break;
+                    case 1:
+                        cur = bucket.one;
+                        break;
+                    case 2:
+                        cur = bucket.two;
+                        break;
+                    default:
+                        cur = bucket.three;
+                        if (cur instanceof ChainedBucket)
+                        {
+                            bucket = (ChainedBucket) cur;
+                            this.chain = bucket;
+                            this.chainPosition = 0;
+                            continue;
+                        }
+                        this.chain = null;
+                        return cur;
+                }
+                if (cur == null)
+                {
+                    this.chain = null;
+                    return null;
+                }
+                this.chainPosition++;
+                return cur;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            int fence = this.getFence();
+            Object[] table = this.table;
+            do
+            {
+                Object cur = this.nextFromChain();
+                if (cur != null)
+                {
+                    action.accept(UnifiedSet.this.nonSentinel(cur));
+                    return true;
+                }
+                if (this.index >= fence)
+                {
+                    return false;
+                }
+                cur = table[this.index++];
+                if (cur instanceof ChainedBucket)
+                {
+                    this.chain = (ChainedBucket) cur;
+                    this.chainPosition = 0;
+                }
+                else if (cur != null)
+                {
+                    action.accept(UnifiedSet.this.nonSentinel(cur));
+                    return true;
+                }
+            }
+            while (true);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            int fence = this.getFence();
+            Object[] table = this.table;
+            for (Object cur = this.nextFromChain(); cur != null; cur = this.nextFromChain())
+            {
+                action.accept(UnifiedSet.this.nonSentinel(cur));
+            }
+            int start = this.index;
+            this.index = fence;
+            for (int i = start; i < fence; i++)
+            {
+                Object cur = table[i];
+                if (cur instanceof ChainedBucket)
+                {
+                    this.chain = (ChainedBucket) cur;
+                    this.chainPosition = 0;
+                    for (Object each = this.nextFromChain(); each != null; each = this.nextFromChain())
+                    {
+                        action.accept(UnifiedSet.this.nonSentinel(each));
+                    }
+                }
+                else if (cur != null)
+                {
+                    action.accept(UnifiedSet.this.nonSentinel(cur));
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            int fence = this.getFence();
+            int low = this.index;
+            int mid = (low + fence) >>> 1;
+            if (low >= mid)
+            {
+                return null;
+            }
+            this.index = mid;
+            this.estimatedSize >>>= 1;
+            return new UnifiedSetSpliterator(this.table, low, mid, this.estimatedSize);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            this.getFence();
+            return this.estimatedSize;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            boolean sized = this.fence < 0 || this.estimatedSize == UnifiedSet.this.occupied;
+            return sized ? Spliterator.SIZED | Spliterator.DISTINCT : Spliterator.DISTINCT;
+        }
+    }
+
     private static final class ChainedBucket
     {
         private Object zero;
@@ -2394,6 +2627,19 @@ public class UnifiedSet<T>
             return UnifiedSet.this.detect(predicate, this.chunkStartIndex, this.chunkEndIndex);
         }
 
+        @Override
+        public Twin<RootBatch<T>> split()
+        {
+            if (this.chunkEndIndex - this.chunkStartIndex < 2)
+            {
+                return null;
+            }
+            int middleIndex = (this.chunkStartIndex + this.chunkEndIndex) >>> 1;
+            return Tuples.twin(
+                    new UnifiedUnsortedSetBatch(this.chunkStartIndex, middleIndex),
+                    new UnifiedUnsortedSetBatch(middleIndex, this.chunkEndIndex));
+        }
+
         @Override
         public UnsortedSetBatch<T> select(Predicate<? super T> predicate)
         {
@@ -14,6 +14,9 @@
  *     This package contains the following mutable set implementations:
  * <ul>
  *     <li>
+ *          {@link org.eclipse.collections.impl.set.mutable.CopyOnWriteUnifiedSet} - a thread-safe set whose reads take no lock and whose writes copy the set.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.set.mutable.MultiReaderUnifiedSet} -  a thread safe wrapper around UnifiedSet.
  *     </li>
  *     <li>
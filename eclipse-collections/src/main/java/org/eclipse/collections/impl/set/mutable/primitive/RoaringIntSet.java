@@ -0,0 +1,2312 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.primitive.IntToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+import org.eclipse.collections.api.iterator.IntIterator;
+import org.eclipse.collections.api.iterator.MutableIntIterator;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.primitive.ImmutableIntSet;
+import org.eclipse.collections.api.set.primitive.IntSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.primitive.IntSets;
+import org.eclipse.collections.impl.iterator.UnmodifiableIntIterator;
+import org.eclipse.collections.impl.set.immutable.primitive.AbstractImmutableIntSet;
+import org.eclipse.collections.impl.set.immutable.primitive.ImmutableIntSetSerializationProxy;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.primitive.AbstractIntSet;
+
+/**
+ * RoaringIntSet is a {@link MutableIntSet} that stores its values in a compressed bitmap, in the style of Roaring
+ * bitmaps. The values are partitioned by their high 16 bits, and the low 16 bits of the values in each partition are
+ * kept in one of three kinds of container:
+ * <ul>
+ *     <li>an array container, a sorted {@code char[]}, for partitions with at most 4096 values,</li>
+ *     <li>a bitmap container, a {@code long[1024]}, for denser partitions,</li>
+ *     <li>a run container, a list of ranges, for partitions made of a few long runs of consecutive values.</li>
+ * </ul>
+ * A dense or clustered set therefore uses between a few bits and two bytes per value, where an {@link IntHashSet}
+ * uses about eight, while a sparse set costs about as much as a sorted array. {@link #contains(int)},
+ * {@link #add(int)} and {@link #remove(int)} are a binary search over the partitions followed by a lookup in one
+ * container.
+ * <p>
+ * {@link #and(RoaringIntSet)}, {@link #or(RoaringIntSet)} and {@link #andNot(RoaringIntSet)} return new sets and work a
+ * container at a time, combining bitmaps a 64-bit word at a time, rather than value by value. {@link #addAll(IntIterable)},
+ * {@link #retainAll(IntIterable)} and {@link #removeAll(IntIterable)} use the same operations when given another
+ * RoaringIntSet. Array and bitmap containers are converted into each other as values are added and removed. Run
+ * containers are only created by {@link #addRange(int, int)}, {@link #runOptimize()} and the operations that combine
+ * sets. A single add or remove keeps a run container as runs, as long as runs remain the smallest representation,
+ * and the operations combine run containers run by run, or a run container with a bitmap a word at a time, and return
+ * the smallest representation of the result.
+ * <p>
+ * Iteration visits the values in ascending order. This set is not thread-safe.
+ *
+ * @since 10.3
+ */
+public class RoaringIntSet extends AbstractIntSet implements MutableIntSet, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int ARRAY_MAX_SIZE = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private static final int CONTAINER_RANGE = 1 << 16;
+    private static final int DEFAULT_INITIAL_CONTAINERS = 4;
+
+    private static final byte ARRAY_CONTAINER = 0;
+    private static final byte BITMAP_CONTAINER = 1;
+    private static final byte RUN_CONTAINER = 2;
+
+    private char[] keys;
+    private Container[] containers;
+    private int containerCount;
+    private int size;
+
+    public RoaringIntSet()
+    {
+        this.keys = new char[DEFAULT_INITIAL_CONTAINERS];
+        this.containers = new Container[DEFAULT_INITIAL_CONTAINERS];
+    }
+
+    public RoaringIntSet(int... elements)
+    {
+        this();
+        this.addAll(elements);
+    }
+
+    public RoaringIntSet(RoaringIntSet set)
+    {
+        this.keys = Arrays.copyOf(set.keys, Math.max(set.containerCount, DEFAULT_INITIAL_CONTAINERS));
+        this.containers = new Container[this.keys.length];
+        for (int i = 0; i < set.containerCount; i++)
+        {
+            this.containers[i] = set.containers[i].copy();
+        }
+        this.containerCount = set.containerCount;
+        this.size = set.size;
+    }
+
+    public static RoaringIntSet newSet(IntIterable source)
+    {
+        if (source instanceof RoaringIntSet)
+        {
+            return new RoaringIntSet((RoaringIntSet) source);
+        }
+        RoaringIntSet result = new RoaringIntSet();
+        source.each(result::add);
+        return result;
+    }
+
+    public static RoaringIntSet newSetWith(int... source)
+    {
+        return new RoaringIntSet(source);
+    }
+
+    /**
+     * Creates a set of the values from {@code fromInclusive} to {@code toExclusive}, stored as run containers.
+     */
+    public static RoaringIntSet newSetWithRange(int fromInclusive, int toExclusive)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        result.addRange(fromInclusive, toExclusive);
+        return result;
+    }
+
+    /**
+     * Returns the high 16 bits of {@code value} with the sign bit flipped, so that the keys sort in the same order as
+     * the signed values.
+     */
+    private static char highBits(int value)
+    {
+        return (char) ((value >>> 16) ^ 0x8000);
+    }
+
+    private static char lowBits(int value)
+    {
+        return (char) value;
+    }
+
+    private static int base(char key)
+    {
+        return (key ^ 0x8000) << 16;
+    }
+
+    private int indexOfKey(char key)
+    {
+        return Arrays.binarySearch(this.keys, 0, this.containerCount, key);
+    }
+
+    private void insertContainer(int index, char key, Container container)
+    {
+        if (this.containerCount == this.keys.length)
+        {
+            int newLength = Math.max(DEFAULT_INITIAL_CONTAINERS, this.containerCount + (this.containerCount >> 1));
+            this.keys = Arrays.copyOf(this.keys, newLength);
+            this.containers = Arrays.copyOf(this.containers, newLength);
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.containerCount - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.containerCount - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.containerCount++;
+    }
+
+    private void removeContainerAt(int index)
+    {
+        int toMove = this.containerCount - index - 1;
+        System.arraycopy(this.keys, index + 1, this.keys, index, toMove);
+        System.arraycopy(this.containers, index + 1, this.containers, index, toMove);
+        this.containerCount--;
+        this.containers[this.containerCount] = null;
+    }
+
+    private void appendContainer(char key, Container container)
+    {
+        this.insertContainer(this.containerCount, key, container);
+        this.size += container.cardinality();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    @Override
+    public boolean contains(int value)
+    {
+        int index = this.indexOfKey(highBits(value));
+        return index >= 0 && this.containers[index].contains(lowBits(value));
+    }
+
+    @Override
+    public boolean add(int element)
+    {
+        char key = highBits(element);
+        char low = lowBits(element);
+        int index = this.indexOfKey(key);
+        if (index >= 0)
+        {
+            Container container = this.containers[index];
+            if (container.contains(low))
+            {
+                return false;
+            }
+            this.containers[index] = container.add(low);
+        }
+        else
+        {
+            this.insertContainer(-index - 1, key, new ArrayContainer(low));
+        }
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int item : source)
+        {
+            this.add(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean addAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringIntSet)
+        {
+            this.replaceWith(this.or((RoaringIntSet) source, false));
+        }
+        else
+        {
+            source.each(this::add);
+        }
+        return this.size != oldSize;
+    }
+
+    /**
+     * Adds the values from {@code fromInclusive} to {@code toExclusive}. Each partition that the range covers
+     * completely becomes a single run container.
+     */
+    public void addRange(int fromInclusive, int toExclusive)
+    {
+        if (fromInclusive > toExclusive)
+        {
+            throw new IllegalArgumentException("fromInclusive " + fromInclusive + " is greater than toExclusive " + toExclusive);
+        }
+        if (fromInclusive == toExclusive)
+        {
+            return;
+        }
+        int last = toExclusive - 1;
+        char firstKey = highBits(fromInclusive);
+        char lastKey = highBits(last);
+        for (int key = firstKey; key <= lastKey; key++)
+        {
+            int start = key == firstKey ? lowBits(fromInclusive) : 0;
+            int end = key == lastKey ? lowBits(last) : CONTAINER_RANGE - 1;
+            RunContainer range = new RunContainer(start, end);
+            int index = this.indexOfKey((char) key);
+            if (index < 0)
+            {
+                this.insertContainer(-index - 1, (char) key, range);
+                this.size += range.cardinality();
+            }
+            else
+            {
+                Container container = this.containers[index];
+                Container result = range.cardinality() == CONTAINER_RANGE ? range : or(container, range);
+                this.size += result.cardinality() - container.cardinality();
+                this.containers[index] = result;
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(int value)
+    {
+        char low = lowBits(value);
+        int index = this.indexOfKey(highBits(value));
+        if (index < 0 || !this.containers[index].contains(low))
+        {
+            return false;
+        }
+        Container result = this.containers[index].remove(low);
+        if (result.cardinality() == 0)
+        {
+            this.removeContainerAt(index);
+        }
+        else
+        {
+            this.containers[index] = result;
+        }
+        this.size--;
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        if (source instanceof RoaringIntSet)
+        {
+            this.replaceWith(this.andNot((RoaringIntSet) source, false));
+        }
+        else
+        {
+            source.each(this::remove);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean removeAll(int... source)
+    {
+        int oldSize = this.size;
+        for (int item : source)
+        {
+            this.remove(item);
+        }
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(IntIterable source)
+    {
+        int oldSize = this.size;
+        RoaringIntSet other = source instanceof RoaringIntSet ? (RoaringIntSet) source : RoaringIntSet.newSet(source);
+        this.replaceWith(this.and(other));
+        return this.size != oldSize;
+    }
+
+    @Override
+    public boolean retainAll(int... source)
+    {
+        return this.retainAll(RoaringIntSet.newSetWith(source));
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(this.containers, 0, this.containerCount, null);
+        this.containerCount = 0;
+        this.size = 0;
+    }
+
+    private void replaceWith(RoaringIntSet other)
+    {
+        this.keys = other.keys;
+        this.containers = other.containers;
+        this.containerCount = other.containerCount;
+        this.size = other.size;
+    }
+
+    /**
+     * Returns a new set of the values that are in both this set and {@code other}.
+     */
+    public RoaringIntSet and(RoaringIntSet other)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount && j < other.containerCount)
+        {
+            char key = this.keys[i];
+            char otherKey = other.keys[j];
+            if (key < otherKey)
+            {
+                i++;
+            }
+            else if (key > otherKey)
+            {
+                j++;
+            }
+            else
+            {
+                Container container = and(this.containers[i], other.containers[j]);
+                if (container.cardinality() > 0)
+                {
+                    result.appendContainer(key, container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set of the values that are in this set, in {@code other}, or in both.
+     */
+    public RoaringIntSet or(RoaringIntSet other)
+    {
+        return this.or(other, true);
+    }
+
+    /**
+     * Returns a new set of the values that are in this set but not in {@code other}.
+     */
+    public RoaringIntSet andNot(RoaringIntSet other)
+    {
+        return this.andNot(other, true);
+    }
+
+    /**
+     * The containers of the result never share state with {@code other}. They share state with this set unless
+     * {@code copyThis} is true, so {@code copyThis} is false only when the result replaces the contents of this set.
+     */
+    private RoaringIntSet or(RoaringIntSet other, boolean copyThis)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < this.containerCount || j < other.containerCount)
+        {
+            if (j == other.containerCount || i < this.containerCount && this.keys[i] < other.keys[j])
+            {
+                result.appendContainer(this.keys[i], copyThis ? this.containers[i].copy() : this.containers[i]);
+                i++;
+            }
+            else if (i == this.containerCount || this.keys[i] > other.keys[j])
+            {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            }
+            else
+            {
+                result.appendContainer(this.keys[i], or(this.containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private RoaringIntSet andNot(RoaringIntSet other, boolean copyThis)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        int j = 0;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            char key = this.keys[i];
+            while (j < other.containerCount && other.keys[j] < key)
+            {
+                j++;
+            }
+            if (j < other.containerCount && other.keys[j] == key)
+            {
+                Container container = andNot(this.containers[i], other.containers[j]);
+                if (container.cardinality() > 0)
+                {
+                    result.appendContainer(key, container);
+                }
+            }
+            else
+            {
+                result.appendContainer(key, copyThis ? this.containers[i].copy() : this.containers[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts each container to whichever of the array, bitmap and run representations is smallest. This is worth
+     * calling once a set has been built, when its values form long runs of consecutive values.
+     *
+     * @return {@code true} if any container was converted to a run container
+     */
+    public boolean runOptimize()
+    {
+        boolean changed = false;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            Container container = this.containers[i];
+            Container optimized = container.runOptimize();
+            changed |= optimized instanceof RunContainer && !(container instanceof RunContainer);
+            this.containers[i] = optimized;
+        }
+        return changed;
+    }
+
+    @Override
+    public RoaringIntSet with(int element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public RoaringIntSet without(int element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public RoaringIntSet withAll(IntIterable elements)
+    {
+        this.addAll(elements);
+        return this;
+    }
+
+    @Override
+    public RoaringIntSet withoutAll(IntIterable elements)
+    {
+        this.removeAll(elements);
+        return this;
+    }
+
+    @Override
+    public MutableIntSet asUnmodifiable()
+    {
+        return new UnmodifiableIntSet(this);
+    }
+
+    @Override
+    public MutableIntSet asSynchronized()
+    {
+        return new SynchronizedIntSet(this);
+    }
+
+    @Override
+    public ImmutableIntSet toImmutable()
+    {
+        if (this.size == 0)
+        {
+            return IntSets.immutable.with();
+        }
+        if (this.size == 1)
+        {
+            return IntSets.immutable.with(this.min());
+        }
+        return new ImmutableRoaringIntSet(new RoaringIntSet(this));
+    }
+
+    @Override
+    public IntSet freeze()
+    {
+        return this.toImmutable();
+    }
+
+    @Override
+    public RoaringIntSet newEmpty()
+    {
+        return new RoaringIntSet();
+    }
+
+    @Override
+    public MutableIntIterator intIterator()
+    {
+        return new InternalIntIterator();
+    }
+
+    /**
+     * Returns the values in ascending order.
+     */
+    @Override
+    public int[] toArray()
+    {
+        int[] result = new int[this.size];
+        int offset = 0;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            offset = this.containers[i].toArray(base(this.keys[i]), result, offset);
+        }
+        return result;
+    }
+
+    @Override
+    public int[] toSortedArray()
+    {
+        return this.toArray();
+    }
+
+    @Override
+    public void forEach(IntProcedure procedure)
+    {
+        this.each(procedure);
+    }
+
+    @Override
+    public void each(IntProcedure procedure)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            this.containers[i].each(base(this.keys[i]), procedure);
+        }
+    }
+
+    @Override
+    public RoaringIntSet select(IntPredicate predicate)
+    {
+        return this.filter(predicate, true);
+    }
+
+    @Override
+    public RoaringIntSet reject(IntPredicate predicate)
+    {
+        return this.filter(predicate, false);
+    }
+
+    private RoaringIntSet filter(IntPredicate predicate, boolean expected)
+    {
+        RoaringIntSet result = new RoaringIntSet();
+        this.each(each ->
+        {
+            if (predicate.accept(each) == expected)
+            {
+                result.add(each);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public <V> MutableSet<V> collect(IntToObjectFunction<? extends V> function)
+    {
+        MutableSet<V> result = UnifiedSet.newSet(this.size);
+        this.each(each -> result.add(function.valueOf(each)));
+        return result;
+    }
+
+    @Override
+    public int detectIfNone(IntPredicate predicate, int ifNone)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            int base = base(this.keys[i]);
+            int low = this.containers[i].detect(base, predicate);
+            if (low >= 0)
+            {
+                return base | low;
+            }
+        }
+        return ifNone;
+    }
+
+    @Override
+    public int count(IntPredicate predicate)
+    {
+        int count = 0;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            count += this.containers[i].count(base(this.keys[i]), predicate);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean anySatisfy(IntPredicate predicate)
+    {
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            if (this.containers[i].detect(base(this.keys[i]), predicate) >= 0)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean allSatisfy(IntPredicate predicate)
+    {
+        return !this.anySatisfy(each -> !predicate.accept(each));
+    }
+
+    @Override
+    public boolean noneSatisfy(IntPredicate predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    @Override
+    public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+    {
+        T result = injectedValue;
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            result = function.valueOf(result, iterator.next());
+        }
+        return result;
+    }
+
+    @Override
+    public RichIterable<IntIterable> chunk(int size)
+    {
+        if (size <= 0)
+        {
+            throw new IllegalArgumentException("Size for groups must be positive but was: " + size);
+        }
+        MutableList<IntIterable> result = Lists.mutable.empty();
+        IntIterator iterator = this.intIterator();
+        while (iterator.hasNext())
+        {
+            RoaringIntSet batch = new RoaringIntSet();
+            for (int i = 0; i < size && iterator.hasNext(); i++)
+            {
+                batch.add(iterator.next());
+            }
+            result.add(batch);
+        }
+        return result;
+    }
+
+    @Override
+    public long sum()
+    {
+        long sum = 0L;
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            sum += this.containers[i].sum(base(this.keys[i]));
+        }
+        return sum;
+    }
+
+    @Override
+    public int max()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        int last = this.containerCount - 1;
+        return base(this.keys[last]) | this.containers[last].last();
+    }
+
+    @Override
+    public int min()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return base(this.keys[0]) | this.containers[0].first();
+    }
+
+    @Override
+    public void appendString(Appendable appendable, String start, String separator, String end)
+    {
+        try
+        {
+            appendable.append(start);
+            IntIterator iterator = this.intIterator();
+            if (iterator.hasNext())
+            {
+                appendable.append(String.valueOf(iterator.next()));
+                while (iterator.hasNext())
+                {
+                    appendable.append(separator);
+                    appendable.append(String.valueOf(iterator.next()));
+                }
+            }
+            appendable.append(end);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (!(obj instanceof RoaringIntSet))
+        {
+            return super.equals(obj);
+        }
+        RoaringIntSet other = (RoaringIntSet) obj;
+        if (this.size != other.size || this.containerCount != other.containerCount)
+        {
+            return false;
+        }
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            if (this.keys[i] != other.keys[i]
+                    || this.containers[i].cardinality() != other.containers[i].cardinality()
+                    || andNot(this.containers[i], other.containers[i]).cardinality() != 0)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return (int) this.sum();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.containerCount);
+        for (int i = 0; i < this.containerCount; i++)
+        {
+            out.writeChar(this.keys[i]);
+            this.containers[i].writeExternal(out);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException
+    {
+        int count = in.readInt();
+        this.keys = new char[Math.max(count, DEFAULT_INITIAL_CONTAINERS)];
+        this.containers = new Container[this.keys.length];
+        this.containerCount = 0;
+        this.size = 0;
+        for (int i = 0; i < count; i++)
+        {
+            char key = in.readChar();
+            this.appendContainer(key, Container.readExternal(in));
+        }
+    }
+
+    private static Container and(Container left, Container right)
+    {
+        if (left instanceof RunContainer)
+        {
+            return ((RunContainer) left).and(right);
+        }
+        if (right instanceof RunContainer)
+        {
+            return ((RunContainer) right).and(left);
+        }
+        if (left instanceof ArrayContainer)
+        {
+            return right instanceof ArrayContainer
+                    ? ((ArrayContainer) left).and((ArrayContainer) right)
+                    : ((ArrayContainer) left).filter((BitmapContainer) right, true);
+        }
+        return right instanceof ArrayContainer
+                ? ((ArrayContainer) right).filter((BitmapContainer) left, true)
+                : ((BitmapContainer) left).and((BitmapContainer) right);
+    }
+
+    private static Container or(Container left, Container right)
+    {
+        if (left.cardinality() == CONTAINER_RANGE || right.cardinality() == CONTAINER_RANGE)
+        {
+            return new RunContainer(0, CONTAINER_RANGE - 1);
+        }
+        if (left instanceof RunContainer)
+        {
+            return ((RunContainer) left).or(right);
+        }
+        if (right instanceof RunContainer)
+        {
+            return ((RunContainer) right).or(left);
+        }
+        if (left instanceof ArrayContainer)
+        {
+            return right instanceof ArrayContainer
+                    ? ((ArrayContainer) left).or((ArrayContainer) right)
+                    : ((BitmapContainer) right).or((ArrayContainer) left);
+        }
+        return right instanceof ArrayContainer
+                ? ((BitmapContainer) left).or((ArrayContainer) right)
+                : ((BitmapContainer) left).or((BitmapContainer) right);
+    }
+
+    private static Container andNot(Container left, Container right)
+    {
+        if (left instanceof RunContainer)
+        {
+            return ((RunContainer) left).andNot(right);
+        }
+        if (right instanceof RunContainer)
+        {
+            return ((RunContainer) right).subtractFrom(left);
+        }
+        if (left instanceof ArrayContainer)
+        {
+            return right instanceof ArrayContainer
+                    ? ((ArrayContainer) left).andNot((ArrayContainer) right)
+                    : ((ArrayContainer) left).filter((BitmapContainer) right, false);
+        }
+        return right instanceof ArrayContainer
+                ? ((BitmapContainer) left).andNot((ArrayContainer) right)
+                : ((BitmapContainer) left).andNot((BitmapContainer) right);
+    }
+
+    /**
+     * Holds the low 16 bits of the values in one partition. A container is never empty while it is in a set.
+     */
+    private abstract static class Container
+    {
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        /**
+         * Adds {@code low}, which is not in this container, and returns the container to use from now on.
+         */
+        abstract Container add(char low);
+
+        /**
+         * Removes {@code low}, which is in this container, and returns the container to use from now on.
+         */
+        abstract Container remove(char low);
+
+        abstract int first();
+
+        abstract int last();
+
+        abstract int toArray(int base, int[] target, int offset);
+
+        abstract char[] toLowArray();
+
+        abstract void each(int base, IntProcedure procedure);
+
+        /**
+         * Returns the low bits of the first value that satisfies {@code predicate}, or -1.
+         */
+        abstract int detect(int base, IntPredicate predicate);
+
+        abstract int count(int base, IntPredicate predicate);
+
+        abstract long sum(int base);
+
+        abstract int numberOfRuns();
+
+        abstract Container copy();
+
+        abstract BitmapContainer toBitmap();
+
+        abstract void writeExternal(ObjectOutput out) throws IOException;
+
+        /**
+         * Returns this container, or an equivalent array or bitmap container if this is a run container.
+         */
+        Container withoutRuns()
+        {
+            return this;
+        }
+
+        Container runOptimize()
+        {
+            int runs = this.numberOfRuns();
+            int cardinality = this.cardinality();
+            int runBytes = 2 + 4 * runs;
+            if (runBytes < Math.min(2 * cardinality, 2 * BITMAP_WORDS * 4))
+            {
+                return this instanceof RunContainer ? this : RunContainer.fromLows(this.toLowArray(), runs);
+            }
+            return this.withoutRuns();
+        }
+
+        static Container readExternal(ObjectInput in) throws IOException
+        {
+            byte type = in.readByte();
+            if (type == ARRAY_CONTAINER)
+            {
+                int cardinality = in.readInt();
+                char[] content = new char[cardinality];
+                for (int i = 0; i < cardinality; i++)
+                {
+                    content[i] = in.readChar();
+                }
+                return new ArrayContainer(content, cardinality);
+            }
+            if (type == BITMAP_CONTAINER)
+            {
+                long[] bits = new long[BITMAP_WORDS];
+                for (int i = 0; i < BITMAP_WORDS; i++)
+                {
+                    bits[i] = in.readLong();
+                }
+                return new BitmapContainer(bits);
+            }
+            if (type == RUN_CONTAINER)
+            {
+                int runCount = in.readInt();
+                char[] runs = new char[2 * runCount];
+                for (int i = 0; i < runs.length; i++)
+                {
+                    runs[i] = in.readChar();
+                }
+                return new RunContainer(runs, runCount);
+            }
+            throw new IOException("Unknown container type " + type);
+        }
+    }
+
+    private static final class ArrayContainer extends Container
+    {
+        private char[] content;
+        private int cardinality;
+
+        private ArrayContainer(char low)
+        {
+            this.content = new char[4];
+            this.content[0] = low;
+            this.cardinality = 1;
+        }
+
+        private ArrayContainer(char[] content, int cardinality)
+        {
+            this.content = content;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char low)
+        {
+            return Arrays.binarySearch(this.content, 0, this.cardinality, low) >= 0;
+        }
+
+        @Override
+        Container add(char low)
+        {
+            if (this.cardinality == ARRAY_MAX_SIZE)
+            {
+                return this.toBitmap().add(low);
+            }
+            int index = -Arrays.binarySearch(this.content, 0, this.cardinality, low) - 1;
+            if (this.cardinality == this.content.length)
+            {
+                int newLength = Math.min(ARRAY_MAX_SIZE, this.cardinality + (this.cardinality >> 1) + 1);
+                this.content = Arrays.copyOf(this.content, newLength);
+            }
+            System.arraycopy(this.content, index, this.content, index + 1, this.cardinality - index);
+            this.content[index] = low;
+            this.cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low)
+        {
+            int index = Arrays.binarySearch(this.content, 0, this.cardinality, low);
+            System.arraycopy(this.content, index + 1, this.content, index, this.cardinality - index - 1);
+            this.cardinality--;
+            return this;
+        }
+
+        @Override
+        int first()
+        {
+            return this.content[0];
+        }
+
+        @Override
+        int last()
+        {
+            return this.content[this.cardinality - 1];
+        }
+
+        @Override
+        int toArray(int base, int[] target, int offset)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                target[offset++] = base | this.content[i];
+            }
+            return offset;
+        }
+
+        @Override
+        char[] toLowArray()
+        {
+            return Arrays.copyOf(this.content, this.cardinality);
+        }
+
+        @Override
+        void each(int base, IntProcedure procedure)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                procedure.value(base | this.content[i]);
+            }
+        }
+
+        @Override
+        int detect(int base, IntPredicate predicate)
+        {
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                if (predicate.accept(base | this.content[i]))
+                {
+                    return this.content[i];
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int count(int base, IntPredicate predicate)
+        {
+            int count = 0;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                if (predicate.accept(base | this.content[i]))
+                {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        long sum(int base)
+        {
+            long sum = (long) base * this.cardinality;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                sum += this.content[i];
+            }
+            return sum;
+        }
+
+        @Override
+        int numberOfRuns()
+        {
+            int runs = this.cardinality == 0 ? 0 : 1;
+            for (int i = 1; i < this.cardinality; i++)
+            {
+                if (this.content[i] != this.content[i - 1] + 1)
+                {
+                    runs++;
+                }
+            }
+            return runs;
+        }
+
+        @Override
+        Container copy()
+        {
+            return new ArrayContainer(Arrays.copyOf(this.content, this.cardinality), this.cardinality);
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            long[] bits = new long[BITMAP_WORDS];
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char low = this.content[i];
+                bits[low >>> 6] |= 1L << low;
+            }
+            return new BitmapContainer(bits, this.cardinality);
+        }
+
+        ArrayContainer and(ArrayContainer other)
+        {
+            char[] result = new char[Math.min(this.cardinality, other.cardinality)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < this.cardinality && j < other.cardinality)
+            {
+                char left = this.content[i];
+                char right = other.content[j];
+                if (left < right)
+                {
+                    i++;
+                }
+                else if (left > right)
+                {
+                    j++;
+                }
+                else
+                {
+                    result[count++] = left;
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        Container or(ArrayContainer other)
+        {
+            if (this.cardinality + other.cardinality > ARRAY_MAX_SIZE)
+            {
+                return this.toBitmap().or(other);
+            }
+            char[] result = new char[this.cardinality + other.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < this.cardinality || j < other.cardinality)
+            {
+                if (j == other.cardinality || i < this.cardinality && this.content[i] < other.content[j])
+                {
+                    result[count++] = this.content[i++];
+                }
+                else if (i == this.cardinality || this.content[i] > other.content[j])
+                {
+                    result[count++] = other.content[j++];
+                }
+                else
+                {
+                    result[count++] = this.content[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        ArrayContainer andNot(ArrayContainer other)
+        {
+            char[] result = new char[this.cardinality];
+            int count = 0;
+            int j = 0;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                char value = this.content[i];
+                while (j < other.cardinality && other.content[j] < value)
+                {
+                    j++;
+                }
+                if (j == other.cardinality || other.content[j] != value)
+                {
+                    result[count++] = value;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        /**
+         * Returns the values of this container that are in {@code bitmap} when {@code expected} is true, or that are not
+         * in it when {@code expected} is false.
+         */
+        ArrayContainer filter(BitmapContainer bitmap, boolean expected)
+        {
+            char[] result = new char[this.cardinality];
+            int count = 0;
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                if (bitmap.contains(this.content[i]) == expected)
+                {
+                    result[count++] = this.content[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeByte(ARRAY_CONTAINER);
+            out.writeInt(this.cardinality);
+            for (int i = 0; i < this.cardinality; i++)
+            {
+                out.writeChar(this.content[i]);
+            }
+        }
+    }
+
+    private static final class BitmapContainer extends Container
+    {
+        private final long[] bits;
+        private int cardinality;
+
+        private BitmapContainer(long[] bits)
+        {
+            this(bits, cardinality(bits));
+        }
+
+        private BitmapContainer(long[] bits, int cardinality)
+        {
+            this.bits = bits;
+            this.cardinality = cardinality;
+        }
+
+        private static int cardinality(long[] bits)
+        {
+            int cardinality = 0;
+            for (long word : bits)
+            {
+                cardinality += Long.bitCount(word);
+            }
+            return cardinality;
+        }
+
+        /**
+         * Returns a bitmap container of {@code bits}, or an array container if there are few enough values.
+         */
+        private static Container of(long[] bits)
+        {
+            BitmapContainer container = new BitmapContainer(bits);
+            return container.cardinality <= ARRAY_MAX_SIZE ? container.toArrayContainer() : container;
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        @Override
+        boolean contains(char low)
+        {
+            return (this.bits[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(char low)
+        {
+            this.bits[low >>> 6] |= 1L << low;
+            this.cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low)
+        {
+            this.bits[low >>> 6] &= ~(1L << low);
+            this.cardinality--;
+            return this.cardinality <= ARRAY_MAX_SIZE ? this.toArrayContainer() : this;
+        }
+
+        @Override
+        int first()
+        {
+            int i = 0;
+            while (this.bits[i] == 0)
+            {
+                i++;
+            }
+            return (i << 6) + Long.numberOfTrailingZeros(this.bits[i]);
+        }
+
+        @Override
+        int last()
+        {
+            int i = BITMAP_WORDS - 1;
+            while (this.bits[i] == 0)
+            {
+                i--;
+            }
+            return (i << 6) + 63 - Long.numberOfLeadingZeros(this.bits[i]);
+        }
+
+        @Override
+        int toArray(int base, int[] target, int offset)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.bits[i];
+                while (word != 0)
+                {
+                    target[offset++] = base | (i << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        char[] toLowArray()
+        {
+            char[] result = new char[this.cardinality];
+            int offset = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.bits[i];
+                while (word != 0)
+                {
+                    result[offset++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return result;
+        }
+
+        private ArrayContainer toArrayContainer()
+        {
+            return new ArrayContainer(this.toLowArray(), this.cardinality);
+        }
+
+        @Override
+        void each(int base, IntProcedure procedure)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.bits[i];
+                while (word != 0)
+                {
+                    procedure.value(base | (i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        int detect(int base, IntPredicate predicate)
+        {
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.bits[i];
+                while (word != 0)
+                {
+                    int low = (i << 6) + Long.numberOfTrailingZeros(word);
+                    if (predicate.accept(base | low))
+                    {
+                        return low;
+                    }
+                    word &= word - 1;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int count(int base, IntPredicate predicate)
+        {
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.bits[i];
+                while (word != 0)
+                {
+                    if (predicate.accept(base | (i << 6) + Long.numberOfTrailingZeros(word)))
+                    {
+                        count++;
+                    }
+                    word &= word - 1;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        long sum(int base)
+        {
+            long sum = (long) base * this.cardinality;
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                long word = this.bits[i];
+                if (word != 0)
+                {
+                    sum += (long) (i << 6) * Long.bitCount(word);
+                    while (word != 0)
+                    {
+                        sum += Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                    }
+                }
+            }
+            return sum;
+        }
+
+        @Override
+        int numberOfRuns()
+        {
+            int runs = 0;
+            long previousTopBit = 0L;
+            for (long word : this.bits)
+            {
+                runs += Long.bitCount(word & ~(word << 1 | previousTopBit));
+                previousTopBit = word >>> 63;
+            }
+            return runs;
+        }
+
+        @Override
+        Container copy()
+        {
+            return new BitmapContainer(this.bits.clone(), this.cardinality);
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            return this;
+        }
+
+        Container and(BitmapContainer other)
+        {
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                result[i] = this.bits[i] & other.bits[i];
+            }
+            return of(result);
+        }
+
+        Container or(BitmapContainer other)
+        {
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                result[i] = this.bits[i] | other.bits[i];
+            }
+            return new BitmapContainer(result);
+        }
+
+        Container or(ArrayContainer other)
+        {
+            BitmapContainer result = new BitmapContainer(this.bits.clone(), this.cardinality);
+            for (int i = 0; i < other.cardinality; i++)
+            {
+                char low = other.content[i];
+                if (!result.contains(low))
+                {
+                    result.add(low);
+                }
+            }
+            return result;
+        }
+
+        Container andNot(BitmapContainer other)
+        {
+            long[] result = new long[BITMAP_WORDS];
+            for (int i = 0; i < BITMAP_WORDS; i++)
+            {
+                result[i] = this.bits[i] & ~other.bits[i];
+            }
+            return of(result);
+        }
+
+        Container andNot(ArrayContainer other)
+        {
+            long[] result = this.bits.clone();
+            for (int i = 0; i < other.cardinality; i++)
+            {
+                char low = other.content[i];
+                result[low >>> 6] &= ~(1L << low);
+            }
+            return of(result);
+        }
+
+        @Override
+        void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeByte(BITMAP_CONTAINER);
+            for (long word : this.bits)
+            {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    private static final class RunContainer extends Container
+    {
+        /**
+         * Pairs of the first value of each run and the length of the run minus one, in ascending order.
+         */
+        private final char[] runs;
+        private final int runCount;
+        private final int cardinality;
+
+        private RunContainer(int first, int last)
+        {
+            this(new char[]{(char) first, (char) (last - first)}, 1);
+        }
+
+        private RunContainer(char[] runs, int runCount)
+        {
+            this.runs = runs;
+            this.runCount = runCount;
+            int cardinality = runCount;
+            for (int i = 0; i < runCount; i++)
+            {
+                cardinality += this.runs[2 * i + 1];
+            }
+            this.cardinality = cardinality;
+        }
+
+        private static RunContainer fromLows(char[] lows, int runCount)
+        {
+            char[] runs = new char[2 * runCount];
+            int run = -1;
+            for (int i = 0; i < lows.length; i++)
+            {
+                if (i == 0 || lows[i] != lows[i - 1] + 1)
+                {
+                    run++;
+                    runs[2 * run] = lows[i];
+                }
+                else
+                {
+                    runs[2 * run + 1]++;
+                }
+            }
+            return new RunContainer(runs, runCount);
+        }
+
+        private static RunContainer trimmed(char[] runs, int runCount)
+        {
+            return new RunContainer(runs.length == 2 * runCount ? runs : Arrays.copyOf(runs, 2 * runCount), runCount);
+        }
+
+        private static RunContainer fromArray(ArrayContainer array)
+        {
+            return fromLows(array.toLowArray(), array.numberOfRuns());
+        }
+
+        /**
+         * Appends the run from {@code start} to {@code end}, which does not start before the last run of
+         * {@code runs}, merging the two if they overlap or touch, and returns the new number of runs.
+         */
+        private static int appendRun(char[] runs, int runCount, int start, int end)
+        {
+            if (runCount > 0)
+            {
+                int lastStart = runs[2 * runCount - 2];
+                int lastEnd = lastStart + runs[2 * runCount - 1];
+                if (start <= lastEnd + 1)
+                {
+                    runs[2 * runCount - 1] = (char) (Math.max(end, lastEnd) - lastStart);
+                    return runCount;
+                }
+            }
+            runs[2 * runCount] = (char) start;
+            runs[2 * runCount + 1] = (char) (end - start);
+            return runCount + 1;
+        }
+
+        private int start(int run)
+        {
+            return this.runs[2 * run];
+        }
+
+        private int end(int run)
+        {
+            return this.runs[2 * run] + this.runs[2 * run + 1];
+        }
+
+        @Override
+        int cardinality()
+        {
+            return this.cardinality;
+        }
+
+        /**
+         * Returns the index of the run that contains {@code low}, or {@code -(insertion point) - 1} if no run does.
+         */
+        private int indexOfRun(int low)
+        {
+            int lowIndex = 0;
+            int highIndex = this.runCount - 1;
+            while (lowIndex <= highIndex)
+            {
+                int middle = (lowIndex + highIndex) >>> 1;
+                if (this.start(middle) > low)
+                {
+                    highIndex = middle - 1;
+                }
+                else if (this.end(middle) < low)
+                {
+                    lowIndex = middle + 1;
+                }
+                else
+                {
+                    return middle;
+                }
+            }
+            return -lowIndex - 1;
+        }
+
+        @Override
+        boolean contains(char low)
+        {
+            return this.indexOfRun(low) >= 0;
+        }
+
+        /**
+         * Extends or joins the neighbouring runs, or inserts a run of one value, and keeps the result as runs unless
+         * another representation has become smaller.
+         */
+        @Override
+        Container add(char low)
+        {
+            int index = -this.indexOfRun(low) - 1;
+            boolean extendsPrevious = index > 0 && this.end(index - 1) == low - 1;
+            boolean extendsNext = index < this.runCount && this.start(index) == low + 1;
+            if (extendsPrevious && extendsNext)
+            {
+                char[] result = new char[2 * (this.runCount - 1)];
+                System.arraycopy(this.runs, 0, result, 0, 2 * index);
+                result[2 * index - 1] = (char) (this.end(index) - this.start(index - 1));
+                System.arraycopy(this.runs, 2 * index + 2, result, 2 * index, 2 * (this.runCount - index - 1));
+                return new RunContainer(result, this.runCount - 1);
+            }
+            if (extendsPrevious || extendsNext)
+            {
+                char[] result = Arrays.copyOf(this.runs, 2 * this.runCount);
+                if (extendsPrevious)
+                {
+                    result[2 * index - 1]++;
+                }
+                else
+                {
+                    result[2 * index] = low;
+                    result[2 * index + 1]++;
+                }
+                return new RunContainer(result, this.runCount);
+            }
+            char[] result = new char[2 * (this.runCount + 1)];
+            System.arraycopy(this.runs, 0, result, 0, 2 * index);
+            result[2 * index] = low;
+            System.arraycopy(this.runs, 2 * index, result, 2 * index + 2, 2 * (this.runCount - index));
+            return new RunContainer(result, this.runCount + 1).runOptimize();
+        }
+
+        /**
+         * Shortens, splits or drops the run that holds {@code low}, and keeps the result as runs unless another
+         * representation has become smaller.
+         */
+        @Override
+        Container remove(char low)
+        {
+            int index = this.indexOfRun(low);
+            int start = this.start(index);
+            int end = this.end(index);
+            if (start == end)
+            {
+                char[] result = new char[2 * (this.runCount - 1)];
+                System.arraycopy(this.runs, 0, result, 0, 2 * index);
+                System.arraycopy(this.runs, 2 * index + 2, result, 2 * index, 2 * (this.runCount - index - 1));
+                return new RunContainer(result, this.runCount - 1).runOptimize();
+            }
+            if (low == start || low == end)
+            {
+                char[] result = Arrays.copyOf(this.runs, 2 * this.runCount);
+                if (low == start)
+                {
+                    result[2 * index] = (char) (low + 1);
+                }
+                result[2 * index + 1]--;
+                return new RunContainer(result, this.runCount).runOptimize();
+            }
+            char[] result = new char[2 * (this.runCount + 1)];
+            System.arraycopy(this.runs, 0, result, 0, 2 * index);
+            result[2 * index] = (char) start;
+            result[2 * index + 1] = (char) (low - 1 - start);
+            result[2 * index + 2] = (char) (low + 1);
+            result[2 * index + 3] = (char) (end - low - 1);
+            System.arraycopy(this.runs, 2 * index + 2, result, 2 * index + 4, 2 * (this.runCount - index - 1));
+            return new RunContainer(result, this.runCount + 1).runOptimize();
+        }
+
+        Container and(Container other)
+        {
+            if (other instanceof ArrayContainer)
+            {
+                return this.filter((ArrayContainer) other, true);
+            }
+            if (other instanceof BitmapContainer)
+            {
+                long[] bits = this.setBits(new long[BITMAP_WORDS]);
+                long[] otherBits = ((BitmapContainer) other).bits;
+                for (int i = 0; i < BITMAP_WORDS; i++)
+                {
+                    bits[i] &= otherBits[i];
+                }
+                return BitmapContainer.of(bits).runOptimize();
+            }
+            RunContainer runs = (RunContainer) other;
+            char[] result = new char[2 * (this.runCount + runs.runCount)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < this.runCount && j < runs.runCount)
+            {
+                int start = Math.max(this.start(i), runs.start(j));
+                int end = Math.min(this.end(i), runs.end(j));
+                if (start <= end)
+                {
+                    count = appendRun(result, count, start, end);
+                }
+                if (this.end(i) < runs.end(j))
+                {
+                    i++;
+                }
+                else
+                {
+                    j++;
+                }
+            }
+            return trimmed(result, count).runOptimize();
+        }
+
+        Container or(Container other)
+        {
+            if (other instanceof BitmapContainer)
+            {
+                return new BitmapContainer(this.setBits(((BitmapContainer) other).bits.clone())).runOptimize();
+            }
+            RunContainer runs = other instanceof ArrayContainer ? fromArray((ArrayContainer) other) : (RunContainer) other;
+            char[] result = new char[2 * (this.runCount + runs.runCount)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < this.runCount || j < runs.runCount)
+            {
+                if (j == runs.runCount || i < this.runCount && this.start(i) <= runs.start(j))
+                {
+                    count = appendRun(result, count, this.start(i), this.end(i));
+                    i++;
+                }
+                else
+                {
+                    count = appendRun(result, count, runs.start(j), runs.end(j));
+                    j++;
+                }
+            }
+            return trimmed(result, count).runOptimize();
+        }
+
+        /**
+         * Returns the values of this container that are not in {@code other}.
+         */
+        Container andNot(Container other)
+        {
+            if (other instanceof BitmapContainer)
+            {
+                long[] bits = this.setBits(new long[BITMAP_WORDS]);
+                long[] otherBits = ((BitmapContainer) other).bits;
+                for (int i = 0; i < BITMAP_WORDS; i++)
+                {
+                    bits[i] &= ~otherBits[i];
+                }
+                return BitmapContainer.of(bits).runOptimize();
+            }
+            RunContainer runs = other instanceof ArrayContainer ? fromArray((ArrayContainer) other) : (RunContainer) other;
+            char[] result = new char[2 * (this.runCount + runs.runCount)];
+            int count = 0;
+            int j = 0;
+            for (int i = 0; i < this.runCount; i++)
+            {
+                int start = this.start(i);
+                int end = this.end(i);
+                while (j < runs.runCount && runs.end(j) < start)
+                {
+                    j++;
+                }
+                for (int k = j; start <= end && k < runs.runCount && runs.start(k) <= end; k++)
+                {
+                    if (runs.start(k) > start)
+                    {
+                        count = appendRun(result, count, start, runs.start(k) - 1);
+                    }
+                    start = runs.end(k) + 1;
+                }
+                if (start <= end)
+                {
+                    count = appendRun(result, count, start, end);
+                }
+            }
+            return trimmed(result, count).runOptimize();
+        }
+
+        /**
+         * Returns the values of {@code other}, an array or bitmap container, that are not in this container.
+         */
+        Container subtractFrom(Container other)
+        {
+            if (other instanceof ArrayContainer)
+            {
+                return this.filter((ArrayContainer) other, false);
+            }
+            return BitmapContainer.of(this.clearBits(((BitmapContainer) other).bits.clone())).runOptimize();
+        }
+
+        /**
+         * Returns the values of {@code array} that are in this container when {@code expected} is true, or that are
+         * not in it when {@code expected} is false.
+         */
+        private ArrayContainer filter(ArrayContainer array, boolean expected)
+        {
+            char[] result = new char[array.cardinality];
+            int count = 0;
+            int run = 0;
+            for (int i = 0; i < array.cardinality; i++)
+            {
+                char low = array.content[i];
+                while (run < this.runCount && this.end(run) < low)
+                {
+                    run++;
+                }
+                if ((run < this.runCount && this.start(run) <= low) == expected)
+                {
+                    result[count++] = low;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        private long[] setBits(long[] bits)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                int start = this.start(run);
+                int end = this.end(run);
+                int firstWord = start >>> 6;
+                int lastWord = end >>> 6;
+                long firstMask = -1L << start;
+                long lastMask = -1L >>> (63 - (end & 63));
+                if (firstWord == lastWord)
+                {
+                    bits[firstWord] |= firstMask & lastMask;
+                }
+                else
+                {
+                    bits[firstWord] |= firstMask;
+                    for (int i = firstWord + 1; i < lastWord; i++)
+                    {
+                        bits[i] = -1L;
+                    }
+                    bits[lastWord] |= lastMask;
+                }
+            }
+            return bits;
+        }
+
+        private long[] clearBits(long[] bits)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                int start = this.start(run);
+                int end = this.end(run);
+                int firstWord = start >>> 6;
+                int lastWord = end >>> 6;
+                long firstMask = -1L << start;
+                long lastMask = -1L >>> (63 - (end & 63));
+                if (firstWord == lastWord)
+                {
+                    bits[firstWord] &= ~(firstMask & lastMask);
+                }
+                else
+                {
+                    bits[firstWord] &= ~firstMask;
+                    for (int i = firstWord + 1; i < lastWord; i++)
+                    {
+                        bits[i] = 0L;
+                    }
+                    bits[lastWord] &= ~lastMask;
+                }
+            }
+            return bits;
+        }
+
+        @Override
+        Container withoutRuns()
+        {
+            if (this.cardinality <= ARRAY_MAX_SIZE)
+            {
+                return new ArrayContainer(this.toLowArray(), this.cardinality);
+            }
+            return this.toBitmap();
+        }
+
+        @Override
+        int first()
+        {
+            return this.start(0);
+        }
+
+        @Override
+        int last()
+        {
+            return this.end(this.runCount - 1);
+        }
+
+        @Override
+        int toArray(int base, int[] target, int offset)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                for (int low = this.start(run); low <= this.end(run); low++)
+                {
+                    target[offset++] = base | low;
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        char[] toLowArray()
+        {
+            char[] result = new char[this.cardinality];
+            int offset = 0;
+            for (int run = 0; run < this.runCount; run++)
+            {
+                for (int low = this.start(run); low <= this.end(run); low++)
+                {
+                    result[offset++] = (char) low;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        void each(int base, IntProcedure procedure)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                for (int low = this.start(run); low <= this.end(run); low++)
+                {
+                    procedure.value(base | low);
+                }
+            }
+        }
+
+        @Override
+        int detect(int base, IntPredicate predicate)
+        {
+            for (int run = 0; run < this.runCount; run++)
+            {
+                for (int low = this.start(run); low <= this.end(run); low++)
+                {
+                    if (predicate.accept(base | low))
+                    {
+                        return low;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int count(int base, IntPredicate predicate)
+        {
+            int count = 0;
+            for (int run = 0; run < this.runCount; run++)
+            {
+                for (int low = this.start(run); low <= this.end(run); low++)
+                {
+                    if (predicate.accept(base | low))
+                    {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        long sum(int base)
+        {
+            long sum = (long) base * this.cardinality;
+            for (int run = 0; run < this.runCount; run++)
+            {
+                long start = this.start(run);
+                long end = this.end(run);
+                sum += (start + end) * (end - start + 1) / 2;
+            }
+            return sum;
+        }
+
+        @Override
+        int numberOfRuns()
+        {
+            return this.runCount;
+        }
+
+        @Override
+        Container copy()
+        {
+            return this;
+        }
+
+        @Override
+        BitmapContainer toBitmap()
+        {
+            return new BitmapContainer(this.setBits(new long[BITMAP_WORDS]), this.cardinality);
+        }
+
+        @Override
+        void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeByte(RUN_CONTAINER);
+            out.writeInt(this.runCount);
+            for (int i = 0; i < 2 * this.runCount; i++)
+            {
+                out.writeChar(this.runs[i]);
+            }
+        }
+    }
+
+    private static final class ImmutableRoaringIntSet extends AbstractImmutableIntSet implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final RoaringIntSet delegate;
+
+        private ImmutableRoaringIntSet(RoaringIntSet delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int size()
+        {
+            return this.delegate.size();
+        }
+
+        @Override
+        public boolean contains(int value)
+        {
+            return this.delegate.contains(value);
+        }
+
+        @Override
+        public IntIterator intIterator()
+        {
+            return new UnmodifiableIntIterator(this.delegate.intIterator());
+        }
+
+        @Override
+        public int[] toArray()
+        {
+            return this.delegate.toArray();
+        }
+
+        @Override
+        public int[] toSortedArray()
+        {
+            return this.delegate.toArray();
+        }
+
+        @Override
+        public void forEach(IntProcedure procedure)
+        {
+            this.each(procedure);
+        }
+
+        @Override
+        public void each(IntProcedure procedure)
+        {
+            this.delegate.each(procedure);
+        }
+
+        @Override
+        public ImmutableIntSet select(IntPredicate predicate)
+        {
+            return this.delegate.select(predicate).toImmutable();
+        }
+
+        @Override
+        public ImmutableIntSet reject(IntPredicate predicate)
+        {
+            return this.delegate.reject(predicate).toImmutable();
+        }
+
+        @Override
+        public <V> ImmutableSet<V> collect(IntToObjectFunction<? extends V> function)
+        {
+            return this.delegate.<V>collect(function).toImmutable();
+        }
+
+        @Override
+        public int detectIfNone(IntPredicate predicate, int ifNone)
+        {
+            return this.delegate.detectIfNone(predicate, ifNone);
+        }
+
+        @Override
+        public int count(IntPredicate predicate)
+        {
+            return this.delegate.count(predicate);
+        }
+
+        @Override
+        public boolean anySatisfy(IntPredicate predicate)
+        {
+            return this.delegate.anySatisfy(predicate);
+        }
+
+        @Override
+        public boolean allSatisfy(IntPredicate predicate)
+        {
+            return this.delegate.allSatisfy(predicate);
+        }
+
+        @Override
+        public boolean noneSatisfy(IntPredicate predicate)
+        {
+            return this.delegate.noneSatisfy(predicate);
+        }
+
+        @Override
+        public <T> T injectInto(T injectedValue, ObjectIntToObjectFunction<? super T, ? extends T> function)
+        {
+            return this.delegate.injectInto(injectedValue, function);
+        }
+
+        @Override
+        public long sum()
+        {
+            return this.delegate.sum();
+        }
+
+        @Override
+        public int max()
+        {
+            return this.delegate.max();
+        }
+
+        @Override
+        public int min()
+        {
+            return this.delegate.min();
+        }
+
+        @Override
+        public void appendString(Appendable appendable, String start, String separator, String end)
+        {
+            this.delegate.appendString(appendable, start, separator, end);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.delegate.hashCode();
+        }
+
+        private Object writeReplace()
+        {
+            return new ImmutableIntSetSerializationProxy(this);
+        }
+    }
+
+    private class InternalIntIterator implements MutableIntIterator
+    {
+        private char currentKey;
+        private boolean started;
+        private char[] lows = new char[0];
+        private int position;
+        private int lastReturned;
+        private boolean canRemove;
+
+        private int nextContainerIndex()
+        {
+            if (!this.started)
+            {
+                return 0;
+            }
+            int index = RoaringIntSet.this.indexOfKey(this.currentKey);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.position < this.lows.length || this.nextContainerIndex() < RoaringIntSet.this.containerCount;
+        }
+
+        @Override
+        public int next()
+        {
+            if (this.position == this.lows.length)
+            {
+                int index = this.nextContainerIndex();
+                if (index >= RoaringIntSet.this.containerCount)
+                {
+                    throw new NoSuchElementException("next() called, but the iterator is exhausted");
+                }
+                this.currentKey = RoaringIntSet.this.keys[index];
+                this.lows = RoaringIntSet.this.containers[index].toLowArray();
+                this.position = 0;
+                this.started = true;
+            }
+            this.lastReturned = base(this.currentKey) | this.lows[this.position++];
+            this.canRemove = true;
+            return this.lastReturned;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            RoaringIntSet.this.remove(this.lastReturned);
+            this.canRemove = false;
+        }
+    }
+}
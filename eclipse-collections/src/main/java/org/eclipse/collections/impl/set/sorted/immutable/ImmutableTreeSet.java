@@ -34,10 +34,12 @@ import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.api.set.sorted.ParallelSortedSetIterable;
 import org.eclipse.collections.api.set.sorted.SortedSetIterable;
+import org.eclipse.collections.api.tuple.Twin;
 import org.eclipse.collections.impl.factory.SortedSets;
 import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.RootBatch;
 import org.eclipse.collections.impl.lazy.parallel.list.ListBatch;
 import org.eclipse.collections.impl.lazy.parallel.set.sorted.AbstractParallelSortedSetIterable;
 import org.eclipse.collections.impl.lazy.parallel.set.sorted.CollectSortedSetBatch;
@@ -47,6 +49,7 @@ import org.eclipse.collections.impl.lazy.parallel.set.sorted.SelectSortedSetBatc
 import org.eclipse.collections.impl.lazy.parallel.set.sorted.SortedSetBatch;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.eclipse.collections.impl.utility.internal.InternalArrayIterate;
@@ -494,6 +497,19 @@ final class ImmutableTreeSet<T>
             return null;
         }
 
+        @Override
+        public Twin<RootBatch<T>> split()
+        {
+            if (this.chunkEndIndex - this.chunkStartIndex < 2)
+            {
+                return null;
+            }
+            int middleIndex = (this.chunkStartIndex + this.chunkEndIndex) >>> 1;
+            return Tuples.twin(
+                    new ImmutableTreeSetBatch(this.chunkStartIndex, middleIndex),
+                    new ImmutableTreeSetBatch(middleIndex, this.chunkEndIndex));
+        }
+
         @Override
         public SortedSetBatch<T> select(Predicate<? super T> predicate)
         {
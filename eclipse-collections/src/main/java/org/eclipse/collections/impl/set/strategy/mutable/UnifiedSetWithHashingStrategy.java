@@ -21,7 +21,9 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.RichIterable;
@@ -47,6 +49,7 @@ import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
 import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.RootBatch;
 import org.eclipse.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
 import org.eclipse.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
 import org.eclipse.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
@@ -1778,6 +1781,12 @@ public class UnifiedSetWithHashingStrategy<T>
         return new PositionalIterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        return new UnifiedSetSpliterator();
+    }
+
     protected class PositionalIterator implements Iterator<T>
     {
         protected int count;
@@ -1878,6 +1887,171 @@ public class UnifiedSetWithHashingStrategy<T>
         }
     }
 
+    private final class UnifiedSetSpliterator implements Spliterator<T>
+    {
+        private Object[] table;
+        private int index;
+        private int fence;
+        private int estimatedSize;
+        private ChainedBucket chain;
+        private int chainPosition;
+
+        private UnifiedSetSpliterator()
+        {
+            this.fence = -1;
+        }
+
+        private UnifiedSetSpliterator(Object[] table, int index, int fence, int estimatedSize)
+        {
+            this.table = table;
+            this.index = index;
+            this.fence = fence;
+            this.estimatedSize = estimatedSize;
+        }
+
+        private int getFence()
+        {
+            if (this.fence < 0)
+            {
+                this.table = UnifiedSetWithHashingStrategy.this.table;
+                this.estimatedSize = UnifiedSetWithHashingStrategy.this.occupied;
+                this.fence = this.table.length;
+            }
+            return this.fence;
+        }
+
+        private Object nextFromChain()
+        {
+            ChainedBucket bucket = this.chain;
+            while (bucket != null)
+            {
+                Object cur;
+                switch (this.chainPosition)
+                {
+                    case 0:
+                        cur = bucket.zero;
+                        break;
+                    case 1:
+                        cur = bucket.one;
+                        break;
+                    case 2:
+                        cur = bucket.two;
+                        break;
+                    default:
+                        cur = bucket.three;
+                        if (cur instanceof ChainedBucket)
+                        {
+                            bucket = (ChainedBucket) cur;
+                            this.chain = bucket;
+                            this.chainPosition = 0;
+                            continue;
+                        }
+                        this.chain = null;
+                        return cur;
+                }
+                if (cur == null)
+                {
+                    this.chain = null;
+                    return null;
+                }
+                this.chainPosition++;
+                return cur;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            int fence = this.getFence();
+            Object[] table = this.table;
+            do
+            {
+                Object cur = this.nextFromChain();
+                if (cur != null)
+                {
+                    action.accept(UnifiedSetWithHashingStrategy.this.nonSentinel(cur));
+                    return true;
+                }
+                if (this.index >= fence)
+                {
+                    return false;
+                }
+                cur = table[this.index++];
+                if (cur instanceof ChainedBucket)
+                {
+                    this.chain = (ChainedBucket) cur;
+                    this.chainPosition = 0;
+                }
+                else if (cur != null)
+                {
+                    action.accept(UnifiedSetWithHashingStrategy.this.nonSentinel(cur));
+                    return true;
+                }
+            }
+            while (true);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            int fence = this.getFence();
+            Object[] table = this.table;
+            for (Object cur = this.nextFromChain(); cur != null; cur = this.nextFromChain())
+            {
+                action.accept(UnifiedSetWithHashingStrategy.this.nonSentinel(cur));
+            }
+            int start = this.index;
+            this.index = fence;
+            for (int i = start; i < fence; i++)
+            {
+                Object cur = table[i];
+                if (cur instanceof ChainedBucket)
+                {
+                    this.chain = (ChainedBucket) cur;
+                    this.chainPosition = 0;
+                    for (Object each = this.nextFromChain(); each != null; each = this.nextFromChain())
+                    {
+                        action.accept(UnifiedSetWithHashingStrategy.this.nonSentinel(each));
+                    }
+                }
+                else if (cur != null)
+                {
+                    action.accept(UnifiedSetWithHashingStrategy.this.nonSentinel(cur));
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            int fence = this.getFence();
+            int low = this.index;
+            int mid = (low + fence) >>> 1;
+            if (low >= mid)
+            {
+                return null;
+            }
+            this.index = mid;
+            this.estimatedSize >>>= 1;
+            return new UnifiedSetSpliterator(this.table, low, mid, this.estimatedSize);
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            this.getFence();
+            return this.estimatedSize;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            boolean sized = this.fence < 0 || this.estimatedSize == UnifiedSetWithHashingStrategy.this.occupied;
+            return sized ? Spliterator.SIZED | Spliterator.DISTINCT : Spliterator.DISTINCT;
+        }
+    }
+
     private static final class ChainedBucket
     {
         private Object zero;
@@ -2539,6 +2713,19 @@ public class UnifiedSetWithHashingStrategy<T>
             return UnifiedSetWithHashingStrategy.this.detect(predicate, this.chunkStartIndex, this.chunkEndIndex);
         }
 
+        @Override
+        public Twin<RootBatch<T>> split()
+        {
+            if (this.chunkEndIndex - this.chunkStartIndex < 2)
+            {
+                return null;
+            }
+            int middleIndex = (this.chunkStartIndex + this.chunkEndIndex) >>> 1;
+            return Tuples.twin(
+                    new UnifiedUnsortedSetBatch(this.chunkStartIndex, middleIndex),
+                    new UnifiedUnsortedSetBatch(middleIndex, this.chunkEndIndex));
+        }
+
         @Override
         public UnsortedSetBatch<T> select(Predicate<? super T> predicate)
         {
@@ -0,0 +1,752 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.stack.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.BooleanFunction;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.FloatFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.partition.stack.PartitionMutableStack;
+import org.eclipse.collections.api.stack.ImmutableStack;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.api.stack.StackIterable;
+import org.eclipse.collections.api.stack.primitive.MutableBooleanStack;
+import org.eclipse.collections.api.stack.primitive.MutableByteStack;
+import org.eclipse.collections.api.stack.primitive.MutableCharStack;
+import org.eclipse.collections.api.stack.primitive.MutableDoubleStack;
+import org.eclipse.collections.api.stack.primitive.MutableFloatStack;
+import org.eclipse.collections.api.stack.primitive.MutableIntStack;
+import org.eclipse.collections.api.stack.primitive.MutableLongStack;
+import org.eclipse.collections.api.stack.primitive.MutableShortStack;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.AbstractRichIterable;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * ConcurrentStack is a thread-safe MutableStack implemented as a Treiber stack: a linked list of immutable nodes whose
+ * top is swapped with a compare-and-set. {@link #push(Object)} and {@link #pop()} never block, and {@link #pop(int)}
+ * removes all of its items with a single compare-and-set, so no other thread can interleave with it.
+ * <p>
+ * Because the nodes are immutable, every read works on a consistent snapshot of the stack as it was when the read
+ * started, and iteration never throws ConcurrentModificationException. Methods that return a new stack, like
+ * {@link #select(Predicate)} and {@link #collect(Function)}, return an {@link ArrayStack} built from such a snapshot.
+ * ConcurrentStack iterates from top to bottom (LIFO order), like ArrayStack.
+ *
+ * @since 10.3
+ */
+public final class ConcurrentStack<T>
+        extends AbstractRichIterable<T>
+        implements MutableStack<T>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final AtomicReference<Node<T>> top = new AtomicReference<>();
+
+    public ConcurrentStack()
+    {
+    }
+
+    public static <T> ConcurrentStack<T> newStack()
+    {
+        return new ConcurrentStack<>();
+    }
+
+    public static <T> ConcurrentStack<T> newStack(Iterable<? extends T> items)
+    {
+        ConcurrentStack<T> stack = new ConcurrentStack<>();
+        for (T item : items)
+        {
+            stack.push(item);
+        }
+        return stack;
+    }
+
+    public static <T> ConcurrentStack<T> newStackWith(T... items)
+    {
+        ConcurrentStack<T> stack = new ConcurrentStack<>();
+        for (T item : items)
+        {
+            stack.push(item);
+        }
+        return stack;
+    }
+
+    public static <T> ConcurrentStack<T> newStackFromTopToBottom(T... items)
+    {
+        ConcurrentStack<T> stack = new ConcurrentStack<>();
+        for (int i = items.length - 1; i >= 0; i--)
+        {
+            stack.push(items[i]);
+        }
+        return stack;
+    }
+
+    public static <T> ConcurrentStack<T> newStackFromTopToBottom(Iterable<? extends T> items)
+    {
+        return ConcurrentStack.newStackFromTopToBottom((T[]) FastList.newList(items).toArray());
+    }
+
+    @Override
+    public void push(T item)
+    {
+        while (true)
+        {
+            Node<T> current = this.top.get();
+            if (this.top.compareAndSet(current, new Node<>(item, current)))
+            {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public T pop()
+    {
+        return this.popNodes(1).item;
+    }
+
+    /**
+     * Removes the top {@code count} nodes with a single compare-and-set and returns the first one removed, which still
+     * links to the others.
+     */
+    private Node<T> popNodes(int count)
+    {
+        while (true)
+        {
+            Node<T> current = this.top.get();
+            if (current == null)
+            {
+                throw new EmptyStackException();
+            }
+            ConcurrentStack.checkSizeLessThanCount(current, count);
+            Node<T> next = current;
+            for (int i = 0; i < count; i++)
+            {
+                next = next.next;
+            }
+            if (this.top.compareAndSet(current, next))
+            {
+                return current;
+            }
+        }
+    }
+
+    @Override
+    public ListIterable<T> pop(int count)
+    {
+        ConcurrentStack.checkNegativeCount(count);
+        MutableList<T> result = FastList.newList(count);
+        if (count == 0)
+        {
+            return result;
+        }
+        return ConcurrentStack.addItems(this.popNodes(count), count, result);
+    }
+
+    @Override
+    public <R extends Collection<T>> R pop(int count, R targetCollection)
+    {
+        ConcurrentStack.checkNegativeCount(count);
+        if (count == 0)
+        {
+            return targetCollection;
+        }
+        return ConcurrentStack.addItems(this.popNodes(count), count, targetCollection);
+    }
+
+    @Override
+    public <R extends MutableStack<T>> R pop(int count, R targetStack)
+    {
+        ConcurrentStack.checkNegativeCount(count);
+        if (count == 0)
+        {
+            return targetStack;
+        }
+        Node<T> node = this.popNodes(count);
+        for (int i = 0; i < count; i++)
+        {
+            targetStack.push(node.item);
+            node = node.next;
+        }
+        return targetStack;
+    }
+
+    private static <T, R extends Collection<T>> R addItems(Node<T> node, int count, R target)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            target.add(node.item);
+            node = node.next;
+        }
+        return target;
+    }
+
+    @Override
+    public void clear()
+    {
+        this.top.set(null);
+    }
+
+    @Override
+    public T peek()
+    {
+        Node<T> current = this.top.get();
+        if (current == null)
+        {
+            throw new EmptyStackException();
+        }
+        return current.item;
+    }
+
+    @Override
+    public ListIterable<T> peek(int count)
+    {
+        ConcurrentStack.checkNegativeCount(count);
+        if (count == 0)
+        {
+            return FastList.newList();
+        }
+        Node<T> current = this.top.get();
+        if (current == null)
+        {
+            throw new EmptyStackException();
+        }
+        ConcurrentStack.checkSizeLessThanCount(current, count);
+        return ConcurrentStack.addItems(current, count, FastList.newList(count));
+    }
+
+    @Override
+    public T peekAt(int index)
+    {
+        ConcurrentStack.checkNegativeCount(index);
+        Node<T> node = this.top.get();
+        if (node == null)
+        {
+            throw new EmptyStackException();
+        }
+        if (node.size <= index)
+        {
+            throw new IllegalArgumentException("Count must be less than size: Count = " + index + " Size = " + node.size);
+        }
+        for (int i = 0; i < index; i++)
+        {
+            node = node.next;
+        }
+        return node.item;
+    }
+
+    private static void checkNegativeCount(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be positive but was " + count);
+        }
+    }
+
+    private static void checkSizeLessThanCount(Node<?> top, int count)
+    {
+        if (top.size < count)
+        {
+            throw new IllegalArgumentException("Count must be less than size: Count = " + count + " Size = " + top.size);
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        Node<T> current = this.top.get();
+        return current == null ? 0 : current.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.top.get() == null;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.top.get() != null;
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.peek();
+    }
+
+    @Override
+    public T getLast()
+    {
+        throw new UnsupportedOperationException("Cannot call getLast() on " + this.getClass().getSimpleName());
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        for (Node<T> node = this.top.get(); node != null; node = node.next)
+        {
+            procedure.value(node.item);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new NodeIterator<>(this.top.get());
+    }
+
+    /**
+     * Copies a snapshot of this stack into an ArrayStack, which the methods that return a new stack delegate to.
+     */
+    private ArrayStack<T> toArrayStack()
+    {
+        Node<T> current = this.top.get();
+        if (current == null)
+        {
+            return ArrayStack.newStack();
+        }
+        return ArrayStack.newStackFromTopToBottom(ConcurrentStack.addItems(current, current.size, FastList.newList(current.size)));
+    }
+
+    @Override
+    public MutableStack<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    @Override
+    public MutableStack<T> takeWhile(Predicate<? super T> predicate)
+    {
+        return this.toArrayStack().takeWhile(predicate);
+    }
+
+    @Override
+    public MutableStack<T> dropWhile(Predicate<? super T> predicate)
+    {
+        return this.toArrayStack().dropWhile(predicate);
+    }
+
+    @Override
+    public PartitionMutableStack<T> partitionWhile(Predicate<? super T> predicate)
+    {
+        return this.toArrayStack().partitionWhile(predicate);
+    }
+
+    @Override
+    public MutableStack<T> distinct()
+    {
+        return this.toArrayStack().distinct();
+    }
+
+    @Override
+    public MutableStack<T> select(Predicate<? super T> predicate)
+    {
+        return this.toArrayStack().select(predicate);
+    }
+
+    @Override
+    public <P> MutableStack<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.toArrayStack().selectWith(predicate, parameter);
+    }
+
+    @Override
+    public MutableStack<T> reject(Predicate<? super T> predicate)
+    {
+        return this.toArrayStack().reject(predicate);
+    }
+
+    @Override
+    public <P> MutableStack<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.toArrayStack().rejectWith(predicate, parameter);
+    }
+
+    @Override
+    public <S> MutableStack<S> selectInstancesOf(Class<S> clazz)
+    {
+        return this.toArrayStack().selectInstancesOf(clazz);
+    }
+
+    @Override
+    public PartitionMutableStack<T> partition(Predicate<? super T> predicate)
+    {
+        return this.toArrayStack().partition(predicate);
+    }
+
+    @Override
+    public <P> PartitionMutableStack<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.toArrayStack().partitionWith(predicate, parameter);
+    }
+
+    @Override
+    public <V> MutableStack<V> collect(Function<? super T, ? extends V> function)
+    {
+        return this.toArrayStack().collect(function);
+    }
+
+    @Override
+    public MutableBooleanStack collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return this.toArrayStack().collectBoolean(booleanFunction);
+    }
+
+    @Override
+    public MutableByteStack collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return this.toArrayStack().collectByte(byteFunction);
+    }
+
+    @Override
+    public MutableCharStack collectChar(CharFunction<? super T> charFunction)
+    {
+        return this.toArrayStack().collectChar(charFunction);
+    }
+
+    @Override
+    public MutableDoubleStack collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return this.toArrayStack().collectDouble(doubleFunction);
+    }
+
+    @Override
+    public MutableFloatStack collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return this.toArrayStack().collectFloat(floatFunction);
+    }
+
+    @Override
+    public MutableIntStack collectInt(IntFunction<? super T> intFunction)
+    {
+        return this.toArrayStack().collectInt(intFunction);
+    }
+
+    @Override
+    public MutableLongStack collectLong(LongFunction<? super T> longFunction)
+    {
+        return this.toArrayStack().collectLong(longFunction);
+    }
+
+    @Override
+    public MutableShortStack collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return this.toArrayStack().collectShort(shortFunction);
+    }
+
+    @Override
+    public <P, V> MutableStack<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return this.toArrayStack().collectWith(function, parameter);
+    }
+
+    @Override
+    public <V> MutableStack<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return this.toArrayStack().collectIf(predicate, function);
+    }
+
+    @Override
+    public <V> MutableStack<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.toArrayStack().flatCollect(function);
+    }
+
+    @Override
+    public <V> MutableObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        return this.toArrayStack().sumByInt(groupBy, function);
+    }
+
+    @Override
+    public <V> MutableObjectDoubleMap<V> sumByFloat(Function<? super T, ? extends V> groupBy, FloatFunction<? super T> function)
+    {
+        return this.toArrayStack().sumByFloat(groupBy, function);
+    }
+
+    @Override
+    public <V> MutableObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        return this.toArrayStack().sumByLong(groupBy, function);
+    }
+
+    @Override
+    public <V> MutableObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        return this.toArrayStack().sumByDouble(groupBy, function);
+    }
+
+    @Override
+    public <V> MutableBag<V> countBy(Function<? super T, ? extends V> function)
+    {
+        return this.countBy(function, Bags.mutable.empty());
+    }
+
+    @Override
+    public <V, P> MutableBag<V> countByWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return this.countByWith(function, parameter, Bags.mutable.empty());
+    }
+
+    @Override
+    public <V> MutableBag<V> countByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.countByEach(function, Bags.mutable.empty());
+    }
+
+    @Override
+    public <V> MutableListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.toArrayStack().groupBy(function);
+    }
+
+    @Override
+    public <V> MutableListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.toArrayStack().groupByEach(function);
+    }
+
+    @Override
+    public <V> MutableMap<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
+    {
+        return this.toArrayStack().groupByUniqueKey(function);
+    }
+
+    @Override
+    public <S> MutableStack<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return this.toArrayStack().zip(that);
+    }
+
+    @Override
+    public MutableStack<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.toArrayStack().zipWithIndex();
+    }
+
+    @Override
+    public RichIterable<RichIterable<T>> chunk(int size)
+    {
+        return this.toArrayStack().chunk(size);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator)
+    {
+        return this.toArrayStack().aggregateInPlaceBy(groupBy, zeroValueFactory, mutatingAggregator);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator)
+    {
+        return this.toArrayStack().aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator);
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+        return this.toArrayStack().indexOf(object);
+    }
+
+    @Override
+    public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super T, ? super S> predicate)
+    {
+        return this.toArrayStack().corresponds(other, predicate);
+    }
+
+    @Override
+    public void forEach(int startIndex, int endIndex, Procedure<? super T> procedure)
+    {
+        this.toArrayStack().forEach(startIndex, endIndex, procedure);
+    }
+
+    @Override
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        this.toArrayStack().forEachWithIndex(fromIndex, toIndex, objectIntProcedure);
+    }
+
+    @Override
+    public int detectIndex(Predicate<? super T> predicate)
+    {
+        return this.toArrayStack().detectIndex(predicate);
+    }
+
+    @Override
+    public MutableStack<T> toStack()
+    {
+        return this.toArrayStack();
+    }
+
+    @Override
+    public ImmutableStack<T> toImmutable()
+    {
+        return this.toArrayStack().toImmutable();
+    }
+
+    @Override
+    public MutableStack<T> asUnmodifiable()
+    {
+        return UnmodifiableStack.of(this);
+    }
+
+    @Override
+    public MutableStack<T> asSynchronized()
+    {
+        return SynchronizedStack.of(this);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof StackIterable<?>))
+        {
+            return false;
+        }
+
+        Iterator<T> thisIterator = this.iterator();
+        Iterator<?> thatIterator = ((StackIterable<?>) o).iterator();
+        while (thisIterator.hasNext() && thatIterator.hasNext())
+        {
+            if (!Objects.equals(thisIterator.next(), thatIterator.next()))
+            {
+                return false;
+            }
+        }
+        return !thisIterator.hasNext() && !thatIterator.hasNext();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        for (Node<T> node = this.top.get(); node != null; node = node.next)
+        {
+            hashCode = 31 * hashCode + (node.item == null ? 0 : node.item.hashCode());
+        }
+        return hashCode;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        Node<T> current = this.top.get();
+        int size = current == null ? 0 : current.size;
+        out.writeInt(size);
+        for (Node<T> node = current; node != null; node = node.next)
+        {
+            out.writeObject(node.item);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        T[] items = (T[]) new Object[size];
+        for (int i = 0; i < size; i++)
+        {
+            items[i] = (T) in.readObject();
+        }
+        for (int i = size - 1; i >= 0; i--)
+        {
+            this.push(items[i]);
+        }
+    }
+
+    private static final class Node<T>
+    {
+        private final T item;
+        private final Node<T> next;
+        private final int size;
+
+        private Node(T item, Node<T> next)
+        {
+            this.item = item;
+            this.next = next;
+            this.size = next == null ? 1 : next.size + 1;
+        }
+    }
+
+    private static final class NodeIterator<T> implements Iterator<T>
+    {
+        private Node<T> next;
+
+        private NodeIterator(Node<T> next)
+        {
+            this.next = next;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.next != null;
+        }
+
+        @Override
+        public T next()
+        {
+            if (this.next == null)
+            {
+                throw new NoSuchElementException();
+            }
+            T item = this.next.item;
+            this.next = this.next.next;
+            return item;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from a ConcurrentStack iterator");
+        }
+    }
+}
@@ -13,12 +13,15 @@
  * <p>
  *     Mutable Stack is backed by a FastList and iterates from top to bottom (LIFO order). It behaves like FastList in terms of runtime complexity.
  * <p>
- *     This package contains 3 stack implementations:
+ *     This package contains 4 stack implementations:
  * <ul>
  *     <li>
  *          {@link org.eclipse.collections.impl.stack.mutable.ArrayStack} - a MutableStack backed by a FastList.
  *     </li>
  *     <li>
+ *          {@link org.eclipse.collections.impl.stack.mutable.ConcurrentStack} - a lock-free MutableStack backed by a linked list of immutable nodes.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.impl.stack.mutable.SynchronizedStack} - a synchronized view of a stack.
  *     </li>
  *     <li>
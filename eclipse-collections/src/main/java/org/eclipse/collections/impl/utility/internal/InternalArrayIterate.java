@@ -12,6 +12,7 @@ package org.eclipse.collections.impl.utility.internal;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.DoubleSummaryStatistics;
@@ -51,6 +52,7 @@ import org.eclipse.collections.api.multimap.MutableMultimap;
 import org.eclipse.collections.api.ordered.OrderedIterable;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.tuple.Twin;
+import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.procedure.CountProcedure;
 import org.eclipse.collections.impl.block.procedure.FastListCollectIfProcedure;
 import org.eclipse.collections.impl.block.procedure.FastListCollectProcedure;
@@ -71,6 +73,15 @@ import org.eclipse.collections.impl.utility.Iterate;
 
 public final class InternalArrayIterate
 {
+    /**
+     * Arrays with fewer items than this are sorted by key with a comparator, as the histograms of the radix sort would
+     * cost more than the comparisons.
+     */
+    private static final int SORT_BY_KEY_RADIX_THRESHOLD = 256;
+    private static final int RADIX_DIGIT_BITS = 8;
+    private static final int RADIX_DIGIT_COUNT = Long.SIZE / RADIX_DIGIT_BITS;
+    private static final int RADIX_BUCKET_COUNT = 1 << RADIX_DIGIT_BITS;
+
     private InternalArrayIterate()
     {
         throw new AssertionError("Suppress default constructor for noninstantiability");
@@ -950,6 +961,167 @@ public final class InternalArrayIterate
         return result;
     }
 
+    /**
+     * Stable sort of the first size items by the int key of each item. The key function is called exactly once per
+     * item: the keys are extracted into a primitive array, the item indexes are radix sorted by key, and the items
+     * are then permuted in place.
+     *
+     * @since 10.3
+     */
+    public static <T> void sortThisByInt(T[] array, int size, IntFunction<? super T> function)
+    {
+        if (size < SORT_BY_KEY_RADIX_THRESHOLD)
+        {
+            Arrays.sort(array, 0, size, Functions.toIntComparator(function));
+            return;
+        }
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            // Offsetting the key makes it non-negative, so the upper half of the long key is always skipped
+            keys[i] = (long) function.intValueOf(array[i]) - Integer.MIN_VALUE;
+        }
+        InternalArrayIterate.permute(array, InternalArrayIterate.radixSortIndexes(keys));
+    }
+
+    /**
+     * Stable sort of the first size items by the long key of each item, calling the key function once per item.
+     *
+     * @see #sortThisByInt(Object[], int, IntFunction)
+     * @since 10.3
+     */
+    public static <T> void sortThisByLong(T[] array, int size, LongFunction<? super T> function)
+    {
+        if (size < SORT_BY_KEY_RADIX_THRESHOLD)
+        {
+            Arrays.sort(array, 0, size, Functions.toLongComparator(function));
+            return;
+        }
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            keys[i] = function.longValueOf(array[i]);
+        }
+        InternalArrayIterate.permute(array, InternalArrayIterate.radixSortIndexes(keys));
+    }
+
+    /**
+     * Stable sort of the first size items by the double key of each item, calling the key function once per item.
+     * The keys are ordered like {@link Double#compare(double, double)}.
+     *
+     * @see #sortThisByInt(Object[], int, IntFunction)
+     * @since 10.3
+     */
+    public static <T> void sortThisByDouble(T[] array, int size, DoubleFunction<? super T> function)
+    {
+        if (size < SORT_BY_KEY_RADIX_THRESHOLD)
+        {
+            Arrays.sort(array, 0, size, Functions.toDoubleComparator(function));
+            return;
+        }
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            // Flipping all but the sign bit of negative values makes the bits sort like Double.compare()
+            long bits = Double.doubleToLongBits(function.doubleValueOf(array[i]));
+            keys[i] = bits ^ (bits >> 63) & Long.MAX_VALUE;
+        }
+        InternalArrayIterate.permute(array, InternalArrayIterate.radixSortIndexes(keys));
+    }
+
+    /**
+     * Returns the indexes of the keys in ascending signed order of the keys, with equal keys kept in index order. This
+     * is a least significant digit radix sort, where digits which are equal for every key are skipped.
+     */
+    private static int[] radixSortIndexes(long[] keys)
+    {
+        int size = keys.length;
+        int[][] counts = new int[RADIX_DIGIT_COUNT][RADIX_BUCKET_COUNT];
+        for (long key : keys)
+        {
+            for (int digit = 0; digit < RADIX_DIGIT_COUNT; digit++)
+            {
+                counts[digit][InternalArrayIterate.radixDigit(key, digit)]++;
+            }
+        }
+
+        long[] sourceKeys = keys;
+        int[] sourceIndexes = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            sourceIndexes[i] = i;
+        }
+        long[] targetKeys = null;
+        int[] targetIndexes = null;
+        for (int digit = 0; digit < RADIX_DIGIT_COUNT; digit++)
+        {
+            int[] offsets = counts[digit];
+            if (offsets[InternalArrayIterate.radixDigit(sourceKeys[0], digit)] == size)
+            {
+                continue;
+            }
+            if (targetKeys == null)
+            {
+                targetKeys = new long[size];
+                targetIndexes = new int[size];
+            }
+            int offset = 0;
+            for (int bucket = 0; bucket < RADIX_BUCKET_COUNT; bucket++)
+            {
+                int count = offsets[bucket];
+                offsets[bucket] = offset;
+                offset += count;
+            }
+            for (int i = 0; i < size; i++)
+            {
+                long key = sourceKeys[i];
+                int target = offsets[InternalArrayIterate.radixDigit(key, digit)]++;
+                targetKeys[target] = key;
+                targetIndexes[target] = sourceIndexes[i];
+            }
+            long[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+            int[] swapIndexes = sourceIndexes;
+            sourceIndexes = targetIndexes;
+            targetIndexes = swapIndexes;
+        }
+        return sourceIndexes;
+    }
+
+    private static int radixDigit(long key, int digit)
+    {
+        int value = (int) (key >>> (digit * RADIX_DIGIT_BITS)) & (RADIX_BUCKET_COUNT - 1);
+        // The sign bit is flipped on the most significant digit so that negative keys sort first
+        return digit == RADIX_DIGIT_COUNT - 1 ? value ^ (RADIX_BUCKET_COUNT >> 1) : value;
+    }
+
+    /**
+     * Moves the item at indexes[i] to position i for every i, following each cycle of the permutation so that no copy
+     * of the array is needed. The indexes are overwritten.
+     */
+    private static <T> void permute(T[] array, int[] indexes)
+    {
+        for (int start = 0; start < indexes.length; start++)
+        {
+            if (indexes[start] != start)
+            {
+                T first = array[start];
+                int current = start;
+                int next = indexes[current];
+                while (next != start)
+                {
+                    array[current] = array[next];
+                    indexes[current] = current;
+                    current = next;
+                    next = indexes[current];
+                }
+                array[current] = first;
+                indexes[current] = current;
+            }
+        }
+    }
+
     public static <T> long sumOfInt(T[] array, int size, IntFunction<? super T> function)
     {
         long result = 0L;
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+/**
+ * Each write adds two occurrences at once, so an optimistic {@code size()} that races with the writes and a rehash
+ * must only see even sizes, and an optimistic {@code notEmpty()} must always be true.
+ */
+@JCStressTest
+@Outcome(id = "true, true", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class MultiReaderHashBagStampedSizeTest
+{
+    private final MultiReaderHashBag<Integer> bag = MultiReaderHashBag.newStampedBag(1);
+
+    public MultiReaderHashBagStampedSizeTest()
+    {
+        this.bag.addOccurrences(0, 2);
+    }
+
+    @Actor
+    public void addWithRehash()
+    {
+        for (int i = 1; i <= 16; i++)
+        {
+            this.bag.addOccurrences(i, 2);
+        }
+    }
+
+    @Actor
+    public void size(ZZ_Result r)
+    {
+        r.r1 = this.bag.notEmpty();
+        int size = this.bag.size();
+        r.r2 = size >= 2 && size <= 34 && size % 2 == 0;
+    }
+}
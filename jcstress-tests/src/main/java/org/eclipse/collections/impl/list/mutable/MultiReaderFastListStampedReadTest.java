@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.mutable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * The list only grows, so once an optimistic {@code size()} has seen both elements, the element at that index must be
+ * visible as well.
+ */
+@JCStressTest
+@Outcome(id = "0, 0", expect = Expect.ACCEPTABLE)
+@Outcome(id = "1, 0", expect = Expect.ACCEPTABLE)
+@Outcome(id = "2, 2", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class MultiReaderFastListStampedReadTest
+{
+    private final MultiReaderFastList<Integer> list = MultiReaderFastList.newStampedList(1);
+
+    @Actor
+    public void add()
+    {
+        this.list.add(1);
+        this.list.add(2);
+    }
+
+    @Actor
+    public void read(II_Result r)
+    {
+        int size = this.list.size();
+        r.r1 = size;
+        r.r2 = size == 2 ? this.list.get(1) : 0;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Only one of two racing calls to getIfAbsentPut may store its value, and both must return the value that was stored.
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "The first actor stored its value.")
+@Outcome(id = "2, 2", expect = Expect.ACCEPTABLE, desc = "The second actor stored its value.")
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentIntIntHashMapGetIfAbsentPutTest
+{
+    private final ConcurrentIntIntHashMap map = ConcurrentIntIntHashMap.newMap();
+
+    @Actor
+    public void actor1(II_Result r)
+    {
+        r.r1 = this.map.getIfAbsentPut(1, 1);
+    }
+
+    @Actor
+    public void actor2(II_Result r)
+    {
+        r.r2 = this.map.getIfAbsentPut(1, 2);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJ_Result;
+
+/**
+ * Adding to the value of a key in place, while another thread removes the key, must either be included in the value
+ * returned by the removal or put the key back, but never be lost.
+ */
+@JCStressTest
+@Outcome(id = "2, -1", expect = Expect.ACCEPTABLE, desc = "The value was added to before the removal.")
+@Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "The key was put back after the removal.")
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentObjectLongHashMapAddToValueAndRemoveTest
+{
+    private final ConcurrentObjectLongHashMap<Integer> map = ConcurrentObjectLongHashMap.newMap(1);
+
+    public ConcurrentObjectLongHashMapAddToValueAndRemoveTest()
+    {
+        this.map.put(1, 1L);
+        this.map.put(2, 2L);
+    }
+
+    @Actor
+    public void add()
+    {
+        this.map.addToValue(1, 1L);
+    }
+
+    @Actor
+    public void remove(JJ_Result r)
+    {
+        r.r1 = this.map.removeKeyIfAbsent(1, -1L);
+    }
+
+    @Arbiter
+    public void arbiter(JJ_Result r)
+    {
+        r.r2 = this.map.getIfAbsent(1, -1L);
+    }
+}
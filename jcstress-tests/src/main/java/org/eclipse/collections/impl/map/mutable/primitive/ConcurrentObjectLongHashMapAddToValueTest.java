@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.JJ_Result;
+
+/**
+ * Two threads adding to the value of the same key must both be counted, whether or not the key was present and
+ * whether or not the table is being resized at the same time.
+ */
+@JCStressTest
+@Outcome(id = "2, 2", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentObjectLongHashMapAddToValueTest
+{
+    private final ConcurrentObjectLongHashMap<Integer> map = ConcurrentObjectLongHashMap.newMap(1);
+
+    @Actor
+    public void add1()
+    {
+        this.map.addToValue(1, 1L);
+    }
+
+    @Actor
+    public void add2()
+    {
+        this.map.addToValue(1, 1L);
+        this.map.put(2, 2L);
+    }
+
+    @Arbiter
+    public void arbiter(JJ_Result r)
+    {
+        r.r1 = this.map.get(1);
+        r.r2 = this.map.get(2);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+/**
+ * Removing the last value of a key removes its list from the map. A put that races with it must not add its value to
+ * the removed list, where it would be counted by {@code size()} but could no longer be found.
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentFastListMultimapPutRemoveTest
+{
+    private final ConcurrentFastListMultimap<String, Integer> multimap = ConcurrentFastListMultimap.newMultimap();
+
+    public ConcurrentFastListMultimapPutRemoveTest()
+    {
+        this.multimap.put("A", 1);
+    }
+
+    @Actor
+    public void remove()
+    {
+        this.multimap.remove("A", 1);
+    }
+
+    @Actor
+    public void put()
+    {
+        this.multimap.put("A", 2);
+    }
+
+    @Arbiter
+    public void arbiter(II_Result r)
+    {
+        r.r1 = this.multimap.size();
+        r.r2 = this.multimap.get("A").size();
+    }
+}
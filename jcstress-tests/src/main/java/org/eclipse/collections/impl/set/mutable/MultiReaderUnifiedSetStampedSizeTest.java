@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+/**
+ * An optimistic {@code isEmpty()} or {@code size()} that races with adds and a rehash must never see the set empty,
+ * and two optimistic {@code size()} calls in a row must never see it shrink.
+ */
+@JCStressTest
+@Outcome(id = "false, true", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class MultiReaderUnifiedSetStampedSizeTest
+{
+    private final MultiReaderUnifiedSet<Integer> set = MultiReaderUnifiedSet.newStampedSet(1);
+
+    public MultiReaderUnifiedSetStampedSizeTest()
+    {
+        this.set.add(0);
+    }
+
+    @Actor
+    public void addWithRehash()
+    {
+        for (int i = 1; i <= 16; i++)
+        {
+            this.set.add(i);
+        }
+    }
+
+    @Actor
+    public void size(ZZ_Result r)
+    {
+        r.r1 = this.set.isEmpty();
+        int first = this.set.size();
+        int second = this.set.size();
+        r.r2 = first >= 1 && first <= second && second <= 17;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.bag;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.impl.bag.mutable.ConcurrentHashBag;
+import org.eclipse.collections.impl.bag.mutable.MultiReaderHashBag;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the throughput of counting frequencies from many threads into a MultiReaderHashBag, which takes its write
+ * lock for every add, and into a ConcurrentHashBag.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class BagAddContentionTest extends AbstractJMHTestRunner
+{
+    private static final int DISTINCT_ITEMS = 1_000;
+
+    @Param({"MULTI_READER", "CONCURRENT"})
+    public String bagType;
+
+    private MutableBag<Integer> bag;
+
+    @Setup
+    public void setUp()
+    {
+        this.bag = "CONCURRENT".equals(this.bagType)
+                ? ConcurrentHashBag.newBag()
+                : MultiReaderHashBag.newBag();
+    }
+
+    @Benchmark
+    public boolean add()
+    {
+        return this.bag.add(ThreadLocalRandom.current().nextInt(DISTINCT_ITEMS));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.list;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.MultiReaderFastList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the read throughput of a MultiReaderFastList guarded by a ReentrantReadWriteLock with one guarded by a
+ * StampedLock, with many reader threads and a single, mostly idle, writer thread.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiReaderListContentionTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1_000;
+
+    @Param({"REENTRANT", "STAMPED"})
+    public String lock;
+
+    private MultiReaderFastList<Integer> list;
+
+    @Setup
+    public void setUp()
+    {
+        this.list = "STAMPED".equals(this.lock)
+                ? MultiReaderFastList.newStampedList(SIZE)
+                : MultiReaderFastList.newList(SIZE);
+        this.list.addAll(Interval.zeroTo(SIZE - 1));
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(15)
+    public int read()
+    {
+        return this.list.size() + this.list.get(SIZE / 2);
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public void write()
+    {
+        this.list.set(0, this.list.get(0));
+    }
+}
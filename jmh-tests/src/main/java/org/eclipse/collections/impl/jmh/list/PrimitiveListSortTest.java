@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.list;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.list.primitive.SortAlgorithm;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the radix sort of the primitive array lists with {@link java.util.Arrays#sort(int[])}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PrimitiveListSortTest extends AbstractJMHTestRunner
+{
+    @Param({"10000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"ARRAYS_SORT", "RADIX"})
+    public SortAlgorithm algorithm;
+
+    private int[] ints;
+    private long[] longs;
+    private IntArrayList intList;
+    private LongArrayList longList;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789L);
+        this.ints = random.ints(this.size).toArray();
+        this.longs = random.longs(this.size).toArray();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation()
+    {
+        this.intList = IntArrayList.newListWith(this.ints.clone());
+        this.longList = LongArrayList.newListWith(this.longs.clone());
+    }
+
+    @Benchmark
+    public IntArrayList sortThis_int()
+    {
+        return this.intList.sortThis(this.algorithm);
+    }
+
+    @Benchmark
+    public LongArrayList sortThis_long()
+    {
+        return this.longList.sortThis(this.algorithm);
+    }
+}
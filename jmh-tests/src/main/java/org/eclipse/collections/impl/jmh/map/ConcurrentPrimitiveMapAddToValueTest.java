@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.primitive.ConcurrentIntIntHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ConcurrentObjectLongHashMap;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Measures adding to the values of keys that are already present in the concurrent primitive maps from many threads,
+ * and checks with the GC profiler that these updates allocate nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class ConcurrentPrimitiveMapAddToValueTest extends AbstractJMHTestRunner
+{
+    private static final int KEY_COUNT = 1024;
+
+    @Param({"OBJECT_LONG", "INT_INT"})
+    public String mapType;
+
+    private final Integer[] keys = new Integer[KEY_COUNT];
+    private final ConcurrentObjectLongHashMap<Integer> objectLongMap = ConcurrentObjectLongHashMap.newMap();
+    private final ConcurrentIntIntHashMap intIntMap = ConcurrentIntIntHashMap.newMap();
+
+    @Setup
+    public void setUp()
+    {
+        for (int i = 0; i < KEY_COUNT; i++)
+        {
+            this.keys[i] = i;
+            this.objectLongMap.put(this.keys[i], 0L);
+            this.intIntMap.put(i, 0);
+        }
+    }
+
+    @Benchmark
+    public long addToValue()
+    {
+        int index = ThreadLocalRandom.current().nextInt(KEY_COUNT);
+        if ("OBJECT_LONG".equals(this.mapType))
+        {
+            return this.objectLongMap.addToValue(this.keys[index], 1L);
+        }
+        return this.intIntMap.addToValue(index, 1);
+    }
+
+    @Override
+    @Test
+    public void runTests() throws RunnerException
+    {
+        Options opts = new OptionsBuilder()
+                .include(".*" + this.getClass().getName() + ".*")
+                .warmupTime(TimeValue.seconds(2))
+                .warmupIterations(this.warmUpCount())
+                .measurementTime(TimeValue.seconds(2))
+                .measurementIterations(this.runCount())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build();
+
+        Collection<RunResult> results = new Runner(opts).run();
+        for (RunResult result : results)
+        {
+            Result<?> allocated = result.getSecondaryResults().get("\u00b7gc.alloc.rate.norm");
+            Assert.assertNotNull(allocated);
+            Assert.assertTrue(result.getParams().getParam("mapType") + " allocated " + allocated.getScore() + " bytes per update", allocated.getScore() < 1.0);
+        }
+    }
+
+    @Override
+    protected int runCount()
+    {
+        return 5;
+    }
+
+    @Override
+    protected int warmUpCount()
+    {
+        return 5;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.multimap;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.multimap.list.ConcurrentFastListMultimap;
+import org.eclipse.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
+import org.eclipse.collections.impl.multimap.set.ConcurrentUnifiedSetMultimap;
+import org.eclipse.collections.impl.multimap.set.SynchronizedPutUnifiedSetMultimap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the throughput of putting distinct values to a single hot key from many threads. The synchronized-put
+ * multimaps serialize every put on one lock, while the concurrent multimaps append to the values of the key without
+ * locking or copying them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class MultimapHotKeyPutTest extends AbstractJMHTestRunner
+{
+    private static final String HOT_KEY = "hot";
+
+    @Param({"SYNCHRONIZED_LIST", "CONCURRENT_LIST", "SYNCHRONIZED_SET", "CONCURRENT_SET"})
+    public String multimapType;
+
+    private final AtomicInteger nextValue = new AtomicInteger();
+    private MutableMultimap<String, Integer> multimap;
+
+    @Setup(Level.Iteration)
+    public void setUp()
+    {
+        this.nextValue.set(0);
+        switch (this.multimapType)
+        {
+            case "SYNCHRONIZED_LIST":
+                this.multimap = SynchronizedPutFastListMultimap.newMultimap();
+                break;
+            case "CONCURRENT_LIST":
+                this.multimap = ConcurrentFastListMultimap.newMultimap();
+                break;
+            case "SYNCHRONIZED_SET":
+                this.multimap = SynchronizedPutUnifiedSetMultimap.newMultimap();
+                break;
+            default:
+                this.multimap = ConcurrentUnifiedSetMultimap.newMultimap();
+                break;
+        }
+    }
+
+    @Benchmark
+    public boolean put()
+    {
+        return this.multimap.put(HOT_KEY, this.nextValue.getAndIncrement());
+    }
+}
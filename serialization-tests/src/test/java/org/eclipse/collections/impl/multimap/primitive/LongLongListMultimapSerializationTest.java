@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.primitive;
+
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class LongLongListMultimapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAERvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm11bHRpbWFwLnByaW1pdGl2ZS5M\n"
+                        + "b25nTG9uZ0xpc3RNdWx0aW1hcAAAAAAAAAABDAAAeHB3BAAAAAB4",
+                new LongLongListMultimap());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.stack.mutable;
+
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ConcurrentStackSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADpvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLnN0YWNrLm11dGFibGUuQ29uY3Vy\n"
+                        + "cmVudFN0YWNrAAAAAAAAAAEMAAB4cHcEAAAAAHg=",
+                ConcurrentStack.newStack());
+    }
+
+    @Test
+    public void serializedForm_with_element()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADpvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLnN0YWNrLm11dGFibGUuQ29uY3Vy\n"
+                        + "cmVudFN0YWNrAAAAAAAAAAEMAAB4cHcEAAAAAXB4",
+                ConcurrentStack.newStackWith((Object) null));
+    }
+
+    @Test
+    public void serializedForm_with_elements()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADpvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLnN0YWNrLm11dGFibGUuQ29uY3Vy\n"
+                        + "cmVudFN0YWNrAAAAAAAAAAEMAAB4cHcEAAAABXBwcHBweA==",
+                ConcurrentStack.newStackWith(null, null, null, null, null));
+    }
+}
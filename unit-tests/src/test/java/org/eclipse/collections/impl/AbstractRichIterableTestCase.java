@@ -109,6 +109,8 @@ import org.eclipse.collections.impl.list.mutable.primitive.ShortArrayList;
 import org.eclipse.collections.impl.list.primitive.IntInterval;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.eclipse.collections.impl.multimap.primitive.IntObjectListMultimap;
+import org.eclipse.collections.impl.multimap.primitive.LongObjectSetMultimap;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
 import org.eclipse.collections.impl.test.Verify;
@@ -1629,6 +1631,25 @@ public abstract class AbstractRichIterableTestCase
                 collection.groupByUniqueKey(id -> id, UnifiedMap.newWithKeysValues(2, 2)));
     }
 
+    @Test
+    public void groupByInt()
+    {
+        RichIterable<Integer> collection = this.newWith(1, 2, 3, 4);
+        IntObjectListMultimap<Integer> multimap = collection.groupByInt(each -> each % 2, IntObjectListMultimap.newMultimap());
+        Assert.assertEquals(collection.size(), multimap.size());
+        Assert.assertEquals(collection.count(each -> each % 2 == 0), multimap.get(0).size());
+        multimap.forEachKeyValue((key, value) -> Assert.assertEquals(value % 2, key));
+    }
+
+    @Test
+    public void groupByLong()
+    {
+        RichIterable<Integer> collection = this.newWith(1, 2, 3, 4);
+        LongObjectSetMultimap<Integer> multimap = collection.groupByLong(each -> each * 10_000_000_000L, LongObjectSetMultimap.newMultimap());
+        Assert.assertEquals(collection.toSet().size(), multimap.size());
+        multimap.forEachKeyValue((key, value) -> Assert.assertEquals(value * 10_000_000_000L, key));
+    }
+
     @Test
     public void zip()
     {
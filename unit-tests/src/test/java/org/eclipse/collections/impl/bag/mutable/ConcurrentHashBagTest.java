@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    @Override
+    protected <T> MutableBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (int i = 0; i < elementsWithOccurrences.length; i++)
+        {
+            ObjectIntPair<T> itemToAdd = elementsWithOccurrences[i];
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Test
+    public void newBagWith()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.<String>newBag().with("apple", "apple", null);
+        assertBagsEqual(HashBag.newBagWith("apple", "apple", null), bag);
+        assertBagsEqual(HashBag.newBagWith("apple", "apple", null), ConcurrentHashBag.newBag(bag));
+        Verify.assertInstanceOf(ConcurrentHashBag.class, bag.newEmpty());
+    }
+
+    @Test
+    public void removedItemCanBeAddedAgain()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "a");
+        Assert.assertTrue(bag.removeOccurrences("a", 5));
+        Assert.assertFalse(bag.removeOccurrences("a", 1));
+        Assert.assertEquals(0, bag.sizeDistinct());
+        Assert.assertEquals(1, bag.addOccurrences("a", 1));
+        Assert.assertTrue(bag.setOccurrences("a", 3));
+        Assert.assertEquals(3, bag.occurrencesOf("a"));
+        Assert.assertTrue(bag.setOccurrences("a", 0));
+        Assert.assertFalse(bag.contains("a"));
+        Verify.assertEmpty(bag);
+    }
+
+    @Test
+    public void addOccurrencesDoesNotOverflow()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBag();
+        bag.addOccurrences("a", Integer.MAX_VALUE - 1);
+        Assert.assertEquals(Integer.MAX_VALUE, bag.addOccurrences("a", 1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> bag.addOccurrences("a", 1));
+        Assert.assertEquals(Integer.MAX_VALUE, bag.occurrencesOf("a"));
+    }
+
+    @Test
+    public void concurrentAddAndRemove()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+            ParallelIterate.forEach(Interval.oneTo(20_000), each -> bag.addOccurrences(each % 10, 2), 1, executor);
+            ParallelIterate.forEach(Interval.oneTo(20_000), each -> bag.remove(each % 10), 1, executor);
+            Verify.assertSize(20_000, bag);
+            Assert.assertEquals(10, bag.sizeDistinct());
+            for (int i = 0; i < 10; i++)
+            {
+                Assert.assertEquals(2_000, bag.occurrencesOf(i));
+            }
+
+            ParallelIterate.forEach(Interval.oneTo(20_000), each -> bag.remove(each % 10), 1, executor);
+            Verify.assertEmpty(bag);
+            Assert.assertEquals(0, bag.sizeDistinct());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+}
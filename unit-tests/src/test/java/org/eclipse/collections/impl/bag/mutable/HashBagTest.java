@@ -11,10 +11,13 @@
 package org.eclipse.collections.impl.bag.mutable;
 
 import java.util.Collections;
+import java.util.Spliterator;
 
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.collector.Collectors2;
 import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.test.Verify;
@@ -119,4 +122,29 @@ public class HashBagTest extends MutableBagTestCase
                 HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4),
                 HashBag.newBag(HashBag.newBagWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4)));
     }
+
+    @Test
+    public void spliterator()
+    {
+        HashBag<Integer> bag = HashBag.newBag();
+        Interval.oneTo(10000).each(each -> bag.addOccurrences(each, each % 5));
+        bag.addOccurrences(null, 3);
+
+        Assert.assertEquals(bag, bag.stream().collect(Collectors2.toBag()));
+        Assert.assertEquals(bag, bag.parallelStream().collect(Collectors2.toBag()));
+        Assert.assertEquals(bag.size(), bag.parallelStream().toArray().length);
+
+        Spliterator<Integer> spliterator = bag.spliterator();
+        Assert.assertEquals(bag.size(), spliterator.getExactSizeIfKnown());
+
+        MutableBag<Integer> visited = HashBag.newBag();
+        Assert.assertTrue(spliterator.tryAdvance(visited::add));
+        Spliterator<Integer> split = spliterator.trySplit();
+        Assert.assertNotNull(split);
+        split.forEachRemaining(visited::add);
+        spliterator.forEachRemaining(visited::add);
+        Assert.assertEquals(bag, visited);
+
+        Assert.assertFalse(HashBag.newBag().spliterator().tryAdvance(each -> Assert.fail()));
+    }
 }
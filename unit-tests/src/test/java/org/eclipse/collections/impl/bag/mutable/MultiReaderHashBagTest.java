@@ -68,6 +68,55 @@ public class MultiReaderHashBagTest extends MultiReaderMutableCollectionTestCase
         Verify.assertEmpty(MultiReaderHashBag.<Integer>newBagWith(null, null).newEmpty());
     }
 
+    @Test
+    public void newStampedBag()
+    {
+        MultiReaderHashBag<Integer> bag = MultiReaderHashBag.newStampedBag();
+        Verify.assertEmpty(bag);
+        bag.addOccurrences(1, 3);
+        bag.add(2);
+        Verify.assertSize(4, bag);
+        Assert.assertTrue(bag.notEmpty());
+        Assert.assertTrue(bag.contains(2));
+        Assert.assertFalse(bag.contains(3));
+        Assert.assertEquals(3, bag.occurrencesOf(1));
+        Assert.assertEquals(0, bag.occurrencesOf(3));
+
+        bag.withWriteLockAndDelegate(delegate -> delegate.add(3));
+        bag.withReadLockAndDelegate(delegate -> Verify.assertSize(5, delegate));
+        Assert.assertEquals(HashBag.newBagWith(1, 1, 1, 2, 3), bag);
+        Verify.assertEmpty(bag.newEmpty());
+        Verify.assertEmpty(MultiReaderHashBag.newStampedBag(10));
+    }
+
+    @Test
+    public void newStampedBag_selfReferentialBulkOperations()
+    {
+        MultiReaderHashBag<Integer> bag = MultiReaderHashBag.newStampedBag();
+        bag.addOccurrences(1, 2);
+        bag.add(2);
+        Assert.assertTrue(bag.containsAll(bag));
+        Assert.assertTrue(bag.addAll(bag));
+        Assert.assertEquals(HashBag.newBagWith(1, 1, 1, 1, 2, 2), bag);
+        Assert.assertFalse(bag.retainAll(bag));
+        Assert.assertEquals(bag, bag);
+        Assert.assertTrue(bag.removeAll(bag));
+        Verify.assertEmpty(bag);
+    }
+
+    @Test
+    public void newStampedBag_reentryUnderWriteLockThrows()
+    {
+        MultiReaderHashBag<Integer> bag = MultiReaderHashBag.newStampedBag();
+        bag.addAll(Interval.oneTo(3));
+        Verify.assertThrows(IllegalStateException.class, () -> bag.removeIf(each -> bag.occurrencesOf(4) == 0));
+        Assert.assertEquals(HashBag.newBagWith(1, 2, 3), bag);
+        Assert.assertTrue(bag.removeIf(each -> each == 2));
+
+        MultiReaderHashBag<Integer> defaultBag = MultiReaderHashBag.newBagWith(1, 2, 3);
+        Assert.assertFalse(defaultBag.removeIf(each -> defaultBag.contains(4)));
+    }
+
     @Test
     public void hashBagNewWith()
     {
@@ -19,6 +19,8 @@ import org.eclipse.collections.api.block.function.primitive.FloatFunction;
 import org.eclipse.collections.api.block.function.primitive.IntFunction;
 import org.eclipse.collections.api.block.function.primitive.LongFunction;
 import org.eclipse.collections.api.block.function.primitive.ShortFunction;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.test.domain.Person;
 import org.junit.Assert;
@@ -256,6 +258,41 @@ public class HashingStrategiesTest
         Assert.assertFalse(shortFunctionHashingStrategy.equals(Integer.valueOf(2), Integer.valueOf(1)));
     }
 
+    @Test
+    public void hashFloodResistantStrategy()
+    {
+        HashingStrategy<String> stringHashingStrategy = HashingStrategies.hashFloodResistantStrategy();
+        Assert.assertEquals(0, stringHashingStrategy.computeHashCode(null));
+        Assert.assertEquals(stringHashingStrategy.computeHashCode("TEST"), stringHashingStrategy.computeHashCode(new StringBuilder("TEST").toString()));
+        Assert.assertTrue(stringHashingStrategy.equals(null, null));
+        Assert.assertFalse(stringHashingStrategy.equals(null, "TEST"));
+        Assert.assertFalse(stringHashingStrategy.equals("TEST", null));
+        Assert.assertTrue(stringHashingStrategy.equals("lowercase", "lowercase"));
+        Assert.assertFalse(stringHashingStrategy.equals("lowercase", "LOWERCASE"));
+
+        HashingStrategy<Integer> integerHashingStrategy = HashingStrategies.hashFloodResistantStrategy();
+        Assert.assertEquals(integerHashingStrategy.computeHashCode(1000), integerHashingStrategy.computeHashCode(Integer.valueOf(1000)));
+        Assert.assertTrue(integerHashingStrategy.equals(1000, Integer.valueOf(1000)));
+
+        MutableList<String> collisions = HashingStrategiesTest.collidingStrings(10);
+        Verify.assertSize(1024, collisions);
+        Verify.assertSize(1, collisions.collect(String::hashCode).toSet());
+        Assert.assertTrue(collisions.collectInt(stringHashingStrategy::computeHashCode).toSet().size() > 1000);
+    }
+
+    /**
+     * "Aa" and "BB" have the same hashCode, and so does every string made of the same number of them.
+     */
+    private static MutableList<String> collidingStrings(int blocks)
+    {
+        MutableList<String> strings = FastList.newListWith("");
+        for (int i = 0; i < blocks; i++)
+        {
+            strings = strings.flatCollect(each -> FastList.newListWith(each + "Aa", each + "BB"));
+        }
+        return strings;
+    }
+
     @Test
     public void classIsNonInstantiable()
     {
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.eclipse.collections.api.tuple.Twin;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.factory.SortedSets;
+import org.eclipse.collections.impl.lazy.parallel.list.ListIterableBatch;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ForkJoinPoolParallelIterableTest
+{
+    private static final int SIZE = 100_000;
+
+    private ForkJoinPool forkJoinPool;
+
+    @Before
+    public void setUp()
+    {
+        this.forkJoinPool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.forkJoinPool.shutdownNow();
+    }
+
+    @Test
+    public void forEach()
+    {
+        MutableList<Integer> list = Interval.oneTo(SIZE).toList();
+        this.assertForEach(list.asParallel(this.forkJoinPool, 1000), list);
+        this.assertForEach(list.asParallel(this.forkJoinPool, SIZE), list);
+
+        MutableSet<Integer> set = UnifiedSet.newSet(list);
+        this.assertForEach(set.asParallel(this.forkJoinPool, 1000), set);
+
+        ImmutableSortedSet<Integer> sortedSet = SortedSets.immutable.withAll(list);
+        this.assertForEach(sortedSet.asParallel(this.forkJoinPool, 1000), sortedSet);
+    }
+
+    private void assertForEach(ParallelIterable<Integer> parallelIterable, Iterable<Integer> expected)
+    {
+        LongAdder sum = new LongAdder();
+        AtomicInteger count = new AtomicInteger();
+        parallelIterable.forEach(each -> {
+            sum.add(each);
+            count.incrementAndGet();
+        });
+        Assert.assertEquals((long) SIZE * (SIZE + 1) / 2, sum.sum());
+        Assert.assertEquals(SIZE, count.get());
+        Assert.assertEquals(HashBag.newBag(expected), parallelIterable.toBag());
+    }
+
+    @Test
+    public void forEach_skewedBatch()
+    {
+        MutableList<Integer> list = Interval.oneTo(SIZE).toList();
+        LongAdder sum = new LongAdder();
+        // Only the first batch is expensive, so the other workers must steal halves of it to help
+        list.asParallel(this.forkJoinPool, SIZE / 2).forEach(each -> {
+            if (each <= SIZE / 2 && each % 10_000 == 0)
+            {
+                Thread.yield();
+            }
+            sum.add(each);
+        });
+        Assert.assertEquals((long) SIZE * (SIZE + 1) / 2, sum.sum());
+    }
+
+    @Test
+    public void anySatisfy()
+    {
+        MutableList<Integer> list = Interval.oneTo(SIZE).toList();
+        Assert.assertTrue(list.asParallel(this.forkJoinPool, 1000).anySatisfy(each -> each == SIZE));
+        Assert.assertFalse(list.asParallel(this.forkJoinPool, 1000).anySatisfy(each -> each > SIZE));
+        Assert.assertTrue(UnifiedSet.newSet(list).asParallel(this.forkJoinPool, 1000).anySatisfy(each -> each == 1));
+        Assert.assertFalse(FastList.<Integer>newList().asParallel(this.forkJoinPool, 1000).anySatisfy(each -> true));
+    }
+
+    @Test
+    public void allSatisfy()
+    {
+        MutableList<Integer> list = Interval.oneTo(SIZE).toList();
+        Assert.assertTrue(list.asParallel(this.forkJoinPool, 1000).allSatisfy(each -> each > 0));
+        Assert.assertFalse(list.asParallel(this.forkJoinPool, 1000).allSatisfy(each -> each < SIZE));
+        Assert.assertFalse(UnifiedSet.newSet(list).asParallel(this.forkJoinPool, 1000).allSatisfy(each -> each > 1));
+        Assert.assertTrue(FastList.<Integer>newList().asParallel(this.forkJoinPool, 1000).allSatisfy(each -> false));
+    }
+
+    @Test
+    public void detect()
+    {
+        MutableList<Integer> list = Interval.oneTo(SIZE).toList();
+        Assert.assertEquals(Integer.valueOf(SIZE / 2), list.asParallel(this.forkJoinPool, 1000).detect(each -> each >= SIZE / 2));
+        Assert.assertEquals(Integer.valueOf(SIZE / 2), list.asParallel(this.forkJoinPool, SIZE).detect(each -> each >= SIZE / 2));
+        Assert.assertNull(list.asParallel(this.forkJoinPool, 1000).detect(each -> each > SIZE));
+        Assert.assertEquals(Integer.valueOf(7), UnifiedSet.newSet(list).asParallel(this.forkJoinPool, 1000).detect(each -> each == 7));
+    }
+
+    @Test
+    public void select_collect()
+    {
+        MutableList<Integer> list = Interval.oneTo(SIZE).toList();
+        Assert.assertEquals(
+                list.select(each -> each % 3 == 0).collect(String::valueOf),
+                list.asParallel(this.forkJoinPool, 1000).select(each -> each % 3 == 0).collect(String::valueOf).toList());
+    }
+
+    @Test
+    public void forEach_exception()
+    {
+        MutableList<Integer> list = Interval.oneTo(SIZE).toList();
+        Verify.assertThrows(RuntimeException.class, () -> list.asParallel(this.forkJoinPool, 1000).forEach(each -> {
+            if (each == SIZE / 2)
+            {
+                throw new RuntimeException("Execution exception");
+            }
+        }));
+    }
+
+    @Test
+    public void split()
+    {
+        MutableList<Integer> list = Interval.oneTo(5).toList();
+        Twin<RootBatch<Integer>> halves = new ListIterableBatch<>(list, 0, 5).split();
+        MutableList<Integer> left = FastList.newList();
+        MutableList<Integer> right = FastList.newList();
+        halves.getOne().forEach(left::add);
+        halves.getTwo().forEach(right::add);
+        Assert.assertEquals(FastList.newListWith(1, 2), left);
+        Assert.assertEquals(FastList.newListWith(3, 4, 5), right);
+        Assert.assertNull(new ListIterableBatch<>(list, 2, 3).split());
+    }
+}
@@ -18,7 +18,13 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
+import org.eclipse.collections.api.DoubleIterable;
+import org.eclipse.collections.api.IntIterable;
+import org.eclipse.collections.api.LongIterable;
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
@@ -35,6 +41,7 @@ import org.eclipse.collections.api.set.sorted.ParallelSortedSetIterable;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.bag.mutable.primitive.CharHashBag;
+import org.eclipse.collections.impl.bag.mutable.primitive.IntHashBag;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.block.factory.IntegerPredicates;
 import org.eclipse.collections.impl.block.factory.Predicates;
@@ -48,6 +55,9 @@ import org.eclipse.collections.impl.block.procedure.CollectionAddProcedure;
 import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.junit.After;
@@ -924,6 +934,95 @@ public abstract class ParallelIterableTestCase
         }
     }
 
+    @Test
+    public void collectInt()
+    {
+        IntIterable expected = this.getExpected().collectInt(Integer::intValue);
+        ParallelIntIterable actual = this.classUnderTest().collectInt(Integer::intValue);
+
+        Assert.assertEquals(expected.sum(), actual.sum());
+        Assert.assertEquals(expected.min(), actual.min());
+        Assert.assertEquals(expected.max(), actual.max());
+        Assert.assertEquals(expected.average(), actual.average(), 0.0);
+        Assert.assertEquals(expected.count(each -> each > 2), actual.count(each -> each > 2));
+        Assert.assertEquals(expected.toSortedList(), IntArrayList.newListWith(actual.toArray()).sortThis());
+        Assert.assertEquals(
+                expected.select(each -> each > 2).toBag(),
+                IntHashBag.newBagWith(actual.select(each -> each > 2).toArray()));
+        Assert.assertEquals(
+                expected.reject(each -> each > 2).toBag(),
+                IntHashBag.newBagWith(actual.reject(each -> each > 2).toArray()));
+        Assert.assertEquals(
+                expected.collect(String::valueOf, HashBag.newBag()),
+                actual.collect(String::valueOf).toBag());
+        Assert.assertEquals(expected.anySatisfy(each -> each == 3), actual.anySatisfy(each -> each == 3));
+        Assert.assertEquals(expected.anySatisfy(each -> each > 3), actual.anySatisfy(each -> each > 3));
+        Assert.assertEquals(expected.allSatisfy(each -> each > 0), actual.allSatisfy(each -> each > 0));
+        Assert.assertEquals(expected.allSatisfy(each -> each > 1), actual.allSatisfy(each -> each > 1));
+        Assert.assertEquals(expected.noneSatisfy(each -> each > 2), actual.noneSatisfy(each -> each > 2));
+        Assert.assertEquals(42, actual.select(ignored -> false).maxIfEmpty(42));
+        Assert.assertEquals(42, actual.select(ignored -> false).minIfEmpty(42));
+        Verify.assertThrows(NoSuchElementException.class, () -> actual.select(ignored -> false).max());
+        Verify.assertThrows(ArithmeticException.class, () -> actual.select(ignored -> false).average());
+
+        IntHashBag forEach = new IntHashBag();
+        actual.forEach(each ->
+        {
+            synchronized (forEach)
+            {
+                forEach.add(each);
+            }
+        });
+        Assert.assertEquals(expected.toBag(), forEach);
+    }
+
+    @Test
+    public void collectLong()
+    {
+        LongIterable expected = this.getExpected().collectLong(Integer::longValue);
+        ParallelLongIterable actual = this.classUnderTest().collectLong(Integer::longValue);
+
+        Assert.assertEquals(expected.sum(), actual.sum());
+        Assert.assertEquals(expected.min(), actual.min());
+        Assert.assertEquals(expected.max(), actual.max());
+        Assert.assertEquals(expected.toSortedList(), LongArrayList.newListWith(actual.toArray()).sortThis());
+    }
+
+    @Test
+    public void collectDouble()
+    {
+        DoubleIterable expected = this.getExpected().collectDouble(Integer::doubleValue);
+        ParallelDoubleIterable actual = this.classUnderTest().collectDouble(Integer::doubleValue);
+
+        Assert.assertEquals(expected.sum(), actual.sum(), 0.0);
+        Assert.assertEquals(expected.min(), actual.min(), 0.0);
+        Assert.assertEquals(expected.max(), actual.max(), 0.0);
+        Assert.assertEquals(expected.average(), actual.average(), 0.0);
+        Assert.assertEquals(expected.toSortedList(), DoubleArrayList.newListWith(actual.toArray()).sortThis());
+    }
+
+    @Test
+    public void collectDoubleConsistentRounding()
+    {
+        DoubleFunction<Integer> roundingSensitiveElementFunction = i -> (i <= 99995) ? 1.0e-18d : 1.0d;
+
+        MutableList<Integer> list = Interval.oneTo(100_000).toList().shuffleThis();
+        double baseline = this.getExpectedWith(list.toArray(new Integer[]{}))
+                .sumOfDouble(roundingSensitiveElementFunction);
+
+        for (Integer batchSize : BATCH_SIZES)
+        {
+            this.batchSize = batchSize;
+
+            ParallelIterable<Integer> testCollection = this.newWith(list.toArray(new Integer[]{}));
+            Assert.assertEquals(
+                    "Batch size: " + this.batchSize,
+                    baseline,
+                    testCollection.collectDouble(roundingSensitiveElementFunction).sum(),
+                    1.0e-15d);
+        }
+    }
+
     @Test
     public void asUnique()
     {
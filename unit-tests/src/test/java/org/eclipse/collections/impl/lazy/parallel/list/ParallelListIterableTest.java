@@ -10,9 +10,16 @@
 
 package org.eclipse.collections.impl.lazy.parallel.list;
 
+import java.util.Comparator;
+import java.util.Random;
+
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class ParallelListIterableTest extends ParallelListIterableTestCase
@@ -46,4 +53,24 @@ public class ParallelListIterableTest extends ParallelListIterableTestCase
     {
         FastList.newListWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4).asParallel(null, 2);
     }
+
+    @Test
+    public void toSortedList_large()
+    {
+        MutableList<Integer> list = Interval.oneTo(10_000).toList().shuffleThis(new Random(42L));
+        Assert.assertEquals(Interval.oneTo(10_000).toList(), list.asParallel(this.executorService, 300).toSortedList());
+        Assert.assertEquals(
+                Interval.fromToBy(10_000, 1, -1).toList(),
+                list.asParallel(this.executorService, 300).toSortedList(Comparators.reverseNaturalOrder()));
+    }
+
+    @Test
+    public void toSortedList_stable()
+    {
+        MutableList<Integer> list = Interval.oneTo(10_000).toList();
+        Comparator<Integer> byLastDigit = Comparators.byFunction(each -> each % 10);
+        Assert.assertEquals(
+                list.toSortedList(byLastDigit),
+                list.asParallel(this.executorService, 300).toSortedList(byLastDigit));
+    }
 }
@@ -12,6 +12,9 @@ package org.eclipse.collections.impl.lazy.parallel.set.sorted;
 
 import java.util.NoSuchElementException;
 
+import org.eclipse.collections.api.ParallelDoubleIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
+import org.eclipse.collections.api.ParallelLongIterable;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.set.sorted.ParallelSortedSetIterable;
 import org.eclipse.collections.api.set.sorted.SortedSetIterable;
@@ -21,6 +24,7 @@ import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.block.function.PassThruFunction0;
 import org.eclipse.collections.impl.factory.SortedSets;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.eclipse.collections.impl.test.Verify;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -218,4 +222,34 @@ public class ImmutableEmptySortedSetParallelTest extends NonParallelSortedSetIte
     {
         this.classUnderTest().maxBy(Integer::valueOf);
     }
+
+    @Override
+    public void collectInt()
+    {
+        ParallelIntIterable actual = this.classUnderTest().collectInt(Integer::intValue);
+        Assert.assertEquals(0L, actual.sum());
+        Assert.assertEquals(42, actual.maxIfEmpty(42));
+        Assert.assertEquals(0, actual.count(each -> each > 2));
+        Assert.assertArrayEquals(new int[0], actual.toArray());
+        Verify.assertThrows(NoSuchElementException.class, () -> actual.min());
+        Verify.assertThrows(ArithmeticException.class, () -> actual.average());
+    }
+
+    @Override
+    public void collectLong()
+    {
+        ParallelLongIterable actual = this.classUnderTest().collectLong(Integer::longValue);
+        Assert.assertEquals(0L, actual.sum());
+        Assert.assertArrayEquals(new long[0], actual.toArray());
+        Verify.assertThrows(NoSuchElementException.class, () -> actual.max());
+    }
+
+    @Override
+    public void collectDouble()
+    {
+        ParallelDoubleIterable actual = this.classUnderTest().collectDouble(Integer::doubleValue);
+        Assert.assertEquals(0.0, actual.sum(), 0.0);
+        Assert.assertArrayEquals(new double[0], actual.toArray(), 0.0);
+        Verify.assertThrows(NoSuchElementException.class, () -> actual.min());
+    }
 }
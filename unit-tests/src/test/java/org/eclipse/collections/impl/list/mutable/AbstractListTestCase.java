@@ -19,8 +19,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.Random;
 
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
 import org.eclipse.collections.api.collection.MutableCollection;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
@@ -560,6 +562,27 @@ public abstract class AbstractListTestCase
         Assert.assertEquals(Interval.oneTo(1000).toList(), actual);
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        MutableList<Integer> actual = this.newWith(Interval.oneTo(100_000).toArray()).shuffleThis();
+        MutableList<Integer> sorted = actual.sortThisParallel();
+        Assert.assertSame(actual, sorted);
+        Assert.assertEquals(Interval.oneTo(100_000).toList(), actual);
+        Assert.assertEquals(this.newWith(), this.newWith().sortThisParallel());
+    }
+
+    @Test
+    public void sortThisParallel_with_comparator()
+    {
+        MutableList<Integer> actual = this.newWith(Interval.oneTo(100_000).toArray());
+        Comparator<Integer> byLastDigit = Comparators.byFunction(each -> each % 10);
+        MutableList<Integer> expected = actual.toSortedList(byLastDigit);
+        MutableList<Integer> sorted = actual.sortThisParallel(byLastDigit);
+        Assert.assertSame(actual, sorted);
+        Assert.assertEquals(expected, actual);
+    }
+
     @Test
     public void sortThis_with_comparator_small()
     {
@@ -668,6 +691,37 @@ public abstract class AbstractListTestCase
         Assert.assertEquals(FastList.newListWith("1", "2", "3", "4", "5", "6", "7", "8", "9", "10"), actual);
     }
 
+    @Test
+    public void sortThisByInt_large_stable()
+    {
+        MutableList<Integer> actual = this.newWith(new Random(42L).ints(10_000, -100_000, 100_000).boxed().toArray(Integer[]::new));
+        MutableList<Integer> expected = actual.toSortedList(Comparator.comparingInt(each -> each / 100));
+        MutableList<Integer> sorted = actual.sortThisByInt(each -> each / 100);
+        Assert.assertSame(actual, sorted);
+        Assert.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void sortThisByLong_large_stable()
+    {
+        MutableList<Long> actual = this.newWith(new Random(42L).longs(10_000).boxed().toArray(Long[]::new));
+        MutableList<Long> expected = actual.toSortedList(Comparator.comparingLong(each -> each >> 40));
+        MutableList<Long> sorted = actual.sortThisByLong(each -> each >> 40);
+        Assert.assertSame(actual, sorted);
+        Assert.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void sortThisByDouble_large_stable()
+    {
+        MutableList<Integer> actual = this.newWith(new Random(42L).ints(10_000, -100_000, 100_000).boxed().toArray(Integer[]::new));
+        DoubleFunction<Integer> key = each -> each % 1000 == 0 ? -0.0 : Math.floor(each / 100.0);
+        MutableList<Integer> expected = actual.toSortedList(Comparator.comparingDouble(key::doubleValueOf));
+        MutableList<Integer> sorted = actual.sortThisByDouble(key);
+        Assert.assertSame(actual, sorted);
+        Assert.assertEquals(expected, actual);
+    }
+
     @Override
     @Test
     public void newEmpty()
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.mutable;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link CopyOnWriteFastList}.
+ */
+public class CopyOnWriteFastListTest
+{
+    @Test
+    public void addAndRemove()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newList();
+        Assert.assertTrue(list.add(1));
+        list.add(0, 0);
+        list.with(2, 3).with(4);
+        Assert.assertEquals(FastList.newListWith(0, 1, 2, 3, 4), list);
+        Assert.assertEquals(Integer.valueOf(0), list.set(0, 5));
+        Assert.assertEquals(Integer.valueOf(5), list.remove(0));
+        Assert.assertTrue(list.remove(Integer.valueOf(4)));
+        Assert.assertFalse(list.remove(Integer.valueOf(4)));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), list);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3).hashCode(), list.hashCode());
+        list.clear();
+        Verify.assertEmpty(list);
+    }
+
+    @Test
+    public void bulkWrites()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newListWith(1, 2);
+        Assert.assertSame(list, list.withAll(Interval.fromTo(3, 6)));
+        Assert.assertEquals(Interval.oneTo(6), list);
+        Assert.assertTrue(list.removeIf(Predicates.greaterThan(4)));
+        Assert.assertFalse(list.removeIf(Predicates.greaterThan(4)));
+        Assert.assertTrue(list.removeAllIterable(FastList.newListWith(1)));
+        Assert.assertTrue(list.retainAll(FastList.newListWith(2, 3)));
+        Assert.assertEquals(FastList.newListWith(2, 3), list);
+        Assert.assertTrue(list.addAll(0, FastList.newListWith(0, 1)));
+        Assert.assertEquals(FastList.newListWith(0, 1, 2, 3), list);
+        list.replaceAll(each -> each * 10);
+        Assert.assertEquals(FastList.newListWith(0, 10, 20, 30), list);
+        Assert.assertEquals(FastList.newListWith(30, 20, 10, 0), list.reverseThis());
+        Assert.assertEquals(FastList.newListWith(0, 10, 20, 30), list.sortThis());
+        Assert.assertEquals(FastList.newListWith(30, 20, 10, 0), list.sortThisBy(each -> -each));
+    }
+
+    @Test
+    public void iteratorsSeeSnapshot()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newListWith(1, 2, 3);
+        Iterator<Integer> iterator = list.iterator();
+        ListIterator<Integer> listIterator = list.listIterator(1);
+        MutableList<Integer> subList = list.subList(0, 2);
+        list.add(4);
+        list.remove(Integer.valueOf(1));
+
+        MutableList<Integer> iterated = FastList.newList();
+        iterator.forEachRemaining(iterated::add);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), iterated);
+        Assert.assertEquals(Integer.valueOf(2), listIterator.next());
+        Assert.assertEquals(FastList.newListWith(1, 2), subList);
+        Assert.assertEquals(FastList.newListWith(2, 3, 4), list);
+
+        Verify.assertThrows(UnsupportedOperationException.class, () -> list.iterator().remove());
+        Verify.assertThrows(UnsupportedOperationException.class, () -> listIterator.set(5));
+        Verify.assertThrows(UnsupportedOperationException.class, () -> subList.add(5));
+    }
+
+    @Test
+    public void iterationDuringWrites()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newListWith(1, 2, 3);
+        list.forEach(each -> list.add(each + 3));
+        Assert.assertEquals(Interval.oneTo(6), list);
+        list.forEach(each -> list.remove(each));
+        Verify.assertEmpty(list);
+    }
+
+    @Test
+    public void cloneSharesSnapshotButNotWrites()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newListWith(1, 2, 3);
+        CopyOnWriteFastList<Integer> clone = list.clone();
+        clone.add(4);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), list);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4), clone);
+        Verify.assertInstanceOf(CopyOnWriteFastList.class, list.newEmpty());
+    }
+
+    @Test
+    public void concurrentWrites()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newList();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            ParallelIterate.forEach(Interval.oneTo(1_000), each -> {
+                list.add(each);
+                Assert.assertTrue(list.contains(each));
+            }, 10, executor);
+            Assert.assertEquals(Interval.oneTo(1_000), list.toSortedList());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void serialization()
+    {
+        CopyOnWriteFastList<Integer> list = CopyOnWriteFastList.newListWith(1, 2, 3);
+        CopyOnWriteFastList<Integer> copy = SerializeTestHelper.serializeDeserialize(list);
+        Assert.assertEquals(list, copy);
+        copy.add(4);
+        Verify.assertSize(4, copy);
+    }
+}
@@ -19,6 +19,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.function.Function0;
@@ -75,6 +77,50 @@ public class FastListTest extends AbstractListTestCase
         Verify.assertInstanceOf(FastList.class, FastList.newList().newEmpty());
     }
 
+    @Test
+    public void sortThisByPrimitive_extractsKeysOnce()
+    {
+        FastList<Integer> list = FastList.newList(Interval.fromToBy(10_000, 1, -1));
+        LongAdder calls = new LongAdder();
+        list.sortThisByInt(each -> {
+            calls.increment();
+            return each;
+        });
+        Assert.assertEquals(Interval.oneTo(10_000).toList(), list);
+        Assert.assertEquals(10_000L, calls.sum());
+
+        list.reverseThis();
+        calls.reset();
+        list.sortThisByLong(each -> {
+            calls.increment();
+            return each;
+        });
+        Assert.assertEquals(Interval.oneTo(10_000).toList(), list);
+        Assert.assertEquals(10_000L, calls.sum());
+
+        list.reverseThis();
+        calls.reset();
+        list.sortThisByDouble(each -> {
+            calls.increment();
+            return each;
+        });
+        Assert.assertEquals(Interval.oneTo(10_000).toList(), list);
+        Assert.assertEquals(10_000L, calls.sum());
+    }
+
+    @Test
+    public void sortThisByDouble_specialValues()
+    {
+        FastList<Double> list = FastList.newList(Interval.oneTo(1000).collect(each -> (double) (each - 500)));
+        list.addAll(FastList.newListWith(Double.NaN, -0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE));
+        list.shuffleThis(new Random(42L));
+        MutableList<Double> expected = list.toSortedList(Double::compare);
+        list.sortThisByDouble(Double::doubleValue);
+        Assert.assertEquals(expected, list);
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, list.getFirst(), 0.0);
+        Assert.assertTrue(Double.isNaN(list.getLast()));
+    }
+
     @Test
     public void withNValues()
     {
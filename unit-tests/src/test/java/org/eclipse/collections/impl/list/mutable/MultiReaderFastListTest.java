@@ -83,6 +83,86 @@ public class MultiReaderFastListTest extends AbstractListTestCase
                 MultiReaderFastList.newListWith("Alice", "Bob", "Cooper", "Dio"));
     }
 
+    @Test
+    public void newStampedList()
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newStampedList();
+        Verify.assertEmpty(list);
+        Assert.assertFalse(list.notEmpty());
+        list.addAll(Interval.oneTo(3));
+        Verify.assertSize(3, list);
+        Assert.assertTrue(list.notEmpty());
+        Assert.assertTrue(list.contains(2));
+        Assert.assertFalse(list.contains(4));
+        Assert.assertEquals(Integer.valueOf(3), list.get(2));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+
+        list.withWriteLockAndDelegate(delegate -> delegate.add(4));
+        list.withReadLockAndDelegate(delegate -> Verify.assertSize(4, delegate));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4), list);
+        Assert.assertEquals(list, list.clone());
+        Verify.assertEmpty(list.newEmpty());
+        Verify.assertEmpty(MultiReaderFastList.newStampedList(10));
+    }
+
+    @Test
+    public void newStampedList_readsDuringWrites() throws InterruptedException
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newStampedList();
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= 10_000; i++)
+            {
+                list.add(i);
+            }
+        });
+        writer.start();
+        int lastSize = 0;
+        while (lastSize < 10_000)
+        {
+            int size = list.size();
+            Assert.assertTrue(size >= lastSize);
+            if (size > 0)
+            {
+                Assert.assertEquals(Integer.valueOf(size), list.get(size - 1));
+                Assert.assertTrue(list.contains(size));
+            }
+            lastSize = size;
+        }
+        writer.join();
+    }
+
+    @Test
+    public void newStampedList_selfReferentialBulkOperations()
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newStampedList();
+        list.addAll(Interval.oneTo(3));
+        Assert.assertTrue(list.containsAll(list));
+        Assert.assertTrue(list.addAll(list));
+        Assert.assertTrue(list.addAll(0, list));
+        Assert.assertTrue(list.addAllIterable(list));
+        Verify.assertSize(24, list);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 1, 2, 3), list.subList(0, 6));
+        Assert.assertFalse(list.retainAll(list));
+        Assert.assertFalse(list.retainAllIterable(list));
+        Assert.assertEquals(list, list);
+        Assert.assertTrue(list.removeAll(list));
+        Verify.assertEmpty(list);
+    }
+
+    @Test
+    public void newStampedList_reentryUnderWriteLockThrows()
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newStampedList();
+        list.addAll(Interval.oneTo(3));
+        Verify.assertThrows(IllegalStateException.class, () -> list.removeIf(each -> list.contains(4)));
+        Verify.assertThrows(IllegalStateException.class, () -> list.removeIf(each -> list.size() > 3));
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), list);
+        Assert.assertTrue(list.removeIf(each -> each == 2));
+
+        MultiReaderFastList<Integer> defaultList = MultiReaderFastList.newListWith(1, 2, 3);
+        Assert.assertFalse(defaultList.removeIf(each -> defaultList.contains(4)));
+    }
+
     @Override
     @Test
     public void forEach()
@@ -109,6 +109,15 @@ public class UnmodifiableMutableListTest
                 () -> this.unmodifiableList.sortThis(String::compareTo));
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        Verify.assertThrows(UnsupportedOperationException.class, () -> this.unmodifiableList.sortThisParallel());
+        Verify.assertThrows(
+                UnsupportedOperationException.class,
+                () -> this.unmodifiableList.sortThisParallel(String::compareTo));
+    }
+
     @Test
     public void sortThisBy()
     {
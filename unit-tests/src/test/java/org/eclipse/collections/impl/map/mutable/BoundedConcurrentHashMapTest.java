@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link BoundedConcurrentHashMap}.
+ */
+public class BoundedConcurrentHashMapTest
+{
+    @Test
+    public void getCountsHitsAndMisses()
+    {
+        BoundedConcurrentHashMap<Integer, String> map = BoundedConcurrentHashMap.newMap(10);
+        map.put(1, "1");
+        Assert.assertEquals("1", map.get(1));
+        Assert.assertNull(map.get(2));
+        Assert.assertEquals("2", map.getIfAbsentValue(2, "2"));
+        Assert.assertEquals(1L, map.getHitCount());
+        Assert.assertEquals(2L, map.getMissCount());
+        Assert.assertEquals(0L, map.getEvictionCount());
+    }
+
+    @Test
+    public void getIfAbsentPutLoadsOnce()
+    {
+        BoundedConcurrentHashMap<Integer, String> map = BoundedConcurrentHashMap.newMap(10);
+        Assert.assertEquals("1", map.getIfAbsentPut(1, () -> "1"));
+        Assert.assertEquals("1", map.getIfAbsentPut(1, () -> "2"));
+        Assert.assertEquals("2", map.getIfAbsentPutWith(2, String::valueOf, 2));
+        Assert.assertEquals(2L, map.getMissCount());
+        Assert.assertEquals(1L, map.getHitCount());
+        Verify.assertSize(2, map);
+    }
+
+    @Test
+    public void evictsUnreferencedEntriesFirst()
+    {
+        BoundedConcurrentHashMap<Integer, String> map = BoundedConcurrentHashMap.newMap(3);
+        map.put(1, "1");
+        map.put(2, "2");
+        map.put(3, "3");
+        map.get(1);
+        map.get(3);
+        map.put(4, "4");
+        Verify.assertSize(3, map);
+        Assert.assertFalse(map.containsKey(2));
+        Assert.assertTrue(map.containsKey(1));
+        Assert.assertTrue(map.containsKey(3));
+        Assert.assertTrue(map.containsKey(4));
+        Assert.assertEquals(1L, map.getEvictionCount());
+
+        map.put(5, "5");
+        Assert.assertFalse(map.containsKey(4));
+        Assert.assertTrue(map.containsKey(1));
+        Assert.assertEquals(2L, map.getEvictionCount());
+    }
+
+    @Test
+    public void weightedMap()
+    {
+        BoundedConcurrentHashMap<String, String> map = BoundedConcurrentHashMap.newWeightedMap(10L, String::length);
+        map.put("a", "12345");
+        map.put("b", "12345");
+        Assert.assertEquals(10L, map.getWeightedSize());
+        map.put("c", "1");
+        Assert.assertEquals(6L, map.getWeightedSize());
+        Assert.assertFalse(map.containsKey("a"));
+        map.put("b", "1");
+        Assert.assertEquals(2L, map.getWeightedSize());
+        Assert.assertTrue(map.replace("b", "1", "123"));
+        Assert.assertFalse(map.replace("b", "1", "123"));
+        Assert.assertEquals(4L, map.getWeightedSize());
+        Assert.assertTrue(map.remove("b", "123"));
+        Assert.assertEquals("1", map.remove("c"));
+        Assert.assertEquals(0L, map.getWeightedSize());
+        Verify.assertEmpty(map);
+        Verify.assertThrows(IllegalArgumentException.class, () -> BoundedConcurrentHashMap.newWeightedMap(-1L, String::length));
+    }
+
+    @Test
+    public void updateValue()
+    {
+        BoundedConcurrentHashMap<Integer, Integer> map = BoundedConcurrentHashMap.newMap(10);
+        Assert.assertEquals(Integer.valueOf(1), map.updateValue(1, () -> 0, each -> each + 1));
+        Assert.assertEquals(Integer.valueOf(2), map.updateValue(1, () -> 0, each -> each + 1));
+        Assert.assertEquals(Integer.valueOf(12), map.updateValueWith(1, () -> 0, Integer::sum, 10));
+        Assert.assertEquals(1L, map.getWeightedSize());
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        BoundedConcurrentHashMap<Integer, String> map = BoundedConcurrentHashMap.newMap(10);
+        map.put(1, "1");
+        map.put(2, "2");
+        Iterator<Map.Entry<Integer, String>> iterator = map.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+        Verify.assertSize(1, map);
+        Assert.assertEquals(1L, map.getWeightedSize());
+        map.keySet().clear();
+        Verify.assertEmpty(map);
+        Assert.assertEquals(0L, map.getWeightedSize());
+    }
+
+    @Test
+    public void equalsAndToString()
+    {
+        BoundedConcurrentHashMap<Integer, String> map = BoundedConcurrentHashMap.newMap(10);
+        map.put(1, "1");
+        Verify.assertEqualsAndHashCode(UnifiedMap.newWithKeysValues(1, "1"), map);
+        Assert.assertEquals("{1=1}", map.toString());
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1"), map.toImmutable());
+    }
+
+    @Test
+    public void concurrentPutsStayBounded()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            BoundedConcurrentHashMap<Integer, Integer> map = BoundedConcurrentHashMap.newMap(100);
+            ParallelIterate.forEach(Interval.oneTo(10_000), each -> map.put(each, each), 1, executor);
+            Assert.assertTrue(map.size() <= 100);
+            Assert.assertEquals(map.size(), map.getWeightedSize());
+            Assert.assertEquals(10_000L - map.size(), map.getEvictionCount());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentWritersAndReadersAtCapacity()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            BoundedConcurrentHashMap<Integer, Integer> map = BoundedConcurrentHashMap.newMap(100);
+            Interval.oneTo(100).each(each -> map.put(each, each));
+            ParallelIterate.forEach(Interval.oneTo(20_000), each ->
+            {
+                map.get(each % 100);
+                map.get(each % 100 + 1);
+                map.put(each % 300, each);
+            }, 1, executor);
+            Assert.assertTrue(map.size() <= 100);
+            Assert.assertEquals(map.size(), map.getWeightedSize());
+            map.forEachKeyValue((key, value) -> Assert.assertEquals(key.intValue(), value % 300));
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+}
@@ -11,6 +11,7 @@
 package org.eclipse.collections.impl.map.mutable;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.block.function.Function;
@@ -267,6 +268,74 @@ public class ConcurrentHashMapUnsafeTest extends ConcurrentHashMapTestCase
         Verify.assertEqualsAndHashCode(SMALL_BAG_MUTABLE_MAP, actual);
     }
 
+    @Test
+    public void parallelForEachKeyValueWithThreshold()
+    {
+        ConcurrentHashMapUnsafe<Integer, Integer> source =
+                ConcurrentHashMapUnsafe.newMap(Interval.oneTo(100).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        MutableMap<Integer, MutableBag<Integer>> actual = ConcurrentHashMapUnsafe.newMap();
+        source.parallelForEachKeyValue(10, (key, value) -> actual.getIfAbsentPut(value % 10, () -> HashBag.<Integer>newBag().asSynchronized()).add(value), this.executor);
+        Verify.assertEqualsAndHashCode(SMALL_BAG_MUTABLE_MAP, actual);
+    }
+
+    @Test
+    public void parallelForEachKeyValueDuringResize()
+    {
+        ConcurrentHashMapUnsafe<Integer, Integer> source =
+                ConcurrentHashMapUnsafe.newMap(Interval.oneTo(1_000).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        Thread writer = new Thread(() -> Interval.fromTo(1_001, 100_000).forEach((Procedure<Integer>) each -> source.put(each, each)));
+        writer.start();
+        ConcurrentHashMapUnsafe<Integer, Integer> seen = ConcurrentHashMapUnsafe.newMap();
+        AtomicInteger duplicates = new AtomicInteger();
+        source.parallelForEachKeyValue(1, (key, value) ->
+        {
+            if (seen.putIfAbsent(key, value) != null)
+            {
+                duplicates.incrementAndGet();
+            }
+        }, this.executor);
+        Assert.assertEquals(0, duplicates.get());
+        Verify.assertContainsAll(seen.keySet(), Interval.oneTo(1_000).toArray());
+        try
+        {
+            writer.join();
+        }
+        catch (InterruptedException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void parallelReduce()
+    {
+        ConcurrentHashMapUnsafe<Integer, Integer> source =
+                ConcurrentHashMapUnsafe.newMap(Interval.oneTo(100).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        Assert.assertEquals(Integer.valueOf(5050), source.parallelReduce(10, (key, value) -> value, Integer::sum, this.executor));
+        Assert.assertEquals(Integer.valueOf(2550), source.parallelReduce(10, (key, value) -> value % 2 == 0 ? value : null, Integer::sum, this.executor));
+        Assert.assertNull(source.<Integer>parallelReduce(10, (key, value) -> null, Integer::sum, this.executor));
+        Assert.assertNull(ConcurrentHashMapUnsafe.<Integer, Integer>newMap().parallelReduce(1, (key, value) -> value, Integer::sum, this.executor));
+    }
+
+    @Test
+    public void parallelSearch()
+    {
+        ConcurrentHashMapUnsafe<Integer, Integer> source =
+                ConcurrentHashMapUnsafe.newMap(Interval.oneTo(100).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        Assert.assertEquals("42", source.parallelSearch(10, (key, value) -> value == 42 ? String.valueOf(key) : null, this.executor));
+        Assert.assertNull(source.parallelSearch(10, (key, value) -> value > 100 ? key : null, this.executor));
+    }
+
+    @Test
+    public void parallelRemoveIf()
+    {
+        ConcurrentHashMapUnsafe<Integer, Integer> source =
+                ConcurrentHashMapUnsafe.newMap(Interval.oneTo(100).toMap(Functions.getIntegerPassThru(), Functions.getIntegerPassThru()));
+        Assert.assertTrue(source.parallelRemoveIf(10, (key, value) -> value % 2 == 0, this.executor));
+        Assert.assertFalse(source.parallelRemoveIf(10, (key, value) -> value % 2 == 0, this.executor));
+        Assert.assertEquals(Interval.oneTo(100).select(each -> each % 2 != 0).toSet(), source.keySet());
+    }
+
     @Test
     public void putAllInParallelSmallMap()
     {
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ConcurrentReferenceHashMap}.
+ */
+public class ConcurrentReferenceHashMapTest extends ReferenceMapTestCase
+{
+    @Override
+    protected <K, V> MutableMap<K, V> newWeakKeyMap()
+    {
+        return ConcurrentReferenceHashMap.newWeakKeyMap();
+    }
+
+    @Override
+    protected <K, V> MutableMap<K, V> newSoftValueMap()
+    {
+        return ConcurrentReferenceHashMap.newSoftValueMap();
+    }
+
+    @Override
+    protected <K, V> MutableMap<K, V> newWeakKeySoftValueMap()
+    {
+        return ConcurrentReferenceHashMap.newWeakKeySoftValueMap();
+    }
+
+    @Test
+    public void putIfAbsentAndReplace()
+    {
+        ConcurrentMutableMap<String, Integer> map = ConcurrentReferenceHashMap.newWeakKeySoftValueMap();
+        Assert.assertNull(map.putIfAbsent("1", 1));
+        Assert.assertEquals(Integer.valueOf(1), map.putIfAbsent("1", 2));
+        Assert.assertFalse(map.replace("1", 2, 3));
+        Assert.assertTrue(map.replace("1", 1, 3));
+        Assert.assertEquals(Integer.valueOf(3), map.replace("1", 4));
+        Assert.assertNull(map.replace("2", 4));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("1", 4), map);
+    }
+
+    @Test
+    public void concurrentUpdateValue()
+    {
+        ConcurrentMutableMap<Integer, Integer> map = ConcurrentReferenceHashMap.newSoftValueMap();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            ParallelIterate.forEach(
+                    Interval.oneTo(10_000),
+                    each -> map.updateValue(each % 10, () -> 0, value -> value + 1),
+                    10,
+                    executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        Verify.assertSize(10, map);
+        map.forEachValue(each -> Assert.assertEquals(Integer.valueOf(1000), each));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.HashStatistics;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link LinearProbeMap}.
+ */
+public class LinearProbeMapTest extends MutableMapTestCase
+{
+    // These all land in the same slot of a table with a capacity of 16, so they form a single run of probes
+    private static final MutableList<Integer> COLLISIONS = Lists.mutable.of(0, 17, 34, 51, 68);
+
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return LinearProbeMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return LinearProbeMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return LinearProbeMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return LinearProbeMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return LinearProbeMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test
+    public void constructorOfBadArguments()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new LinearProbeMap<Integer, Integer>(-1));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new LinearProbeMap<Integer, Integer>(1, 0.0f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new LinearProbeMap<Integer, Integer>(1, -1.0f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new LinearProbeMap<Integer, Integer>(1, 1.1f));
+    }
+
+    @Test
+    public void removeFromCollisions()
+    {
+        for (Integer removed : COLLISIONS)
+        {
+            LinearProbeMap<Integer, String> map = LinearProbeMap.newMap();
+            COLLISIONS.forEach(each -> map.put(each, String.valueOf(each)));
+
+            Assert.assertEquals(String.valueOf(removed), map.remove(removed));
+            Assert.assertNull(map.remove(removed));
+            Verify.assertSize(COLLISIONS.size() - 1, map);
+            COLLISIONS.reject(removed::equals).forEach(each -> Assert.assertEquals(String.valueOf(each), map.get(each)));
+            Assert.assertFalse(map.containsKey(removed));
+
+            Assert.assertNull(map.put(removed, "new"));
+            Assert.assertEquals("new", map.get(removed));
+            Verify.assertSize(COLLISIONS.size(), map);
+        }
+    }
+
+    @Test
+    public void putAndRemoveManyTimes()
+    {
+        LinearProbeMap<Integer, Integer> map = LinearProbeMap.newMap();
+        int memoryUsed = map.getMapMemoryUsedInWords();
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertNull(map.put(i, i));
+            Assert.assertEquals(Integer.valueOf(i), map.remove(i));
+        }
+        Verify.assertEmpty(map);
+        // The removed slots are reused instead of growing the table
+        Assert.assertEquals(memoryUsed, map.getMapMemoryUsedInWords());
+    }
+
+    @Test
+    public void rehash()
+    {
+        LinearProbeMap<Integer, Integer> map = LinearProbeMap.newMap();
+        Interval.oneTo(1000).forEach((Procedure<Integer>) each -> map.put(each, each));
+        Interval.evensFromTo(1, 1000).forEach((Procedure<Integer>) map::remove);
+        Interval.fromTo(1001, 2000).forEach((Procedure<Integer>) each -> map.put(each, each));
+
+        Verify.assertSize(1500, map);
+        Interval.oddsFromTo(1, 1000).forEach((Procedure<Integer>) each -> Assert.assertEquals(each, map.get(each)));
+        Interval.evensFromTo(1, 1000).forEach((Procedure<Integer>) each -> Assert.assertFalse(map.containsKey(each)));
+        Interval.fromTo(1001, 2000).forEach((Procedure<Integer>) each -> Assert.assertEquals(each, map.get(each)));
+    }
+
+    @Test
+    public void iteratorRemoveWithCollisions()
+    {
+        LinearProbeMap<Integer, String> map = LinearProbeMap.newMap();
+        COLLISIONS.forEach(each -> map.put(each, String.valueOf(each)));
+        map.put(null, "null");
+
+        Iterator<Integer> iterator = map.keySet().iterator();
+        int count = 0;
+        while (iterator.hasNext())
+        {
+            Integer key = iterator.next();
+            count++;
+            if (key == null || key % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(COLLISIONS.size() + 1, count);
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+        Assert.assertEquals(LinearProbeMap.newWithKeysValues(17, "17", 51, "51"), map);
+    }
+
+    @Test
+    public void getMapMemoryUsedInWords()
+    {
+        LinearProbeMap<Integer, String> map = LinearProbeMap.newMap();
+        Assert.assertEquals(34, map.getMapMemoryUsedInWords());
+        COLLISIONS.forEach(each -> map.put(each, String.valueOf(each)));
+        // Unlike UnifiedMap, collisions do not allocate any chains
+        Assert.assertEquals(34, map.getMapMemoryUsedInWords());
+
+        UnifiedMap<Integer, String> unifiedMap = UnifiedMap.newMap();
+        COLLISIONS.forEach(each -> unifiedMap.put(each, String.valueOf(each)));
+        Assert.assertTrue(unifiedMap.getMapMemoryUsedInWords() > map.getMapMemoryUsedInWords());
+    }
+
+    @Test
+    public void getHashStatistics()
+    {
+        LinearProbeMap<Integer, String> map = LinearProbeMap.newMap();
+        COLLISIONS.forEach(each -> map.put(each, String.valueOf(each)));
+        HashStatistics statistics = map.getHashStatistics();
+        Assert.assertEquals(5, statistics.getSize());
+        Assert.assertEquals(16, statistics.getCapacity());
+        Assert.assertEquals(0, statistics.getChainedBucketCount());
+        Assert.assertEquals(0, statistics.getRemovedCount());
+        Assert.assertEquals(5, statistics.getMaxProbeLength());
+        Assert.assertEquals(3.0, statistics.getMeanProbeLength(), 0.0);
+
+        // The removed key leaves a tombstone, so the keys after it keep their probe lengths
+        map.remove(0);
+        HashStatistics afterRemove = map.getHashStatistics();
+        Assert.assertEquals(4, afterRemove.getSize());
+        Assert.assertEquals(1, afterRemove.getRemovedCount());
+        Assert.assertEquals(5, afterRemove.getMaxProbeLength());
+        Assert.assertEquals(3.5, afterRemove.getMeanProbeLength(), 0.0);
+    }
+}
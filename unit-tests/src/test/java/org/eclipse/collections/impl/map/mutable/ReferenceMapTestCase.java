@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Abstract JUnit test for the maps that hold their keys weakly or their values softly.
+ */
+public abstract class ReferenceMapTestCase
+{
+    protected abstract <K, V> MutableMap<K, V> newWeakKeyMap();
+
+    protected abstract <K, V> MutableMap<K, V> newSoftValueMap();
+
+    protected abstract <K, V> MutableMap<K, V> newWeakKeySoftValueMap();
+
+    @Test
+    public void putAndGet()
+    {
+        this.assertPutAndGet(this.newWeakKeyMap());
+        this.assertPutAndGet(this.newSoftValueMap());
+        this.assertPutAndGet(this.newWeakKeySoftValueMap());
+    }
+
+    private void assertPutAndGet(MutableMap<String, Integer> map)
+    {
+        Assert.assertNull(map.put("1", 1));
+        Assert.assertNull(map.put("2", 2));
+        Assert.assertEquals(Integer.valueOf(1), map.put(new String("1"), 10));
+        Verify.assertSize(2, map);
+        Assert.assertEquals(Integer.valueOf(10), map.get(new String("1")));
+        Assert.assertEquals(Integer.valueOf(2), map.get("2"));
+        Assert.assertNull(map.get("3"));
+        Assert.assertNull(map.get(null));
+        Assert.assertTrue(map.containsKey(new String("2")));
+        Assert.assertFalse(map.containsKey("3"));
+        Assert.assertTrue(map.containsValue(10));
+        Assert.assertFalse(map.containsValue(1));
+    }
+
+    @Test
+    public void remove()
+    {
+        MutableMap<String, Integer> map = this.newWeakKeySoftValueMap();
+        map.put("1", 1);
+        map.put("2", 2);
+        Assert.assertEquals(Integer.valueOf(1), map.remove(new String("1")));
+        Assert.assertNull(map.remove("1"));
+        Assert.assertFalse(map.remove("2", 3));
+        Assert.assertTrue(map.remove("2", 2));
+        Verify.assertEmpty(map);
+    }
+
+    @Test
+    public void nullKeysAndValuesAreRejected()
+    {
+        MutableMap<String, Integer> map = this.newWeakKeySoftValueMap();
+        Verify.assertThrows(NullPointerException.class, () -> map.put(null, 1));
+        Verify.assertThrows(NullPointerException.class, () -> map.put("1", null));
+    }
+
+    @Test
+    public void getIfAbsentPutAndUpdateValue()
+    {
+        MutableMap<String, Integer> map = this.newWeakKeySoftValueMap();
+        Assert.assertEquals(Integer.valueOf(1), map.getIfAbsentPut("1", () -> 1));
+        Assert.assertEquals(Integer.valueOf(1), map.getIfAbsentPut("1", () -> 2));
+        Assert.assertEquals(Integer.valueOf(1), map.updateValue("2", () -> 0, each -> each + 1));
+        Assert.assertEquals(Integer.valueOf(2), map.updateValue("2", () -> 0, each -> each + 1));
+        Assert.assertEquals(Integer.valueOf(3), map.updateValueWith("2", () -> 0, Integer::sum, 1));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("1", 1, "2", 3), map);
+    }
+
+    @Test
+    public void iterationAndViews()
+    {
+        MutableMap<String, Integer> map = this.newWeakKeySoftValueMap();
+        map.put("1", 1);
+        map.put("2", 2);
+        map.put("3", 3);
+        Verify.assertSetsEqual(UnifiedSet.newSetWith("1", "2", "3"), map.keySet());
+        Verify.assertContainsAll(map.values(), 1, 2, 3);
+        Assert.assertEquals(6L, map.sumOfInt(Integer::intValue));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("1", 1, "2", 2, "3", 3), map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("1", 1, "2", 2, "3", 3).hashCode(), map.hashCode());
+        Assert.assertEquals("{1=1}", this.<String, Integer>newWeakKeyMap().withKeyValue("1", 1).toString());
+
+        Iterator<Map.Entry<String, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next().getValue() % 2 == 1)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("2", 2), map);
+        map.keySet().remove("2");
+        Verify.assertEmpty(map);
+    }
+
+    @Test
+    public void cloneAndNewEmptyKeepReferenceStrength()
+    {
+        MutableMap<String, Integer> map = this.newWeakKeyMap();
+        map.put("1", 1);
+        MutableMap<String, Integer> clone = map.clone();
+        Assert.assertSame(map.getClass(), clone.getClass());
+        Assert.assertEquals(map, clone);
+        Assert.assertSame(map.getClass(), map.newEmpty().getClass());
+        Verify.assertEmpty(map.newEmpty());
+    }
+
+    @Test
+    public void clearedKeysAreExpungedByWrites() throws InterruptedException
+    {
+        MutableMap<Object, Integer> map = this.newWeakKeyMap();
+        Object key = new Object();
+        map.put(key, 1);
+        map.put("strong", 2);
+        WeakReference<Object> ref = new WeakReference<>(key);
+        //noinspection ReuseOfLocalVariable
+        key = null;   // Deliberate null of a local variable for unit test purpose
+        System.gc();
+        Thread.yield();
+        System.gc();
+        Thread.yield();
+        Assert.assertNull(ref.get());
+
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("strong", 2), map);
+        Verify.assertSize(1, map.keySet().toArray());
+
+        // The cleared key is enqueued asynchronously, so give the reference handler some time
+        for (int i = 0; i < 100 && map.size() > 1; i++)
+        {
+            Thread.sleep(10L);
+            map.put("strong", 2);
+        }
+        Verify.assertSize(1, map);
+    }
+
+    @Test
+    public void sizeExpungesClearedKeys() throws InterruptedException
+    {
+        MutableMap<Object, Integer> map = this.newWeakKeyMap();
+        Object key = new Object();
+        map.put(key, 1);
+        WeakReference<Object> ref = new WeakReference<>(key);
+        //noinspection ReuseOfLocalVariable
+        key = null;   // Deliberate null of a local variable for unit test purpose
+        System.gc();
+        Thread.yield();
+        System.gc();
+        Thread.yield();
+        Assert.assertNull(ref.get());
+
+        // No writes: size() itself drains the reference queue once the handler has enqueued the cleared key
+        for (int i = 0; i < 100 && map.notEmpty(); i++)
+        {
+            Thread.sleep(10L);
+        }
+        Verify.assertEmpty(map);
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertEquals(UnifiedMap.newMap(), map);
+    }
+}
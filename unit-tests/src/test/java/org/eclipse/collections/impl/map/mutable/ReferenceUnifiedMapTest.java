@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import org.eclipse.collections.api.map.MutableMap;
+
+/**
+ * JUnit test for {@link ReferenceUnifiedMap}.
+ */
+public class ReferenceUnifiedMapTest extends ReferenceMapTestCase
+{
+    @Override
+    protected <K, V> MutableMap<K, V> newWeakKeyMap()
+    {
+        return ReferenceUnifiedMap.newWeakKeyMap();
+    }
+
+    @Override
+    protected <K, V> MutableMap<K, V> newSoftValueMap()
+    {
+        return ReferenceUnifiedMap.newSoftValueMap();
+    }
+
+    @Override
+    protected <K, V> MutableMap<K, V> newWeakKeySoftValueMap()
+    {
+        return ReferenceUnifiedMap.newWeakKeySoftValueMap();
+    }
+}
@@ -19,6 +19,7 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.HashStatistics;
 import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.block.factory.Procedures;
 import org.eclipse.collections.impl.block.function.PassThruFunction0;
@@ -475,6 +476,32 @@ public class UnifiedMapTest extends UnifiedMapTestCase
         Assert.assertEquals(2, map3.getCollidingBuckets());
     }
 
+    @Test
+    public void getHashStatistics()
+    {
+        HashStatistics empty = UnifiedMap.newMap().getHashStatistics();
+        Assert.assertEquals(0, empty.getSize());
+        Assert.assertEquals(0, empty.getMaxProbeLength());
+        Assert.assertEquals(0.0, empty.getMeanProbeLength(), 0.0);
+
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newMap();
+        COLLISIONS.forEach(Procedures.cast(each -> map.put(each, each)));
+        HashStatistics statistics = map.getHashStatistics();
+        Assert.assertEquals(5, statistics.getSize());
+        Assert.assertEquals(1, statistics.getChainedBucketCount());
+        Assert.assertEquals(0, statistics.getRemovedCount());
+        Assert.assertEquals(0, statistics.getOutOfTableCount());
+        Assert.assertEquals(5, statistics.getMaxProbeLength());
+        Assert.assertEquals(3.0, statistics.getMeanProbeLength(), 0.0);
+        Assert.assertEquals(5.0 / statistics.getCapacity(), statistics.getLoadFactor(), 0.0);
+
+        map.remove(COLLISION_1);
+        HashStatistics afterRemove = map.getHashStatistics();
+        Assert.assertEquals(4, afterRemove.getSize());
+        Assert.assertEquals(4, afterRemove.getMaxProbeLength());
+        Assert.assertEquals(2.5, afterRemove.getMeanProbeLength(), 0.0);
+    }
+
     @Override
     @Test
     public void getIfAbsentPut()
@@ -17,15 +17,20 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Procedures;
+import org.eclipse.collections.impl.collector.Collectors2;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
@@ -862,6 +867,46 @@ public abstract class UnifiedMapTestCase extends MutableMapTestCase
         Assert.assertEquals(FREQUENT_COLLISIONS[0], map.getFirst());
     }
 
+    @Test
+    public void spliterator()
+    {
+        MutableMap<Integer, Integer> collisions = this.newMap();
+        MORE_COLLISIONS.forEach(Procedures.cast(each -> collisions.put(each, each * 2)));
+        UnifiedMapTestCase.assertSpliterators(collisions);
+
+        MutableMap<Integer, Integer> large = this.newMap();
+        Interval.oneTo(100000).forEach(Procedures.cast(each -> large.put(each, each * 2)));
+        UnifiedMapTestCase.assertSpliterators(large);
+
+        UnifiedMapTestCase.assertSpliterators(this.newMap());
+    }
+
+    private static void assertSpliterators(MutableMap<Integer, Integer> map)
+    {
+        Assert.assertEquals(map.keySet(), map.keySet().stream().collect(Collectors.toSet()));
+        Assert.assertEquals(map.keySet(), map.keySet().parallelStream().collect(Collectors.toSet()));
+        Assert.assertEquals(map.entrySet(), map.entrySet().parallelStream().collect(Collectors.toSet()));
+        Assert.assertEquals(HashBag.newBag(map.values()), map.values().parallelStream().collect(Collectors2.toBag()));
+        Assert.assertEquals(HashBag.newBag(map.values()), map.parallelStream().collect(Collectors2.toBag()));
+        Assert.assertEquals(map.size(), map.keySet().parallelStream().toArray().length);
+        Assert.assertEquals(map.size(), map.values().parallelStream().toArray().length);
+
+        Spliterator<Integer> keys = map.keySet().spliterator();
+        Assert.assertEquals(map.size(), keys.getExactSizeIfKnown());
+        Assert.assertTrue(keys.hasCharacteristics(Spliterator.DISTINCT));
+        Assert.assertFalse(map.values().spliterator().hasCharacteristics(Spliterator.DISTINCT));
+
+        MutableSet<Integer> visited = UnifiedSet.newSet();
+        Assert.assertEquals(!map.isEmpty(), keys.tryAdvance(visited::add));
+        Spliterator<Integer> split = keys.trySplit();
+        if (split != null)
+        {
+            split.forEachRemaining(visited::add);
+        }
+        keys.forEachRemaining(visited::add);
+        Assert.assertEquals(map.keySet(), visited);
+    }
+
     private static final class NoInstanceOfInEquals
     {
         private final int value;
@@ -722,6 +722,29 @@ public class UnifiedMapWithHashingStrategyTest extends UnifiedMapTestCase
         Assert.assertEquals(2, map3.getCollidingBuckets());
     }
 
+    @Test
+    public void hashFloodResistantStrategy()
+    {
+        MutableList<String> collisions = FastList.newListWith("");
+        for (int i = 0; i < 10; i++)
+        {
+            collisions = collisions.flatCollect(each -> FastList.newListWith(each + "Aa", each + "BB"));
+        }
+
+        UnifiedMapWithHashingStrategy<String, Integer> map =
+                UnifiedMapWithHashingStrategy.newMap(HashingStrategies.hashFloodResistantStrategy());
+        collisions.forEachWithIndex(map::put);
+        map.put(null, -1);
+
+        Verify.assertSize(1025, map);
+        collisions.forEachWithIndex((each, index) -> Assert.assertEquals(Integer.valueOf(index), map.get(each)));
+        Assert.assertEquals(Integer.valueOf(-1), map.get(null));
+        Assert.assertEquals(UnifiedMap.newMap(map), map);
+
+        collisions.forEach(Procedures.cast(map::remove));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(null, -1), map);
+    }
+
     @Override
     @Test
     public void getIfAbsentPut()
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.bag;
+
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link ConcurrentHashBagMultimap}.
+ */
+public class ConcurrentHashBagMultimapTest extends AbstractMutableBagMultimapTestCase
+{
+    @Override
+    public <K, V> ConcurrentHashBagMultimap<K, V> newMultimap()
+    {
+        return ConcurrentHashBagMultimap.newMultimap();
+    }
+
+    @Override
+    public <K, V> ConcurrentHashBagMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentHashBagMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentHashBagMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentHashBagMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentHashBagMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentHashBagMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentHashBagMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentHashBagMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <K, V> ConcurrentHashBagMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentHashBagMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    protected <K, V> ConcurrentHashBagMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentHashBagMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> HashBag<V> createCollection(V... args)
+    {
+        return HashBag.newBagWith(args);
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        super.testToString();
+
+        MutableMultimap<String, Integer> multimap =
+                this.newMultimapWithKeysValues("One", 1, "One", 2);
+        String toString = multimap.toString();
+        Assert.assertTrue("{One=[1, 2]}".equals(toString) || "{One=[2, 1]}".equals(toString));
+    }
+}
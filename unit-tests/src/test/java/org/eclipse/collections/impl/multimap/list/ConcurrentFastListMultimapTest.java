@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link ConcurrentFastListMultimap}.
+ */
+public class ConcurrentFastListMultimapTest extends AbstractMutableListMultimapTestCase
+{
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimap()
+    {
+        return ConcurrentFastListMultimap.newMultimap();
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentFastListMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentFastListMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> FastList<V> createCollection(V... args)
+    {
+        return FastList.newListWith(args);
+    }
+
+    @Test
+    public void get_returnsLiveView()
+    {
+        ConcurrentFastListMultimap<String, Integer> multimap = this.newMultimapWithKeysValues("One", 1, "One", 2);
+        MutableList<Integer> values = multimap.get("One");
+        multimap.put("One", 3);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), values);
+        Verify.assertThrows(UnsupportedOperationException.class, () -> values.add(4));
+        Verify.assertEmpty(multimap.get("Two"));
+    }
+
+    @Test
+    public void concurrentPutAndRemove()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            ConcurrentFastListMultimap<Integer, Integer> multimap = this.newMultimap();
+            ParallelIterate.forEach(Interval.oneTo(100_000), each -> multimap.put(each % 10, each), 1, executor);
+            Assert.assertEquals(100_000, multimap.size());
+            Assert.assertEquals(10, multimap.sizeDistinct());
+            Assert.assertEquals(100_000, multimap.valuesView().size());
+
+            ParallelIterate.forEach(Interval.oneTo(100_000), each -> {
+                multimap.remove(each % 10, each);
+                multimap.put(each % 10 + 10, each);
+            }, 1, executor);
+            Assert.assertEquals(100_000, multimap.size());
+            Assert.assertEquals(Interval.fromTo(10, 19).toSet(), multimap.keysView().toSet());
+            Assert.assertEquals(10_000, multimap.get(10).size());
+
+            ParallelIterate.forEach(Interval.oneTo(100_000), each -> multimap.remove(each % 10 + 10, each), 1, executor);
+            Verify.assertEmpty(multimap);
+            Assert.assertEquals(0, multimap.sizeDistinct());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentPutsToOneKey()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            ConcurrentFastListMultimap<String, Integer> multimap = this.newMultimap();
+            ParallelIterate.forEach(Interval.oneTo(100_000), each -> {
+                multimap.put("hot", each);
+                if (each % 1_000 == 0)
+                {
+                    MutableList<Integer> values = multimap.get("hot");
+                    Assert.assertTrue(values.notEmpty());
+                    Assert.assertTrue(values.toList().notEmpty());
+                }
+            }, 1, executor);
+            MutableList<Integer> hot = multimap.get("hot");
+            Verify.assertSize(100_000, hot);
+            Assert.assertEquals(Interval.oneTo(100_000).toSet(), hot.toSet());
+            Assert.assertEquals(hot.get(99_999), hot.getLast());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void removeDuplicateValuesOfAKey()
+    {
+        ConcurrentFastListMultimap<String, Integer> multimap = this.newMultimapWithKeysValues("A", 1, "A", 2, "A", 1, "A", 3);
+        Assert.assertTrue(multimap.remove("A", 1));
+        Assert.assertEquals(FastList.newListWith(2, 1, 3), multimap.get("A"));
+        Assert.assertEquals(Integer.valueOf(3), multimap.get("A").get(2));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> multimap.get("A").get(3));
+        Assert.assertTrue(multimap.remove("A", 1));
+        Assert.assertFalse(multimap.remove("A", 1));
+        Assert.assertEquals(2, multimap.size());
+        Assert.assertTrue(multimap.put("A", null));
+        Assert.assertEquals(FastList.newListWith(2, 3, null), multimap.get("A"));
+        Assert.assertTrue(multimap.remove("A", null));
+        Assert.assertEquals(FastList.newListWith(2, 3), multimap.removeAll("A"));
+        Verify.assertEmpty(multimap);
+    }
+}
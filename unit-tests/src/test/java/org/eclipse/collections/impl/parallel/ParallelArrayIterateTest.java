@@ -53,6 +53,24 @@ public class ParallelArrayIterateTest
         Assert.assertEquals(40, sum5.getValue());
     }
 
+    @Test
+    public void parallelForEachAdaptive()
+    {
+        Sum sum1 = new IntegerSum(0);
+        Integer[] array1 = this.createIntegerArray(16);
+        ParallelArrayIterate.forEachAdaptive(array1, new SumProcedure<>(sum1), new SumCombiner<>(sum1));
+        Assert.assertEquals(16, sum1.getValue());
+
+        Sum sum2 = new IntegerSum(0);
+        Integer[] array2 = this.createIntegerArray(100_000);
+        ParallelArrayIterate.forEachAdaptive(array2, new SumProcedure<>(sum2), new SumCombiner<>(sum2));
+        Assert.assertEquals(100_000, sum2.getValue());
+
+        Sum sum3 = new IntegerSum(0);
+        ParallelArrayIterate.forEachAdaptive(new Integer[0], new SumProcedure<>(sum3), new SumCombiner<>(sum3));
+        Assert.assertEquals(0, sum3.getValue());
+    }
+
     private Integer[] createIntegerArray(int size)
     {
         Integer[] array = new Integer[size];
@@ -183,6 +183,69 @@ public class ParallelIterateTest
         Assert.assertEquals(5050, sum3.getSum());
     }
 
+    @Test
+    public void forEachAdaptive()
+    {
+        this.iterables.each(each -> {
+            IntegerSum sum = new IntegerSum(0);
+            ParallelIterate.forEachAdaptive(each, new SumProcedure(sum), new SumCombiner(sum), this.executor);
+            Assert.assertEquals(20100, sum.getSum());
+        });
+
+        AtomicInteger count = new AtomicInteger();
+        ParallelIterate.forEachAdaptive(Interval.oneTo(100_000), each -> count.incrementAndGet());
+        Assert.assertEquals(100_000, count.get());
+
+        ParallelIterate.forEachAdaptive(FastList.newList(), each -> Assert.fail());
+    }
+
+    @Test
+    public void forEachAdaptive_expensiveProcedure_keepsOrder()
+    {
+        MutableList<Integer> list = Interval.oneTo(200).toList();
+        FastListSelectProcedureCombiner<Integer> combiner = new FastListSelectProcedureCombiner<>(list, null, 10, false);
+        Predicate<Integer> slowIsEven = each -> {
+            try
+            {
+                Thread.sleep(1L);
+            }
+            catch (InterruptedException e)
+            {
+                throw new RuntimeException(e);
+            }
+            return each % 2 == 0;
+        };
+        ParallelIterate.forEachAdaptive(list, new FastListSelectProcedureFactory<>(slowIsEven, 10), combiner, this.executor);
+        Assert.assertEquals(list.select(each -> each % 2 == 0), combiner.getResult());
+    }
+
+    @Test
+    public void adaptiveSelectRejectCollectCount()
+    {
+        MutableList<Integer> list = Interval.oneTo(20_000).toList();
+        Assert.assertEquals(list.select(each -> each % 3 == 0), ParallelIterate.selectAdaptive(list, each -> each % 3 == 0, false));
+        Assert.assertEquals(list.reject(each -> each % 3 == 0), ParallelIterate.rejectAdaptive(list, each -> each % 3 == 0, false));
+        Assert.assertEquals(list.collect(String::valueOf), ParallelIterate.collectAdaptive(list, String::valueOf, false));
+        Assert.assertEquals(
+                list.select(each -> each % 3 == 0).toSet(),
+                ParallelIterate.selectAdaptive(list, each -> each % 3 == 0, UnifiedSet.newSet(), this.executor, true));
+        Assert.assertEquals(6_666, ParallelIterate.countAdaptive(list, each -> each % 3 == 0, this.executor));
+        Verify.assertEmpty(ParallelIterate.selectAdaptive(FastList.<Integer>newList(), each -> true, false));
+    }
+
+    @Test
+    public void calculateAdaptiveTaskCount()
+    {
+        Assert.assertEquals(0, ParallelIterate.calculateAdaptiveTaskCount(1_000, 1.0));
+        Assert.assertEquals(
+                Math.min(40, ParallelIterate.ADAPTIVE_MAX_TASK_COUNT),
+                ParallelIterate.calculateAdaptiveTaskCount(10_000_000, 1.0));
+        Assert.assertEquals(10, ParallelIterate.calculateAdaptiveTaskCount(10, 1_000_000_000.0));
+        Assert.assertEquals(
+                ParallelIterate.ADAPTIVE_MAX_TASK_COUNT,
+                ParallelIterate.calculateAdaptiveTaskCount(Integer.MAX_VALUE, 1_000_000.0));
+    }
+
     @Test
     public void testForEach()
     {
@@ -15,6 +15,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
 
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.test.Verify;
 import org.junit.Test;
@@ -75,6 +76,20 @@ public class ParallelMapIterateTest
         Verify.assertMapsEqual(concurrentMap, map);
     }
 
+    @Test
+    public void forEachKeyValueAdaptive()
+    {
+        ConcurrentMap<String, String> concurrentMap = new ConcurrentHashMap<>();
+        MutableMap<String, String> map = UnifiedMap.newWithKeysValues("1", "One", "2", "Two", "3", "Three");
+        ParallelMapIterate.forEachKeyValueAdaptive(map, concurrentMap::put);
+        Verify.assertMapsEqual(concurrentMap, map);
+
+        ConcurrentMap<Integer, Integer> concurrentMap2 = new ConcurrentHashMap<>();
+        MutableMap<Integer, Integer> map2 = Interval.oneTo(100_000).toMap(each -> each, each -> each * 2);
+        ParallelMapIterate.forEachKeyValueAdaptive(map2, concurrentMap2::put, Executors.newSingleThreadExecutor());
+        Verify.assertMapsEqual(concurrentMap2, map2);
+    }
+
     @Test
     public void classIsNonInstantiable()
     {
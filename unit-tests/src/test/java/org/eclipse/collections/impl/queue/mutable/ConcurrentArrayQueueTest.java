@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.queue.mutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ConcurrentArrayQueue}.
+ */
+public class ConcurrentArrayQueueTest
+{
+    @Test
+    public void offerAndPollInOrder()
+    {
+        ConcurrentArrayQueue<Integer> queue = ConcurrentArrayQueue.newQueue(3);
+        Assert.assertEquals(4, queue.getCapacity());
+        Assert.assertNull(queue.peek());
+        Assert.assertNull(queue.poll());
+        Assert.assertNull(queue.getFirst());
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) queue::remove);
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) queue::element);
+
+        for (int i = 1; i <= 4; i++)
+        {
+            Assert.assertTrue(queue.offer(i));
+        }
+        Assert.assertFalse(queue.offer(5));
+        Verify.assertThrows(IllegalStateException.class, () -> queue.add(5));
+        Verify.assertSize(4, queue);
+        Assert.assertEquals(Integer.valueOf(1), queue.peek());
+        Assert.assertEquals(Integer.valueOf(4), queue.getLast());
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4), queue.toList());
+        Assert.assertTrue(queue.contains(3));
+        Assert.assertFalse(queue.contains(null));
+
+        Assert.assertEquals(Integer.valueOf(1), queue.poll());
+        Assert.assertEquals(Integer.valueOf(2), queue.remove());
+        Assert.assertTrue(queue.offer(5));
+        Assert.assertEquals(FastList.newListWith(3, 4, 5), queue.toList());
+        Assert.assertEquals(FastList.newListWith(4), queue.select(each -> each % 2 == 0).toList());
+        queue.clear();
+        Verify.assertEmpty(queue);
+    }
+
+    @Test
+    public void invalidArguments()
+    {
+        ConcurrentArrayQueue<Integer> queue = ConcurrentArrayQueue.newQueue(4);
+        queue.add(1);
+        Verify.assertThrows(NullPointerException.class, () -> queue.offer(null));
+        Verify.assertThrows(IllegalStateException.class, () -> queue.iterator().remove());
+        Verify.assertThrows(IllegalArgumentException.class, () -> ConcurrentArrayQueue.newQueue(0));
+    }
+
+    @Test
+    public void removeFromTheMiddle()
+    {
+        ConcurrentArrayQueue<Integer> queue = ConcurrentArrayQueue.newQueue(8);
+        queue.withAll(Interval.oneTo(8));
+        Assert.assertTrue(queue.remove(3));
+        Assert.assertFalse(queue.remove(3));
+        Assert.assertFalse(queue.remove(null));
+        Verify.assertSize(7, queue);
+        Assert.assertFalse(queue.contains(3));
+        Assert.assertSame(queue, queue.without(5).withoutAll(FastList.newListWith(1, 9)));
+        Assert.assertEquals(FastList.newListWith(2, 4, 6, 7, 8), queue.toList());
+        Assert.assertTrue(queue.removeIf(each -> each == 8));
+        Assert.assertTrue(queue.removeAll(FastList.newListWith(2)));
+        Assert.assertTrue(queue.retainAll(FastList.newListWith(6, 7)));
+        Assert.assertFalse(queue.retainAll(FastList.newListWith(6, 7)));
+        Assert.assertEquals(FastList.newListWith(6, 7), queue.toList());
+        Verify.assertSize(2, queue);
+
+        // The removed slots are only given back once they reach the head
+        Assert.assertFalse(queue.offer(9));
+        Assert.assertEquals(Integer.valueOf(6), queue.peek());
+        Assert.assertEquals(Integer.valueOf(6), queue.poll());
+        Assert.assertEquals(Integer.valueOf(7), queue.poll());
+        Assert.assertNull(queue.poll());
+        Verify.assertEmpty(queue);
+        Assert.assertTrue(queue.offer(9));
+        Assert.assertEquals(FastList.newListWith(9), queue.toList());
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        ConcurrentArrayQueue<Integer> queue = ConcurrentArrayQueue.newQueue(4);
+        queue.withAll(Interval.oneTo(4));
+        Iterator<Integer> iterator = queue.iterator();
+        Assert.assertEquals(Integer.valueOf(1), iterator.next());
+        iterator.remove();
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+        Assert.assertEquals(Integer.valueOf(2), iterator.next());
+        Assert.assertEquals(Integer.valueOf(2), queue.poll());
+        // The element was polled after it was returned, so removing it through the iterator has no effect
+        iterator.remove();
+        Assert.assertEquals(FastList.newListWith(3, 4), queue.toList());
+        Assert.assertEquals(Integer.valueOf(3), queue.peek());
+    }
+
+    @Test
+    public void removeRacingWithPoll() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            for (int round = 0; round < 20; round++)
+            {
+                ConcurrentArrayQueue<Integer> queue = ConcurrentArrayQueue.newQueue(1024);
+                queue.withAll(Interval.oneTo(1024));
+                Future<MutableList<Integer>> removed = executor.submit(() ->
+                        Interval.oneTo(1024).select(queue::remove).toList());
+                Future<MutableList<Integer>> polled = executor.submit(() ->
+                {
+                    MutableList<Integer> result = FastList.newList();
+                    for (Integer each = queue.poll(); each != null; each = queue.poll())
+                    {
+                        result.add(each);
+                    }
+                    return result;
+                });
+                MutableList<Integer> all = FastList.newList(removed.get());
+                all.addAll(polled.get());
+                Verify.assertSize(1024, all);
+                Assert.assertEquals(Interval.oneTo(1024).toSet(), all.toSet());
+                Verify.assertEmpty(queue);
+                Assert.assertNull(queue.peek());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void multipleProducersAndConsumers() throws Exception
+    {
+        ConcurrentArrayQueue<Integer> queue = ConcurrentArrayQueue.newQueue(64);
+        int producers = 4;
+        int itemsPerProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers * 2);
+        try
+        {
+            MutableList<Future<?>> futures = FastList.newList();
+            for (int p = 0; p < producers; p++)
+            {
+                int offset = p * itemsPerProducer;
+                futures.add(executor.submit(() -> Interval.oneTo(itemsPerProducer).forEach((Procedure<Integer>) each -> {
+                    while (!queue.offer(offset + each))
+                    {
+                        Thread.yield();
+                    }
+                })));
+            }
+            MutableList<Future<MutableList<Integer>>> consumers = FastList.newList();
+            for (int c = 0; c < producers; c++)
+            {
+                consumers.add(executor.submit(() -> {
+                    MutableList<Integer> consumed = FastList.newList(itemsPerProducer);
+                    while (consumed.size() < itemsPerProducer)
+                    {
+                        Integer item = queue.poll();
+                        if (item == null)
+                        {
+                            Thread.yield();
+                        }
+                        else
+                        {
+                            consumed.add(item);
+                        }
+                    }
+                    return consumed;
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+            MutableList<Integer> all = FastList.newList();
+            for (Future<MutableList<Integer>> consumer : consumers)
+            {
+                all.addAll(consumer.get());
+            }
+            Verify.assertEmpty(queue);
+            Assert.assertEquals(Interval.oneTo(producers * itemsPerProducer).toSet(), all.toSet());
+            Verify.assertSize(producers * itemsPerProducer, all);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.queue.mutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.partition.PartitionMutableCollection;
+import org.eclipse.collections.api.queue.MutableQueue;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.function.AddFunction;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link RingBufferDeque}.
+ */
+public class RingBufferDequeTest
+{
+    @Test
+    public void addAndRemoveAtBothEnds()
+    {
+        RingBufferDeque<Integer> deque = RingBufferDeque.newDeque(2);
+        deque.addLast(2);
+        deque.addFirst(1);
+        deque.offerLast(3);
+        deque.push(0);
+        Assert.assertEquals(FastList.newListWith(0, 1, 2, 3), deque.toList());
+        Assert.assertEquals(Integer.valueOf(0), deque.peekFirst());
+        Assert.assertEquals(Integer.valueOf(3), deque.peekLast());
+        Assert.assertEquals(Integer.valueOf(0), deque.pop());
+        Assert.assertEquals(Integer.valueOf(3), deque.pollLast());
+        Assert.assertEquals(Integer.valueOf(1), deque.remove());
+        Assert.assertEquals(Integer.valueOf(2), deque.removeLast());
+        Verify.assertEmpty(deque);
+        Assert.assertNull(deque.poll());
+        Assert.assertNull(deque.peek());
+        Assert.assertNull(deque.peekFirst());
+        Assert.assertNull(deque.peekLast());
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) deque::getFirst);
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) deque::getLast);
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) deque::remove);
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) deque::element);
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) deque::removeLast);
+    }
+
+    @Test
+    public void wrapsAroundAndGrows()
+    {
+        RingBufferDeque<Integer> deque = RingBufferDeque.newDeque(4);
+        MutableList<Integer> added = FastList.newList();
+        for (int i = 0; i < 100; i++)
+        {
+            deque.addLast(i);
+            deque.addLast(i + 1000);
+            added.add(i);
+            added.add(i + 1000);
+            Assert.assertEquals(added.get(i), deque.poll());
+        }
+        Assert.assertEquals(added.subList(100, 200), deque.toList());
+        Assert.assertEquals(Integer.valueOf(50), deque.getFirst());
+        for (int i = 0; i < 50; i++)
+        {
+            deque.addFirst(i);
+        }
+        Verify.assertSize(150, deque);
+        Assert.assertEquals(Integer.valueOf(49), deque.getFirst());
+        Assert.assertEquals(Integer.valueOf(1099), deque.getLast());
+    }
+
+    @Test
+    public void nullElements()
+    {
+        RingBufferDeque<Integer> deque = RingBufferDeque.newDequeWith(1, null, 3);
+        Verify.assertSize(3, deque);
+        Assert.assertTrue(deque.contains(null));
+        Assert.assertEquals(Integer.valueOf(1), deque.element());
+        Assert.assertTrue(deque.remove(null));
+        Assert.assertEquals(FastList.newListWith(1, 3), deque.toList());
+    }
+
+    @Test
+    public void removeOccurrences()
+    {
+        RingBufferDeque<Integer> deque = RingBufferDeque.newDequeWith(1, 2, 3, 2, 1);
+        Assert.assertTrue(deque.removeFirstOccurrence(2));
+        Assert.assertEquals(FastList.newListWith(1, 3, 2, 1), deque.toList());
+        Assert.assertTrue(deque.removeLastOccurrence(1));
+        Assert.assertEquals(FastList.newListWith(1, 3, 2), deque.toList());
+        Assert.assertFalse(deque.removeFirstOccurrence(4));
+        Assert.assertEquals(FastList.newListWith(1, 2), deque.without(3).toList());
+        deque.withAll(Interval.fromTo(3, 6));
+        Assert.assertTrue(deque.removeAll(FastList.newListWith(1, 4)));
+        Assert.assertTrue(deque.retainAll(FastList.newListWith(2, 5, 6)));
+        Assert.assertFalse(deque.retainAll(FastList.newListWith(2, 5, 6)));
+        Assert.assertEquals(FastList.newListWith(5), deque.withoutAll(FastList.newListWith(2, 6)).toList());
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        RingBufferDeque<Integer> deque = RingBufferDeque.newDeque(Interval.oneTo(10));
+        deque.removeIf(Predicates.lessThan(3));
+        Iterator<Integer> iterator = deque.iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(FastList.newListWith(3, 5, 7, 9), deque.toList());
+
+        Iterator<Integer> descending = deque.descendingIterator();
+        Assert.assertEquals(Integer.valueOf(9), descending.next());
+        Assert.assertEquals(Integer.valueOf(7), descending.next());
+        descending.remove();
+        Assert.assertEquals(Integer.valueOf(5), descending.next());
+        Assert.assertEquals(Integer.valueOf(3), descending.next());
+        Assert.assertFalse(descending.hasNext());
+        Verify.assertThrows(IllegalStateException.class, () -> {
+            Iterator<Integer> each = deque.iterator();
+            each.remove();
+        });
+        Assert.assertEquals(FastList.newListWith(3, 5, 9), deque.toList());
+    }
+
+    @Test
+    public void richIterableMethodsKeepOrder()
+    {
+        RingBufferDeque<Integer> deque = RingBufferDeque.newDequeWith(3, 1, 4, 1, 5);
+        MutableQueue<Integer> selected = deque.select(each -> each > 1);
+        Verify.assertInstanceOf(RingBufferDeque.class, selected);
+        Assert.assertEquals(FastList.newListWith(3, 4, 5), selected.toList());
+        Assert.assertEquals(FastList.newListWith(1, 1), deque.reject(each -> each > 1).toList());
+        Assert.assertEquals(FastList.newListWith("3", "1", "4", "1", "5"), deque.collect(String::valueOf).toList());
+        Assert.assertEquals(IntArrayList.newListWith(3, 1, 4, 1, 5), deque.collectInt(Integer::intValue));
+        Assert.assertEquals(
+                FastList.newListWith(Tuples.pair(3, 0), Tuples.pair(1, 1)),
+                deque.zipWithIndex().toList().subList(0, 2));
+        PartitionMutableCollection<Integer> partition = deque.partition(each -> each > 1);
+        Assert.assertEquals(FastList.newListWith(3, 4, 5), partition.getSelected());
+        Assert.assertEquals(FastList.newListWith(1, 1), partition.getRejected());
+        Assert.assertEquals(FastList.newListWith(3, 1, 1, 5), deque.groupBy(each -> each % 2).get(1));
+        Assert.assertEquals(Integer.valueOf(14), deque.injectInto(0, AddFunction.INTEGER));
+    }
+
+    @Test
+    public void equalsIsIdentity()
+    {
+        RingBufferDeque<Integer> deque = RingBufferDeque.newDequeWith(1, 2);
+        Assert.assertEquals(deque, deque);
+        Assert.assertNotEquals(RingBufferDeque.newDequeWith(1, 2), deque);
+    }
+
+    @Test
+    public void serialization()
+    {
+        RingBufferDeque<Integer> deque = RingBufferDeque.newDeque(4);
+        deque.addLast(2);
+        deque.addLast(3);
+        deque.addFirst(1);
+        RingBufferDeque<Integer> copy = SerializeTestHelper.serializeDeserialize(deque);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), copy.toList());
+    }
+}
@@ -11,9 +11,12 @@
 package org.eclipse.collections.impl.set.mutable;
 
 import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.IntegerWithCast;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.junit.Assert;
 import org.junit.Test;
@@ -56,4 +59,33 @@ public abstract class AbstractUnifiedSetTestCase extends AbstractMutableSetTestC
             mutableMap.add(new IntegerWithCast(i));
         }
     }
+
+    @Test
+    public void spliterator()
+    {
+        this.assertSpliterator(this.<Integer>newWith(MORE_COLLISIONS.toArray(new Integer[]{})).with((Integer) null));
+        this.assertSpliterator(this.<Integer>newWith(Interval.oneTo(100000).toArray()));
+        this.assertSpliterator(this.<Integer>newWith());
+    }
+
+    private void assertSpliterator(MutableSet<Integer> set)
+    {
+        Assert.assertEquals(set, set.stream().collect(Collectors.toSet()));
+        Assert.assertEquals(set, set.parallelStream().collect(Collectors.toSet()));
+        Assert.assertEquals(set.size(), set.parallelStream().toArray().length);
+
+        Spliterator<Integer> spliterator = set.spliterator();
+        Assert.assertEquals(set.size(), spliterator.getExactSizeIfKnown());
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+
+        MutableSet<Integer> visited = UnifiedSet.newSet();
+        Assert.assertEquals(!set.isEmpty(), spliterator.tryAdvance(visited::add));
+        Spliterator<Integer> split = spliterator.trySplit();
+        if (split != null)
+        {
+            split.forEachRemaining(visited::add);
+        }
+        spliterator.forEachRemaining(visited::add);
+        Assert.assertEquals(set, visited);
+    }
 }
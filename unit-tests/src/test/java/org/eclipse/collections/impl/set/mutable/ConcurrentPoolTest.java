@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ConcurrentPool}.
+ */
+public class ConcurrentPoolTest
+{
+    @Test
+    public void putAndGetReturnPooledObject()
+    {
+        this.assertPutAndGet(ConcurrentPool.newPool());
+        this.assertPutAndGet(ConcurrentPool.newWeakPool());
+    }
+
+    private void assertPutAndGet(ConcurrentPool<String> pool)
+    {
+        String first = new String("1");   // Deliberate String copy for unit test purpose
+        String second = new String("1");  // Deliberate String copy for unit test purpose
+        Assert.assertNull(pool.get(first));
+        Assert.assertSame(first, pool.put(first));
+        Assert.assertSame(first, pool.put(second));
+        Assert.assertSame(first, pool.get(second));
+        Assert.assertNull(pool.get(null));
+        Assert.assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void removeFromPool()
+    {
+        this.assertRemoveFromPool(ConcurrentPool.newPool());
+        this.assertRemoveFromPool(ConcurrentPool.newWeakPool());
+    }
+
+    private void assertRemoveFromPool(ConcurrentPool<String> pool)
+    {
+        String first = new String("1");   // Deliberate String copy for unit test purpose
+        pool.put(first);
+        pool.put("2");
+        Assert.assertSame(first, pool.removeFromPool(new String("1")));
+        Assert.assertNull(pool.removeFromPool("1"));
+        Assert.assertEquals(1, pool.size());
+        pool.clear();
+        Assert.assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void nullIsNotSupported()
+    {
+        Verify.assertThrows(NullPointerException.class, () -> ConcurrentPool.newPool().put(null));
+        Verify.assertThrows(NullPointerException.class, () -> ConcurrentPool.newWeakPool().put(null));
+    }
+
+    @Test
+    public void concurrentPutReturnsOneInstance()
+    {
+        this.assertConcurrentPut(ConcurrentPool.newPool());
+        this.assertConcurrentPut(ConcurrentPool.newWeakPool());
+    }
+
+    private void assertConcurrentPut(ConcurrentPool<String> pool)
+    {
+        MutableList<String> copies = Interval.oneTo(10_000).collect(each -> String.valueOf(each % 100), FastList.newList());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableList<String> pooled = ParallelIterate.collect(copies, pool::put, FastList.newList(), 10, executor, true);
+            Assert.assertEquals(100, pool.size());
+            pooled.forEach(each -> Assert.assertSame(pool.get(each), each));
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void weakPoolReleasesUnusedObjects() throws InterruptedException
+    {
+        ConcurrentPool<Object> pool = ConcurrentPool.newWeakPool();
+        Assert.assertTrue(pool.isWeak());
+        Object object = new Object();
+        pool.put(object);
+        pool.put("strong");
+        WeakReference<Object> ref = new WeakReference<>(object);
+        //noinspection ReuseOfLocalVariable
+        object = null;   // Deliberate null of a local variable for unit test purpose
+        System.gc();
+        Thread.yield();
+        System.gc();
+        Thread.yield();
+        Assert.assertNull(ref.get());
+
+        // The collected object is enqueued asynchronously, so give the reference handler some time
+        for (int i = 0; i < 100 && pool.size() > 1; i++)
+        {
+            Thread.sleep(10L);
+            pool.put("strong");
+        }
+        Assert.assertEquals(1, pool.size());
+    }
+}
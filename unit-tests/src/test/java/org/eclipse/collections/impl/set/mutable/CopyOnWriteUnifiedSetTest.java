@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link CopyOnWriteUnifiedSet}.
+ */
+public class CopyOnWriteUnifiedSetTest
+{
+    @Test
+    public void addAndRemove()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSet();
+        Assert.assertTrue(set.add(1));
+        Assert.assertFalse(set.add(1));
+        set.with(2, 3).with(4);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3, 4), set);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3, 4).hashCode(), set.hashCode());
+        Assert.assertTrue(set.remove(4));
+        Assert.assertFalse(set.remove(4));
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), set);
+        set.clear();
+        Verify.assertEmpty(set);
+    }
+
+    @Test
+    public void noOpAddAndRemoveDoNotCopy()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSetWith(1, 2);
+        UnifiedSet<Integer> snapshot = set.getDelegate();
+        Assert.assertFalse(set.add(1));
+        Assert.assertFalse(set.remove(3));
+        Assert.assertSame(set, set.with(2).without(4));
+        Assert.assertSame(snapshot, set.getDelegate());
+        Assert.assertTrue(set.add(3));
+        Assert.assertNotSame(snapshot, set.getDelegate());
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2), snapshot);
+    }
+
+    @Test
+    public void bulkWrites()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSetWith(1, 2);
+        Assert.assertSame(set, set.withAll(Interval.fromTo(2, 6)));
+        Assert.assertEquals(Interval.oneTo(6).toSet(), set);
+        Assert.assertTrue(set.removeIf(Predicates.greaterThan(4)));
+        Assert.assertFalse(set.removeIf(Predicates.greaterThan(4)));
+        Assert.assertTrue(set.removeAllIterable(FastList.newListWith(1)));
+        Assert.assertTrue(set.retainAll(FastList.newListWith(2, 3)));
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 3), set);
+        Assert.assertFalse(set.addAllIterable(FastList.newListWith(2, 3)));
+    }
+
+    @Test
+    public void richIterableMethodsReadSnapshot()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSetWith(1, 2, 3, 4);
+        MutableSet<Integer> selected = set.select(each -> each % 2 == 0);
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 4), selected);
+        Assert.assertEquals(UnifiedSet.newSetWith("1", "2", "3", "4"), set.collect(String::valueOf));
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3, 4, 5), set.union(UnifiedSet.newSetWith(5)));
+        Assert.assertTrue(set.isSubsetOf(Interval.oneTo(4).toSet()));
+        Assert.assertEquals(10L, set.sumOfInt(Integer::intValue));
+    }
+
+    @Test
+    public void iteratorsSeeSnapshot()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSetWith(1, 2, 3);
+        Iterator<Integer> iterator = set.iterator();
+        set.add(4);
+        set.remove(1);
+
+        MutableSet<Integer> iterated = UnifiedSet.newSet();
+        iterator.forEachRemaining(iterated::add);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), iterated);
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 3, 4), set);
+        Verify.assertThrows(UnsupportedOperationException.class, () -> {
+            Iterator<Integer> each = set.iterator();
+            each.next();
+            each.remove();
+        });
+
+        set.forEach(each -> set.remove(each));
+        Verify.assertEmpty(set);
+    }
+
+    @Test
+    public void cloneSharesSnapshotButNotWrites()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSetWith(1, 2, 3);
+        CopyOnWriteUnifiedSet<Integer> clone = set.clone();
+        clone.add(4);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), set);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3, 4), clone);
+        Verify.assertInstanceOf(CopyOnWriteUnifiedSet.class, set.newEmpty());
+    }
+
+    @Test
+    public void concurrentWrites()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            ParallelIterate.forEach(Interval.oneTo(1_000), each -> {
+                set.add(each);
+                Assert.assertTrue(set.contains(each));
+            }, 10, executor);
+            Assert.assertEquals(Interval.oneTo(1_000).toSet(), set);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void serialization()
+    {
+        CopyOnWriteUnifiedSet<Integer> set = CopyOnWriteUnifiedSet.newSetWith(1, 2, 3);
+        CopyOnWriteUnifiedSet<Integer> copy = SerializeTestHelper.serializeDeserialize(set);
+        Assert.assertEquals(set, copy);
+        copy.add(4);
+        Verify.assertSize(4, copy);
+    }
+}
@@ -49,7 +49,54 @@ public class MultiReaderUnifiedSetTest extends MultiReaderMutableCollectionTestC
         super.largeCollectionStreamToBagMultimap();
     }
 
-    @Override
+    @Test
+    public void newStampedSet()
+    {
+        MultiReaderUnifiedSet<Integer> set = MultiReaderUnifiedSet.newStampedSet();
+        Verify.assertEmpty(set);
+        set.addAll(Interval.oneTo(3));
+        Verify.assertSize(3, set);
+        Assert.assertTrue(set.notEmpty());
+        Assert.assertTrue(set.contains(3));
+        Assert.assertFalse(set.contains(4));
+
+        set.withWriteLockAndDelegate(delegate -> delegate.add(4));
+        set.withReadLockAndDelegate(delegate -> Verify.assertSize(4, delegate));
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3, 4), set);
+        Assert.assertEquals(set, set.clone());
+        Verify.assertEmpty(set.newEmpty());
+        Verify.assertEmpty(MultiReaderUnifiedSet.newStampedSet(10));
+    }
+
+    @Test
+    public void newStampedSet_selfReferentialBulkOperations()
+    {
+        MultiReaderUnifiedSet<Integer> set = MultiReaderUnifiedSet.newStampedSet();
+        set.addAll(Interval.oneTo(3));
+        Assert.assertTrue(set.containsAll(set));
+        Assert.assertTrue(set.containsAllIterable(set));
+        Assert.assertFalse(set.addAll(set));
+        Assert.assertFalse(set.addAllIterable(set));
+        Assert.assertFalse(set.retainAll(set));
+        Assert.assertEquals(set, set);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), set);
+        Assert.assertTrue(set.removeAllIterable(set));
+        Verify.assertEmpty(set);
+    }
+
+    @Test
+    public void newStampedSet_reentryUnderWriteLockThrows()
+    {
+        MultiReaderUnifiedSet<Integer> set = MultiReaderUnifiedSet.newStampedSet();
+        set.addAll(Interval.oneTo(3));
+        Verify.assertThrows(IllegalStateException.class, () -> set.removeIf(each -> set.contains(4)));
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), set);
+        Assert.assertTrue(set.removeIf(each -> each == 2));
+
+        MultiReaderUnifiedSet<Integer> defaultSet = MultiReaderUnifiedSet.newSetWith(1, 2, 3);
+        Assert.assertFalse(defaultSet.removeIf(each -> defaultSet.contains(4)));
+    }
+
     @Test
     public void asSynchronized()
     {
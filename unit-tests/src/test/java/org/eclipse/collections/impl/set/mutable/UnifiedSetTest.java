@@ -18,6 +18,7 @@ import java.util.concurrent.Executors;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.Pool;
+import org.eclipse.collections.impl.HashStatistics;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.block.factory.Procedures;
 import org.eclipse.collections.impl.factory.Lists;
@@ -36,7 +37,7 @@ import org.junit.Test;
 /**
  * JUnit test suite for {@link UnifiedSet}.
  */
-public class UnifiedSetTest extends AbstractMutableSetTestCase
+public class UnifiedSetTest extends AbstractUnifiedSetTestCase
 {
     @Override
     protected <T> UnifiedSet<T> newWith(T... littleElements)
@@ -267,6 +268,31 @@ public class UnifiedSetTest extends AbstractMutableSetTestCase
         Assert.assertNull(empty.removeFromPool(COLLISION_2));
     }
 
+    @Test
+    public void getHashStatistics()
+    {
+        HashStatistics empty = UnifiedSet.newSet().getHashStatistics();
+        Assert.assertEquals(0, empty.getSize());
+        Assert.assertEquals(0, empty.getChainedBucketCount());
+        Assert.assertEquals(0.0, empty.getMeanProbeLength(), 0.0);
+
+        UnifiedSet<Integer> set = UnifiedSet.<Integer>newSet().withAll(COLLISIONS);
+        HashStatistics statistics = set.getHashStatistics();
+        Assert.assertEquals(5, statistics.getSize());
+        Assert.assertEquals(1, statistics.getChainedBucketCount());
+        Assert.assertEquals(0, statistics.getRemovedCount());
+        Assert.assertEquals(5, statistics.getMaxProbeLength());
+        Assert.assertEquals(3.0, statistics.getMeanProbeLength(), 0.0);
+        Assert.assertEquals(5.0 / statistics.getCapacity(), statistics.getLoadFactor(), 0.0);
+
+        set.remove(COLLISION_1);
+        HashStatistics afterRemove = set.getHashStatistics();
+        Assert.assertEquals(4, afterRemove.getSize());
+        Assert.assertEquals(1, afterRemove.getChainedBucketCount());
+        Assert.assertEquals(4, afterRemove.getMaxProbeLength());
+        Assert.assertEquals(2.5, afterRemove.getMeanProbeLength(), 0.0);
+    }
+
     @Test
     public void serialization()
     {
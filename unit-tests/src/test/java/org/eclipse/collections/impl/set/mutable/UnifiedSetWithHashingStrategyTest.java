@@ -1176,4 +1176,26 @@ public class UnifiedSetWithHashingStrategyTest extends AbstractUnifiedSetTestCas
         Assert.assertTrue(set.trimToSize());
         Assert.assertEquals(2, set.size());
     }
+
+    @Test
+    public void hashFloodResistantStrategy()
+    {
+        MutableList<String> collisions = FastList.newListWith("");
+        for (int i = 0; i < 10; i++)
+        {
+            collisions = collisions.flatCollect(each -> FastList.newListWith(each + "Aa", each + "BB"));
+        }
+
+        UnifiedSetWithHashingStrategy<String> set =
+                UnifiedSetWithHashingStrategy.newSet(HashingStrategies.hashFloodResistantStrategy(), collisions);
+        set.add(null);
+
+        Verify.assertSize(1025, set);
+        Assert.assertTrue(set.containsAll(collisions));
+        Assert.assertTrue(set.contains(null));
+        Assert.assertEquals(UnifiedSet.newSet(collisions).with((String) null), set);
+
+        set.removeAll(collisions);
+        Assert.assertEquals(UnifiedSet.newSetWith((String) null), set);
+    }
 }
@@ -0,0 +1,462 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.eclipse.collections.api.iterator.MutableIntIterator;
+import org.eclipse.collections.api.set.primitive.ImmutableIntSet;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.factory.primitive.IntSets;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link RoaringIntSet}.
+ */
+public class RoaringIntSetTest
+{
+    /**
+     * Returns values spread over a few partitions, dense enough that some of them are stored as bitmaps.
+     */
+    private static IntHashSet clusteredValues()
+    {
+        Random random = new Random(42L);
+        IntHashSet values = new IntHashSet();
+        for (int i = 0; i < 20_000; i++)
+        {
+            values.add(random.nextInt(100_000) - 50_000);
+        }
+        for (int i = 0; i < 100; i++)
+        {
+            values.add(random.nextInt());
+        }
+        values.add(Integer.MIN_VALUE);
+        values.add(Integer.MAX_VALUE);
+        return values;
+    }
+
+    private static void assertSameContents(IntHashSet expected, RoaringIntSet actual)
+    {
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        Assert.assertArrayEquals(expected.toSortedArray(), actual.toArray());
+        Assert.assertEquals(expected.sum(), actual.sum());
+    }
+
+    @Test
+    public void addRemoveAndContains()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        Assert.assertTrue(set.isEmpty());
+        Assert.assertTrue(set.add(3));
+        Assert.assertTrue(set.add(-70_000));
+        Assert.assertFalse(set.add(3));
+        Assert.assertEquals(2, set.size());
+        Assert.assertTrue(set.contains(-70_000));
+        Assert.assertFalse(set.contains(-70_001));
+        Assert.assertTrue(set.remove(-70_000));
+        Assert.assertFalse(set.remove(-70_000));
+        Assert.assertEquals(IntHashSet.newSetWith(3), set);
+        set.clear();
+        Assert.assertTrue(set.isEmpty());
+        Assert.assertFalse(set.contains(3));
+    }
+
+    @Test
+    public void ascendingIteration()
+    {
+        RoaringIntSet set = RoaringIntSet.newSetWith(5, Integer.MAX_VALUE, -1, 0, Integer.MIN_VALUE, 65_536, -65_537);
+        int[] expected = {Integer.MIN_VALUE, -65_537, -1, 0, 5, 65_536, Integer.MAX_VALUE};
+        Assert.assertArrayEquals(expected, set.toArray());
+        Assert.assertArrayEquals(expected, set.toSortedArray());
+        Assert.assertEquals(IntArrayList.newListWith(expected), set.toList());
+        Assert.assertEquals(Integer.MIN_VALUE, set.min());
+        Assert.assertEquals(Integer.MAX_VALUE, set.max());
+        Assert.assertEquals("[-2147483648, -65537, -1, 0, 5, 65536, 2147483647]", set.toString());
+
+        IntArrayList iterated = new IntArrayList();
+        set.each(iterated::add);
+        Assert.assertEquals(IntArrayList.newListWith(expected), iterated);
+    }
+
+    @Test
+    public void denseAndSparseValues()
+    {
+        IntHashSet expected = clusteredValues();
+        RoaringIntSet set = new RoaringIntSet();
+        expected.forEach(set::add);
+        assertSameContents(expected, set);
+
+        IntHashSet removed = new IntHashSet();
+        expected.forEach(each ->
+        {
+            if (each % 3 == 0)
+            {
+                removed.add(each);
+            }
+        });
+        removed.forEach(each -> Assert.assertTrue(set.remove(each)));
+        expected.removeAll(removed);
+        assertSameContents(expected, set);
+    }
+
+    @Test
+    public void addRange()
+    {
+        RoaringIntSet set = RoaringIntSet.newSetWithRange(-100_000, 100_000);
+        Assert.assertEquals(200_000, set.size());
+        Assert.assertEquals(-100_000, set.min());
+        Assert.assertEquals(99_999, set.max());
+        Assert.assertFalse(set.contains(100_000));
+        Assert.assertEquals(-100_000L, set.sum());
+
+        set.add(100_000);
+        Assert.assertTrue(set.remove(0));
+        Assert.assertEquals(200_000, set.size());
+        Assert.assertFalse(set.contains(0));
+
+        set.addRange(-5, 5);
+        Assert.assertTrue(set.contains(0));
+        Assert.assertEquals(200_001, set.size());
+
+        set.addRange(7, 7);
+        Assert.assertEquals(200_001, set.size());
+        Verify.assertThrows(IllegalArgumentException.class, () -> set.addRange(2, 1));
+
+        RoaringIntSet edges = RoaringIntSet.newSetWithRange(Integer.MAX_VALUE - 10, Integer.MAX_VALUE);
+        edges.add(Integer.MAX_VALUE);
+        Assert.assertEquals(11, edges.size());
+        Assert.assertEquals(Integer.MAX_VALUE, edges.max());
+    }
+
+    @Test
+    public void runOptimize()
+    {
+        RoaringIntSet set = new RoaringIntSet();
+        for (int i = 0; i < 10_000; i++)
+        {
+            set.add(i);
+        }
+        IntHashSet expected = IntHashSet.newSet(set);
+        Assert.assertTrue(set.runOptimize());
+        Assert.assertFalse(set.runOptimize());
+        assertSameContents(expected, set);
+
+        Assert.assertTrue(set.add(20_000));
+        Assert.assertTrue(set.remove(5_000));
+        expected.add(20_000);
+        expected.remove(5_000);
+        assertSameContents(expected, set);
+
+        RoaringIntSet scattered = RoaringIntSet.newSetWith(1, 3, 5, 7);
+        Assert.assertFalse(scattered.runOptimize());
+    }
+
+    /**
+     * A set that is still held as run containers serializes to a few bytes per run, where a bitmap container takes
+     * 8 KB, and {@link RoaringIntSet#runOptimize()} has nothing left to convert.
+     */
+    private static void assertHeldAsRuns(IntHashSet expected, RoaringIntSet actual)
+    {
+        assertSameContents(expected, actual);
+        Assert.assertFalse(new RoaringIntSet(actual).runOptimize());
+        Assert.assertTrue(SerializeTestHelper.serialize(actual).length < 1024);
+    }
+
+    private static IntHashSet range(int fromInclusive, int toExclusive)
+    {
+        return IntHashSet.newSet(RoaringIntSet.newSetWithRange(fromInclusive, toExclusive));
+    }
+
+    @Test
+    public void runContainersStayRunsOnAddAndRemove()
+    {
+        RoaringIntSet set = RoaringIntSet.newSetWithRange(0, 50_000);
+        IntHashSet expected = range(0, 50_000);
+        assertHeldAsRuns(expected, set);
+
+        int[] values = {25_000, 0, 49_999, 30_000, 30_001};
+        for (int value : values)
+        {
+            Assert.assertTrue(set.remove(value));
+            expected.remove(value);
+            assertHeldAsRuns(expected, set);
+        }
+        int[] additions = {30_000, 30_001, 60_000, 49_999, 50_000, 0, 25_000, 59_999};
+        for (int value : additions)
+        {
+            Assert.assertTrue(set.add(value));
+            expected.add(value);
+            assertHeldAsRuns(expected, set);
+        }
+        Assert.assertEquals(50_003, set.size());
+
+        // Once runs are no longer the smallest representation, a run container turns into an array container
+        RoaringIntSet sparse = RoaringIntSet.newSetWithRange(0, 3);
+        sparse.addAll(10, 20);
+        IntHashSet sparseExpected = IntHashSet.newSetWith(0, 1, 2, 10, 20);
+        sparse.remove(1);
+        sparseExpected.remove(1);
+        assertSameContents(sparseExpected, sparse);
+        Assert.assertFalse(sparse.runOptimize());
+        sparse.removeAll(0, 2, 10, 20);
+        Verify.assertEmpty(sparse);
+    }
+
+    @Test
+    public void setOperationsOnRunContainers()
+    {
+        RoaringIntSet first = RoaringIntSet.newSetWithRange(0, 40_000);
+        RoaringIntSet second = RoaringIntSet.newSetWithRange(20_000, 60_000);
+        second.addRange(62_000, 64_000);
+        IntHashSet firstExpected = range(0, 40_000);
+        IntHashSet secondExpected = range(20_000, 60_000).withAll(range(62_000, 64_000));
+
+        assertHeldAsRuns(range(20_000, 40_000), first.and(second));
+        assertHeldAsRuns(range(0, 60_000).withAll(range(62_000, 64_000)), first.or(second));
+        assertHeldAsRuns(range(0, 20_000), first.andNot(second));
+        assertHeldAsRuns(range(40_000, 60_000).withAll(range(62_000, 64_000)), second.andNot(first));
+
+        RoaringIntSet sparse = RoaringIntSet.newSetWith(5, 39_999, 45_000, 63_000);
+        assertSameContents(IntHashSet.newSetWith(5, 39_999), first.and(sparse));
+        assertHeldAsRuns(IntHashSet.newSet(firstExpected).withAll(IntHashSet.newSetWith(45_000, 63_000)), first.or(sparse));
+        assertHeldAsRuns(IntHashSet.newSet(firstExpected).withoutAll(IntHashSet.newSetWith(5, 39_999)), first.andNot(sparse));
+        assertSameContents(IntHashSet.newSetWith(45_000, 63_000), sparse.andNot(first));
+        assertSameContents(IntHashSet.newSetWith(39_999, 45_000, 63_000), sparse.and(second).or(sparse.andNot(first)));
+
+        RoaringIntSet evens = new RoaringIntSet();
+        IntHashSet evensExpected = new IntHashSet();
+        for (int i = 0; i < 30_000; i += 2)
+        {
+            evens.add(i);
+            evensExpected.add(i);
+        }
+        IntHashSet and = IntHashSet.newSet(evensExpected);
+        and.retainAll(secondExpected);
+        assertSameContents(and, second.and(evens));
+        assertSameContents(and, evens.and(second));
+        IntHashSet andNot = IntHashSet.newSet(secondExpected);
+        andNot.removeAll(evensExpected);
+        assertSameContents(andNot, second.andNot(evens));
+        IntHashSet evensAndNot = IntHashSet.newSet(evensExpected);
+        evensAndNot.removeAll(secondExpected);
+        assertSameContents(evensAndNot, evens.andNot(second));
+        Verify.assertEmpty(evens.andNot(first));
+        assertHeldAsRuns(firstExpected, first.or(evens));
+        assertSameContents(IntHashSet.newSet(secondExpected).withAll(evensExpected), evens.or(second));
+
+        assertSameContents(firstExpected, first);
+        assertSameContents(secondExpected, second);
+    }
+
+    @Test
+    public void setOperationsOnRandomRuns()
+    {
+        Random random = new Random(11L);
+        for (int round = 0; round < 20; round++)
+        {
+            RoaringIntSet left = new RoaringIntSet();
+            RoaringIntSet right = new RoaringIntSet();
+            for (int i = 0; i < 20; i++)
+            {
+                int leftStart = random.nextInt(140_000) - 10_000;
+                left.addRange(leftStart, leftStart + random.nextInt(3_000));
+                int rightStart = random.nextInt(140_000) - 10_000;
+                right.addRange(rightStart, rightStart + random.nextInt(3_000));
+                right.add(random.nextInt(140_000) - 10_000);
+                left.remove(random.nextInt(140_000) - 10_000);
+            }
+            IntHashSet leftExpected = IntHashSet.newSet(left);
+            IntHashSet rightExpected = IntHashSet.newSet(right);
+
+            IntHashSet and = IntHashSet.newSet(leftExpected);
+            and.retainAll(rightExpected);
+            assertSameContents(and, left.and(right));
+            IntHashSet or = IntHashSet.newSet(leftExpected);
+            or.addAll(rightExpected);
+            assertSameContents(or, left.or(right));
+            IntHashSet andNot = IntHashSet.newSet(leftExpected);
+            andNot.removeAll(rightExpected);
+            assertSameContents(andNot, left.andNot(right));
+            IntHashSet notAnd = IntHashSet.newSet(rightExpected);
+            notAnd.removeAll(leftExpected);
+            assertSameContents(notAnd, right.andNot(left));
+        }
+    }
+
+    @Test
+    public void andOrAndNot()
+    {
+        IntHashSet first = clusteredValues();
+        IntHashSet second = new IntHashSet();
+        Random random = new Random(7L);
+        for (int i = 0; i < 10_000; i++)
+        {
+            second.add(random.nextInt(200_000) - 20_000);
+        }
+        RoaringIntSet left = RoaringIntSet.newSet(first);
+        RoaringIntSet right = RoaringIntSet.newSet(second);
+        right.addRange(-70_000, -60_000);
+        second.addAll(RoaringIntSet.newSetWithRange(-70_000, -60_000));
+
+        IntHashSet and = IntHashSet.newSet(first);
+        and.retainAll(second);
+        assertSameContents(and, left.and(right));
+
+        IntHashSet or = IntHashSet.newSet(first);
+        or.addAll(second);
+        assertSameContents(or, left.or(right));
+
+        IntHashSet andNot = IntHashSet.newSet(first);
+        andNot.removeAll(second);
+        assertSameContents(andNot, left.andNot(right));
+
+        assertSameContents(first, left);
+        assertSameContents(second, right);
+
+        Verify.assertEmpty(left.and(new RoaringIntSet()));
+        Assert.assertEquals(left, left.or(new RoaringIntSet()));
+        Verify.assertEmpty(left.andNot(left));
+    }
+
+    @Test
+    public void bulkOperationsWithRoaringIntSet()
+    {
+        RoaringIntSet set = RoaringIntSet.newSetWithRange(0, 10_000);
+        RoaringIntSet other = RoaringIntSet.newSetWith(-1, 5, 10_000);
+
+        Assert.assertTrue(set.addAll(other));
+        Assert.assertEquals(10_002, set.size());
+        Assert.assertFalse(set.addAll(other));
+
+        Assert.assertTrue(set.removeAll(other));
+        Assert.assertEquals(9_999, set.size());
+        Assert.assertFalse(set.contains(5));
+
+        Assert.assertTrue(set.retainAll(RoaringIntSet.newSetWithRange(100, 200)));
+        Assert.assertEquals(RoaringIntSet.newSetWithRange(100, 200), set);
+
+        other.add(42);
+        Assert.assertFalse(set.contains(42));
+        Assert.assertEquals(RoaringIntSet.newSetWith(-1, 5, 10_000, 42), other);
+    }
+
+    @Test
+    public void bulkOperationsWithOtherIterables()
+    {
+        RoaringIntSet set = RoaringIntSet.newSetWith(1, 2, 3, 100_000);
+        Assert.assertTrue(set.addAll(IntHashSet.newSetWith(3, 4)));
+        Assert.assertTrue(set.addAll(5, 6));
+        Assert.assertTrue(set.removeAll(IntArrayList.newListWith(1, 2)));
+        Assert.assertTrue(set.removeAll(6));
+        Assert.assertTrue(set.retainAll(IntHashSet.newSetWith(3, 4, 100_000)));
+        Assert.assertEquals(IntHashSet.newSetWith(3, 4, 100_000), set);
+        Assert.assertTrue(set.retainAll(4));
+        Assert.assertEquals(IntHashSet.newSetWith(4), set);
+        Assert.assertSame(set, set.with(8).without(4).withAll(IntHashSet.newSetWith(9)).withoutAll(IntHashSet.newSetWith(8)));
+        Assert.assertEquals(IntHashSet.newSetWith(9), set);
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        RoaringIntSet set = RoaringIntSet.newSetWithRange(0, 70_000);
+        set.add(-5);
+        MutableIntIterator iterator = set.intIterator();
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext())
+        {
+            int value = iterator.next();
+            if (value % 2 != 0 || value < 0)
+            {
+                iterator.remove();
+            }
+        }
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+        Verify.assertThrows(NoSuchElementException.class, iterator::next);
+        Assert.assertEquals(35_000, set.size());
+        Assert.assertEquals(set.count(each -> each % 2 == 0), set.size());
+        Assert.assertEquals(0, set.min());
+        Assert.assertEquals(69_998, set.max());
+    }
+
+    @Test
+    public void iterableApi()
+    {
+        RoaringIntSet set = RoaringIntSet.newSetWith(-3, -2, 1, 2, 70_000);
+        Assert.assertEquals(RoaringIntSet.newSetWith(-2, 2, 70_000), set.select(each -> each % 2 == 0));
+        Assert.assertEquals(RoaringIntSet.newSetWith(-3, 1), set.reject(each -> each % 2 == 0));
+        Assert.assertEquals(UnifiedSet.newSetWith(3, 2, 1, 70_000), set.collect(each -> Math.abs(each)));
+        Assert.assertEquals(-2, set.detectIfNone(each -> each > -3, 0));
+        Assert.assertEquals(0, set.detectIfNone(each -> each > 70_000, 0));
+        Assert.assertEquals(3, set.count(each -> each > 0));
+        Assert.assertTrue(set.anySatisfy(each -> each == 70_000));
+        Assert.assertTrue(set.allSatisfy(each -> each > -4));
+        Assert.assertTrue(set.noneSatisfy(each -> each == 0));
+        Assert.assertEquals(Long.valueOf(69_998L), set.injectInto(0L, (result, each) -> result + each));
+        Assert.assertEquals(3, set.chunk(2).size());
+        Verify.assertThrows(NoSuchElementException.class, () -> new RoaringIntSet().min());
+        Verify.assertThrows(NoSuchElementException.class, () -> new RoaringIntSet().max());
+        Verify.assertThrows(IllegalArgumentException.class, () -> set.chunk(0));
+    }
+
+    @Test
+    public void toImmutable()
+    {
+        Assert.assertEquals(IntSets.immutable.empty(), new RoaringIntSet().toImmutable());
+        Assert.assertEquals(IntSets.immutable.with(1), RoaringIntSet.newSetWith(1).toImmutable());
+
+        RoaringIntSet set = RoaringIntSet.newSetWithRange(0, 100_000);
+        ImmutableIntSet immutable = set.toImmutable();
+        set.clear();
+        Assert.assertEquals(100_000, immutable.size());
+        Assert.assertEquals(RoaringIntSet.newSetWithRange(0, 100_000), immutable);
+        Assert.assertEquals(immutable, immutable.newWith(5));
+        Assert.assertEquals(99_999, immutable.newWithout(5).size());
+        Assert.assertEquals(immutable, SerializeTestHelper.serializeDeserialize(immutable));
+        Assert.assertSame(immutable, immutable.toImmutable());
+    }
+
+    @Test
+    public void serialization()
+    {
+        RoaringIntSet set = RoaringIntSet.newSet(clusteredValues());
+        set.addRange(1_000_000, 1_200_000);
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+        set.runOptimize();
+        RoaringIntSet deserialized = SerializeTestHelper.serializeDeserialize(set);
+        Assert.assertEquals(set, deserialized);
+        Assert.assertArrayEquals(set.toArray(), deserialized.toArray());
+        Verify.assertPostSerializedEqualsAndHashCode(new RoaringIntSet());
+    }
+
+    @Test
+    public void factories()
+    {
+        MutableIntSet empty = IntSets.mutable.emptyCompressed();
+        Verify.assertInstanceOf(RoaringIntSet.class, empty);
+        Verify.assertEmpty(empty);
+
+        IntHashSet values = IntHashSet.newSetWith(1, 2, 3, -100_000);
+        MutableIntSet set = IntSets.mutable.withAllCompressed(values);
+        Verify.assertInstanceOf(RoaringIntSet.class, set);
+        Assert.assertEquals(values, set);
+        Assert.assertArrayEquals(new int[]{-100_000, 1, 2, 3}, set.toArray());
+        Assert.assertArrayEquals(new int[]{-100_000, 1, 2, 3}, set.toSortedArray());
+    }
+}
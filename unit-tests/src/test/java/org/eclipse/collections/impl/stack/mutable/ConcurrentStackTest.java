@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.stack.mutable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ConcurrentStack}.
+ */
+public class ConcurrentStackTest extends MutableStackTestCase
+{
+    @Override
+    protected <T> MutableStack<T> newStackWith(T... elements)
+    {
+        return ConcurrentStack.newStackWith(elements);
+    }
+
+    @Override
+    protected <T> MutableStack<T> newStackFromTopToBottom(T... elements)
+    {
+        return ConcurrentStack.newStackFromTopToBottom(elements);
+    }
+
+    @Override
+    protected <T> MutableStack<T> newStackFromTopToBottom(Iterable<T> elements)
+    {
+        return ConcurrentStack.newStackFromTopToBottom(elements);
+    }
+
+    @Override
+    protected <T> MutableStack<T> newStack(Iterable<T> elements)
+    {
+        return ConcurrentStack.newStack(elements);
+    }
+
+    @Test
+    public void iteratorRemoveIsNotSupported()
+    {
+        MutableStack<Integer> stack = this.newStackWith(1, 2, 3);
+        Verify.assertThrows(UnsupportedOperationException.class, () -> stack.iterator().remove());
+    }
+
+    @Test
+    public void concurrentPushAndPop()
+    {
+        ConcurrentStack<Integer> stack = ConcurrentStack.newStack();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            ParallelIterate.forEach(Interval.oneTo(10_000), stack::push, 10, executor);
+            Verify.assertSize(10_000, stack);
+
+            MutableList<Integer> popped = ParallelIterate.collect(Interval.oneTo(10_000), each -> stack.pop(), FastList.newList(), 10, executor, true);
+            Verify.assertEmpty(stack);
+            Assert.assertEquals(Interval.oneTo(10_000).toSet(), popped.toSet());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentMultiPopIsAtomic()
+    {
+        ConcurrentStack<Integer> stack = ConcurrentStack.newStackFromTopToBottom(Interval.fromTo(1, 10_000));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableList<MutableList<Integer>> batches = ParallelIterate.collect(
+                    Interval.oneTo(1_000),
+                    each -> stack.pop(10).toList(),
+                    FastList.newList(),
+                    10,
+                    executor,
+                    true);
+            Verify.assertEmpty(stack);
+            // Each pop(10) sees ten adjacent items, as the items are pushed in order
+            batches.forEach(batch -> Assert.assertEquals(Interval.fromTo(batch.getFirst(), batch.getFirst() + 9), batch));
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+}